@@ -0,0 +1,52 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.att.acceptance.movie_theater.MovieTheaterApplication;
+
+/**
+ * The application under benchmark, started once per fork against its own
+ * in-memory H2 database.
+ *
+ * Background jobs are pushed out of the measurement window and SQL logging is
+ * turned off, so that only the code being benchmarked is measured.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private static final Map<String, Object> PROPERTIES = Map.of(
+            "spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql", "false",
+            "spring.jpa.properties.hibernate.generate_statistics", "false",
+            "spring.main.banner-mode", "off",
+            "server.port", "0",
+            "logging.level.root", "WARN",
+            "counters.reconciliation.initial-delay", "PT24H",
+            "jwt.revocation.purge-interval", "PT24H");
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MovieTheaterApplication.class)
+                .properties(PROPERTIES)
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,41 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * Accepts the usual JMH command line options and, unless a result file is
+ * given with {@code -rff}, writes the results as JSON to
+ * {@code target/jmh-results/<version>.json}, where the version is taken from
+ * the {@code benchmark.version} system property. Keeping one file per release
+ * lets the results be compared release over release.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        Path resultFile = commandLine.getResult().hasValue()
+                ? Path.of(commandLine.getResult().get())
+                : Path.of("target", "jmh-results", System.getProperty("benchmark.version", "SNAPSHOT") + ".json");
+        if (resultFile.getParent() != null) {
+            Files.createDirectories(resultFile.getParent());
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(resultFile.toString())
+                .build();
+
+        new Runner(options).run();
+    }
+}
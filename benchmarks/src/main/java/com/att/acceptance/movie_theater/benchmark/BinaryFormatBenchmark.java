@@ -0,0 +1,124 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.att.acceptance.movie_theater.dto.SeatStatusView;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serialization and deserialization of the documents kiosks poll (a seat map
+ * and a theater's showtimes) in JSON, CBOR and Smile, with the mappers the
+ * application negotiates them with.
+ *
+ * The size of each encoded document is printed when a trial starts, so
+ * payload sizes can be compared from the same run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<SeatStatusView> seatMap;
+    private List<Showtime> showtimes;
+    private byte[] encodedSeatMap;
+    private byte[] encodedShowtimes;
+    private JavaType seatMapType;
+    private JavaType showtimesType;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> application.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            case "smile" -> application.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            default -> application.getBean(ObjectMapper.class);
+        };
+
+        seatMap = new ArrayList<>(DataSet.SEATS_PER_THEATER);
+        for (int i = 0; i < DataSet.SEATS_PER_THEATER; i++) {
+            seatMap.add(new SeatStatusView((long) i + 1, "S" + (i + 1), i,
+                    i % 3 == 0 ? AvailabilityStatusEnum.BOOKED : AvailabilityStatusEnum.AVAILABLE));
+        }
+
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setName("Benchmark Theater 1");
+        theater.setLocation("Benchmark City");
+        theater.setMaxSeats(DataSet.SEATS_PER_THEATER);
+        theater.setSeatCount(DataSet.SEATS_PER_THEATER);
+        showtimes = new ArrayList<>(DataSet.SHOWTIMES_PER_THEATER);
+        for (int i = 0; i < DataSet.SHOWTIMES_PER_THEATER; i++) {
+            Movie movie = new Movie();
+            movie.setId((long) i + 1);
+            movie.setTitle("Benchmark Movie " + (i + 1));
+            movie.setGenre("Drama");
+            movie.setDuration(DataSet.SHOWTIME_MINUTES);
+            movie.setRating("PG-13");
+            movie.setReleaseYear(2020);
+
+            Showtime showtime = new Showtime();
+            showtime.setId((long) i + 1);
+            showtime.setMovie(movie);
+            showtime.setTheater(theater);
+            showtime.setStartTime(DataSet.BOOKED_FROM.plusDays(i));
+            showtime.setEndTime(showtime.getStartTime().plusMinutes(DataSet.SHOWTIME_MINUTES));
+            showtimes.add(showtime);
+        }
+
+        seatMapType = objectMapper.getTypeFactory().constructCollectionType(List.class, SeatStatusView.class);
+        showtimesType = objectMapper.getTypeFactory().constructCollectionType(List.class, Showtime.class);
+        encodedSeatMap = objectMapper.writeValueAsBytes(seatMap);
+        encodedShowtimes = objectMapper.writeValueAsBytes(showtimes);
+        System.out.printf("%n%s payload: seat map of %d seats %d bytes, %d showtimes %d bytes%n", format,
+                seatMap.size(), encodedSeatMap.length, showtimes.size(), encodedShowtimes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeSeatMap() throws IOException {
+        return objectMapper.writeValueAsBytes(seatMap);
+    }
+
+    @Benchmark
+    public List<SeatStatusView> deserializeSeatMap() throws IOException {
+        return objectMapper.readValue(encodedSeatMap, seatMapType);
+    }
+
+    @Benchmark
+    public byte[] serializeShowtimes() throws IOException {
+        return objectMapper.writeValueAsBytes(showtimes);
+    }
+
+    @Benchmark
+    public List<Showtime> deserializeShowtimes() throws IOException {
+        return objectMapper.readValue(encodedShowtimes, showtimesType);
+    }
+}
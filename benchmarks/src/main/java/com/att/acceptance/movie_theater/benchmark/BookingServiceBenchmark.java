@@ -0,0 +1,76 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.service.BookingService;
+
+/**
+ * {@link BookingService#createBooking(Booking)} against the embedded H2
+ * database, with a million bookings already in place.
+ *
+ * Each invocation books the next free seat of the empty showtimes; the
+ * bookings are removed and the inventories emptied after every iteration so
+ * that no iteration runs out of seats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BookingServiceBenchmark {
+
+    private DataSet dataSet;
+    private BookingService bookingService;
+    private int nextSlot;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application, DataSet dataSet) {
+        this.dataSet = dataSet;
+        this.bookingService = application.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void resetSeats() {
+        dataSet.resetFreeShowtimes();
+        nextSlot = 0;
+    }
+
+    @Benchmark
+    public Booking createBooking() {
+        int slot = nextSlot++;
+        if (slot >= dataSet.getFreeSlots()) {
+            throw new IllegalStateException("All " + dataSet.getFreeSlots() + " free seats were booked in one iteration.");
+        }
+
+        Booking booking = new Booking();
+        User user = new User();
+        user.setId(dataSet.getUserId(slot));
+        Showtime showtime = new Showtime();
+        showtime.setId(dataSet.getFreeShowtimeId(slot));
+        Seat seat = new Seat();
+        seat.setId(dataSet.getFreeSeatId(slot));
+        booking.setUser(user);
+        booking.setShowtime(showtime);
+        booking.setSeat(seat);
+        booking.setPrice(12.50f);
+        return bookingService.createBooking(booking);
+    }
+}
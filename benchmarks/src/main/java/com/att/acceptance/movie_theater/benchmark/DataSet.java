@@ -0,0 +1,223 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.security.BookingOwnerCache;
+import com.att.acceptance.movie_theater.service.BookingAnalyticsService;
+import com.att.acceptance.movie_theater.service.NowShowingService;
+import com.att.acceptance.movie_theater.service.PricingService;
+
+/**
+ * A realistically sized data set, written straight to the benchmark database.
+ *
+ * Every theater gets two sets of showtimes: the ones in 2030 are fully booked
+ * and hold the bulk of the bookings, the ones in 2031 are empty and provide the
+ * seats that the booking benchmark claims. With the defaults this is 10,000
+ * movies, 10,000 users, 100 theaters of 500 seats and 1,000,000 bookings. The
+ * sizes can be changed with the {@code benchmark.*} system properties, passed
+ * to the forked JVMs with {@code -jvmArgsAppend}.
+ *
+ * Rows are generated with set-based H2 statements, so seeding takes seconds
+ * rather than minutes and does not go through the services being measured.
+ * The state those services keep in memory is rebuilt or invalidated after
+ * every write.
+ */
+@State(Scope.Benchmark)
+public class DataSet {
+
+    public static final int MOVIES = Integer.getInteger("benchmark.movies", 10_000);
+    public static final int USERS = Integer.getInteger("benchmark.users", 10_000);
+    public static final int THEATERS = Integer.getInteger("benchmark.theaters", 100);
+    public static final int SEATS_PER_THEATER = Integer.getInteger("benchmark.seats-per-theater", 500);
+    public static final int SHOWTIMES_PER_THEATER = Integer.getInteger("benchmark.showtimes-per-theater", 20);
+
+    /**
+     * Start of the fully booked showtimes.
+     */
+    public static final LocalDateTime BOOKED_FROM = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+    /**
+     * Start of the empty showtimes.
+     */
+    public static final LocalDateTime FREE_FROM = LocalDateTime.of(2031, 1, 1, 18, 0);
+
+    public static final int SHOWTIME_MINUTES = 120;
+
+    private JdbcTemplate jdbcTemplate;
+    private BookingAnalyticsService bookingAnalyticsService;
+    private PricingService pricingService;
+    private NowShowingService nowShowingService;
+    private BookingOwnerCache bookingOwnerCache;
+    private long firstMovieId;
+    private long firstUserId;
+    private long[] theaterIds;
+    private long[][] seatIds;
+    private long[] freeShowtimeIds;
+    private int[] freeShowtimeTheaters;
+
+    @Setup(Level.Trial)
+    public void seed(ApplicationState application) {
+        jdbcTemplate = application.getBean(JdbcTemplate.class);
+        bookingAnalyticsService = application.getBean(BookingAnalyticsService.class);
+        pricingService = application.getBean(PricingService.class);
+        nowShowingService = application.getBean(NowShowingService.class);
+        bookingOwnerCache = application.getBean(BookingOwnerCache.class);
+        String password = application.getBean(PasswordEncoder.class).encode("password");
+
+        jdbcTemplate.update("INSERT INTO movies (title, genre, duration, rating, release_year) "
+                + "SELECT 'Benchmark Movie ' || x, 'Drama', 90 + MOD(x, 90), 'PG-13', 1950 + MOD(x, 75) "
+                + "FROM SYSTEM_RANGE(1, ?)", MOVIES);
+        firstMovieId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM movies WHERE title LIKE 'Benchmark Movie %'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO users (name, email, password, token_epoch) "
+                + "SELECT 'Benchmark User ' || x, 'user' || x || '@benchmark.example.com', ?, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", password, USERS);
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role) "
+                + "SELECT id, 'ROLE_CUSTOMER' FROM users WHERE email LIKE '%@benchmark.example.com'");
+        firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE email LIKE '%@benchmark.example.com'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO theaters (name, location, max_seats, seat_count) "
+                + "SELECT 'Benchmark Theater ' || x, 'Benchmark City', ?, ? FROM SYSTEM_RANGE(1, ?)",
+                SEATS_PER_THEATER, SEATS_PER_THEATER, THEATERS);
+        jdbcTemplate.update("INSERT INTO seats (id, theater_id, seat_number, seat_index, category) "
+                + "SELECT NEXT VALUE FOR seat_seq, t.id, 'S' || (x + 1), x, 'STANDARD' "
+                + "FROM theaters t CROSS JOIN SYSTEM_RANGE(0, ? - 1) "
+                + "WHERE t.name LIKE 'Benchmark Theater %'", SEATS_PER_THEATER);
+
+        // Booked showtimes first, so that the empty ones have the highest IDs
+        insertShowtimes(BOOKED_FROM);
+        insertShowtimes(FREE_FROM);
+
+        jdbcTemplate.update("INSERT INTO seat_availability "
+                + "(showtime_id, theater_id, seat_statuses, capacity, booked_count, held_count, version) "
+                + "SELECT id, theater_id, ?, ?, ?, 0, 0 FROM showtimes WHERE start_time >= ? AND start_time < ?",
+                fullyBooked(), SEATS_PER_THEATER, SEATS_PER_THEATER, BOOKED_FROM, FREE_FROM);
+        jdbcTemplate.update("INSERT INTO seat_availability "
+                + "(showtime_id, theater_id, seat_statuses, capacity, booked_count, held_count, version) "
+                + "SELECT id, theater_id, ?, ?, 0, 0, 0 FROM showtimes WHERE start_time >= ?",
+                empty(), SEATS_PER_THEATER, FREE_FROM);
+
+        // One booking per seat of every booked showtime, spread over the users
+        jdbcTemplate.update("INSERT INTO bookings (user_id, showtime_id, seat_id, price, status, showtime_start) "
+                + "SELECT ? + MOD(st.id * ? + s.seat_index, ?), st.id, s.id, 12.5, 'CONFIRMED', st.start_time "
+                + "FROM showtimes st JOIN seats s ON s.theater_id = st.theater_id "
+                + "WHERE st.start_time >= ? AND st.start_time < ?",
+                firstUserId, SEATS_PER_THEATER, USERS, BOOKED_FROM, FREE_FROM);
+
+        // The rows were written behind the services' back: rebuild what they derive from them
+        bookingAnalyticsService.backfill();
+        nowShowingService.refresh();
+
+        loadIds();
+    }
+
+    private void insertShowtimes(LocalDateTime from) {
+        jdbcTemplate.update("INSERT INTO showtimes (movie_id, theater_id, start_time, end_time) "
+                + "SELECT ? + MOD(t.id * ? + x, ?), t.id, DATEADD('DAY', x, CAST(? AS TIMESTAMP)), DATEADD('MINUTE', ?, DATEADD('DAY', x, CAST(? AS TIMESTAMP))) "
+                + "FROM theaters t CROSS JOIN SYSTEM_RANGE(0, ? - 1) "
+                + "WHERE t.name LIKE 'Benchmark Theater %'",
+                firstMovieId, SHOWTIMES_PER_THEATER, MOVIES, from, SHOWTIME_MINUTES, from, SHOWTIMES_PER_THEATER);
+    }
+
+    private void loadIds() {
+        theaterIds = jdbcTemplate.queryForList("SELECT id FROM theaters WHERE name LIKE 'Benchmark Theater %' ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> theaterIndexes = new HashMap<>();
+        for (int i = 0; i < theaterIds.length; i++) {
+            theaterIndexes.put(theaterIds[i], i);
+        }
+
+        seatIds = new long[theaterIds.length][SEATS_PER_THEATER];
+        jdbcTemplate.query("SELECT id, theater_id, seat_index FROM seats WHERE theater_id BETWEEN ? AND ?",
+                rs -> {
+                    seatIds[theaterIndexes.get(rs.getLong(2))][rs.getInt(3)] = rs.getLong(1);
+                }, theaterIds[0], theaterIds[theaterIds.length - 1]);
+
+        List<Map<String, Object>> freeShowtimes = jdbcTemplate.queryForList(
+                "SELECT id, theater_id FROM showtimes WHERE start_time >= ? ORDER BY id", FREE_FROM);
+        freeShowtimeIds = new long[freeShowtimes.size()];
+        freeShowtimeTheaters = new int[freeShowtimes.size()];
+        for (int i = 0; i < freeShowtimes.size(); i++) {
+            freeShowtimeIds[i] = ((Number) freeShowtimes.get(i).get("ID")).longValue();
+            freeShowtimeTheaters[i] = theaterIndexes.get(((Number) freeShowtimes.get(i).get("THEATER_ID")).longValue());
+        }
+    }
+
+    /**
+     * Empty the showtimes that the booking benchmark books into.
+     *
+     * The rows are reset with JDBC, so the state the services keep in memory is
+     * updated the way a cancellation updates it: the removed bookings leave the
+     * analytics rollups and the owner cache, the price tables of the showtimes
+     * are dropped, and the now showing snapshot is marked stale.
+     */
+    public void resetFreeShowtimes() {
+        List<Map<String, Object>> bookings = jdbcTemplate.queryForList(
+                "SELECT id, showtime_id, status, price FROM bookings WHERE showtime_id >= ?", freeShowtimeIds[0]);
+        jdbcTemplate.update("DELETE FROM bookings WHERE showtime_id >= ?", freeShowtimeIds[0]);
+        jdbcTemplate.update("UPDATE seat_availability SET seat_statuses = ?, booked_count = 0, held_count = 0, "
+                + "version = version + 1 WHERE showtime_id >= ?", empty(), freeShowtimeIds[0]);
+
+        for (Map<String, Object> booking : bookings) {
+            bookingOwnerCache.invalidateAfterCommit(((Number) booking.get("ID")).longValue());
+            bookingAnalyticsService.bookingRemovedAfterCommit(((Number) booking.get("SHOWTIME_ID")).longValue(),
+                    BookingStatus.valueOf((String) booking.get("STATUS")), ((Number) booking.get("PRICE")).floatValue());
+        }
+        for (long showtimeId : freeShowtimeIds) {
+            pricingService.evictAfterCommit(showtimeId);
+        }
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    private static byte[] fullyBooked() {
+        byte[] statuses = new byte[SeatAvailability.bytesFor(SEATS_PER_THEATER)];
+        for (int seatIndex = 0; seatIndex < SEATS_PER_THEATER; seatIndex++) {
+            statuses = SeatAvailability.withStatus(statuses, seatIndex, AvailabilityStatusEnum.BOOKED);
+        }
+        return statuses;
+    }
+
+    private static byte[] empty() {
+        return new byte[SeatAvailability.bytesFor(SEATS_PER_THEATER)];
+    }
+
+    /**
+     * @return The number of seats that can be booked, one per seat of every empty showtime.
+     */
+    public int getFreeSlots() {
+        return freeShowtimeIds.length * SEATS_PER_THEATER;
+    }
+
+    public long getFreeShowtimeId(int slot) {
+        return freeShowtimeIds[slot / SEATS_PER_THEATER];
+    }
+
+    public long getFreeSeatId(int slot) {
+        return seatIds[freeShowtimeTheaters[slot / SEATS_PER_THEATER]][slot % SEATS_PER_THEATER];
+    }
+
+    public long getUserId(int index) {
+        return firstUserId + Math.floorMod(index, USERS);
+    }
+
+    public long getMovieId(int index) {
+        return firstMovieId + Math.floorMod(index, MOVIES);
+    }
+
+    public long getTheaterId(int index) {
+        return theaterIds[Math.floorMod(index, theaterIds.length)];
+    }
+}
@@ -0,0 +1,128 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serialization of the entity graphs returned by the API, with the
+ * application's own {@link ObjectMapper}.
+ *
+ * The graphs are built in memory, as they are after a repository call has
+ * loaded them. Inverse collections ({@code Movie.showtimes},
+ * {@code Showtime.bookings}) are left empty, since serializing them would
+ * follow the references back to their owner without end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int bookingCount;
+
+    private ObjectMapper objectMapper;
+    private List<Movie> movies;
+    private List<Booking> bookings;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        objectMapper = application.getBean(ObjectMapper.class);
+
+        movies = new ArrayList<>(DataSet.MOVIES);
+        for (int i = 0; i < DataSet.MOVIES; i++) {
+            movies.add(movie(i));
+        }
+
+        bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            bookings.add(booking(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeMovies() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(movies);
+    }
+
+    @Benchmark
+    public byte[] serializeBookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    private Movie movie(int i) {
+        Movie movie = new Movie();
+        movie.setId((long) i + 1);
+        movie.setTitle("Benchmark Movie " + (i + 1));
+        movie.setGenre("Drama");
+        movie.setDuration(90 + i % 90);
+        movie.setRating("PG-13");
+        movie.setReleaseYear(1950 + i % 75);
+        return movie;
+    }
+
+    private Booking booking(int i) {
+        Theater theater = new Theater();
+        theater.setId((long) i % DataSet.THEATERS + 1);
+        theater.setName("Benchmark Theater " + theater.getId());
+        theater.setLocation("Benchmark City");
+        theater.setMaxSeats(DataSet.SEATS_PER_THEATER);
+        theater.setSeatCount(DataSet.SEATS_PER_THEATER);
+
+        Showtime showtime = new Showtime();
+        showtime.setId((long) i / DataSet.SEATS_PER_THEATER + 1);
+        showtime.setMovie(movies.get(i % movies.size()));
+        showtime.setTheater(theater);
+        showtime.setStartTime(LocalDateTime.of(2030, 1, 1, 18, 0).plusDays(i % DataSet.SHOWTIMES_PER_THEATER));
+        showtime.setEndTime(showtime.getStartTime().plusMinutes(DataSet.SHOWTIME_MINUTES));
+
+        Seat seat = new Seat();
+        seat.setId((long) i + 1);
+        seat.setTheater(theater);
+        seat.setSeatNumber("S" + (i % DataSet.SEATS_PER_THEATER + 1));
+        seat.setSeatIndex(i % DataSet.SEATS_PER_THEATER);
+
+        User user = new User();
+        user.setId((long) i % DataSet.USERS + 1);
+        user.setName("Benchmark User " + user.getId());
+        user.setEmail("user" + user.getId() + "@benchmark.example.com");
+        user.addRole(RoleEnum.ROLE_CUSTOMER);
+
+        Booking booking = new Booking();
+        booking.setId((long) i + 1);
+        booking.setUser(user);
+        booking.setShowtime(showtime);
+        booking.setSeat(seat);
+        booking.setPrice(12.50f);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        return booking;
+    }
+}
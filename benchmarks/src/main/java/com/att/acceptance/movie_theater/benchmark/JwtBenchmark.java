@@ -0,0 +1,89 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.security.AuthenticatedUser;
+import com.att.acceptance.movie_theater.security.JwtAuthenticationFilter;
+import com.att.acceptance.movie_theater.security.JwtTokenProvider;
+import com.att.acceptance.movie_theater.security.VerifiedToken;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Issuing tokens and authenticating requests with them.
+ *
+ * {@code verifyToken} is the cost of a cache miss (parsing and checking the
+ * HMAC signature), {@code authenticateRequest} the cost of a request carrying
+ * a token that has been seen before, which is the common case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private Authentication authentication;
+    private String authorizationHeader;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        jwtTokenProvider = application.getBean(JwtTokenProvider.class);
+        jwtAuthenticationFilter = application.getBean(JwtAuthenticationFilter.class);
+
+        AuthenticatedUser user = new AuthenticatedUser(1L, "admin@example.com", null, List.of(RoleEnum.ROLE_ADMIN), 0);
+        authentication = UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        token = jwtTokenProvider.generateToken(authentication);
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtTokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateRequest() throws ServletException, IOException {
+        // A filter runs once per request, so every invocation needs a new one
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.att.acceptance.movie_theater.dto.SeatLayoutRequest;
+import com.att.acceptance.movie_theater.dto.SeatLayoutResult;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.service.TheaterService;
+
+/**
+ * {@link TheaterService#generateSeatLayout} laying out a 2,000 seat theater:
+ * 40 rows of 52 positions with two aisles, the front row accessible and the
+ * back rows VIP. The layout should take well under a second.
+ *
+ * Each invocation lays out a new empty theater, created outside the
+ * measurement, so every measured call inserts all 2,000 seats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SeatLayoutBenchmark {
+
+    private static final SeatLayoutRequest LAYOUT = new SeatLayoutRequest(40, 52, Set.of(14, 39), SeatCategoryEnum.STANDARD,
+            Map.of("A", SeatCategoryEnum.ACCESSIBLE, "AM", SeatCategoryEnum.VIP, "AN", SeatCategoryEnum.VIP));
+
+    private TheaterService theaterService;
+    private long theaterId;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        this.theaterService = application.getBean(TheaterService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void addTheater() {
+        Theater theater = new Theater();
+        theater.setName("Layout Theater " + next++);
+        theater.setLocation("Benchmark City");
+        theater.setMaxSeats(LAYOUT.seatCount());
+        theaterId = theaterService.addTheater(theater).getId();
+    }
+
+    @Benchmark
+    public SeatLayoutResult generateSeatLayout() {
+        return theaterService.generateSeatLayout(theaterId, LAYOUT);
+    }
+}
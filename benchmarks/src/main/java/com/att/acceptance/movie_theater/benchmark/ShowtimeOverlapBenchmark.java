@@ -0,0 +1,95 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.ShowtimeOverlapException;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.service.ShowtimeService;
+
+/**
+ * The overlap checks run when a showtime is scheduled, against the 4,000
+ * showtimes of the default data set.
+ *
+ * {@code ShowtimeService.validateShowtime} is private, so the accepted case
+ * issues the same two queries in the same order, and the rejected case goes
+ * through {@link ShowtimeService#addShowtime(Showtime)}, which throws before
+ * anything is written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ShowtimeOverlapBenchmark {
+
+    private DataSet dataSet;
+    private ShowtimeRepository showtimeRepository;
+    private ShowtimeService showtimeService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application, DataSet dataSet) {
+        this.dataSet = dataSet;
+        this.showtimeRepository = application.getBean(ShowtimeRepository.class);
+        this.showtimeService = application.getBean(ShowtimeService.class);
+    }
+
+    /**
+     * A slot in a free morning of a busy theater: both checks run and find nothing.
+     */
+    @Benchmark
+    public boolean acceptedShowtime() {
+        int index = next++;
+        long theaterId = dataSet.getTheaterId(index);
+        LocalDateTime start = DataSet.BOOKED_FROM.plusDays(Math.floorMod(index, DataSet.SHOWTIMES_PER_THEATER)).minusHours(8);
+        LocalDateTime end = start.plusMinutes(DataSet.SHOWTIME_MINUTES);
+        return showtimeRepository.existsOverlappingShowtime(theaterId, start, end)
+                || showtimeRepository.existsOverlappingShowtimeForMovie(theaterId, dataSet.getMovieId(index), start, end);
+    }
+
+    /**
+     * A slot that starts half-way through an existing showtime.
+     */
+    @Benchmark
+    public ShowtimeOverlapException rejectedShowtime() {
+        int index = next++;
+        LocalDateTime start = DataSet.BOOKED_FROM.plusDays(Math.floorMod(index, DataSet.SHOWTIMES_PER_THEATER))
+                .plusMinutes(DataSet.SHOWTIME_MINUTES / 2);
+        try {
+            showtimeService.addShowtime(showtime(dataSet.getTheaterId(index), dataSet.getMovieId(index), start));
+        } catch (ShowtimeOverlapException e) {
+            return e;
+        }
+        throw new IllegalStateException("Overlapping showtime was accepted.");
+    }
+
+    private static Showtime showtime(long theaterId, long movieId, LocalDateTime start) {
+        Theater theater = new Theater();
+        theater.setId(theaterId);
+        Movie movie = new Movie();
+        movie.setId(movieId);
+        Showtime showtime = new Showtime();
+        showtime.setTheater(theater);
+        showtime.setMovie(movie);
+        showtime.setStartTime(start);
+        showtime.setEndTime(start.plusMinutes(DataSet.SHOWTIME_MINUTES));
+        return showtime;
+    }
+}
@@ -0,0 +1,100 @@
+package com.att.acceptance.movie_theater.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.att.acceptance.movie_theater.service.BookingService;
+import com.att.acceptance.movie_theater.service.MovieService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The movie and booking lists read and serialized in full and with the
+ * sparse fieldset a mobile list screen asks for, through the same service
+ * calls and {@link ObjectMapper} as the list endpoints.
+ *
+ * The bookings are those of one user, about a hundred with the default data
+ * set. The size of each payload, plain and gzipped, is printed when a trial
+ * starts, so payload sizes can be compared from the same run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SparseFieldsetBenchmark {
+
+    private static final List<String> MOVIE_FIELDS = List.of("id", "title", "rating");
+    private static final List<String> BOOKING_FIELDS = List.of("id", "startTime", "seatNumber");
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private MovieService movieService;
+    private BookingService bookingService;
+    private ObjectMapper objectMapper;
+    private Pageable page;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application, DataSet dataSet) throws IOException {
+        movieService = application.getBean(MovieService.class);
+        bookingService = application.getBean(BookingService.class);
+        objectMapper = application.getBean(ObjectMapper.class);
+        page = PageRequest.of(1, pageSize);
+        userId = dataSet.getUserId(0);
+
+        System.out.printf("%n%-40s %10s %10s%n", "payload", "bytes", "gzip bytes");
+        print("movies (" + pageSize + ")", fullMovies());
+        print("movies?fields=" + String.join(",", MOVIE_FIELDS), sparseMovies());
+        print("bookings", fullBookings());
+        print("bookings?fields=" + String.join(",", BOOKING_FIELDS), sparseBookings());
+    }
+
+    @Benchmark
+    public byte[] fullMovies() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(movieService.getAllMovies(page).getContent());
+    }
+
+    @Benchmark
+    public byte[] sparseMovies() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(movieService.getAllMovies(page, MOVIE_FIELDS).getContent());
+    }
+
+    @Benchmark
+    public byte[] fullBookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingService.getBookingsByUser(userId));
+    }
+
+    @Benchmark
+    public byte[] sparseBookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingService.getBookingsByUser(userId, BOOKING_FIELDS));
+    }
+
+    private static void print(String name, byte[] json) throws IOException {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        System.out.printf("%-40s %10d %10d%n", name, json.length, gzipped.size());
+    }
+}
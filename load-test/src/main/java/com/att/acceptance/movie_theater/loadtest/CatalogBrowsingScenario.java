@@ -0,0 +1,45 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Anonymous visitors browsing the catalog: a page of movies, one movie's
+ * details and its showtimes, then the next page, until time runs out.
+ */
+public class CatalogBrowsingScenario implements Scenario {
+
+    private static final int USERS = Integer.getInteger("loadtest.browse.users", 200);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.browse.duration", "PT30S"));
+    private static final int PAGE_SIZE = 20;
+
+    private final LoadTestData data;
+
+    public CatalogBrowsingScenario(LoadTestData data) {
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public void run(LoadClient client, ScenarioReport report) {
+        OperationStats moviePages = report.operation("movies.page");
+        OperationStats movies = report.operation("movies.get");
+        OperationStats showtimes = report.operation("showtimes.by-movie");
+        int pages = Math.max(LoadTestData.MOVIES / PAGE_SIZE, 1);
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        client.runUsers(USERS, user -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                client.get(moviePages, "/api/movies/get-all-movies?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE, null);
+                long movieId = data.getMovieId(random.nextInt(LoadTestData.MOVIES));
+                client.get(movies, "/api/movies/get-single-movie/" + movieId, null);
+                client.get(showtimes, "/api/showtimes/movie/" + movieId, null);
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+
+/**
+ * A flash sale: every customer tries to book a seat of the same showtime at
+ * the same moment.
+ *
+ * The users are released together once all of them are ready. Each picks a
+ * random seat and, if it is taken, tries another one, up to a few attempts.
+ * When the sale is over the bookings are checked against the seat inventory:
+ * no seat may be sold twice, no more seats than the showtime has may be sold,
+ * and every confirmed booking, and only those, must be in the database.
+ */
+public class FlashSaleScenario implements Scenario {
+
+    private static final int ATTEMPTS = Integer.getInteger("loadtest.flash-sale.attempts", 3);
+
+    private final LoadTestData data;
+
+    public FlashSaleScenario(LoadTestData data) {
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "flash-sale";
+    }
+
+    @Override
+    public void run(LoadClient client, ScenarioReport report) {
+        OperationStats bookings = report.operation("bookings.create");
+        long showtimeId = data.getFlashSaleShowtimeId();
+        long[] seatIds = data.getFlashSaleSeatIds();
+        int users = data.getUserCount();
+        CountDownLatch ready = new CountDownLatch(users);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger confirmed = new AtomicInteger();
+
+        Thread starter = Thread.ofVirtual().start(() -> {
+            awaitUninterruptibly(ready);
+            report.start();
+            start.countDown();
+        });
+
+        client.runUsers(users, user -> {
+            String token = data.getToken(user);
+            ready.countDown();
+            awaitUninterruptibly(start);
+            for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                long seatId = seatIds[ThreadLocalRandom.current().nextInt(seatIds.length)];
+                HttpResponse<String> response = client.post(bookings, "/api/bookings/create", token,
+                        "{\"showtime\":{\"id\":" + showtimeId + "},\"seat\":{\"id\":" + seatId + "},\"price\":12.50}");
+                if (LoadClient.isSuccess(response)) {
+                    confirmed.incrementAndGet();
+                    break;
+                }
+            }
+        });
+        joinUninterruptibly(starter);
+
+        verify(report, showtimeId, seatIds.length, confirmed.get());
+    }
+
+    private void verify(ScenarioReport report, long showtimeId, int capacity, int confirmed) {
+        JdbcTemplate jdbcTemplate = data.getJdbcTemplate();
+        long booked = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings WHERE showtime_id = ?", Long.class, showtimeId);
+        long distinctSeats = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT seat_id) FROM bookings WHERE showtime_id = ?",
+                Long.class, showtimeId);
+        SeatAvailability inventory = jdbcTemplate.queryForObject(
+                "SELECT seat_statuses, booked_count FROM seat_availability WHERE showtime_id = ?",
+                (rs, row) -> {
+                    SeatAvailability availability = new SeatAvailability();
+                    availability.setSeatStatuses(rs.getBytes(1));
+                    availability.setBookedCount(rs.getInt(2));
+                    return availability;
+                }, showtimeId);
+        long seatsMarkedBooked = SeatAvailability.count(inventory.getSeatStatuses(), AvailabilityStatusEnum.BOOKED);
+
+        report.note("seats", capacity);
+        report.note("confirmed bookings", confirmed);
+        report.note("bookings in database", booked);
+        report.check("oversold seats", Math.max(booked - capacity, 0));
+        report.check("seats sold more than once", booked - distinctSeats);
+        report.check("confirmed but not stored", Math.max(confirmed - booked, 0));
+        report.check("stored but not confirmed", Math.max(booked - confirmed, 0));
+        report.check("inventory seats != bookings", Math.abs(seatsMarkedBooked - booked));
+        report.check("inventory count != bookings", Math.abs(inventory.getBookedCount() - booked));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP client shared by the virtual users of every scenario.
+ *
+ * Each virtual user is a virtual thread making blocking calls, so tens of
+ * thousands of users cost little more than their stacks. The number of
+ * requests in flight is capped, since every one of them needs a connection
+ * and a Tomcat thread on the other side: users beyond the cap queue here,
+ * the way they would queue in front of a load balancer.
+ *
+ * Failed requests are recorded with an error category made of the status
+ * code and the message of the error response, or the exception type when no
+ * response was received.
+ */
+public class LoadClient implements AutoCloseable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int MAX_ERROR_LENGTH = 100;
+
+    private final URI baseUri;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadClient(URI baseUri, int maxInFlight) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .executor(executor)
+                .build();
+        this.inFlight = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * Run virtual users, each on its own virtual thread, and wait for all of them to finish.
+     *
+     * @param users The number of users.
+     * @param user  The behaviour of a user, given its number.
+     */
+    public void runUsers(int users, IntConsumer user) {
+        try (ExecutorService userExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int number = i;
+                userExecutor.execute(() -> user.accept(number));
+            }
+        }
+    }
+
+    public HttpResponse<String> get(OperationStats stats, String path, String token) {
+        return send(stats, request(path, token).GET().build());
+    }
+
+    public HttpResponse<String> post(OperationStats stats, String path, String token, String json) {
+        return send(stats, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Send a request and record its latency and outcome.
+     *
+     * @return The response, or null if none was received.
+     */
+    private HttpResponse<String> send(OperationStats stats, HttpRequest request) {
+        inFlight.acquireUninterruptibly();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(System.nanoTime() - start, isSuccess(response) ? null : errorOf(response));
+            return response;
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - start, e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.record(System.nanoTime() - start, "interrupted");
+            return null;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    public static boolean isSuccess(HttpResponse<?> response) {
+        return response != null && response.statusCode() < 400;
+    }
+
+    private String errorOf(HttpResponse<String> response) {
+        String message = null;
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            message = body.hasNonNull("message") ? body.get("message").asText() : body.path("error").asText(null);
+        } catch (IOException | RuntimeException e) {
+            // Not a JSON error response, the status code alone is the category
+        }
+        String error = "HTTP " + response.statusCode() + (message == null || message.isBlank() ? "" : ": " + message);
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) + "..." : error;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        executor.close();
+    }
+}
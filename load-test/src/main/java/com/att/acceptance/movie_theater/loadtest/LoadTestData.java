@@ -0,0 +1,157 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.security.AuthenticatedUser;
+import com.att.acceptance.movie_theater.security.JwtTokenProvider;
+
+/**
+ * The catalog, theaters and customers the scenarios run against, written
+ * straight to the database before the first scenario starts.
+ *
+ * Regular theaters have a number of showtimes each for catalog browsing and
+ * seat-map polling. The flash sale gets a theater of its own with a single,
+ * empty showtime. Every customer gets a token issued by the application's
+ * {@link JwtTokenProvider}, so that the scenarios do not spend their time in
+ * BCrypt logging in.
+ */
+public class LoadTestData {
+
+    public static final int MOVIES = Integer.getInteger("loadtest.movies", 1_000);
+    public static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    public static final int THEATERS = Integer.getInteger("loadtest.theaters", 10);
+    public static final int SEATS_PER_THEATER = Integer.getInteger("loadtest.seats-per-theater", 200);
+    public static final int SHOWTIMES_PER_THEATER = Integer.getInteger("loadtest.showtimes-per-theater", 10);
+    public static final int FLASH_SALE_SEATS = Integer.getInteger("loadtest.flash-sale.seats", 500);
+
+    private static final LocalDateTime FIRST_SHOWTIME = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+    private static final String FLASH_SALE_THEATER = "Flash Sale Theater";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long firstMovieId;
+    private final long[] userIds;
+    private final String[] tokens;
+    private final long[] showtimeIds;
+    private final long flashSaleShowtimeId;
+    private final long[] flashSaleSeatIds;
+
+    private LoadTestData(ApplicationContext context) {
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String password = context.getBean(PasswordEncoder.class).encode("password");
+
+        jdbcTemplate.update("INSERT INTO movies (title, genre, duration, rating, release_year) "
+                + "SELECT 'Load Test Movie ' || x, 'Drama', 90 + MOD(x, 90), 'PG-13', 1950 + MOD(x, 75) "
+                + "FROM SYSTEM_RANGE(1, ?)", MOVIES);
+        firstMovieId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM movies WHERE title LIKE 'Load Test Movie %'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO users (name, email, password, token_epoch) "
+                + "SELECT 'Load Test User ' || x, 'user' || x || '@loadtest.example.com', ?, 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", password, USERS);
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role) "
+                + "SELECT id, 'ROLE_CUSTOMER' FROM users WHERE email LIKE '%@loadtest.example.com'");
+        userIds = ids("SELECT id FROM users WHERE email LIKE '%@loadtest.example.com' ORDER BY id");
+
+        jdbcTemplate.update("INSERT INTO theaters (name, location, max_seats, seat_count) "
+                + "SELECT 'Load Test Theater ' || x, 'Load Test City', ?, ? FROM SYSTEM_RANGE(1, ?)",
+                SEATS_PER_THEATER, SEATS_PER_THEATER, THEATERS);
+        jdbcTemplate.update("INSERT INTO theaters (name, location, max_seats, seat_count) VALUES (?, 'Load Test City', ?, ?)",
+                FLASH_SALE_THEATER, FLASH_SALE_SEATS, FLASH_SALE_SEATS);
+        insertSeats("t.name LIKE 'Load Test Theater %'", SEATS_PER_THEATER);
+        insertSeats("t.name = '" + FLASH_SALE_THEATER + "'", FLASH_SALE_SEATS);
+
+        jdbcTemplate.update("INSERT INTO showtimes (movie_id, theater_id, start_time, end_time) "
+                + "SELECT ? + MOD(t.id * ? + x, ?), t.id, DATEADD('DAY', x, CAST(? AS TIMESTAMP)), "
+                + "DATEADD('MINUTE', 120, DATEADD('DAY', x, CAST(? AS TIMESTAMP))) "
+                + "FROM theaters t CROSS JOIN SYSTEM_RANGE(0, ? - 1) WHERE t.name LIKE 'Load Test Theater %'",
+                firstMovieId, SHOWTIMES_PER_THEATER, MOVIES, FIRST_SHOWTIME, FIRST_SHOWTIME, SHOWTIMES_PER_THEATER);
+        jdbcTemplate.update("INSERT INTO showtimes (movie_id, theater_id, start_time, end_time) "
+                + "SELECT ?, id, ?, ? FROM theaters WHERE name = ?",
+                firstMovieId, FIRST_SHOWTIME, FIRST_SHOWTIME.plusMinutes(120), FLASH_SALE_THEATER);
+        insertInventories("t.name LIKE 'Load Test Theater %'", SEATS_PER_THEATER);
+        insertInventories("t.name = '" + FLASH_SALE_THEATER + "'", FLASH_SALE_SEATS);
+
+        showtimeIds = ids("SELECT s.id FROM showtimes s JOIN theaters t ON t.id = s.theater_id "
+                + "WHERE t.name LIKE 'Load Test Theater %' ORDER BY s.id");
+        flashSaleShowtimeId = jdbcTemplate.queryForObject("SELECT s.id FROM showtimes s JOIN theaters t ON t.id = s.theater_id "
+                + "WHERE t.name = ?", Long.class, FLASH_SALE_THEATER);
+        flashSaleSeatIds = ids("SELECT s.id FROM seats s JOIN theaters t ON t.id = s.theater_id "
+                + "WHERE t.name = '" + FLASH_SALE_THEATER + "' ORDER BY s.seat_index");
+
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        tokens = new String[userIds.length];
+        for (int i = 0; i < userIds.length; i++) {
+            AuthenticatedUser user = new AuthenticatedUser(userIds[i], "user" + (i + 1) + "@loadtest.example.com", null,
+                    List.of(RoleEnum.ROLE_CUSTOMER), 0);
+            tokens[i] = jwtTokenProvider.generateToken(
+                    UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+        }
+    }
+
+    /**
+     * Seed the database of a running application.
+     *
+     * @param context The application context.
+     * @return The seeded data.
+     */
+    public static LoadTestData seed(ApplicationContext context) {
+        return new LoadTestData(context);
+    }
+
+    private void insertSeats(String theaters, int seats) {
+        jdbcTemplate.update("INSERT INTO seats (id, theater_id, seat_number, seat_index, category) "
+                + "SELECT NEXT VALUE FOR seat_seq, t.id, 'S' || (x + 1), x, 'STANDARD' "
+                + "FROM theaters t CROSS JOIN SYSTEM_RANGE(0, ? - 1) WHERE " + theaters, seats);
+    }
+
+    private void insertInventories(String theaters, int seats) {
+        jdbcTemplate.update("INSERT INTO seat_availability "
+                + "(showtime_id, theater_id, seat_statuses, capacity, booked_count, held_count, version) "
+                + "SELECT s.id, s.theater_id, ?, ?, 0, 0, 0 FROM showtimes s JOIN theaters t ON t.id = s.theater_id "
+                + "WHERE " + theaters, new byte[SeatAvailability.bytesFor(seats)], seats);
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public int getUserCount() {
+        return userIds.length;
+    }
+
+    public long getUserId(int user) {
+        return userIds[Math.floorMod(user, userIds.length)];
+    }
+
+    public String getToken(int user) {
+        return tokens[Math.floorMod(user, tokens.length)];
+    }
+
+    public long getMovieId(int index) {
+        return firstMovieId + Math.floorMod(index, MOVIES);
+    }
+
+    public long getShowtimeId(int index) {
+        return showtimeIds[Math.floorMod(index, showtimeIds.length)];
+    }
+
+    public long getFlashSaleShowtimeId() {
+        return flashSaleShowtimeId;
+    }
+
+    public long[] getFlashSaleSeatIds() {
+        return flashSaleSeatIds.clone();
+    }
+}
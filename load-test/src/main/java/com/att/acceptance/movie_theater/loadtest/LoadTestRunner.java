@@ -0,0 +1,87 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.att.acceptance.movie_theater.MovieTheaterApplication;
+
+/**
+ * Entry point of {@code load-test.jar}.
+ *
+ * Starts the application on a random port against an in-memory H2 database,
+ * seeds it, and runs the scenarios named on the command line in order (all of
+ * them when none is named): {@code browse}, {@code seat-map} and
+ * {@code flash-sale}. A report is printed per scenario and the latency
+ * distributions are written to {@code target/load-test}. The process exits
+ * with status 1 when a scenario breaks one of its invariants, such as selling
+ * a seat twice.
+ *
+ * Everything runs in one JVM without network access, so the numbers are only
+ * comparable between runs on the same machine.
+ */
+public class LoadTestRunner {
+
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.max-in-flight", 256);
+
+    private static final Path OUTPUT = Path.of(System.getProperty("loadtest.output", "target/load-test"));
+
+    private static final Map<String, Object> PROPERTIES = Map.of(
+            "spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql", "false",
+            "spring.main.banner-mode", "off",
+            "server.port", "0",
+            "server.error.include-message", "always",
+            "logging.level.root", "WARN",
+            "counters.reconciliation.initial-delay", "PT24H",
+            "jwt.revocation.purge-interval", "PT24H");
+
+    public static void main(String[] args) throws IOException {
+        boolean passed = true;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MovieTheaterApplication.class)
+                .properties(PROPERTIES)
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadTestData data = LoadTestData.seed(context);
+
+            try (LoadClient client = new LoadClient(URI.create("http://localhost:" + port), MAX_IN_FLIGHT)) {
+                for (Scenario scenario : select(data, args)) {
+                    ScenarioReport report = new ScenarioReport(scenario.name());
+                    report.start();
+                    scenario.run(client, report);
+                    report.finish();
+                    report.print(System.out, OUTPUT);
+                    passed &= report.passed();
+                }
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static List<Scenario> select(LoadTestData data, String[] names) {
+        List<Scenario> scenarios = List.of(
+                new CatalogBrowsingScenario(data),
+                new SeatMapPollingScenario(data),
+                new FlashSaleScenario(data));
+        if (names.length == 0) {
+            return scenarios;
+        }
+
+        List<Scenario> selected = new ArrayList<>();
+        for (String name : names) {
+            selected.add(scenarios.stream()
+                    .filter(scenario -> scenario.name().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + name + ", expected one of "
+                            + Arrays.toString(scenarios.stream().map(Scenario::name).toArray()) + ".")));
+        }
+        return selected;
+    }
+}
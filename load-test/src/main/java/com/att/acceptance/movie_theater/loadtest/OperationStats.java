@@ -0,0 +1,72 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and outcomes of one kind of request, e.g. "book seat".
+ *
+ * Latencies are recorded in microseconds into an HDR histogram, which keeps
+ * three significant digits from one microsecond up to a minute without
+ * storing the individual samples.
+ */
+public class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record a completed request.
+     *
+     * @param elapsedNanos The time from sending the request to receiving the whole response.
+     * @param error        The error category, or null if the request succeeded.
+     */
+    public void record(long elapsedNanos, String error) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (error == null) {
+            successes.increment();
+        } else {
+            errors.computeIfAbsent(error, e -> new LongAdder()).increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    /**
+     * @return The number of failed requests per error category, sorted by category.
+     */
+    public Map<String, Long> getErrors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((error, count) -> counts.put(error, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Take the latencies recorded so far. Meant to be called once, after the scenario has finished.
+     *
+     * @return The latencies in microseconds.
+     */
+    public Histogram takeLatencies() {
+        return recorder.getIntervalHistogram();
+    }
+}
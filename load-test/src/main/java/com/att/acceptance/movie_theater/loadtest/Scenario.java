@@ -0,0 +1,20 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+/**
+ * A scripted load scenario run against the application.
+ */
+public interface Scenario {
+
+    /**
+     * @return The name used to select the scenario on the command line and to label its report.
+     */
+    String name();
+
+    /**
+     * Run the scenario to completion.
+     *
+     * @param client The client to send requests with.
+     * @param report The report to record results and invariants in.
+     */
+    void run(LoadClient client, ScenarioReport report);
+}
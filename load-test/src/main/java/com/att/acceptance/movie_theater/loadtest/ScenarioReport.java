@@ -0,0 +1,114 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * What a scenario did: throughput and latency per operation, errors by
+ * category, and the invariants it checked.
+ *
+ * An invariant is a count that must be zero, such as the number of oversold
+ * seats. A report with any non-zero invariant fails the run.
+ */
+public class ScenarioReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String scenario;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final Map<String, Long> invariants = new LinkedHashMap<>();
+    private final Map<String, Object> facts = new LinkedHashMap<>();
+    private long startNanos;
+    private long endNanos;
+
+    public ScenarioReport(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public OperationStats operation(String name) {
+        return operations.computeIfAbsent(name, OperationStats::new);
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a count that must be zero.
+     *
+     * @param invariant What is counted, e.g. "oversold seats".
+     * @param violations The count.
+     */
+    public void check(String invariant, long violations) {
+        invariants.put(invariant, violations);
+    }
+
+    /**
+     * Record an observation that is reported but not checked, e.g. the number of seats sold.
+     *
+     * @param fact  What was observed.
+     * @param value The observed value.
+     */
+    public void note(String fact, Object value) {
+        facts.put(fact, value);
+    }
+
+    public boolean passed() {
+        return invariants.values().stream().allMatch(violations -> violations == 0);
+    }
+
+    /**
+     * Print the report and write the full latency distribution of every
+     * operation to {@code <directory>/<scenario>.<operation>.hgrm}, which can be
+     * plotted with the HdrHistogram plotter.
+     *
+     * @param out       Where to print the report.
+     * @param directory Where to write the latency distributions.
+     * @throws IOException If a distribution cannot be written.
+     */
+    public void print(PrintStream out, Path directory) throws IOException {
+        Duration elapsed = Duration.ofNanos(endNanos - startNanos);
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        Files.createDirectories(directory);
+
+        out.printf("%n=== %s (%.1f s) ===%n", scenario, seconds);
+        out.printf("%-22s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationStats operation : operations.values().stream()
+                .sorted(Comparator.comparing(OperationStats::getName)).toList()) {
+            Histogram latencies = operation.takeLatencies();
+            long errorCount = operation.getErrors().values().stream().mapToLong(Long::longValue).sum();
+            out.printf("%-22s %9d %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.getName(), latencies.getTotalCount(), errorCount, latencies.getTotalCount() / seconds,
+                    millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                    latencies.getMaxValue() / MICROS_PER_MILLI);
+            operation.getErrors().forEach((error, count) -> out.printf("    %7d x %s%n", count, error));
+
+            try (PrintStream distribution = new PrintStream(
+                    Files.newOutputStream(directory.resolve(scenario + "." + operation.getName() + ".hgrm")))) {
+                latencies.outputPercentileDistribution(distribution, MICROS_PER_MILLI);
+            }
+        }
+
+        facts.forEach((fact, value) -> out.printf("%-40s %s%n", fact, value));
+        invariants.forEach((invariant, violations) -> out.printf("%-40s %d %s%n",
+                invariant, violations, violations == 0 ? "OK" : "FAILED"));
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,63 @@
+package com.att.acceptance.movie_theater.loadtest;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Customers keeping a seat map open: each polls the seat map of one of a few
+ * popular showtimes at a fixed interval, and the occupancy of the whole day's
+ * showtimes every few polls.
+ */
+public class SeatMapPollingScenario implements Scenario {
+
+    private static final int USERS = Integer.getInteger("loadtest.seat-map.users", 500);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.seat-map.duration", "PT30S"));
+    private static final Duration POLL_INTERVAL = Duration.parse(System.getProperty("loadtest.seat-map.poll-interval", "PT0.5S"));
+    private static final int POPULAR_SHOWTIMES = 10;
+    private static final int POLLS_PER_OCCUPANCY = 5;
+
+    private final LoadTestData data;
+
+    public SeatMapPollingScenario(LoadTestData data) {
+        this.data = data;
+    }
+
+    @Override
+    public String name() {
+        return "seat-map";
+    }
+
+    @Override
+    public void run(LoadClient client, ScenarioReport report) {
+        OperationStats seatMaps = report.operation("showtimes.seats");
+        OperationStats occupancy = report.operation("showtimes.occupancy");
+        StringJoiner popular = new StringJoiner(",");
+        for (int i = 0; i < POPULAR_SHOWTIMES; i++) {
+            popular.add(Long.toString(data.getShowtimeId(i)));
+        }
+        String occupancyPath = "/api/showtimes/occupancy?ids=" + popular;
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        client.runUsers(USERS, user -> {
+            long showtimeId = data.getShowtimeId(user % POPULAR_SHOWTIMES);
+            // Spread the first polls over one interval, so that the users do not poll in lockstep
+            sleep(Duration.ofMillis(ThreadLocalRandom.current().nextLong(Math.max(POLL_INTERVAL.toMillis(), 1))));
+            for (int poll = 0; System.nanoTime() < deadline; poll++) {
+                client.get(seatMaps, "/api/showtimes/" + showtimeId + "/seats", null);
+                if (poll % POLLS_PER_OCCUPANCY == 0) {
+                    client.get(occupancy, occupancyPath, null);
+                }
+                sleep(POLL_INTERVAL);
+            }
+        });
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.att.acceptance.movie_theater.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * CBOR and Smile encodings of the API's JSON documents.
+ *
+ * Endpoints polled by kiosks list these media types in their {@code produces},
+ * and the encoding is picked from the {@code Accept} header, JSON remaining
+ * the default. The converters are built from the application's
+ * {@link Jackson2ObjectMapperBuilder}, so the binary documents have the same
+ * fields, date formats and modules as the JSON ones.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    /**
+     * The Smile media type, for which {@link org.springframework.http.MediaType} has no constant.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
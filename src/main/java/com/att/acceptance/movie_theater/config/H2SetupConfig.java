@@ -4,7 +4,9 @@ package com.att.acceptance.movie_theater.config;
 
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.repository.UserRepository;
 import com.att.acceptance.movie_theater.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,16 +15,17 @@ import org.springframework.context.annotation.Configuration;
 public class H2SetupConfig {
 
     @Bean
-    CommandLineRunner initDatabase(UserService userService) {
+    CommandLineRunner initDatabase(UserService userService, UserRepository userRepository,
+            @Value("${app.admin.password:password}") String adminPassword) {
         return args -> {
             // Check if any user with admin role exists
-            boolean adminExists = userService.getUserById(1L).getRoles().contains(RoleEnum.ROLE_ADMIN);
+            boolean adminExists = !userRepository.findByRole(RoleEnum.ROLE_ADMIN).isEmpty();
 
             if (!adminExists) {
                 User admin = new User();
                 admin.setName("Admin User");
                 admin.setEmail("admin@example.com");
-                admin.setPassword("password"); // Ideally, passwords should be hashed
+                admin.setPassword(adminPassword); // Hashed by the user service
                 admin.addRole(RoleEnum.ROLE_ADMIN);
                 userService.registerUser(admin, RoleEnum.ROLE_ADMIN);
             }
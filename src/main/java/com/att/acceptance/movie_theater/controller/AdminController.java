@@ -1,11 +1,16 @@
 package com.att.acceptance.movie_theater.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,9 +18,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.att.acceptance.movie_theater.dto.BatchOperation;
+import com.att.acceptance.movie_theater.dto.BatchOperationResult;
 import com.att.acceptance.movie_theater.entity.Movie;
 import com.att.acceptance.movie_theater.entity.Showtime;
 import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.BatchOperationException;
+import com.att.acceptance.movie_theater.service.BatchOperationService;
 import com.att.acceptance.movie_theater.service.MovieService;
 import com.att.acceptance.movie_theater.service.ShowtimeService;
 import com.att.acceptance.movie_theater.service.TheaterService;
@@ -42,11 +51,14 @@ public class AdminController {
 	private final MovieService movieService;
 	private final TheaterService theaterService;
 	private final ShowtimeService showtimeService;
+	private final BatchOperationService batchOperationService;
 
-	public AdminController(MovieService movieService, TheaterService theaterService, ShowtimeService showtimeService) {
+	public AdminController(MovieService movieService, TheaterService theaterService, ShowtimeService showtimeService,
+			BatchOperationService batchOperationService) {
 		this.movieService = movieService;
 		this.theaterService = theaterService;
 		this.showtimeService = showtimeService;
+		this.batchOperationService = batchOperationService;
 	}
 
 	/**
@@ -132,5 +144,41 @@ public class AdminController {
 		return ResponseEntity.noContent().build();
 	}
 
+	/**
+	 * Create, update and delete movies, theaters, showtimes and bookings in one
+	 * transaction. (Admin only)
+	 *
+	 * Either every operation is applied or none is; see {@link BatchOperationService}.
+	 *
+	 * @param operations The operations.
+	 * @return The result of every operation, in request order.
+	 */
+	@Operation(summary = "Execute a batch of operations", description = "Allows an admin to create, update and delete movies, theaters, showtimes and bookings in a single transaction.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "All operations applied", content = @Content(schema = @Schema(implementation = BatchOperationResult.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid or failed operation, named by its index; nothing was applied",
+					content = @Content(schema = @Schema(implementation = ProblemDetail.class))) })
+	@PreAuthorize("hasRole('ROLE_ADMIN')")
+	@PostMapping("/batch")
+	public ResponseEntity<List<BatchOperationResult>> executeBatch(@RequestBody List<BatchOperation> operations) {
+		List<BatchOperationResult> results = batchOperationService.execute(operations);
+		return ResponseEntity.ok(results);
+	}
+
+	/**
+	 * Report a rejected batch as a 400 whose body names the failing operation.
+	 *
+	 * @param e The exception.
+	 * @return The problem detail, with the {@code index} of the failing operation unless the whole batch was rejected.
+	 */
+	@ExceptionHandler(BatchOperationException.class)
+	public ResponseEntity<ProblemDetail> handleBatchOperationException(BatchOperationException e) {
+		ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+		if (e.getIndex() != null) {
+			problem.setProperty("index", e.getIndex());
+		}
+		return ResponseEntity.badRequest().body(problem);
+	}
+
 	// Additional admin-level operations can be added here for further flexibility.
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.att.acceptance.movie_theater.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.att.acceptance.movie_theater.dto.AnalyticsBackfillResult;
+import com.att.acceptance.movie_theater.dto.OccupancyRollup;
+import com.att.acceptance.movie_theater.service.BookingAnalyticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Controller for occupancy and revenue analytics. (Admin only)
+ *
+ * Every endpoint reads a precomputed rollup, so its cost does not depend on
+ * the number of bookings.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@Validated
+public class AnalyticsController {
+
+    private final BookingAnalyticsService bookingAnalyticsService;
+
+    public AnalyticsController(BookingAnalyticsService bookingAnalyticsService) {
+        this.bookingAnalyticsService = bookingAnalyticsService;
+    }
+
+    /**
+     * Get the occupancy and revenue of a showtime.
+     *
+     * @param id The showtime ID.
+     * @return The rollup of the showtime.
+     */
+    @Operation(summary = "Get showtime analytics", description = "Booked seats, occupancy and revenue of a showtime.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollup retrieved",
+                    content = @Content(schema = @Schema(implementation = OccupancyRollup.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown showtime")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(path = "/showtimes/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OccupancyRollup> getShowtimeRollup(@PathVariable @Min(1) Long id) {
+        return ResponseEntity.ok(bookingAnalyticsService.getShowtimeRollup(id));
+    }
+
+    /**
+     * Get the occupancy and revenue of every showtime of a movie.
+     *
+     * @param id The movie ID.
+     * @return The rollup of the movie.
+     */
+    @Operation(summary = "Get movie analytics", description = "Booked seats, occupancy and revenue of every showtime of a movie.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollup retrieved",
+                    content = @Content(schema = @Schema(implementation = OccupancyRollup.class)))
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(path = "/movies/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OccupancyRollup> getMovieRollup(@PathVariable @Min(1) Long id) {
+        return ResponseEntity.ok(bookingAnalyticsService.getMovieRollup(id));
+    }
+
+    /**
+     * Get the occupancy and revenue of every showtime in a theater.
+     *
+     * @param id The theater ID.
+     * @return The rollup of the theater.
+     */
+    @Operation(summary = "Get theater analytics", description = "Booked seats, occupancy and revenue of every showtime in a theater.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollup retrieved",
+                    content = @Content(schema = @Schema(implementation = OccupancyRollup.class)))
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(path = "/theaters/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OccupancyRollup> getTheaterRollup(@PathVariable @Min(1) Long id) {
+        return ResponseEntity.ok(bookingAnalyticsService.getTheaterRollup(id));
+    }
+
+    /**
+     * Get the occupancy and revenue of the showtimes starting on each day of a range.
+     *
+     * @param from The first day.
+     * @param to   The last day, the first day if absent.
+     * @return One rollup per day.
+     */
+    @Operation(summary = "Get daily analytics", description = "Booked seats, occupancy and revenue per showtime start day, for up to 366 days.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollups retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid day range")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(path = "/days", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<OccupancyRollup>> getDayRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(bookingAnalyticsService.getDayRollups(from, to != null ? to : from));
+    }
+
+    /**
+     * Rebuild the rollups from the bookings in the database.
+     *
+     * @return The number of showtimes and bookings loaded.
+     */
+    @Operation(summary = "Rebuild analytics", description = "Recompute every rollup from the bookings in the database.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rollups rebuilt",
+                    content = @Content(schema = @Schema(implementation = AnalyticsBackfillResult.class)))
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(path = "/backfill", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AnalyticsBackfillResult> backfill() {
+        return ResponseEntity.ok(bookingAnalyticsService.backfill());
+    }
+}
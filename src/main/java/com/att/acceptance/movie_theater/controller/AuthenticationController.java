@@ -2,12 +2,14 @@ package com.att.acceptance.movie_theater.controller;
 
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.security.JwtTokenProvider;
+import com.att.acceptance.movie_theater.security.TokenRevocationList;
+import com.att.acceptance.movie_theater.security.VerifiedToken;
+import com.att.acceptance.movie_theater.service.PasswordHashingService;
 import com.att.acceptance.movie_theater.service.UserService;
+import com.att.acceptance.movie_theater.util.SecurityUtils;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
@@ -22,25 +24,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(value = "/api/auth", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class AuthenticationController {
 
-	private final AuthenticationManager authenticationManager;
+	private final PasswordHashingService passwordHashingService;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserService userService;
+	private final TokenRevocationList tokenRevocationList;
 
-	public AuthenticationController(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider,
-			UserService userService) {
-		this.authenticationManager = authenticationManager;
+	public AuthenticationController(PasswordHashingService passwordHashingService, JwtTokenProvider jwtTokenProvider,
+			UserService userService, TokenRevocationList tokenRevocationList) {
+		this.passwordHashingService = passwordHashingService;
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.userService = userService;
+		this.tokenRevocationList = tokenRevocationList;
 	}
 
 	/**
 	 * Authenticate a user and generate a JWT token.
+	 * The password is checked on the password hashing pool, not on the request thread.
 	 *
 	 * @param loginRequest The login request containing email and password.
 	 * @return A response containing the JWT token.
@@ -49,17 +55,50 @@ public class AuthenticationController {
 	@Operation(summary = "Authenticate user", description = "Authenticate a user and generate a JWT token.")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "User authenticated successfully", content = @Content(schema = @Schema(implementation = Map.class))),
-			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = Map.class))) })
-	public ResponseEntity<Map<String, String>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-		Authentication authentication = authenticationManager.authenticate(
-				new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = Map.class))),
+			@ApiResponse(responseCode = "503", description = "Too many concurrent logins, retry later") })
+	public CompletableFuture<ResponseEntity<Map<String, String>>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+		return passwordHashingService.authenticate(loginRequest.getEmail(), loginRequest.getPassword())
+				.thenApply(authentication -> {
+					String token = jwtTokenProvider.generateToken(authentication);
+
+					Map<String, String> response = new HashMap<>();
+					response.put("token", token);
+					return ResponseEntity.ok(response);
+				});
+	}
 
-		SecurityContextHolder.getContext().setAuthentication(authentication);
-		String token = jwtTokenProvider.generateToken(authentication);
+	/**
+	 * Log out by revoking the token used to authenticate the request.
+	 *
+	 * @return An empty response.
+	 */
+	@PostMapping("/logout")
+	@Operation(summary = "Log out", description = "Revoke the JWT token used to authenticate the request.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "204", description = "Token revoked successfully"),
+			@ApiResponse(responseCode = "401", description = "Not authenticated") })
+	public ResponseEntity<Void> logout() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getCredentials() instanceof VerifiedToken token) {
+			tokenRevocationList.revoke(token);
+		}
+		return ResponseEntity.noContent().build();
+	}
 
-		Map<String, String> response = new HashMap<>();
-		response.put("token", token);
-		return ResponseEntity.ok(response);
+	/**
+	 * Log out of all sessions by revoking every token issued to the authenticated user.
+	 *
+	 * @return An empty response.
+	 */
+	@PostMapping("/logout-all")
+	@Operation(summary = "Log out of all sessions", description = "Revoke every JWT token issued to the authenticated user.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "204", description = "Tokens revoked successfully"),
+			@ApiResponse(responseCode = "401", description = "Not authenticated") })
+	public ResponseEntity<Void> logoutAll() {
+		userService.revokeAllTokens(SecurityUtils.getAuthenticatedUserId());
+		return ResponseEntity.noContent().build();
 	}
 
 	/**
@@ -71,12 +110,12 @@ public class AuthenticationController {
 	@Operation(summary = "Register a new user", description = "Register a new user in the system.")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "User registered successfully", content = @Content(schema = @Schema(implementation = User.class))),
-			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = User.class))) })
+			@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = User.class))),
+			@ApiResponse(responseCode = "503", description = "Too many concurrent registrations, retry later") })
 	@PostMapping("/register")
-	public ResponseEntity<User> registerUser(@Valid @RequestBody User user) {
-		User registeredUser = userService.registerUser(user,
-				com.att.acceptance.movie_theater.entity.RoleEnum.ROLE_CUSTOMER);
-		return ResponseEntity.ok(registeredUser);
+	public CompletableFuture<ResponseEntity<User>> registerUser(@Valid @RequestBody User user) {
+		return passwordHashingService.registerUser(user, com.att.acceptance.movie_theater.entity.RoleEnum.ROLE_CUSTOMER)
+				.thenApply(ResponseEntity::ok);
 	}
 
 	/**
@@ -1,7 +1,15 @@
 package com.att.acceptance.movie_theater.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,12 +20,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.att.acceptance.movie_theater.config.BinaryFormatsConfig;
+import com.att.acceptance.movie_theater.dto.BookingExportFilter;
+import com.att.acceptance.movie_theater.dto.BookingExportFormat;
+import com.att.acceptance.movie_theater.dto.BookingHistoryPage;
+import com.att.acceptance.movie_theater.dto.BookingHistoryPeriod;
 import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.service.BookingExportService;
 import com.att.acceptance.movie_theater.service.BookingService;
-import com.att.acceptance.movie_theater.service.UserService;
+import com.att.acceptance.movie_theater.util.ContentEncodings;
 import com.att.acceptance.movie_theater.util.SecurityUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,7 +42,9 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 @RestController
@@ -33,12 +52,15 @@ import jakarta.validation.constraints.Min;
 @Validated
 public class BookingController {
 
+    private static final String BOOKING_FIELDS = "id, status, price, userId, showtimeId, seatId, startTime, endTime, "
+            + "movieId, movieTitle, theaterId, theaterName, seatNumber, seatCategory";
+
     private final BookingService bookingService;
-    private final UserService userService;
+    private final BookingExportService bookingExportService;
 
-    public BookingController(BookingService bookingService, UserService userService) {
+    public BookingController(BookingService bookingService, BookingExportService bookingExportService) {
         this.bookingService = bookingService;
-        this.userService = userService;
+        this.bookingExportService = bookingExportService;
     }
 
     /**
@@ -56,8 +78,9 @@ public class BookingController {
     @PreAuthorize("hasRole('ROLE_CUSTOMER')")
     @PostMapping(path = "/create", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Booking> createBooking(@Valid @RequestBody Booking booking) {
-        Long userId = SecurityUtils.getAuthenticatedUserId();
-        booking.setUser(userService.getUserById(userId)); // Fetch the authenticated user entity
+        User user = new User();
+        user.setId(SecurityUtils.getAuthenticatedUserId()); // Resolved to a reference by the service
+        booking.setUser(user);
         Booking savedBooking = bookingService.createBooking(booking);
         return ResponseEntity.ok(savedBooking);
     }
@@ -85,42 +108,130 @@ public class BookingController {
     /**
      * Get all bookings for the authenticated user. (Customer only)
      *
+     * @param fields The booking fields to return, all of them if absent.
      * @return A set of bookings for the user.
      */
-    @Operation(summary = "Get booking by Authenticated User", description = "Retrieve details of a specific booking by its Authenticated User ID.")
+    @Operation(summary = "Get booking by Authenticated User", description = "Retrieve details of a specific booking by its Authenticated User ID. "
+            + "With fields=id,startTime,seatNumber only those fields are read and returned; available fields: " + BOOKING_FIELDS + ".")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Booking found", 
                     content = @Content(schema = @Schema(implementation = Booking.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field or user"),
             @ApiResponse(responseCode = "404", description = "Booking not found")
     })
 
     @PreAuthorize("hasRole('ROLE_CUSTOMER')")
-    @GetMapping(path = "/get-user-booking", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Set<Booking>> getBookingsForUser() {
+    @GetMapping(path = "/get-user-booking", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Collection<?>> getBookingsForUser(@RequestParam(required = false) List<String> fields) {
         Long userId = SecurityUtils.getAuthenticatedUserId();
+        if (fields != null) {
+            return ResponseEntity.ok(bookingService.getBookingsByUser(userId, fields));
+        }
         Set<Booking> bookings = bookingService.getBookingsByUser(userId);
         return ResponseEntity.ok(bookings);
     }
+
+    /**
+     * Get one page of the authenticated user's upcoming or past bookings. (Customer only)
+     *
+     * @param period     {@code UPCOMING} (soonest first, default) or {@code PAST} (most recent first).
+     * @param afterStart The {@code nextAfterStart} of the previous page, absent for the first page.
+     * @param afterId    The {@code nextAfterId} of the previous page, absent for the first page.
+     * @param size       The maximum number of bookings in the page.
+     * @return The page, with the position of the next page if there is one.
+     */
+    @Operation(summary = "Get booking history of Authenticated User", description = "Retrieve the authenticated user's upcoming or past bookings one page at a time. "
+            + "The next page is requested with the nextAfterStart and nextAfterId of the previous one.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bookings found",
+                    content = @Content(schema = @Schema(implementation = BookingHistoryPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page position or size")
+    })
+    @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+    @GetMapping(path = "/get-user-booking-history")
+    public ResponseEntity<BookingHistoryPage> getBookingHistoryForUser(
+            @RequestParam(defaultValue = "UPCOMING") BookingHistoryPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStart,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        Long userId = SecurityUtils.getAuthenticatedUserId();
+        return ResponseEntity.ok(bookingService.getBookingHistory(userId, period, afterStart, afterId, size));
+    }
     
     /**
      * Get all bookings. (Admin only)
      *
+     * @param fields The booking fields to return, all of them if absent.
      * @return List of all bookings.
      */
-    @Operation(summary = "Get all bookings", description = "Retrieve a list of all bookings.")
+    @Operation(summary = "Get all bookings", description = "Retrieve a list of all bookings. "
+            + "With fields=... only those fields are read and returned; available fields: " + BOOKING_FIELDS + ".")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of bookings retrieved", 
-                    content = @Content(schema = @Schema(implementation = Booking.class)))
+                    content = @Content(schema = @Schema(implementation = Booking.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field")
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    @GetMapping(path = "/get-all-bookings", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Set<Booking>> getAllBookings() {
+    @GetMapping(path = "/get-all-bookings", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Collection<?>> getAllBookings(@RequestParam(required = false) List<String> fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(bookingService.getAllBookings(fields));
+        }
         Set<Booking> bookings = bookingService.getAllBookings();
         return ResponseEntity.ok(bookings);
     }
 
     /**
-     * Cancel a booking by ID. (Customer only)
+     * Export bookings as NDJSON or CSV. (Admin only)
+     *
+     * The bookings are streamed to the response as they are read, so the export
+     * runs in constant memory whatever its size. The response is gzipped when
+     * the client accepts it.
+     *
+     * @param format         The format, {@code ndjson} (default) or {@code csv}.
+     * @param from           Earliest showtime start (inclusive, UTC), optional.
+     * @param to             Latest showtime start (exclusive, UTC), optional.
+     * @param theaterId      Only bookings in this theater, optional.
+     * @param movieId        Only bookings for this movie, optional.
+     * @param acceptEncoding The Accept-Encoding header.
+     * @param response       The response the export is written to.
+     * @throws IOException If writing the response fails.
+     */
+    @Operation(summary = "Export bookings", description = "Stream all bookings, optionally filtered by showtime start, theater and movie, as NDJSON or CSV.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bookings exported"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or date range")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(path = "/export")
+    public void exportBookings(@RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long theaterId,
+            @RequestParam(required = false) Long movieId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        BookingExportFormat exportFormat = BookingExportFormat.of(format);
+        BookingExportFilter filter = new BookingExportFilter(from, to, theaterId, movieId);
+        boolean gzip = ContentEncodings.acceptsGzip(acceptEncoding);
+
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"bookings." + exportFormat.getExtension() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, ContentEncodings.GZIP);
+            GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192);
+            bookingExportService.export(filter, exportFormat, out);
+            out.finish();
+        } else {
+            OutputStream out = response.getOutputStream();
+            bookingExportService.export(filter, exportFormat, out);
+        }
+    }
+
+    /**
+     * Cancel a booking by ID. (Booking owner only)
      *
      * @param id The booking ID.
      */
@@ -129,7 +240,7 @@ public class BookingController {
             @ApiResponse(responseCode = "204", description = "Booking successfully deleted"),
             @ApiResponse(responseCode = "404", description = "Booking not found")
     })
-    @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+    @PreAuthorize("hasRole('ROLE_CUSTOMER') and @bookingSecurity.isOwner(#id)")
     @DeleteMapping(path = "/delete/{id}")
     public ResponseEntity<Void> cancelBooking(@PathVariable @Min(1) Long id) {
         bookingService.cancelBooking(id);
@@ -1,15 +1,21 @@
 package com.att.acceptance.movie_theater.controller;
 
+import com.att.acceptance.movie_theater.dto.MovieDetail;
 import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.service.CatalogResponseCache;
+import com.att.acceptance.movie_theater.service.MovieDetailService;
 import com.att.acceptance.movie_theater.service.MovieService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 
@@ -25,9 +31,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class MovieController {
 
     private final MovieService movieService;
+    private final CatalogResponseCache catalogResponseCache;
+    private final MovieDetailService movieDetailService;
 
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, CatalogResponseCache catalogResponseCache,
+            MovieDetailService movieDetailService) {
         this.movieService = movieService;
+        this.catalogResponseCache = catalogResponseCache;
+        this.movieDetailService = movieDetailService;
     }
 
     /**
@@ -54,15 +65,22 @@ public class MovieController {
      * Accessible by both customers and admins.
      *
      * @param pageable Pagination details.
+     * @param fields The movie fields to return, all of them if absent.
      * @return A page of movies.
      */
-    @Operation(summary = "Get all movies", description = "Retrieve a list of all available movies.")
+    @Operation(summary = "Get all movies", description = "Retrieve a list of all available movies. "
+            + "With fields=id,title,rating only those fields are read and returned; "
+            + "available fields: id, title, genre, duration, rating, releaseYear.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of movies retrieved", 
-                    content = @Content(schema = @Schema(implementation = Movie.class)))
+                    content = @Content(schema = @Schema(implementation = Movie.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field")
     })
     @GetMapping(path = "/get-all-movies")
-    public ResponseEntity<Page<Movie>> getAllMovies(Pageable pageable) {
+    public ResponseEntity<Page<?>> getAllMovies(Pageable pageable, @RequestParam(required = false) List<String> fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(movieService.getAllMovies(pageable, fields));
+        }
         Page<Movie> movies = movieService.getAllMovies(pageable);
         return ResponseEntity.ok(movies);
     }
@@ -71,19 +89,47 @@ public class MovieController {
      * Get a movie by ID.
      * Accessible by both customers and admins.
      *
+     * The serialized movie is cached with a strong ETag until the movie is
+     * updated or deleted.
+     *
      * @param id The movie ID.
-     * @return The movie.
+     * @param ifNoneMatch The ETags of the client's copies, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @return The movie, or 304 if the client's copy is current.
      */
     @Operation(summary = "Get movie by ID", description = "Retrieve details of a specific movie by its ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Movie found", 
                     content = @Content(schema = @Schema(implementation = Movie.class))),
+            @ApiResponse(responseCode = "304", description = "Movie not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Movie not found")
     })
     @GetMapping(path = "/get-single-movie/{id}")
-    public ResponseEntity<Movie> getMovieById(@PathVariable @Min(1) Long id) {
-        Movie movie = movieService.getMovieById(id);
-        return ResponseEntity.ok(movie);
+    public ResponseEntity<byte[]> getMovieById(@PathVariable @Min(1) Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseCache.get(CatalogResponseCache.movieKey(id), () -> movieService.getMovieById(id))
+                .toResponseEntity(ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Get a movie with its showtimes and the seats left for its next showtimes,
+     * loaded in parallel. Parts that are not loaded in time are left out and
+     * named in {@code unavailable}.
+     *
+     * @param id The movie ID.
+     * @return The movie detail page.
+     */
+    @Operation(summary = "Get movie detail page", description = "Retrieve a movie, its showtimes and the seats left for its next showtimes in one request.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Movie found",
+                    content = @Content(schema = @Schema(implementation = MovieDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Movie not found"),
+            @ApiResponse(responseCode = "503", description = "Movie not loaded in time")
+    })
+    @GetMapping(path = "/get-movie-detail/{id}")
+    public ResponseEntity<MovieDetail> getMovieDetail(@PathVariable @Min(1) Long id) {
+        return ResponseEntity.ok(movieDetailService.getMovieDetail(id));
     }
 
     /**
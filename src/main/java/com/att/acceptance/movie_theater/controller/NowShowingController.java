@@ -0,0 +1,50 @@
+package com.att.acceptance.movie_theater.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.att.acceptance.movie_theater.dto.NowShowing;
+import com.att.acceptance.movie_theater.service.NowShowingService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * Controller for the home page "now showing" listing.
+ */
+@RestController
+@RequestMapping("/api/now-showing")
+public class NowShowingController {
+
+    private final NowShowingService nowShowingService;
+
+    public NowShowingController(NowShowingService nowShowingService) {
+        this.nowShowingService = nowShowingService;
+    }
+
+    /**
+     * Get the movies with upcoming showtimes, grouped by theater, and seats left. (Accessible by all users)
+     *
+     * The response is written from pre-serialized bytes and may lag behind the
+     * latest writes by about {@code now-showing.refresh-interval}.
+     *
+     * @return The serialized listing.
+     */
+    @Operation(summary = "Get now showing", description = "Retrieve every movie with upcoming showtimes, grouped by theater, with the seats left for each showtime, in a single request.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Listing retrieved",
+                    content = @Content(schema = @Schema(implementation = NowShowing.class)))
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getNowShowing() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(nowShowingService.getNowShowingJson());
+    }
+}
@@ -1,6 +1,12 @@
 package com.att.acceptance.movie_theater.controller;
 
+import com.att.acceptance.movie_theater.config.BinaryFormatsConfig;
+import com.att.acceptance.movie_theater.dto.SeatStatusView;
+import com.att.acceptance.movie_theater.dto.ShowtimeOccupancy;
+import com.att.acceptance.movie_theater.dto.ShowtimePrices;
 import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.service.PricingService;
+import com.att.acceptance.movie_theater.service.SeatInventoryService;
 import com.att.acceptance.movie_theater.service.ShowtimeService;
 
 import org.springframework.http.MediaType;
@@ -10,6 +16,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,17 +24,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Controller for showtimes.
+ *
+ * The showtime lists, seat maps and occupancy polled by kiosks can also be
+ * requested as CBOR or Smile with the {@code Accept} header (see {@link BinaryFormatsConfig}).
+ */
 @RestController
 @RequestMapping(value = "/api/showtimes", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class ShowtimeController {
 
     private final ShowtimeService showtimeService;
+    private final SeatInventoryService seatInventoryService;
+    private final PricingService pricingService;
 
-    public ShowtimeController(ShowtimeService showtimeService) {
+    public ShowtimeController(ShowtimeService showtimeService, SeatInventoryService seatInventoryService,
+            PricingService pricingService) {
         this.showtimeService = showtimeService;
+        this.seatInventoryService = seatInventoryService;
+        this.pricingService = pricingService;
     }
 
     /**
@@ -61,7 +81,7 @@ public class ShowtimeController {
                     content = @Content(schema = @Schema(implementation = Showtime.class))),
             @ApiResponse(responseCode = "404", description = "Showtime not found")
     })
-    @GetMapping("/movie/{movieId}")
+    @GetMapping(path = "/movie/{movieId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Set<Showtime>> getShowtimesByMovie(@PathVariable @Min(1) Long movieId) {
         Set<Showtime> showtimes = showtimeService.getShowtimesByMovie(movieId);
         return ResponseEntity.ok(showtimes);
@@ -79,12 +99,65 @@ public class ShowtimeController {
                     content = @Content(schema = @Schema(implementation = Showtime.class))),
             @ApiResponse(responseCode = "404", description = "Showtime not found")
     })
-    @GetMapping("/theater/{theaterId}")
+    @GetMapping(path = "/theater/{theaterId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Set<Showtime>> getShowtimesByTheater(@PathVariable @Min(1) Long theaterId) {
         Set<Showtime> showtimes = showtimeService.getShowtimesByTheater(theaterId);
         return ResponseEntity.ok(showtimes);
     }
 
+    /**
+     * Get the status of every seat for a showtime. (Accessible by all users)
+     *
+     * @param id The showtime ID.
+     * @return The seats of the showtime's theater with their status.
+     */
+    @Operation(summary = "Get the seat map of a showtime", description = "Retrieve the availability of every seat for a specific showtime.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Seat map found",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SeatStatusView.class)))),
+            @ApiResponse(responseCode = "404", description = "Showtime not found")
+    })
+    @GetMapping(path = "/{id}/seats", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<SeatStatusView>> getSeatMap(@PathVariable @Min(1) Long id) {
+        List<SeatStatusView> seatMap = seatInventoryService.getSeatMap(id);
+        return ResponseEntity.ok(seatMap);
+    }
+
+    /**
+     * Get the seat counters of several showtimes. (Accessible by all users)
+     *
+     * @param ids The showtime IDs.
+     * @return The capacity and the booked, held and available seats of each showtime.
+     */
+    @Operation(summary = "Get the occupancy of showtimes", description = "Retrieve the number of booked, held and available seats of several showtimes at once, e.g. for \"seats left\" badges on listings.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Occupancy found",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ShowtimeOccupancy.class))))
+    })
+    @GetMapping(path = "/occupancy", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<ShowtimeOccupancy>> getOccupancy(@RequestParam("ids") @Size(max = 500) Set<Long> ids) {
+        List<ShowtimeOccupancy> occupancy = seatInventoryService.getOccupancy(ids);
+        return ResponseEntity.ok(occupancy);
+    }
+
+    /**
+     * Get the current seat prices of a showtime. (Accessible by all users)
+     *
+     * @param id The showtime ID.
+     * @return The price of a seat of each category.
+     */
+    @Operation(summary = "Get the seat prices of a showtime", description = "Retrieve the current price of each seat category, which depends on the time of day and on how full the showtime is.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Prices found",
+                    content = @Content(schema = @Schema(implementation = ShowtimePrices.class))),
+            @ApiResponse(responseCode = "400", description = "Showtime not found")
+    })
+    @GetMapping("/{id}/prices")
+    public ResponseEntity<ShowtimePrices> getPrices(@PathVariable @Min(1) Long id) {
+        ShowtimePrices prices = pricingService.getPrices(id);
+        return ResponseEntity.ok(prices);
+    }
+
     /**
      * Update an existing showtime. (Admin only)
      *
@@ -98,7 +171,7 @@ public class ShowtimeController {
                     content = @Content(schema = @Schema(implementation = Showtime.class))),
             @ApiResponse(responseCode = "404", description = "Showtime not found")
     })
-    @PreAuthorize("hasRole('ADMIN_ROLE')")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PutMapping(path = "/update/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Showtime> updateShowtime(@PathVariable @Min(1) Long id, @Valid @RequestBody Showtime updatedShowtime) {
         Showtime showtime = showtimeService.updateShowtime(id, updatedShowtime);
@@ -115,7 +188,7 @@ public class ShowtimeController {
             @ApiResponse(responseCode = "204", description = "Showtime successfully deleted"),
             @ApiResponse(responseCode = "404", description = "Showtime not found")
     })
-    @PreAuthorize("hasRole('ADMIN_ROLE')")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
     @DeleteMapping(path = "/delete/{id}")
     public ResponseEntity<Void> deleteShowtime(@PathVariable @Min(1) Long id) {
         showtimeService.deleteShowtime(id);
@@ -1,9 +1,13 @@
 package com.att.acceptance.movie_theater.controller;
 
+import com.att.acceptance.movie_theater.dto.SeatLayoutRequest;
+import com.att.acceptance.movie_theater.dto.SeatLayoutResult;
 import com.att.acceptance.movie_theater.entity.Theater;
 import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.service.CatalogResponseCache;
 import com.att.acceptance.movie_theater.service.TheaterService;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,9 +30,11 @@ import java.util.Set;
 public class TheaterController {
 
     private final TheaterService theaterService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public TheaterController(TheaterService theaterService) {
+    public TheaterController(TheaterService theaterService, CatalogResponseCache catalogResponseCache) {
         this.theaterService = theaterService;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     /**
@@ -53,17 +59,25 @@ public class TheaterController {
     /**
      * Get all theaters. (Accessible by all users)
      *
-     * @return A set of all theaters.
+     * The serialized list is cached with a strong ETag until a theater or its
+     * seat count changes.
+     *
+     * @param ifNoneMatch The ETags of the client's copies, if any.
+     * @param acceptEncoding The encodings accepted by the client, if any.
+     * @return A set of all theaters, or 304 if the client's copy is current.
      */
     @Operation(summary = "Get all theaters", description = "Retrieve a list of all available theaters.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of theaters retrieved", 
-                    content = @Content(schema = @Schema(implementation = Theater.class)))
+                    content = @Content(schema = @Schema(implementation = Theater.class))),
+            @ApiResponse(responseCode = "304", description = "Theaters not modified since the given ETag")
     })
     @GetMapping(path = "/get-all-theaters")
-    public ResponseEntity<Set<Theater>> getAllTheaters() {
-        Set<Theater> theaters = theaterService.getAllTheaters();
-        return ResponseEntity.ok(theaters);
+    public ResponseEntity<byte[]> getAllTheaters(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return catalogResponseCache.get(CatalogResponseCache.ALL_THEATERS, theaterService::getAllTheaters)
+                .toResponseEntity(ifNoneMatch, acceptEncoding);
     }
 
     /**
@@ -139,6 +153,24 @@ public class TheaterController {
         return ResponseEntity.ok(savedSeat);
     }
 
+    /**
+     * Generate the seats of a theater from a layout specification. (Admin only)
+     *
+     * @param theaterId The theater ID.
+     * @param layout The layout to generate.
+     * @return A summary of the created seats.
+     */
+    @Operation(summary = "Generate a seat layout", description = "Allows an admin to create all seats of a theater from rows, seats per row, aisles and row categories in one request.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Seats created successfully", content = @Content(schema = @Schema(implementation = SeatLayoutResult.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid layout or theater capacity exceeded") })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(path = "/{theaterId}/seats/layout", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SeatLayoutResult> generateSeatLayout(@PathVariable @Min(1) Long theaterId, @Valid @RequestBody SeatLayoutRequest layout) {
+        SeatLayoutResult result = theaterService.generateSeatLayout(theaterId, layout);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get all seats for a specific theater. (Accessible by all users)
      *
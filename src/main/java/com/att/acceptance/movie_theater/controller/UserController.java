@@ -2,6 +2,7 @@ package com.att.acceptance.movie_theater.controller;
 
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.service.PasswordHashingService;
 import com.att.acceptance.movie_theater.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,15 +22,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(value = "/api/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class UserController {
 
     private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, PasswordHashingService passwordHashingService) {
         this.userService = userService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     /**
@@ -43,12 +48,13 @@ public class UserController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User registered successfully", 
                     content = @Content(schema = @Schema(implementation = User.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent registrations, retry later")
     })
     @PostMapping("/register")
-    public ResponseEntity<User> registerUser(@Valid @RequestBody User user) {
-        User registeredUser = userService.registerUser(user, RoleEnum.ROLE_CUSTOMER);
-        return ResponseEntity.ok(registeredUser);
+    public CompletableFuture<ResponseEntity<User>> registerUser(@Valid @RequestBody User user) {
+        return passwordHashingService.registerUser(user, RoleEnum.ROLE_CUSTOMER)
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -115,13 +121,14 @@ public class UserController {
         @ApiResponses({ @ApiResponse(responseCode = "200", description = "User updated successfully", content=@Content(schema=@Schema(implementation=User.class))),
 		@ApiResponse(responseCode="401",description="Unauthorized"),@ApiResponse(responseCode="404",description="User not found"),
         @ApiResponse(responseCode="400",description="Invalid input"),
-        @ApiResponse(responseCode="500",description="Internal server error")
+        @ApiResponse(responseCode="500",description="Internal server error"),
+        @ApiResponse(responseCode="503",description="Too many concurrent password changes, retry later")
 		})        
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PutMapping(path = "/update/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @Valid @RequestBody User user) {
-        User updatedUser = userService.updateUser(id, user);
-        return ResponseEntity.ok(updatedUser);
+    public CompletableFuture<ResponseEntity<User>> updateUser(@PathVariable Long id, @Valid @RequestBody User user) {
+        return passwordHashingService.updateUser(id, user)
+                .thenApply(ResponseEntity::ok);
     }
     
     /**
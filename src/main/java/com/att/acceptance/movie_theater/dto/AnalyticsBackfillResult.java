@@ -0,0 +1,14 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Outcome of rebuilding the analytics rollups from the database.
+ *
+ * @param showtimes     The number of showtimes loaded.
+ * @param bookings      The number of bookings counted.
+ * @param elapsedMillis How long the backfill took.
+ */
+public record AnalyticsBackfillResult(
+        int showtimes,
+        long bookings,
+        long elapsedMillis) {
+}
@@ -0,0 +1,30 @@
+package com.att.acceptance.movie_theater.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One create, update or delete of a movie, theater, showtime or booking in an admin batch.
+ *
+ * @param action   What to do.
+ * @param resource The kind of entity to do it to.
+ * @param id       The ID of the entity to update or delete; ignored for a create.
+ * @param body     The entity to create, or its updated details, in the same JSON as the
+ *                 single-entity endpoints; ignored for a delete.
+ */
+public record BatchOperation(
+        Action action,
+        Resource resource,
+        Long id,
+        JsonNode body) {
+
+    public enum Action {
+        CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * The kinds of entity a batch can write, in the order their operations are executed.
+     */
+    public enum Resource {
+        MOVIE, THEATER, SHOWTIME, BOOKING
+    }
+}
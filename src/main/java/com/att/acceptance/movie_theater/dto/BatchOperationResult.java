@@ -0,0 +1,16 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Outcome of one operation of an admin batch.
+ *
+ * @param index    The position of the operation in the request.
+ * @param action   What was done.
+ * @param resource The kind of entity it was done to.
+ * @param id       The ID of the created, updated or deleted entity.
+ */
+public record BatchOperationResult(
+        int index,
+        BatchOperation.Action action,
+        BatchOperation.Resource resource,
+        Long id) {
+}
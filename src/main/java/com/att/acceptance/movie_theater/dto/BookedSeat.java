@@ -0,0 +1,12 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * A seat that has a booking for a showtime, as checked by the counter reconciliation.
+ *
+ * @param showtimeId The showtime ID.
+ * @param seatIndex  The index of the booked seat.
+ */
+public record BookedSeat(
+        Long showtimeId,
+        Integer seatIndex) {
+}
@@ -0,0 +1,24 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Restricts a booking export; every criterion is optional.
+ *
+ * @param from      Earliest showtime start (inclusive, UTC).
+ * @param to        Latest showtime start (exclusive, UTC).
+ * @param theaterId Only bookings for showtimes in this theater.
+ * @param movieId   Only bookings for showtimes of this movie.
+ */
+public record BookingExportFilter(
+        LocalDateTime from,
+        LocalDateTime to,
+        Long theaterId,
+        Long movieId) {
+
+    public BookingExportFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("The start of the date range must be before its end.");
+        }
+    }
+}
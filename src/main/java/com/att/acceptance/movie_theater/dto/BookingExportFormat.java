@@ -0,0 +1,49 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.util.Locale;
+
+/**
+ * Formats of a booking export.
+ */
+public enum BookingExportFormat {
+
+    /**
+     * One JSON object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Comma-separated values with a header line (RFC 4180).
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    BookingExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve a format from its name, ignoring case.
+     *
+     * @param name The format name ({@code ndjson} or {@code csv}).
+     * @return The format.
+     */
+    public static BookingExportFormat of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name + " (expected ndjson or csv).");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One line of a booking export, flattened from the booking and its user,
+ * showtime, movie, theater and seat so that no entity is loaded.
+ *
+ * @param bookingId   The booking ID.
+ * @param status      The booking status.
+ * @param price       The price of the booking.
+ * @param userId      The ID of the user who made the booking.
+ * @param userEmail   The email of the user who made the booking.
+ * @param showtimeId  The showtime ID.
+ * @param startTime   The start time of the showtime (UTC).
+ * @param movieId     The movie ID.
+ * @param movieTitle  The movie title.
+ * @param theaterId   The theater ID.
+ * @param theaterName The theater name.
+ * @param seatNumber  The booked seat.
+ */
+@Schema(description = "A booking as exported by /api/bookings/export.")
+public record BookingExportRow(
+        Long bookingId,
+        BookingStatus status,
+        float price,
+        Long userId,
+        String userEmail,
+        Long showtimeId,
+        LocalDateTime startTime,
+        Long movieId,
+        String movieTitle,
+        Long theaterId,
+        String theaterName,
+        String seatNumber) {
+}
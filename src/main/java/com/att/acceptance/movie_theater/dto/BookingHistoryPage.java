@@ -0,0 +1,26 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One page of a user's booking history.
+ *
+ * The next page is requested with {@code afterStart} and {@code afterId} set
+ * to {@code nextAfterStart} and {@code nextAfterId}; both are {@code null} on
+ * the last page.
+ *
+ * @param bookings       The bookings of the page.
+ * @param nextAfterStart The showtime start of the last booking, if there are more.
+ * @param nextAfterId    The ID of the last booking, if there are more.
+ */
+@Schema(description = "One page of the authenticated user's bookings.")
+public record BookingHistoryPage(
+        List<Booking> bookings,
+        LocalDateTime nextAfterStart,
+        Long nextAfterId) {
+}
@@ -0,0 +1,17 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Which part of a user's booking history to list.
+ */
+public enum BookingHistoryPeriod {
+
+    /**
+     * Bookings for showtimes that have not started yet, soonest first.
+     */
+    UPCOMING,
+
+    /**
+     * Bookings for showtimes that have started, most recent first.
+     */
+    PAST
+}
@@ -0,0 +1,59 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+
+/**
+ * Result of the single validation query run before a booking is created.
+ *
+ * A {@code null} identifier means the referenced row does not exist. The
+ * theater identifiers allow checking that the seat belongs to the theater in
+ * which the showtime is scheduled, and the packed statuses and version of the
+ * showtime's inventory allow claiming the seat without reading it again. The
+ * start time, seat category and seat counters are what the booking is priced from.
+ *
+ * @param showtimeId        The showtime ID.
+ * @param showtimeTheaterId The ID of the theater the showtime is scheduled in.
+ * @param seatId            The seat ID, or {@code null} if the seat does not exist.
+ * @param seatTheaterId     The ID of the theater the seat belongs to.
+ * @param seatIndex         The position of the seat within its theater.
+ * @param userId            The user ID, or {@code null} if the user does not exist.
+ * @param seatStatuses      The packed seat statuses of the showtime, or {@code null} if it has no inventory.
+ * @param inventoryVersion  The version of the showtime's inventory, or {@code null} if it has none.
+ * @param showtimeStartTime The start time of the showtime.
+ * @param seatCategory      The category of the seat.
+ * @param capacity          The number of seats offered, or {@code null} if the showtime has no inventory.
+ * @param bookedSeats       The number of booked seats, or {@code null} if the showtime has no inventory.
+ * @param heldSeats         The number of held seats, or {@code null} if the showtime has no inventory.
+ */
+public record BookingReferenceCheck(
+        Long showtimeId,
+        Long showtimeTheaterId,
+        Long seatId,
+        Long seatTheaterId,
+        Integer seatIndex,
+        Long userId,
+        byte[] seatStatuses,
+        Long inventoryVersion,
+        LocalDateTime showtimeStartTime,
+        SeatCategoryEnum seatCategory,
+        Integer capacity,
+        Integer bookedSeats,
+        Integer heldSeats) {
+
+    public boolean seatBelongsToShowtimeTheater() {
+        return seatTheaterId != null && seatTheaterId.equals(showtimeTheaterId);
+    }
+
+    public int occupiedSeats() {
+        return (bookedSeats != null ? bookedSeats : 0) + (heldSeats != null ? heldSeats : 0);
+    }
+
+    public boolean isSeatAvailable() {
+        return seatIndex != null
+                && SeatAvailability.statusAt(seatStatuses, seatIndex) == AvailabilityStatusEnum.AVAILABLE;
+    }
+}
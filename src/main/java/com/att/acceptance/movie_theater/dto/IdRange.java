@@ -0,0 +1,16 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Lowest and highest ID of a table, both {@code null} when it is empty.
+ *
+ * @param minId The lowest ID.
+ * @param maxId The highest ID.
+ */
+public record IdRange(
+        Long minId,
+        Long maxId) {
+
+    public boolean isEmpty() {
+        return minId == null || maxId == null;
+    }
+}
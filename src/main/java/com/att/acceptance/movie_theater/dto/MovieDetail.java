@@ -0,0 +1,27 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.util.List;
+
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Everything a movie detail page shows, loaded in one request.
+ *
+ * A part that could not be loaded in time is {@code null} and named in
+ * {@code unavailable}, so the page can render the rest and fetch it later.
+ *
+ * @param movie        The movie.
+ * @param showtimes    The showtimes of the movie, soonest first.
+ * @param availability The seat counters of the next showtimes, soonest first.
+ * @param unavailable  The parts that are missing: {@code showtimes} and/or {@code availability}.
+ */
+@Schema(description = "A movie with its showtimes and the seats left for its next showtimes.")
+public record MovieDetail(
+        Movie movie,
+        List<Showtime> showtimes,
+        List<ShowtimeOccupancy> availability,
+        List<String> unavailable) {
+}
@@ -0,0 +1,68 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The home page read model: every movie with upcoming showtimes, its showtimes
+ * grouped by theater, and the seats left for each showtime.
+ *
+ * @param generatedAt When the model was built, in UTC.
+ * @param movies      The movies, by title.
+ */
+@Schema(description = "Movies with their upcoming showtimes, grouped by theater, and seats left.")
+public record NowShowing(
+        LocalDateTime generatedAt,
+        List<Movie> movies) {
+
+    /**
+     * A movie with upcoming showtimes.
+     *
+     * @param id       The movie ID.
+     * @param title    The title.
+     * @param genre    The genre.
+     * @param duration The duration in minutes.
+     * @param rating   The rating.
+     * @param theaters The theaters showing the movie, by name.
+     */
+    public record Movie(
+            Long id,
+            String title,
+            String genre,
+            Integer duration,
+            String rating,
+            List<Theater> theaters) {
+    }
+
+    /**
+     * A theater showing a movie.
+     *
+     * @param id        The theater ID.
+     * @param name      The name.
+     * @param location  The location.
+     * @param showtimes The upcoming showtimes of the movie in this theater, by start time.
+     */
+    public record Theater(
+            Long id,
+            String name,
+            String location,
+            List<Showtime> showtimes) {
+    }
+
+    /**
+     * An upcoming showtime.
+     *
+     * @param id        The showtime ID.
+     * @param startTime The start time.
+     * @param endTime   The end time.
+     * @param seatsLeft The number of seats that can still be booked.
+     */
+    public record Showtime(
+            Long id,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            int seatsLeft) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One upcoming showtime with its movie, theater and seat counters, as read to
+ * build the {@link NowShowing} read model.
+ *
+ * @param movieId         The movie ID.
+ * @param title           The movie title.
+ * @param genre           The movie genre.
+ * @param duration        The movie duration in minutes.
+ * @param rating          The movie rating.
+ * @param theaterId       The theater ID.
+ * @param theaterName     The theater name.
+ * @param theaterLocation The theater location.
+ * @param theaterSeats    The number of seats of the theater.
+ * @param showtimeId      The showtime ID.
+ * @param startTime       The start time.
+ * @param endTime         The end time.
+ * @param capacity        The number of seats offered, or {@code null} if the showtime has no inventory.
+ * @param bookedSeats     The number of booked seats, or {@code null} if the showtime has no inventory.
+ * @param heldSeats       The number of held seats, or {@code null} if the showtime has no inventory.
+ */
+public record NowShowingRow(
+        Long movieId,
+        String title,
+        String genre,
+        Integer duration,
+        String rating,
+        Long theaterId,
+        String theaterName,
+        String theaterLocation,
+        Integer theaterSeats,
+        Long showtimeId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Integer capacity,
+        Integer bookedSeats,
+        Integer heldSeats) {
+
+    public int seatsLeft() {
+        if (capacity == null) {
+            return theaterSeats != null ? theaterSeats : 0;
+        }
+        return Math.max(capacity - (bookedSeats != null ? bookedSeats : 0) - (heldSeats != null ? heldSeats : 0), 0);
+    }
+}
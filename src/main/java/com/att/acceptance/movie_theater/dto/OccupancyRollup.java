@@ -0,0 +1,27 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Occupancy and revenue of a showtime, movie, theater or day.
+ *
+ * @param bucket      The kind of bucket: showtime, movie, theater or day.
+ * @param key         The showtime, movie or theater ID, or the ISO date of the day.
+ * @param showtimes   The number of showtimes in the bucket.
+ * @param capacity    The number of seats offered by those showtimes.
+ * @param bookedSeats The number of booked seats.
+ * @param occupancy   Booked seats over capacity, 0 when there is no capacity.
+ * @param revenue     The sum of the booking prices.
+ */
+@Schema(description = "Occupancy and revenue of a showtime, movie, theater or day.")
+public record OccupancyRollup(
+        String bucket,
+        String key,
+        long showtimes,
+        long capacity,
+        long bookedSeats,
+        double occupancy,
+        BigDecimal revenue) {
+}
@@ -0,0 +1,18 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Outcome of reconciling one page of counters.
+ *
+ * @param lastId    The last ID checked, or {@code null} if there was nothing left to check.
+ * @param checked   The number of rows checked.
+ * @param corrected The number of rows whose counters were corrected.
+ */
+public record ReconciliationPage(
+        Long lastId,
+        int checked,
+        int corrected) {
+
+    public boolean isLastPage(int batchSize) {
+        return lastId == null || checked < batchSize;
+    }
+}
@@ -0,0 +1,99 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Specification of a rectangular seat layout to generate for a theater.
+ *
+ * Rows are labelled A, B, ..., Z, AA, AB, ... and positions within a row are
+ * numbered from 1. Aisle positions are left empty, so seat numbers reflect the
+ * physical position of the seat, e.g. with an aisle at position 5 a row holds
+ * A1-A4 and A6-A10.
+ *
+ * @param rows            The number of rows.
+ * @param seatsPerRow     The number of positions in each row, aisles included.
+ * @param aisles          The positions (1-based) in every row that are aisles.
+ * @param defaultCategory The category of seats in rows without an explicit category.
+ * @param rowCategories   The category of specific rows, keyed by row label.
+ */
+@Schema(description = "Specification of a rectangular seat layout to generate for a theater.")
+public record SeatLayoutRequest(
+        @Schema(description = "Number of rows.", example = "20")
+        @Min(1) @Max(702) int rows,
+        @Schema(description = "Number of positions in each row, aisles included.", example = "24")
+        @Min(1) @Max(999) int seatsPerRow,
+        @Schema(description = "Positions (1-based) in every row that are aisles.", example = "[7, 18]")
+        Set<Integer> aisles,
+        @Schema(description = "Category of seats in rows without an explicit category.", example = "STANDARD")
+        SeatCategoryEnum defaultCategory,
+        @Schema(description = "Category of specific rows, keyed by row label.", example = "{\"A\": \"ACCESSIBLE\", \"T\": \"VIP\"}")
+        Map<String, SeatCategoryEnum> rowCategories) {
+
+    public SeatLayoutRequest {
+        aisles = aisles == null ? Set.of() : Set.copyOf(aisles);
+        defaultCategory = defaultCategory == null ? SeatCategoryEnum.STANDARD : defaultCategory;
+        rowCategories = rowCategories == null ? Map.of() : Map.copyOf(rowCategories);
+    }
+
+    /**
+     * Label of a row, spreadsheet style: 0 is A, 25 is Z, 26 is AA.
+     *
+     * @param row The zero-based row number.
+     * @return The row label.
+     */
+    public static String rowLabel(int row) {
+        StringBuilder label = new StringBuilder();
+        for (int n = row + 1; n > 0; n = (n - 1) / 26) {
+            label.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return label.toString();
+    }
+
+    /**
+     * Whether a row label names one of the layout's rows.
+     *
+     * @param rowLabel The row label.
+     * @return True if the label is one that {@link #rowLabel(int)} gives a row of the layout.
+     */
+    public boolean hasRow(String rowLabel) {
+        int row = 0;
+        for (int i = 0; i < rowLabel.length(); i++) {
+            char letter = rowLabel.charAt(i);
+            if (letter < 'A' || letter > 'Z') {
+                return false;
+            }
+            row = row * 26 + (letter - 'A' + 1);
+            if (row > rows) {
+                return false;
+            }
+        }
+        return row > 0;
+    }
+
+    /**
+     * Number of seats the layout generates.
+     *
+     * @return The number of rows times the number of non-aisle positions per row.
+     */
+    public int seatCount() {
+        long aislesInRow = aisles.stream().filter(position -> position >= 1 && position <= seatsPerRow).count();
+        return rows * (seatsPerRow - (int) aislesInRow);
+    }
+
+    /**
+     * Category of the seats in a row.
+     *
+     * @param rowLabel The row label.
+     * @return The row's category, or the default category.
+     */
+    public SeatCategoryEnum categoryOf(String rowLabel) {
+        return rowCategories.getOrDefault(rowLabel, defaultCategory);
+    }
+}
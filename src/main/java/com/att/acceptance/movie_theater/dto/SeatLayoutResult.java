@@ -0,0 +1,18 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Outcome of generating a seat layout for a theater.
+ *
+ * @param theaterId      The theater ID.
+ * @param seatsCreated   The number of seats created by the layout.
+ * @param totalSeats     The number of seats in the theater afterwards.
+ * @param firstSeatIndex The seat index of the first created seat.
+ * @param lastSeatIndex  The seat index of the last created seat.
+ */
+public record SeatLayoutResult(
+        Long theaterId,
+        int seatsCreated,
+        long totalSeats,
+        int firstSeatIndex,
+        int lastSeatIndex) {
+}
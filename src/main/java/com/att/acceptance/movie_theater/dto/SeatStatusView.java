@@ -0,0 +1,18 @@
+package com.att.acceptance.movie_theater.dto;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+
+/**
+ * Status of a single seat for a showtime, as returned by the seat map.
+ *
+ * @param seatId     The seat ID.
+ * @param seatNumber The seat number.
+ * @param seatIndex  The position of the seat within the theater.
+ * @param status     The status of the seat for the showtime.
+ */
+public record SeatStatusView(
+        Long seatId,
+        String seatNumber,
+        Integer seatIndex,
+        AvailabilityStatusEnum status) {
+}
@@ -0,0 +1,14 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Booked seats and revenue of a showtime within a range of booking IDs.
+ *
+ * @param showtimeId  The showtime ID.
+ * @param bookedSeats The number of bookings.
+ * @param revenue     The sum of the booking prices.
+ */
+public record ShowtimeBookingTotals(
+        Long showtimeId,
+        Long bookedSeats,
+        Double revenue) {
+}
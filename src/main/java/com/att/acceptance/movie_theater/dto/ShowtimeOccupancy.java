@@ -0,0 +1,25 @@
+package com.att.acceptance.movie_theater.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Seat counters of a showtime, read from its inventory row without counting.
+ *
+ * @param showtimeId     The showtime ID.
+ * @param capacity       The number of seats offered for the showtime.
+ * @param bookedSeats    The number of booked seats.
+ * @param heldSeats      The number of held seats.
+ * @param availableSeats The number of seats that can still be booked.
+ */
+@Schema(description = "Seat counters of a showtime.")
+public record ShowtimeOccupancy(
+        Long showtimeId,
+        int capacity,
+        int bookedSeats,
+        int heldSeats,
+        int availableSeats) {
+
+    public ShowtimeOccupancy(Long showtimeId, Integer capacity, Integer bookedSeats, Integer heldSeats) {
+        this(showtimeId, capacity, bookedSeats, heldSeats, Math.max(capacity - bookedSeats - heldSeats, 0));
+    }
+}
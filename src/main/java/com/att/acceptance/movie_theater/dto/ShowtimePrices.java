@@ -0,0 +1,24 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Current seat prices of a showtime.
+ *
+ * @param showtimeId The showtime ID.
+ * @param occupancy  The share of seats booked or held when the prices were computed.
+ * @param tier       The occupancy tier, 0 below the first threshold.
+ * @param prices     The price of a seat of each category.
+ */
+@Schema(description = "Current seat prices of a showtime.")
+public record ShowtimePrices(
+        Long showtimeId,
+        double occupancy,
+        int tier,
+        Map<SeatCategoryEnum, BigDecimal> prices) {
+}
@@ -0,0 +1,20 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Start time and seat counters of a showtime, as read to build its price table.
+ *
+ * @param showtimeId  The showtime ID.
+ * @param startTime   The start time of the showtime.
+ * @param capacity    The number of seats offered, or {@code null} if the showtime has no inventory.
+ * @param bookedSeats The number of booked seats, or {@code null} if the showtime has no inventory.
+ * @param heldSeats   The number of held seats, or {@code null} if the showtime has no inventory.
+ */
+public record ShowtimePricingInput(
+        Long showtimeId,
+        LocalDateTime startTime,
+        Integer capacity,
+        Integer bookedSeats,
+        Integer heldSeats) {
+}
@@ -0,0 +1,20 @@
+package com.att.acceptance.movie_theater.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dimensions and capacity of a showtime, as read by the analytics backfill.
+ *
+ * @param showtimeId The showtime ID.
+ * @param movieId    The movie ID.
+ * @param theaterId  The theater ID.
+ * @param startTime  The start time of the showtime.
+ * @param capacity   The number of seats offered, or {@code null} if the showtime has no inventory.
+ */
+public record ShowtimeSchedule(
+        Long showtimeId,
+        Long movieId,
+        Long theaterId,
+        LocalDateTime startTime,
+        Integer capacity) {
+}
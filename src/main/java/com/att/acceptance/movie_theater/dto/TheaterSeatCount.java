@@ -0,0 +1,18 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Stored and actual seat count of a theater, as checked by the counter reconciliation.
+ *
+ * @param theaterId   The theater ID.
+ * @param storedCount The seat count stored on the theater.
+ * @param actualCount The number of seat rows of the theater.
+ */
+public record TheaterSeatCount(
+        Long theaterId,
+        Integer storedCount,
+        Long actualCount) {
+
+    public boolean hasDrifted() {
+        return storedCount.longValue() != actualCount.longValue();
+    }
+}
@@ -0,0 +1,12 @@
+package com.att.acceptance.movie_theater.dto;
+
+/**
+ * Token epoch of a user, as loaded by the token epoch registry at startup.
+ *
+ * @param userId     The user ID.
+ * @param tokenEpoch The user's current token epoch.
+ */
+public record UserTokenEpoch(
+        Long userId,
+        Long tokenEpoch) {
+}
@@ -4,12 +4,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
  * Enumeration representing the availability status of a seat.
- * Defines whether a seat is AVAILABLE or BOOKED.
+ * Defines whether a seat is AVAILABLE, BOOKED or HELD.
+ *
+ * The ordinal of each constant is its 2-bit code in the packed seat status
+ * column of {@link SeatAvailability}, so constants must only ever be appended.
  */
 @Schema(description = "Enumeration representing the availability status of a seat.")
 public enum AvailabilityStatusEnum {
 	@Schema(description = "The seat is available for booking.")
     AVAILABLE, // The seat is available for booking
     @Schema(description = "The seat has already been booked.")
-    BOOKED     // The seat has already been booked
+    BOOKED,    // The seat has already been booked
+    @Schema(description = "The seat is temporarily held and cannot be booked.")
+    HELD       // The seat is temporarily held and cannot be booked
 }
@@ -1,11 +1,15 @@
 package com.att.acceptance.movie_theater.entity;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Digits;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Entity representing a Booking in the movie theater system.
  * Maps to the database table for bookings and includes relationships
@@ -14,7 +18,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Entity
 @Table(
     name = "bookings",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"seat_id", "showtime_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"seat_id", "showtime_id"}),
+    // Booking history of a user, paged by showtime start in either direction
+    indexes = @Index(name = "idx_bookings_user_showtime_start", columnList = "user_id, showtime_start, id")
 )
 public class Booking {
 
@@ -33,23 +39,45 @@ public class Booking {
     @Schema(description = "Showtime for which the booking is made")
     private Showtime showtime;
 
-    @OneToOne
-    @JoinColumn(name = "seat_id", unique = true, nullable = false)
+    @ManyToOne
+    @JoinColumn(name = "seat_id", nullable = false)
     @Schema(description = "Seat booked for the showtime")
     private Seat seat;
 
+    // Set by the pricing engine; a price sent by the client is ignored
     @Column(nullable = false)
-    @NotNull(message = "Price is required")
-    @Positive(message = "Price must be positive")
+    @PositiveOrZero(message = "Price must not be negative")
     @Digits(integer = 5, fraction = 2, message = "Price can have up to 5 digits before the decimal and 2 after")
-    @Schema(description = "Price of the booking", example = "10.50")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Price of the booking, computed by the server", example = "10.50",
+            accessMode = Schema.AccessMode.READ_ONLY)
     private float price;
 
+    // Set by BookingService; a status sent by the client is ignored
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
-    @Schema(description = "Status of the booking", example = "PENDING")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Status of the booking, set by the server", example = "PENDING",
+            accessMode = Schema.AccessMode.READ_ONLY)
     private BookingStatus status = BookingStatus.PENDING;
 
+    // Copy of the showtime's start time, so a user's history can be read in order from one index;
+    // kept in sync by BookingService and ShowtimeService. Nullable so that ddl-auto can add the column
+    // to an existing table; rows created before it are backfilled at startup by BookingService
+    @JsonIgnore
+    @Column(name = "showtime_start")
+    private LocalDateTime showtimeStart;
+
+    /**
+     * Copy the showtime's start time when it was not set explicitly.
+     */
+    @PrePersist
+    void copyShowtimeStart() {
+        if (showtimeStart == null && showtime != null) {
+            showtimeStart = showtime.getStartTime();
+        }
+    }
+
     // Getters and setters
 
     public Long getId() {
@@ -99,4 +127,12 @@ public class Booking {
     public void setStatus(BookingStatus status) {
         this.status = status;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getShowtimeStart() {
+        return showtimeStart;
+    }
+
+    public void setShowtimeStart(LocalDateTime showtimeStart) {
+        this.showtimeStart = showtimeStart;
+    }
+}
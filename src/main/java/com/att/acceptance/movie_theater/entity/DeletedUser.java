@@ -0,0 +1,80 @@
+package com.att.acceptance.movie_theater.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Entity representing a deleted user whose tokens may not have expired yet.
+ * Maps to the "deleted_users" table; rows are deleted once every token issued
+ * before the deletion has expired.
+ */
+@Entity
+@Table(
+    name = "deleted_users",
+    indexes = @Index(name = "idx_deleted_users_revoked_until", columnList = "revoked_until")
+)
+public class DeletedUser {
+
+    @Id
+    @Column(name = "user_id")
+    @Schema(description = "The ID of the deleted user.")
+    private Long userId;
+
+    @Column(name = "revoked_until", nullable = false)
+    @Schema(description = "The instant the last token issued to the user expires.")
+    private Instant revokedUntil;
+
+    public DeletedUser() {
+    }
+
+    public DeletedUser(Long userId, Instant revokedUntil) {
+        this.userId = userId;
+        this.revokedUntil = revokedUntil;
+    }
+
+    // Getters and Setters
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Instant getRevokedUntil() {
+        return revokedUntil;
+    }
+
+    public void setRevokedUntil(Instant revokedUntil) {
+        this.revokedUntil = revokedUntil;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DeletedUser that = (DeletedUser) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "DeletedUser{" +
+               "userId=" + userId +
+               ", revokedUntil=" + revokedUntil +
+               '}';
+    }
+}
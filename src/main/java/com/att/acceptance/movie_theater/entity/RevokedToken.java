@@ -0,0 +1,93 @@
+package com.att.acceptance.movie_theater.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Entity representing a JWT revoked before its expiry, e.g. on logout.
+ * Maps to the "revoked_tokens" table; rows are deleted once the token expires.
+ */
+@Entity
+@Table(
+    name = "revoked_tokens",
+    indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+)
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    @Schema(description = "The unique ID (jti) of the revoked token.")
+    private String tokenId;
+
+    @Column(name = "user_id", nullable = false)
+    @Schema(description = "The user the token was issued to.")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    @Schema(description = "The instant the token expires.")
+    private Instant expiresAt;
+
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String tokenId, Long userId, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RevokedToken that = (RevokedToken) o;
+        return Objects.equals(tokenId, that.tokenId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tokenId);
+    }
+
+    @Override
+    public String toString() {
+        return "RevokedToken{" +
+               "tokenId='" + tokenId + '\'' +
+               ", userId=" + userId +
+               ", expiresAt=" + expiresAt +
+               '}';
+    }
+}
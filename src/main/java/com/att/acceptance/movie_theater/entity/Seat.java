@@ -2,26 +2,48 @@ package com.att.acceptance.movie_theater.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.util.Objects;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 /**
  * Entity representing a Seat in the movie theater system.
- * Each seat has a unique seat number and is linked to its availability.
+ * Each seat belongs to a theater, has a seat number that is unique within the
+ * theater, and a seat index addressing its status in the per-showtime
+ * {@link SeatAvailability} inventory.
  */
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
-@Table(name = "seats")
+@Table(
+    name = "seats",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"theater_id", "seat_number"}),
+        @UniqueConstraint(columnNames = {"theater_id", "seat_index"})
+    }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seats")
 public class Seat {
 
+    /**
+     * Sequence-generated with a pooled allocation so that seats created together
+     * (see seat layouts) can be inserted in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_seq")
+    @SequenceGenerator(name = "seat_seq", sequenceName = "seat_seq", allocationSize = 50)
     @Schema(description = "Unique identifier for the seat.")
     private Long id;
     
     @ManyToOne
     @JoinColumn(name = "theater_id", nullable = false)
-    @NotBlank(message = "Theater is required")
     @Schema(description = "The theater to which the seat belongs.")
     private Theater theater;
 
@@ -32,17 +54,26 @@ public class Seat {
      */
     @NotBlank(message = "Seat number is required.")
     @Size(max = 10, message = "Seat number must not exceed 10 characters.")
-    @Column(nullable = false, unique = true)
+    @Column(name = "seat_number", nullable = false)
     @Schema(description = "Unique identifier for the seat.")
     private String seatNumber;
 
     /**
-     * Represents the availability status of the seat.
-     * This is a one-to-one relationship with the SeatAvailability entity.
+     * Position of the seat within the theater, assigned when the seat is added.
+     * Addresses the seat's status in the packed per-showtime inventory.
+     */
+    @Column(name = "seat_index", nullable = false)
+    @Schema(description = "Position of the seat within the theater.", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer seatIndex;
+
+    /**
+     * Category of the seat, e.g. STANDARD or VIP.
      */
-    @OneToOne(mappedBy = "seat", cascade = CascadeType.ALL, orphanRemoval = true)
-    @Schema(description = "The availability status of the seat.")
-    private SeatAvailability seatAvailability; 
+    @NotNull(message = "Seat category is required.")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Schema(description = "The category of the seat.", example = "STANDARD")
+    private SeatCategoryEnum category = SeatCategoryEnum.STANDARD;
 
     // Getters and Setters
 
@@ -63,17 +94,31 @@ public class Seat {
     }
 
     /**
-     * @return the seatAvailability
+     * @return the seatIndex
+     */
+    public Integer getSeatIndex() {
+        return seatIndex;
+    }
+
+    /**
+     * @param seatIndex the seatIndex to set
+     */
+    public void setSeatIndex(Integer seatIndex) {
+        this.seatIndex = seatIndex;
+    }
+
+    /**
+     * @return the category
      */
-    public SeatAvailability getSeatAvailability() {
-        return seatAvailability;
+    public SeatCategoryEnum getCategory() {
+        return category;
     }
 
     /**
-     * @param seatAvailability the seatAvailability to set
+     * @param category the category to set
      */
-    public void setSeatAvailability(SeatAvailability seatAvailability) {
-        this.seatAvailability = seatAvailability;
+    public void setCategory(SeatCategoryEnum category) {
+        this.category = category;
     }
 
     /**
@@ -105,8 +150,8 @@ public class Seat {
 
 	@Override
 	public String toString() {
-		return "Seat [id=" + id + ", theater=" + theater + ", seatNumber=" + seatNumber + ", seatAvailability="
-				+ seatAvailability + "]";
+		return "Seat [id=" + id + ", theater=" + theater + ", seatNumber=" + seatNumber + ", seatIndex="
+				+ seatIndex + ", category=" + category + "]";
 	}
 
 }
\ No newline at end of file
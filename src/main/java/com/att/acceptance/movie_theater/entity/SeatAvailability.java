@@ -1,135 +1,303 @@
 package com.att.acceptance.movie_theater.entity;
 
+import java.util.Arrays;
 import java.util.Objects;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
- * Entity representing the availability of a seat for a specific showtime.
- * Maps to the "seat_availability" table and links seats to their availability status.
+ * Entity representing the seat inventory of a single showtime.
+ * Maps to the "seat_availability" table, which holds one row per showtime.
+ *
+ * Seats belong to theaters and are reused by every showtime in that theater.
+ * The status of every seat for this showtime is packed into a single binary
+ * column using 2 bits per seat, addressed by {@link Seat#getSeatIndex()}: a
+ * 2,000-seat auditorium needs 500 bytes per showtime instead of 2,000 rows.
+ *
+ * The row also carries the showtime's capacity and its booked and held seat
+ * counts. They change in the same update as the packed statuses, so "seats
+ * left" can be read without counting, and without touching the cached
+ * {@link Showtime} entity.
  */
 @Entity
-@Table(name = "seat_availability")
+@Table(
+    name = "seat_availability",
+    indexes = @Index(name = "idx_seat_availability_theater", columnList = "theater_id")
+)
 public class SeatAvailability {
 
+    /**
+     * Largest number of seats a single inventory row can address.
+     */
+    public static final int MAX_SEATS = 32768;
+
+    private static final int SEATS_PER_BYTE = 4;
+
+    private static final int BITS_PER_SEAT = 2;
+
+    private static final int STATUS_MASK = 0b11;
+
+    private static final AvailabilityStatusEnum[] STATUSES = AvailabilityStatusEnum.values();
+
+    /**
+     * The showtime this inventory belongs to (shares the showtime's identifier).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Schema(description = "Unique identifier for the seat availability record.")
-    private Long id;
+    @Column(name = "showtime_id")
+    @Schema(description = "The showtime for which seat availability is tracked.")
+    private Long showtimeId;
 
     /**
-     * The seat associated with this availability record.
+     * The theater in which the showtime is scheduled.
      */
-    @OneToOne(mappedBy = "seatAvailability", cascade = CascadeType.ALL)
-    @Schema(description = "The seat associated with this availability record.")
-    private Seat seat; 
+    @Column(name = "theater_id", nullable = false)
+    @Schema(description = "The theater in which the showtime is scheduled.")
+    private Long theaterId;
 
     /**
-     * The showtime for which this seat availability is tracked.
+     * Packed seat statuses, 2 bits per seat, indexed by seat index.
      */
-    @ManyToOne
-    @JoinColumn(name = "showtime_id", nullable = false)
-    @Schema(description = "The showtime for which this seat availability is tracked.")
-    private Showtime showtime;
+    @Column(name = "seat_statuses", nullable = false, length = MAX_SEATS / SEATS_PER_BYTE)
+    @Schema(description = "Packed seat statuses, 2 bits per seat.")
+    private byte[] seatStatuses = new byte[0];
 
     /**
-     * The unique seat number for this record.
+     * Number of seats in the theater when the showtime was scheduled, kept in
+     * step as seats are added to or removed from the theater.
      */
     @Column(nullable = false)
-    @Schema(description = "The unique seat number for this record.")
-    private String seatNumber;
+    @Schema(description = "The number of seats offered for the showtime.")
+    private int capacity;
+
+    @Column(name = "booked_count", nullable = false)
+    @Schema(description = "The number of booked seats.")
+    private int bookedCount;
+
+    @Column(name = "held_count", nullable = false)
+    @Schema(description = "The number of held seats.")
+    private int heldCount;
+
+    @Version
+    @Column(nullable = false)
+    @Schema(description = "Version used to detect concurrent updates of the inventory.")
+    private Long version;
+
+    public SeatAvailability() {
+    }
+
+    public SeatAvailability(Long showtimeId, Long theaterId, int capacity) {
+        this.showtimeId = showtimeId;
+        this.theaterId = theaterId;
+        this.capacity = capacity;
+        this.seatStatuses = new byte[bytesFor(capacity)];
+    }
 
     /**
-     * The availability status of the seat (e.g., AVAILABLE, BOOKED).
+     * Number of bytes needed to hold the statuses of the given number of seats.
+     *
+     * @param seats The number of seats.
+     * @return The number of bytes.
      */
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
-    @Schema(description = "The availability status of the seat.")
-    private AvailabilityStatusEnum status; 
+    public static int bytesFor(int seats) {
+        return (Math.max(seats, 0) + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE;
+    }
+
+    /**
+     * Number of seats whose statuses fit in packed statuses.
+     *
+     * @param seatStatuses The packed statuses.
+     * @return The number of addressable seats.
+     */
+    public static int addressableSeats(byte[] seatStatuses) {
+        return seatStatuses == null ? 0 : seatStatuses.length * SEATS_PER_BYTE;
+    }
+
+    /**
+     * Read the status of a seat from packed statuses.
+     * Seats beyond the end of the array are available.
+     *
+     * @param seatStatuses The packed statuses.
+     * @param seatIndex    The seat index.
+     * @return The status of the seat.
+     */
+    public static AvailabilityStatusEnum statusAt(byte[] seatStatuses, int seatIndex) {
+        int byteIndex = seatIndex / SEATS_PER_BYTE;
+        if (seatStatuses == null || byteIndex >= seatStatuses.length) {
+            return AvailabilityStatusEnum.AVAILABLE;
+        }
+        int shift = (seatIndex % SEATS_PER_BYTE) * BITS_PER_SEAT;
+        return STATUSES[(seatStatuses[byteIndex] >> shift) & STATUS_MASK];
+    }
+
+    /**
+     * Return a copy of the packed statuses with the status of one seat changed.
+     * The copy grows if the seat index lies beyond the end of the array.
+     *
+     * @param seatStatuses The packed statuses.
+     * @param seatIndex    The seat index.
+     * @param status       The new status.
+     * @return The updated packed statuses.
+     */
+    public static byte[] withStatus(byte[] seatStatuses, int seatIndex, AvailabilityStatusEnum status) {
+        if (seatIndex < 0 || seatIndex >= MAX_SEATS) {
+            throw new IllegalArgumentException("Seat index " + seatIndex + " is out of range.");
+        }
+        int byteIndex = seatIndex / SEATS_PER_BYTE;
+        byte[] updated = Arrays.copyOf(seatStatuses == null ? new byte[0] : seatStatuses,
+                Math.max(byteIndex + 1, seatStatuses == null ? 0 : seatStatuses.length));
+        int shift = (seatIndex % SEATS_PER_BYTE) * BITS_PER_SEAT;
+        updated[byteIndex] = (byte) ((updated[byteIndex] & ~(STATUS_MASK << shift)) | (status.ordinal() << shift));
+        return updated;
+    }
+
+    /**
+     * Count the seats with a given status in packed statuses.
+     *
+     * @param seatStatuses The packed statuses.
+     * @param status       The status to count.
+     * @return The number of seats with the status.
+     */
+    public static int count(byte[] seatStatuses, AvailabilityStatusEnum status) {
+        if (status == AvailabilityStatusEnum.AVAILABLE) {
+            // Trailing padding bits read as AVAILABLE, so available seats are derived from the capacity instead
+            throw new IllegalArgumentException("Only BOOKED and HELD seats can be counted.");
+        }
+        if (seatStatuses == null) {
+            return 0;
+        }
+        int count = 0;
+        for (byte packed : seatStatuses) {
+            for (int shift = 0; shift < Byte.SIZE; shift += BITS_PER_SEAT) {
+                if (((packed >> shift) & STATUS_MASK) == status.ordinal()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public AvailabilityStatusEnum getStatus(int seatIndex) {
+        return statusAt(seatStatuses, seatIndex);
+    }
+
+    /**
+     * Change the status of a seat, keeping the booked and held counts in step.
+     *
+     * @param seatIndex The seat index.
+     * @param status    The new status.
+     */
+    public void setStatus(int seatIndex, AvailabilityStatusEnum status) {
+        AvailabilityStatusEnum previous = getStatus(seatIndex);
+        this.seatStatuses = withStatus(seatStatuses, seatIndex, status);
+        this.bookedCount += delta(AvailabilityStatusEnum.BOOKED, previous, status);
+        this.heldCount += delta(AvailabilityStatusEnum.HELD, previous, status);
+    }
+
+    /**
+     * Change in the count of seats with a given status when one seat goes from one status to another.
+     *
+     * @param counted  The status being counted.
+     * @param previous The previous status of the seat.
+     * @param status   The new status of the seat.
+     * @return -1, 0 or 1.
+     */
+    public static int delta(AvailabilityStatusEnum counted, AvailabilityStatusEnum previous, AvailabilityStatusEnum status) {
+        return (status == counted ? 1 : 0) - (previous == counted ? 1 : 0);
+    }
+
+    /**
+     * @return The number of seats that are neither booked nor held.
+     */
+    public int getAvailableCount() {
+        return Math.max(capacity - bookedCount - heldCount, 0);
+    }
 
     // Getters and Setters
 
-    public Long getId() {
-        return id;
+    public Long getShowtimeId() {
+        return showtimeId;
     }
 
-    public void setId(Long id) {
-        this.id = id;
+    public void setShowtimeId(Long showtimeId) {
+        this.showtimeId = showtimeId;
     }
 
-    public Showtime getShowtime() {
-        return showtime;
+    public Long getTheaterId() {
+        return theaterId;
     }
 
-    public void setShowtime(Showtime showtime) {
-        this.showtime = showtime;
+    public void setTheaterId(Long theaterId) {
+        this.theaterId = theaterId;
     }
 
-    public String getSeatNumber() {
-        return seatNumber;
+    public byte[] getSeatStatuses() {
+        return seatStatuses;
     }
 
-    public void setSeatNumber(String seatNumber) {
-        this.seatNumber = seatNumber;
+    public void setSeatStatuses(byte[] seatStatuses) {
+        this.seatStatuses = seatStatuses;
     }
 
-    public AvailabilityStatusEnum getStatus() {
-        return status;
+    public int getCapacity() {
+        return capacity;
     }
 
-    public void setStatus(AvailabilityStatusEnum status) {
-        this.status = status;
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
     }
 
-    /**
-	 * @return the seat
-	 */
-	public Seat getSeat() {
-		return seat;
-	}
-
-	/**
-	 * @param seat the seat to set
-	 */
-	public void setSeat(Seat seat) {
-		this.seat = seat;
-	}
+    public int getBookedCount() {
+        return bookedCount;
+    }
+
+    public void setBookedCount(int bookedCount) {
+        this.bookedCount = bookedCount;
+    }
+
+    public int getHeldCount() {
+        return heldCount;
+    }
+
+    public void setHeldCount(int heldCount) {
+        this.heldCount = heldCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 
 	@Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         SeatAvailability that = (SeatAvailability) o;
-        return Objects.equals(id, that.id) &&
-               Objects.equals(seatNumber, that.seatNumber) &&
-               Objects.equals(showtime, that.showtime) &&
-               status == that.status;
+        return Objects.equals(showtimeId, that.showtimeId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, seatNumber, showtime, status);
+        return Objects.hash(showtimeId);
     }
 
     @Override
     public String toString() {
         return "SeatAvailability{" +
-               "id=" + id +
-               ", showtime=" + showtime +
-               ", seatNumber='" + seatNumber + '\'' +
-               ", status=" + status +
+               "showtimeId=" + showtimeId +
+               ", theaterId=" + theaterId +
+               ", capacity=" + capacity +
+               ", bookedCount=" + bookedCount +
+               ", heldCount=" + heldCount +
+               ", version=" + version +
                '}';
     }
 }
@@ -0,0 +1,19 @@
+package com.att.acceptance.movie_theater.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enumeration representing the category of a seat.
+ * Defines whether a seat is STANDARD, PREMIUM, VIP or ACCESSIBLE.
+ */
+@Schema(description = "Enumeration representing the category of a seat.")
+public enum SeatCategoryEnum {
+	@Schema(description = "A regular seat.")
+    STANDARD,   // A regular seat
+    @Schema(description = "A seat with a better view or more legroom.")
+    PREMIUM,    // A seat with a better view or more legroom
+    @Schema(description = "A seat in the VIP section.")
+    VIP,        // A seat in the VIP section
+    @Schema(description = "A seat reserved for wheelchair users and their companions.")
+    ACCESSIBLE  // A seat reserved for wheelchair users and their companions
+}
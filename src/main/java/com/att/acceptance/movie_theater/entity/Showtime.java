@@ -5,18 +5,28 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.AssertTrue;
 import java.time.LocalDateTime;
 import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 /**
  * Entity representing a Showtime in the movie theater system.
  * Maps to the database table for showtimes and includes relationships
  * with Movie, Theater, and associated Bookings.
  */
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
 @Table(
     name = "showtimes",
     uniqueConstraints = @UniqueConstraint(columnNames = {"theater_id", "start_time"})
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "showtimes")
 public class Showtime {
 
     @Id
@@ -48,6 +58,7 @@ public class Showtime {
 
     @OneToMany(mappedBy = "showtime", cascade = CascadeType.ALL, orphanRemoval = true)
     @Schema(description = "The bookings made for this showtime.")
+    @JsonIgnore
     private List<Booking> bookings;
 
     @AssertTrue(message = "Start time must be before end time")
@@ -5,15 +5,25 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.util.Set;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Entity representing a Theater in the movie theater system.
  * Maps to the database table for theaters and includes relationships with showtimes and seat limits.
  */
 @Entity
 @Table(name = "theaters")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "theaters")
+@DynamicUpdate
 public class Theater {
 
     @Id
@@ -39,8 +49,19 @@ public class Theater {
     @Schema(description = "The maximum number of seats in the theater.")
     private Integer maxSeats;
 
+    /**
+     * Number of seats in the theater, maintained by the seat services together
+     * with the capacity check so adding a seat does not have to count seats.
+     * Updates of other fields leave it alone (see {@link DynamicUpdate}).
+     */
+    @Column(name = "seat_count", nullable = false)
+    @Schema(description = "The number of seats in the theater.", accessMode = Schema.AccessMode.READ_ONLY)
+    private int seatCount;
+
     @OneToMany(mappedBy = "theater", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "theater-showtimes")
     @Schema(description = "The showtimes scheduled in this theater.")
+    @JsonIgnore
     private Set<Showtime> showtimes;
 
     // Getters and Setters
@@ -77,6 +98,14 @@ public class Theater {
         this.maxSeats = maxSeats;
     }
 
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(int seatCount) {
+        this.seatCount = seatCount;
+    }
+
     public Set<Showtime> getShowtimes() {
         return showtimes;
     }
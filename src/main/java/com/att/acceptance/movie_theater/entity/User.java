@@ -6,6 +6,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -14,6 +18,7 @@ import java.util.Set;
  * Entity representing a User in the movie theater system.
  * Each user has roles that determine their access permissions.
  */
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
 @Table(name = "users")
 public class User {
@@ -42,27 +47,32 @@ public class User {
     private String email;
 
     /**
-     * The password for the user account.
+     * The password for the user account. Accepted in requests, stored as a
+     * BCrypt hash and never written to responses.
      */
     @NotBlank(message = "Password is required.")
     @Column(nullable = false)
-    @Schema(description = "The password for the user account.")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    @Schema(description = "The password for the user account.", accessMode = Schema.AccessMode.WRITE_ONLY)
     private String password;
 
     /**
      * The roles assigned to the user, determining their access permissions.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(
-            name = "user_roles",
-            joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id")
-    )    
-    
     @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
+    @Column(name = "role", nullable = false)
     @Enumerated(EnumType.STRING)
     @Schema(description = "The roles assigned to the user.")
     private Set<RoleEnum> roles = new HashSet<>();
+
+    /**
+     * Advanced whenever the user's roles or credentials change. Tokens issued
+     * under an older epoch are no longer accepted.
+     */
+    @JsonIgnore
+    @Column(name = "token_epoch", nullable = false)
+    private long tokenEpoch;
     
     // Getters and Setters
 
@@ -125,6 +135,20 @@ public class User {
 		this.roles = roles;
 	}
 
+	/**
+	 * @return the tokenEpoch
+	 */
+	public long getTokenEpoch() {
+		return tokenEpoch;
+	}
+
+	/**
+	 * @param tokenEpoch the tokenEpoch to set
+	 */
+	public void setTokenEpoch(long tokenEpoch) {
+		this.tokenEpoch = tokenEpoch;
+	}
+
 	@Override
     public boolean equals(Object o) {
         if (this == o) return true;
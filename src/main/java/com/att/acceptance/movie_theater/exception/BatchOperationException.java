@@ -0,0 +1,32 @@
+package com.att.acceptance.movie_theater.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an admin batch is rejected, either as a whole or because one of
+ * its operations is invalid or fails. Nothing of the batch has been applied.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BatchOperationException extends IllegalArgumentException {
+
+	private final Integer index;
+
+	public BatchOperationException(Integer index, String message) {
+		super(message);
+		this.index = index;
+	}
+
+	public BatchOperationException(Integer index, String message, Throwable cause) {
+		super(message, cause);
+		this.index = index;
+	}
+
+	/**
+	 * @return The index of the failing operation in the request, or {@code null}
+	 *         if the batch was rejected as a whole.
+	 */
+	public Integer getIndex() {
+		return index;
+	}
+}
@@ -0,0 +1,16 @@
+package com.att.acceptance.movie_theater.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a seat layout specification cannot be laid out as given, e.g.
+ * because it categorises a row that the layout does not have.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSeatLayoutException extends IllegalArgumentException {
+
+	public InvalidSeatLayoutException(String message) {
+		super(message);
+	}
+}
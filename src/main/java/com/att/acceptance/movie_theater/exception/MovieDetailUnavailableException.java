@@ -0,0 +1,16 @@
+package com.att.acceptance.movie_theater.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the movie of a movie detail page is not loaded before the page's
+ * deadline. The client should retry later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class MovieDetailUnavailableException extends RuntimeException {
+
+	public MovieDetailUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,20 @@
+package com.att.acceptance.movie_theater.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a password cannot be hashed or checked because the hashing pool
+ * is saturated. The client should retry later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+	public PasswordHashingRejectedException(String message) {
+		super(message);
+	}
+
+	public PasswordHashingRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -1,6 +1,6 @@
 package com.att.acceptance.movie_theater.exception;
 
-public class SeatNotAvailableException extends RuntimeException {
+public class SeatNotAvailableException extends IllegalArgumentException {
 
 	/**
 	 * 
@@ -10,18 +10,6 @@ public class SeatNotAvailableException extends RuntimeException {
 		// TODO Auto-generated constructor stub
 	}
 
-	/**
-	 * @param message
-	 * @param cause
-	 * @param enableSuppression
-	 * @param writableStackTrace
-	 */
-	public SeatNotAvailableException(String message, Throwable cause, boolean enableSuppression,
-			boolean writableStackTrace) {
-		super(message, cause, enableSuppression, writableStackTrace);
-		// TODO Auto-generated constructor stub
-	}
-
 	/**
 	 * @param message
 	 * @param cause
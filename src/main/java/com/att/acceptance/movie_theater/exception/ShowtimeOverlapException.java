@@ -6,7 +6,7 @@ package com.att.acceptance.movie_theater.exception;
 /**
  * 
  */
-public class ShowtimeOverlapException extends RuntimeException {
+public class ShowtimeOverlapException extends IllegalArgumentException {
 
 	/**
 	 * 
@@ -40,16 +40,5 @@ public class ShowtimeOverlapException extends RuntimeException {
 		// TODO Auto-generated constructor stub
 	}
 
-	/**
-	 * @param message
-	 * @param cause
-	 * @param enableSuppression
-	 * @param writableStackTrace
-	 */
-	public ShowtimeOverlapException(String message, Throwable cause, boolean enableSuppression,
-			boolean writableStackTrace) {
-		super(message, cause, enableSuppression, writableStackTrace);
-		// TODO Auto-generated constructor stub
-	}
 
 }
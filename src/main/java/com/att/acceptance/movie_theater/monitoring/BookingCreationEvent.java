@@ -0,0 +1,63 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the creation of a booking, successful or not.
+ *
+ * The event is only populated and committed while a recording has it enabled;
+ * otherwise the JIT reduces it to a couple of no-op calls.
+ */
+@Name("com.att.acceptance.movie_theater.BookingCreation")
+@Label("Booking Creation")
+@Category({"Movie Theater", "Bookings"})
+@Description("A booking was created or rejected.")
+@StackTrace(false)
+public class BookingCreationEvent extends Event {
+
+    @Label("User ID")
+    long userId;
+
+    @Label("Showtime ID")
+    long showtimeId;
+
+    @Label("Seat ID")
+    long seatId;
+
+    @Label("Booking ID")
+    @Description("ID of the created booking, 0 if the booking was rejected.")
+    long bookingId;
+
+    @Label("Outcome")
+    @Description("success, conflict, invalid or error.")
+    String outcome;
+
+    /**
+     * End the event and commit it if a recording is interested in it.
+     *
+     * @param booking The booking, holding its references and, once saved, its ID.
+     * @param outcome The outcome of the operation.
+     */
+    public void complete(Booking booking, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.userId = booking.getUser() != null ? id(booking.getUser().getId()) : 0;
+            this.showtimeId = booking.getShowtime() != null ? id(booking.getShowtime().getId()) : 0;
+            this.seatId = booking.getSeat() != null ? id(booking.getSeat().getId()) : 0;
+            this.bookingId = id(booking.getId());
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    private static long id(Long id) {
+        return id != null ? id : 0;
+    }
+}
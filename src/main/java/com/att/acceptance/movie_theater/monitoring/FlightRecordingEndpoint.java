@@ -0,0 +1,146 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+
+/**
+ * Actuator endpoint recording a time-boxed Java Flight Recorder session.
+ *
+ * A {@code GET /actuator/flightrecording?duration=PT30S} records for the given
+ * duration (capped by {@code monitoring.jfr.max-duration}) with the JDK's
+ * {@code monitoring.jfr.settings} configuration plus the application's own
+ * events ({@link BookingCreationEvent}, {@link ShowtimeValidationEvent} and
+ * {@link JwtVerificationEvent}), then returns the {@code .jfr} file. Only one
+ * recording runs at a time; a concurrent request gets a 429.
+ */
+@Component
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    static final String RECORDING_NAME = "movie-theater-incident";
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            BookingCreationEvent.class, ShowtimeValidationEvent.class, JwtVerificationEvent.class);
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final String settings;
+    private final Lock lock = new ReentrantLock();
+
+    public FlightRecordingEndpoint(@Value("${monitoring.jfr.default-duration:PT30S}") Duration defaultDuration,
+            @Value("${monitoring.jfr.max-duration:PT5M}") Duration maxDuration,
+            @Value("${monitoring.jfr.settings:profile}") String settings) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.settings = settings;
+    }
+
+    /**
+     * Record for a while and return the recording.
+     *
+     * @param duration How long to record, the default duration if absent.
+     * @return The recording, or 429 if another recording is in progress.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> flightRecording(@Nullable Duration duration) {
+        if (!lock.tryLock()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            return new WebEndpointResponse<>(new TemporaryFileSystemResource(record(boundedDuration(duration))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (IOException | ParseException e) {
+            log.warn("Flight recording failed", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Duration boundedDuration(@Nullable Duration duration) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            return defaultDuration;
+        }
+        return duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+    }
+
+    private Path record(Duration duration) throws IOException, ParseException, InterruptedException {
+        Path file = Files.createTempFile("movie-theater-", ".jfr");
+        try (Recording recording = new Recording(Configuration.getConfiguration(settings))) {
+            recording.setName(RECORDING_NAME);
+            for (Class<? extends Event> event : APPLICATION_EVENTS) {
+                recording.enable(event).withoutThreshold();
+            }
+            recording.setDestination(file);
+
+            log.info("Flight recording started for {}", duration);
+            recording.start();
+            Thread.sleep(duration.toMillis());
+            recording.stop();
+            log.info("Flight recording written to {} ({} bytes)", file, Files.size(file));
+            return file;
+        } catch (IOException | ParseException | InterruptedException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * A recording file that is deleted once it has been streamed to the client.
+     */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        private final Path file;
+
+        TemporaryFileSystemResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public String getFilename() {
+            return "movie-theater.jfr";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Actuator endpoint exposing Hibernate second-level and query cache statistics.
+ *
+ * Available at {@code /actuator/hibernatecache} (all regions) and
+ * {@code /actuator/hibernatecache/{region}} (a single region). Requires
+ * {@code hibernate.generate_statistics=true}.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheStatisticsEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateCacheStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Summarize the cache hit ratios of every region.
+     *
+     * @return Totals for the second-level and query caches, plus per-region statistics.
+     */
+    @ReadOperation
+    public Map<String, Object> cacheStatistics() {
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+            if (regionStatistics != null) {
+                regions.put(regionName, describe(regionStatistics));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCache", totals(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", totals(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return result;
+    }
+
+    /**
+     * Statistics for a single cache region.
+     *
+     * @param region The region name, e.g. {@code movies}.
+     * @return The region statistics, or {@code null} (404) if the region is unknown.
+     */
+    @ReadOperation
+    public Map<String, Object> regionStatistics(@Selector String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? null : describe(regionStatistics);
+    }
+
+    private static Map<String, Object> describe(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> region = totals(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                regionStatistics.getPutCount());
+        region.put("elementCountInMemory", regionStatistics.getElementCountInMemory());
+        return region;
+    }
+
+    private static Map<String, Object> totals(long hits, long misses, long puts) {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("hitCount", hits);
+        totals.put("missCount", misses);
+        totals.put("putCount", puts);
+        totals.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return totals;
+    }
+}
@@ -0,0 +1,296 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that times every statement executed through its connections
+ * and reports it to {@link SqlStatementStatistics}.
+ *
+ * Connections, statements and result sets are wrapped in JDK proxies. The
+ * time of a statement is the time spent in {@code execute*}; the rows are
+ * those read from its result set, counted until the result set is exhausted
+ * or closed, or the update counts of an update or batch. A statement that
+ * throws is recorded as failed with the time until it threw. Each statement
+ * of a batch built with {@code addBatch(String)} is recorded on its own, with
+ * an equal share of the batch's time. Bind parameters are captured as they
+ * are set, so that slow statements can be logged with them.
+ *
+ * {@link #unwrap(Class)} reaches the pool behind this data source, so pool
+ * metrics and health checks keep working.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final int MAX_CAPTURED_PARAMETERS = 64;
+
+    private final SqlStatementStatistics statistics;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlStatementStatistics statistics) {
+        super(targetDataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> wrap(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> wrap(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" -> wrap(Statement.class, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String sql;
+        private Object[] parameters = new Object[1];
+        private final List<String> batchSql = new ArrayList<>();
+        private ResultSetHandler openResultSet;
+        private long lastElapsedNanos;
+
+        StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                capture(index, name.equals("setNull") ? null : args[1]);
+                return InstrumentedDataSource.invoke(statement, method, args);
+            }
+
+            switch (name) {
+                case "clearParameters" -> parameters = new Object[1];
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && args[0] instanceof String batchStatement) {
+                        batchSql.add(batchStatement);
+                    }
+                }
+                case "clearBatch" -> batchSql.clear();
+                case "executeQuery" -> {
+                    finishResultSet();
+                    ResultSet resultSet = (ResultSet) timed(method, args);
+                    return wrapResultSet(sqlOf(args), resultSet);
+                }
+                case "execute" -> {
+                    finishResultSet();
+                    boolean hasResultSet = (Boolean) timed(method, args);
+                    if (!hasResultSet) {
+                        statistics.record(sqlOf(args), lastElapsedNanos, Math.max(statement.getUpdateCount(), 0), parameters);
+                    } else {
+                        openResultSet = new ResultSetHandler(sqlOf(args), lastElapsedNanos, parameters.clone());
+                    }
+                    return hasResultSet;
+                }
+                case "getResultSet" -> {
+                    ResultSet resultSet = statement.getResultSet();
+                    return resultSet == null || openResultSet == null ? resultSet : openResultSet.wrap(resultSet);
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    finishResultSet();
+                    Number updated = (Number) timed(method, args);
+                    statistics.record(sqlOf(args), lastElapsedNanos, updated.longValue(), parameters);
+                    return updated;
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    Object counts = timed(method, args);
+                    recordBatch(counts, false);
+                    return counts;
+                }
+                case "close" -> finishResultSet();
+                default -> {
+                    // Not instrumented
+                }
+            }
+            return InstrumentedDataSource.invoke(statement, method, args);
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = InstrumentedDataSource.invoke(statement, method, args);
+                failed = false;
+                return result;
+            } finally {
+                lastElapsedNanos = System.nanoTime() - start;
+                if (failed) {
+                    if (method.getName().endsWith("Batch")) {
+                        recordBatch(null, true);
+                    } else {
+                        statistics.recordFailure(sqlOf(args), lastElapsedNanos, parameters);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Record an executed batch: once for a prepared statement, or once per
+         * statement added with {@code addBatch(String)}.
+         */
+        private void recordBatch(Object counts, boolean failed) {
+            if (sql != null) {
+                if (failed) {
+                    statistics.recordFailure(sql, lastElapsedNanos, null);
+                } else {
+                    statistics.record(sql, lastElapsedNanos, sum(counts), null);
+                }
+            } else {
+                long share = batchSql.isEmpty() ? 0 : lastElapsedNanos / batchSql.size();
+                for (int i = 0; i < batchSql.size(); i++) {
+                    if (failed) {
+                        statistics.recordFailure(batchSql.get(i), share, null);
+                    } else {
+                        statistics.record(batchSql.get(i), share, count(counts, i), null);
+                    }
+                }
+            }
+            // The driver empties the batch once it is executed, whatever the outcome
+            batchSql.clear();
+        }
+
+        private String sqlOf(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String statementSql ? statementSql : sql;
+        }
+
+        private void capture(int index, Object value) {
+            if (index < 1 || index > MAX_CAPTURED_PARAMETERS) {
+                return;
+            }
+            if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, index + 1);
+            }
+            parameters[index] = value;
+        }
+
+        private ResultSet wrapResultSet(String executedSql, ResultSet resultSet) {
+            openResultSet = new ResultSetHandler(executedSql, lastElapsedNanos, parameters.clone());
+            return openResultSet.wrap(resultSet);
+        }
+
+        private void finishResultSet() {
+            if (openResultSet != null) {
+                openResultSet.finish();
+                openResultSet = null;
+            }
+        }
+
+        private static long count(Object counts, int index) {
+            if (counts instanceof int[] intCounts && index < intCounts.length) {
+                return Math.max(intCounts[index], 0);
+            }
+            if (counts instanceof long[] longCounts && index < longCounts.length) {
+                return Math.max(longCounts[index], 0);
+            }
+            return 0;
+        }
+
+        private static long sum(Object counts) {
+            if (counts instanceof int[] intCounts) {
+                return Arrays.stream(intCounts).filter(count -> count > 0).asLongStream().sum();
+            }
+            if (counts instanceof long[] longCounts) {
+                return Arrays.stream(longCounts).filter(count -> count > 0).sum();
+            }
+            return 0;
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final String sql;
+        private final long elapsedNanos;
+        private final Object[] parameters;
+        private ResultSet resultSet;
+        private long rows;
+        private boolean finished;
+
+        ResultSetHandler(String sql, long elapsedNanos, Object[] parameters) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+            this.parameters = parameters;
+        }
+
+        ResultSet wrap(ResultSet target) {
+            this.resultSet = target;
+            return InstrumentedDataSource.wrap(ResultSet.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next" -> {
+                    boolean hasRow = (Boolean) InstrumentedDataSource.invoke(resultSet, method, args);
+                    if (hasRow) {
+                        rows++;
+                    } else {
+                        finish();
+                    }
+                    return hasRow;
+                }
+                case "close" -> finish();
+                default -> {
+                    // Not instrumented
+                }
+            }
+            return InstrumentedDataSource.invoke(resultSet, method, args);
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                statistics.record(sql, elapsedNanos, rows, parameters);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the signature verification of a JWT.
+ *
+ * Only tokens missing from the verified token cache are verified, so the
+ * events show how often, and how slowly, the cache misses. The event is only
+ * populated and committed while a recording has it enabled.
+ */
+@Name("com.att.acceptance.movie_theater.JwtVerification")
+@Label("JWT Verification")
+@Category({"Movie Theater", "Security"})
+@Description("The signature and claims of a bearer token were verified.")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("User ID")
+    @Description("The user the token was issued to, 0 if the token is invalid.")
+    long userId;
+
+    @Label("Token Length")
+    int tokenLength;
+
+    /**
+     * End the event and commit it if a recording is interested in it.
+     *
+     * @param valid       Whether the token was valid.
+     * @param userId      The user the token was issued to, {@code null} if invalid.
+     * @param tokenLength The length of the encoded token.
+     */
+    public void complete(boolean valid, Long userId, int tokenLength) {
+        end();
+        if (shouldCommit()) {
+            this.valid = valid;
+            this.userId = userId != null ? userId : 0;
+            this.tokenLength = tokenLength;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import com.att.acceptance.movie_theater.exception.SeatNotAvailableException;
+import com.att.acceptance.movie_theater.exception.ShowtimeOverlapException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times the operations of a service with a single Micrometer timer, tagged by
+ * {@code operation} and {@code outcome}.
+ *
+ * The outcome is derived from how the operation ended:
+ * <ul>
+ * <li>{@code success}: it returned normally;</li>
+ * <li>{@code conflict}: it lost against a concurrent or existing booking or
+ * showtime (seat taken, overlap, lock or constraint failure);</li>
+ * <li>{@code invalid}: the request was rejected by validation
+ * ({@link IllegalArgumentException}, {@link SecurityException});</li>
+ * <li>{@code error}: anything else.</li>
+ * </ul>
+ * The timer publishes a percentile histogram, so latency SLOs can be computed
+ * per outcome on the Prometheus side; its count per outcome doubles as the
+ * conflict and validation-failure counters.
+ */
+public class OperationMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String CONFLICT = "conflict";
+    public static final String INVALID = "invalid";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final String name;
+    private final String description;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OperationMetrics(MeterRegistry meterRegistry, String name, String description) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * Run and time an operation.
+     *
+     * @param operation The operation name, used as the {@code operation} tag.
+     * @param action    The operation.
+     * @param <T>       The result type.
+     * @return The result of the operation.
+     */
+    public <T> T record(String operation, Supplier<T> action) {
+        long start = meterRegistry.config().clock().monotonicTime();
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            timer(operation, outcome).record(meterRegistry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Run and time an operation without a result.
+     *
+     * @param operation The operation name, used as the {@code operation} tag.
+     * @param action    The operation.
+     */
+    public void record(String operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Classify the exception an operation ended with.
+     *
+     * @param e The exception.
+     * @return The outcome tag value.
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof SeatNotAvailableException || e instanceof ShowtimeOverlapException
+                || e instanceof OptimisticLockingFailureException || e instanceof PessimisticLockingFailureException
+                || e instanceof DataIntegrityViolationException) {
+            return CONFLICT;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof SecurityException) {
+            return INVALID;
+        }
+        return ERROR;
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ':' + outcome, key -> Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,76 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+
+import com.att.acceptance.movie_theater.entity.Showtime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+/**
+ * Flight Recorder event for the overlap checks of a new showtime.
+ *
+ * The event is only populated and committed while a recording has it enabled;
+ * otherwise the JIT reduces it to a couple of no-op calls.
+ */
+@Name("com.att.acceptance.movie_theater.ShowtimeValidation")
+@Label("Showtime Validation")
+@Category({"Movie Theater", "Showtimes"})
+@Description("A new showtime was checked against the existing showtimes of its theater.")
+@StackTrace(false)
+public class ShowtimeValidationEvent extends Event {
+
+    public static final String VALID = "valid";
+    public static final String THEATER_OVERLAP = "theater-overlap";
+    public static final String MOVIE_OVERLAP = "movie-overlap";
+    public static final String ERROR = "error";
+
+    @Label("Theater ID")
+    long theaterId;
+
+    @Label("Movie ID")
+    long movieId;
+
+    @Label("Start Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long startTime;
+
+    @Label("Duration (minutes)")
+    long durationMinutes;
+
+    @Label("Result")
+    @Description("valid, theater-overlap, movie-overlap or error.")
+    String result;
+
+    /**
+     * End the event and commit it if a recording is interested in it.
+     *
+     * @param showtime The showtime that was validated.
+     * @param result   The result of the validation.
+     */
+    public void complete(Showtime showtime, String result) {
+        end();
+        if (shouldCommit()) {
+            if (showtime.getTheater() != null && showtime.getTheater().getId() != null) {
+                this.theaterId = showtime.getTheater().getId();
+            }
+            if (showtime.getMovie() != null && showtime.getMovie().getId() != null) {
+                this.movieId = showtime.getMovie().getId();
+            }
+            if (showtime.getStartTime() != null) {
+                this.startTime = showtime.getStartTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+                if (showtime.getEndTime() != null) {
+                    this.durationMinutes = Duration.between(showtime.getStartTime(), showtime.getEndTime()).toMinutes();
+                }
+            }
+            this.result = result;
+            commit();
+        }
+    }
+}
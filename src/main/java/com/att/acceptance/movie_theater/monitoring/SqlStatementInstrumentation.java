@@ -0,0 +1,32 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application's data sources in an {@link InstrumentedDataSource},
+ * unless {@code monitoring.sql.enabled} is false.
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.sql.enabled", matchIfMissing = true)
+public class SqlStatementInstrumentation implements BeanPostProcessor {
+
+    // Resolved lazily: post-processors are created before regular beans
+    private final ObjectProvider<SqlStatementStatistics> statistics;
+
+    public SqlStatementInstrumentation(ObjectProvider<SqlStatementStatistics> statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource, statistics.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,262 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Execution statistics of SQL statements, aggregated by statement shape.
+ *
+ * The shape of a statement is its SQL with literals replaced by {@code ?},
+ * {@code IN} lists collapsed and whitespace normalized, so that the same query
+ * issued with different arguments is counted once. For each shape the number
+ * of executions, the latency distribution (HDR histogram, in microseconds),
+ * the number of rows read or affected and the number of executions that
+ * failed are kept; a failed execution counts towards the latencies too. The number of shapes is
+ * bounded; statements beyond the bound are counted under a single overflow
+ * shape.
+ *
+ * Statements slower than {@code monitoring.sql.slow-threshold}, failed or not, are logged by
+ * a background thread, so the thread running the statement never waits for
+ * the log. A fraction of those log lines, set by
+ * {@code monitoring.sql.parameter-sample-rate}, include the bind parameters.
+ * When the log falls behind, slow statements are dropped from the log (but
+ * still counted) rather than queued without bound.
+ */
+@Component
+public class SqlStatementStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementStatistics.class);
+
+    static final String OVERFLOW_SHAPE = "(other statements)";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final double parameterSampleRate;
+    private final int maxShapes;
+    private final ThreadPoolExecutor slowStatementLog;
+    private final LongAdder slowStatements = new LongAdder();
+    private final LongAdder droppedLogEntries = new LongAdder();
+
+    public SqlStatementStatistics(@Value("${monitoring.sql.slow-threshold:PT0.2S}") Duration slowThreshold,
+            @Value("${monitoring.sql.parameter-sample-rate:0.1}") double parameterSampleRate,
+            @Value("${monitoring.sql.max-shapes:1000}") int maxShapes,
+            @Value("${monitoring.sql.log-queue-capacity:1000}") int logQueueCapacity) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.parameterSampleRate = parameterSampleRate;
+        this.maxShapes = maxShapes;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("slow-sql-log-");
+        threadFactory.setDaemon(true);
+        this.slowStatementLog = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(logQueueCapacity), threadFactory,
+                (entry, executor) -> droppedLogEntries.increment());
+    }
+
+    /**
+     * Record an executed statement.
+     *
+     * @param sql          The SQL as sent to the driver.
+     * @param elapsedNanos The execution time.
+     * @param rows         The rows read (queries) or affected (updates).
+     * @param parameters   The bind parameters by index (index 0 unused), or null if not captured.
+     */
+    public void record(String sql, long elapsedNanos, long rows, Object[] parameters) {
+        record(sql, elapsedNanos, rows, parameters, false);
+    }
+
+    /**
+     * Record a statement whose execution failed, e.g. on a lock timeout.
+     *
+     * @param sql          The SQL as sent to the driver.
+     * @param elapsedNanos The time until the driver threw.
+     * @param parameters   The bind parameters by index (index 0 unused), or null if not captured.
+     */
+    public void recordFailure(String sql, long elapsedNanos, Object[] parameters) {
+        record(sql, elapsedNanos, 0, parameters, true);
+    }
+
+    private void record(String sql, long elapsedNanos, long rows, Object[] parameters, boolean failed) {
+        if (sql == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        ShapeStatistics statistics = shapes.get(shape);
+        if (statistics == null) {
+            statistics = shapes.size() < maxShapes
+                    ? shapes.computeIfAbsent(shape, ShapeStatistics::new)
+                    : shapes.computeIfAbsent(OVERFLOW_SHAPE, ShapeStatistics::new);
+        }
+        statistics.record(elapsedNanos, rows, failed);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            String sampledParameters = parameters != null && ThreadLocalRandom.current().nextDouble() < parameterSampleRate
+                    ? describe(parameters) : null;
+            slowStatementLog.execute(() -> logSlowStatement(shape, elapsedNanos, rows, failed, sampledParameters));
+        }
+    }
+
+    private static void logSlowStatement(String shape, long elapsedNanos, long rows, boolean failed, String parameters) {
+        String outcome = failed ? "failed" : rows + " rows";
+        if (parameters == null) {
+            log.warn("Slow SQL statement ({} ms, {}): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), outcome, shape);
+        } else {
+            log.warn("Slow SQL statement ({} ms, {}): {} with parameters {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), outcome, shape, parameters);
+        }
+    }
+
+    /**
+     * Reduce a statement to its shape.
+     *
+     * @param sql The SQL.
+     * @return The SQL with literals replaced, {@code IN} lists collapsed and whitespace normalized.
+     */
+    public static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private static String describe(Object[] parameters) {
+        return Arrays.stream(parameters, 1, parameters.length)
+                .map(parameter -> {
+                    String value = parameter instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(parameter);
+                    return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+                })
+                .toList()
+                .toString();
+    }
+
+    /**
+     * The shapes that rank highest by a statistic, e.g. the slowest or the most frequent.
+     *
+     * @param order How to rank the shapes.
+     * @param limit The number of shapes to return.
+     * @return A summary of each shape, highest first.
+     */
+    public List<Map<String, Object>> top(Comparator<ShapeStatistics> order, int limit) {
+        return shapes.values().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .map(ShapeStatistics::summary)
+                .toList();
+    }
+
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    public long getSlowStatements() {
+        return slowStatements.sum();
+    }
+
+    public long getDroppedLogEntries() {
+        return droppedLogEntries.sum();
+    }
+
+    /**
+     * Forget everything recorded so far.
+     */
+    public void reset() {
+        shapes.clear();
+        slowStatements.reset();
+        droppedLogEntries.reset();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        slowStatementLog.shutdown();
+    }
+
+    /**
+     * Statistics of one statement shape.
+     */
+    public static final class ShapeStatistics {
+
+        public static final Comparator<ShapeStatistics> BY_COUNT = Comparator.comparingLong(ShapeStatistics::getCount);
+        public static final Comparator<ShapeStatistics> BY_TOTAL_TIME = Comparator.comparingLong(ShapeStatistics::getTotalNanos);
+        public static final Comparator<ShapeStatistics> BY_P99 = Comparator.comparingLong(s -> s.latencies.getValueAtPercentile(99));
+
+        private final String shape;
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 2);
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+        private final LongAdder failures = new LongAdder();
+
+        ShapeStatistics(String shape) {
+            this.shape = shape;
+        }
+
+        void record(long elapsedNanos, long rowCount, boolean failed) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+            totalNanos.add(elapsedNanos);
+            rows.add(rowCount);
+            maxRows.accumulate(rowCount);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public long getCount() {
+            return latencies.getTotalCount();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        Map<String, Object> summary() {
+            long count = getCount();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("shape", shape);
+            summary.put("count", count);
+            summary.put("totalMs", TimeUnit.NANOSECONDS.toMillis(getTotalNanos()));
+            summary.put("meanMs", count == 0 ? 0.0 : getTotalNanos() / 1e6 / count);
+            summary.put("p50Ms", latencies.getValueAtPercentile(50) / 1000.0);
+            summary.put("p95Ms", latencies.getValueAtPercentile(95) / 1000.0);
+            summary.put("p99Ms", latencies.getValueAtPercentile(99) / 1000.0);
+            summary.put("maxMs", latencies.getMaxValue() / 1000.0);
+            summary.put("rows", rows.sum());
+            summary.put("meanRows", count == 0 ? 0.0 : (double) rows.sum() / count);
+            summary.put("maxRows", maxRows.get());
+            summary.put("failures", failures.sum());
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.att.acceptance.movie_theater.monitoring.SqlStatementStatistics.ShapeStatistics;
+
+/**
+ * Actuator endpoint exposing SQL statement statistics by statement shape.
+ *
+ * Available at {@code /actuator/sqlstats} (optionally {@code ?limit=N}, 10 by
+ * default): the shapes with the highest 99th percentile latency, the most
+ * frequent shapes and the shapes with the most total time. A {@code DELETE}
+ * resets the statistics.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final SqlStatementStatistics statistics;
+
+    public SqlStatisticsEndpoint(SqlStatementStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Summarize the top statement shapes.
+     *
+     * @param limit The number of shapes per list.
+     * @return The slowest, most frequent and most expensive shapes, with totals.
+     */
+    @ReadOperation
+    public Map<String, Object> statementStatistics(@Nullable Integer limit) {
+        int top = limit == null || limit < 1 ? DEFAULT_LIMIT : limit;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shapes", statistics.getShapeCount());
+        result.put("slowStatements", statistics.getSlowStatements());
+        result.put("droppedLogEntries", statistics.getDroppedLogEntries());
+        result.put("slowest", statistics.top(ShapeStatistics.BY_P99, top));
+        result.put("mostFrequent", statistics.top(ShapeStatistics.BY_COUNT, top));
+        result.put("mostTotalTime", statistics.top(ShapeStatistics.BY_TOTAL_TIME, top));
+        return result;
+    }
+
+    /**
+     * Forget the statistics recorded so far.
+     */
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -1,21 +1,210 @@
 package com.att.acceptance.movie_theater.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.att.acceptance.movie_theater.dto.BookedSeat;
+import com.att.acceptance.movie_theater.dto.BookingExportRow;
+import com.att.acceptance.movie_theater.dto.BookingReferenceCheck;
+import com.att.acceptance.movie_theater.dto.IdRange;
+import com.att.acceptance.movie_theater.dto.ShowtimeBookingTotals;
 import com.att.acceptance.movie_theater.entity.Booking;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    /**
+     * Find all bookings, fetching the user, showtime and seat of each booking
+     * in the same query so that listing N bookings does not cost N more queries.
+     *
+     * @return All bookings.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"user", "user.roles", "showtime", "showtime.movie", "showtime.theater", "seat", "seat.theater"})
+    List<Booking> findAll();
+
+    /**
+     * Find the bookings of a user, fetching their showtimes and seats in the same query.
+     *
+     * @param userId The user ID.
+     * @return The user's bookings.
+     */
+    @EntityGraph(attributePaths = {"user", "user.roles", "showtime", "showtime.movie", "showtime.theater", "seat", "seat.theater"})
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId")
     Set<Booking> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * The next bookings of a user by showtime start, after a given position, read in index order.
+     *
+     * @param userId     The user ID.
+     * @param afterStart The showtime start of the last booking already returned.
+     * @param afterId    The ID of the last booking already returned.
+     * @param limit      The maximum number of bookings to return.
+     * @return Up to {@code limit} bookings, soonest showtime first.
+     */
+    @EntityGraph(attributePaths = {"user", "showtime", "showtime.movie", "showtime.theater", "seat", "seat.theater"})
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId "
+            + "AND (b.showtimeStart > :afterStart OR (b.showtimeStart = :afterStart AND b.id > :afterId)) "
+            + "ORDER BY b.showtimeStart, b.id LIMIT :limit")
+    List<Booking> findByUserIdAfter(@Param("userId") Long userId, @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * The previous bookings of a user by showtime start, before a given position, read in reverse index order.
+     *
+     * @param userId      The user ID.
+     * @param beforeStart The showtime start of the last booking already returned.
+     * @param beforeId    The ID of the last booking already returned.
+     * @param limit       The maximum number of bookings to return.
+     * @return Up to {@code limit} bookings, latest showtime first.
+     */
+    @EntityGraph(attributePaths = {"user", "showtime", "showtime.movie", "showtime.theater", "seat", "seat.theater"})
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId "
+            + "AND (b.showtimeStart < :beforeStart OR (b.showtimeStart = :beforeStart AND b.id < :beforeId)) "
+            + "ORDER BY b.showtimeStart DESC, b.id DESC LIMIT :limit")
+    List<Booking> findByUserIdBefore(@Param("userId") Long userId, @Param("beforeStart") LocalDateTime beforeStart,
+            @Param("beforeId") Long beforeId, @Param("limit") int limit);
+
+    /**
+     * Copy the new start time of a rescheduled showtime to its bookings.
+     *
+     * @param showtimeId The showtime ID.
+     * @param startTime  The new start time.
+     * @return The number of bookings updated.
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.showtimeStart = :startTime WHERE b.showtime.id = :showtimeId")
+    int updateShowtimeStart(@Param("showtimeId") Long showtimeId, @Param("startTime") LocalDateTime startTime);
+
+    /**
+     * Copy the start time of their showtime to the bookings created before the
+     * copy was stored.
+     *
+     * @return The number of bookings updated.
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.showtimeStart = (SELECT s.startTime FROM Showtime s WHERE s = b.showtime) "
+            + "WHERE b.showtimeStart IS NULL")
+    int backfillShowtimeStart();
+
+    /**
+     * Whether a showtime has any booking. Cancelled bookings are deleted, so every
+     * booking found holds a seat.
+     *
+     * @param showtimeId The showtime ID.
+     * @return {@code true} if the showtime has a booking.
+     */
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.showtime.id = :showtimeId")
+    boolean existsByShowtimeId(@Param("showtimeId") Long showtimeId);
+
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.seat.id = :seatId AND b.showtime.id = :showtimeId")
     boolean existsBySeatIdAndShowtimeId(@Param("seatId") Long seatId, @Param("showtimeId") Long showtimeId);
-}
 
+    /**
+     * Validate every reference of a new booking in a single round-trip.
+     *
+     * The showtime drives the query; its seat inventory, the seat and the user
+     * are outer-joined so a missing row shows up as a {@code null} value instead
+     * of an empty result.
+     * It also returns the showtime start, seat category and seat counters the
+     * booking is priced from.
+     *
+     * @param userId     The user ID.
+     * @param showtimeId The showtime ID.
+     * @param seatId     The seat ID.
+     * @return The validation result, or empty if the showtime does not exist.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.BookingReferenceCheck("
+            + "st.id, st.theater.id, s.id, s.theater.id, s.seatIndex, u.id, sa.seatStatuses, sa.version, "
+            + "st.startTime, s.category, sa.capacity, sa.bookedCount, sa.heldCount) "
+            + "FROM Showtime st "
+            + "LEFT JOIN SeatAvailability sa ON sa.showtimeId = st.id "
+            + "LEFT JOIN Seat s ON s.id = :seatId "
+            + "LEFT JOIN User u ON u.id = :userId "
+            + "WHERE st.id = :showtimeId")
+    Optional<BookingReferenceCheck> checkBookingReferences(@Param("userId") Long userId,
+            @Param("showtimeId") Long showtimeId, @Param("seatId") Long seatId);
+
+    /**
+     * Seat indexes of every booking of the given showtimes.
+     *
+     * @param showtimeIds The showtime IDs.
+     * @return The booked seats of the showtimes.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.BookedSeat(b.showtime.id, s.seatIndex) "
+            + "FROM Booking b JOIN b.seat s WHERE b.showtime.id IN :showtimeIds")
+    List<BookedSeat> findBookedSeats(@Param("showtimeIds") Collection<Long> showtimeIds);
+
+    /**
+     * Find the ID of the user who owns a booking, without loading the booking.
+     *
+     * @param bookingId The booking ID.
+     * @return The owner's user ID, if the booking exists.
+     */
+    @Query("SELECT b.user.id FROM Booking b WHERE b.id = :bookingId")
+    Optional<Long> findOwnerIdById(@Param("bookingId") Long bookingId);
+
+    /**
+     * Stream the bookings matching an export filter as flat rows, in booking ID order.
+     *
+     * Rows are constructor projections, so nothing is added to the persistence
+     * context, and the driver fetches them in chunks; memory use does not grow
+     * with the number of bookings. Must be consumed inside a transaction and closed.
+     *
+     * @param startFrom Earliest showtime start (inclusive), or {@code null}.
+     * @param startTo   Latest showtime start (exclusive), or {@code null}.
+     * @param theaterId The theater ID, or {@code null}.
+     * @param movieId   The movie ID, or {@code null}.
+     * @return The matching bookings.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.BookingExportRow("
+            + "b.id, b.status, b.price, u.id, u.email, st.id, st.startTime, m.id, m.title, t.id, t.name, s.seatNumber) "
+            + "FROM Booking b JOIN b.user u JOIN b.showtime st JOIN st.movie m JOIN st.theater t JOIN b.seat s "
+            + "WHERE (:startFrom IS NULL OR st.startTime >= :startFrom) "
+            + "AND (:startTo IS NULL OR st.startTime < :startTo) "
+            + "AND (:theaterId IS NULL OR t.id = :theaterId) "
+            + "AND (:movieId IS NULL OR m.id = :movieId) "
+            + "ORDER BY b.id")
+    Stream<BookingExportRow> streamForExport(@Param("startFrom") LocalDateTime startFrom, @Param("startTo") LocalDateTime startTo,
+            @Param("theaterId") Long theaterId, @Param("movieId") Long movieId);
+
+    /**
+     * The lowest and highest booking ID, used to split the analytics backfill.
+     *
+     * @return The booking ID range.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.IdRange(MIN(b.id), MAX(b.id)) FROM Booking b")
+    IdRange findIdRange();
+
+    /**
+     * Count the bookings and sum their prices per showtime, for the bookings in a range of IDs.
+     *
+     * @param fromId The lowest booking ID (inclusive).
+     * @param toId   The highest booking ID (inclusive).
+     * @return The totals of every showtime with bookings in the range.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.ShowtimeBookingTotals(b.showtime.id, COUNT(b), SUM(b.price)) "
+            + "FROM Booking b WHERE b.id BETWEEN :fromId AND :toId "
+            + "AND b.status <> com.att.acceptance.movie_theater.entity.BookingStatus.CANCELLED "
+            + "GROUP BY b.showtime.id")
+    List<ShowtimeBookingTotals> findShowtimeTotals(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,37 @@
+package com.att.acceptance.movie_theater.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.att.acceptance.movie_theater.entity.DeletedUser;
+
+/**
+ * Repository for accessing DeletedUser entities.
+ */
+@Repository
+public interface DeletedUserRepository extends JpaRepository<DeletedUser, Long> {
+
+    /**
+     * Find the deleted users whose tokens may not have expired yet.
+     *
+     * @param now The current instant.
+     * @return The deleted users whose tokens are still to be rejected.
+     */
+    List<DeletedUser> findByRevokedUntilAfter(Instant now);
+
+    /**
+     * Delete the deleted users whose tokens have all expired, with a single statement.
+     *
+     * @param now The current instant.
+     * @return The number of deleted rows.
+     */
+    @Modifying
+    @Query("DELETE FROM DeletedUser d WHERE d.revokedUntil <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
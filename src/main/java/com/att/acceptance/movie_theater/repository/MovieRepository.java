@@ -7,8 +7,12 @@ import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
@@ -16,8 +20,10 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     Optional<Movie> findByTitle(String title);
 
     @Query("SELECT m FROM Movie m WHERE m.genre = :genre")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Movie> findByGenre(@Param("genre") String genre);
 
     @Query("SELECT m FROM Movie m WHERE m.releaseYear BETWEEN :startYear AND :endYear")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Movie> findByReleaseYearRange(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 }
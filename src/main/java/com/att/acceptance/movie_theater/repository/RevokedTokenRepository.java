@@ -0,0 +1,37 @@
+package com.att.acceptance.movie_theater.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.att.acceptance.movie_theater.entity.RevokedToken;
+
+/**
+ * Repository for accessing RevokedToken entities.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Find the revoked tokens that have not expired yet.
+     *
+     * @param now The current instant.
+     * @return The revoked tokens still to be rejected.
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Delete the revoked tokens that have expired, with a single statement.
+     *
+     * @param now The current instant.
+     * @return The number of deleted rows.
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,20 +1,134 @@
 package com.att.acceptance.movie_theater.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.att.acceptance.movie_theater.dto.ShowtimeOccupancy;
 import com.att.acceptance.movie_theater.entity.SeatAvailability;
 
+import jakarta.persistence.LockModeType;
+
 
 /**
  * Repository for accessing SeatAvailability entities.
  */
 @Repository
 public interface SeatAvailabilityRepository extends JpaRepository<SeatAvailability, Long> {
-    @Query("SELECT CASE WHEN COUNT(sa) > 0 THEN true ELSE false END FROM SeatAvailability sa WHERE sa.seatNumber = :seatNumber AND sa.showtime.id = :showtimeId")
-    boolean existsBySeatNumberAndShowtime_Id(@Param("seatNumber") String seatNumber, @Param("showtimeId") Long showtimeId);
-}
 
+    /**
+     * Replace the packed seat statuses of a showtime and adjust its counters if
+     * the inventory has not changed since it was read.
+     *
+     * @param showtimeId   The showtime ID.
+     * @param seatStatuses The new packed seat statuses.
+     * @param bookedDelta  The change in the number of booked seats.
+     * @param heldDelta    The change in the number of held seats.
+     * @param version      The version the statuses were derived from.
+     * @return 1 if the inventory was updated, 0 if it was changed concurrently.
+     */
+    @Modifying
+    @Query("UPDATE SeatAvailability sa SET sa.seatStatuses = :seatStatuses, "
+            + "sa.bookedCount = sa.bookedCount + :bookedDelta, sa.heldCount = sa.heldCount + :heldDelta, "
+            + "sa.version = sa.version + 1 "
+            + "WHERE sa.showtimeId = :showtimeId AND sa.version = :version")
+    int compareAndSetSeatStatuses(@Param("showtimeId") Long showtimeId, @Param("seatStatuses") byte[] seatStatuses,
+            @Param("bookedDelta") int bookedDelta, @Param("heldDelta") int heldDelta, @Param("version") Long version);
+
+    /**
+     * Overwrite the packed seat statuses and counters of a showtime if the
+     * inventory has not changed since it was read.
+     *
+     * @param showtimeId   The showtime ID.
+     * @param seatStatuses The corrected packed seat statuses.
+     * @param bookedCount  The corrected number of booked seats.
+     * @param heldCount    The corrected number of held seats.
+     * @param capacity     The corrected capacity.
+     * @param version      The version the corrections were derived from.
+     * @return 1 if the inventory was corrected, 0 if it was changed concurrently.
+     */
+    @Modifying
+    @Query("UPDATE SeatAvailability sa SET sa.seatStatuses = :seatStatuses, sa.bookedCount = :bookedCount, "
+            + "sa.heldCount = :heldCount, sa.capacity = :capacity, sa.version = sa.version + 1 "
+            + "WHERE sa.showtimeId = :showtimeId AND sa.version = :version")
+    int correctInventory(@Param("showtimeId") Long showtimeId, @Param("seatStatuses") byte[] seatStatuses,
+            @Param("bookedCount") int bookedCount, @Param("heldCount") int heldCount,
+            @Param("capacity") int capacity, @Param("version") Long version);
+
+    /**
+     * Change the capacity of every showtime scheduled in a theater.
+     *
+     * @param theaterId The theater ID.
+     * @param delta     The number of seats added (positive) or removed (negative).
+     * @return The number of updated inventories.
+     */
+    @Modifying
+    @Query("UPDATE SeatAvailability sa SET sa.capacity = sa.capacity + :delta WHERE sa.theaterId = :theaterId")
+    int adjustCapacity(@Param("theaterId") Long theaterId, @Param("delta") int delta);
+
+    /**
+     * Seat counters of the given showtimes, without loading their packed statuses.
+     *
+     * @param showtimeIds The showtime IDs.
+     * @return The occupancy of every showtime that has an inventory.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.ShowtimeOccupancy("
+            + "sa.showtimeId, sa.capacity, sa.bookedCount, sa.heldCount) "
+            + "FROM SeatAvailability sa WHERE sa.showtimeId IN :showtimeIds")
+    List<ShowtimeOccupancy> findOccupancy(@Param("showtimeIds") Collection<Long> showtimeIds);
+
+    /**
+     * Seat counters of the next showtimes of a movie, without loading their packed statuses.
+     *
+     * @param movieId The movie ID.
+     * @param from    The earliest start time.
+     * @param limit   The maximum number of showtimes.
+     * @return The occupancy of up to {@code limit} showtimes starting at or after {@code from}, soonest first.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.ShowtimeOccupancy("
+            + "sa.showtimeId, sa.capacity, sa.bookedCount, sa.heldCount) "
+            + "FROM SeatAvailability sa JOIN Showtime s ON s.id = sa.showtimeId "
+            + "WHERE s.movie.id = :movieId AND s.startTime >= :from ORDER BY s.startTime, s.id LIMIT :limit")
+    List<ShowtimeOccupancy> findUpcomingOccupancyByMovie(@Param("movieId") Long movieId,
+            @Param("from") LocalDateTime from, @Param("limit") int limit);
+
+    /**
+     * The next inventories after a given showtime ID, in showtime ID order.
+     *
+     * @param afterId The last showtime ID already checked.
+     * @param limit   The maximum number of inventories to return.
+     * @return Up to {@code limit} inventories.
+     */
+    @Query("SELECT sa FROM SeatAvailability sa WHERE sa.showtimeId > :afterId ORDER BY sa.showtimeId LIMIT :limit")
+    List<SeatAvailability> findPageAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * Load the inventory of a showtime and lock its row until the transaction ends.
+     *
+     * @param showtimeId The showtime ID.
+     * @return The locked inventory, or empty if the showtime has none.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sa FROM SeatAvailability sa WHERE sa.showtimeId = :showtimeId")
+    Optional<SeatAvailability> findForUpdate(@Param("showtimeId") Long showtimeId);
+}
 
+    /**
+     * Load the inventories of every showtime scheduled in a theater and lock
+     * their rows until the transaction ends.
+     *
+     * @param theaterId The theater ID.
+     * @return The locked inventories.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sa FROM SeatAvailability sa WHERE sa.theaterId = :theaterId")
+    List<SeatAvailability> findByTheaterIdForUpdate(@Param("theaterId") Long theaterId);
+}
\ No newline at end of file
@@ -3,27 +3,49 @@ package com.att.acceptance.movie_theater.repository;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.att.acceptance.movie_theater.entity.Seat;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
-    Optional<Seat> findBySeatNumber(String seatNumber);
+    @Query("SELECT s FROM Seat s WHERE s.seatNumber = :seatNumber AND s.theater.id = :theaterId")
+    Optional<Seat> findBySeatNumberAndTheaterId(@Param("seatNumber") String seatNumber, @Param("theaterId") Long theaterId);
 
-    @Query("SELECT s FROM Seat s JOIN s.seatAvailability sa WHERE sa.showtime.id = :showtimeId")
-    Set<Seat> findBySeatAvailability_ShowtimeId(@Param("showtimeId") Long showtimeId);
+    @Query("SELECT s FROM Seat s, Showtime st WHERE st.id = :showtimeId AND s.theater.id = st.theater.id")
+    Set<Seat> findByShowtimeId(@Param("showtimeId") Long showtimeId);
 
-    @Query("SELECT s FROM Seat s WHERE s.seatAvailability.showtime.theater.id = :theaterId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT s FROM Seat s WHERE s.theater.id = :theaterId")
     Set<Seat> findByTheaterId(@Param("theaterId") Long theaterId);
 
-    @Query("SELECT COUNT(s) FROM Seat s WHERE s.seatAvailability.showtime.theater.id = :theaterId")
+    @Query("SELECT s.theater.id FROM Seat s WHERE s.id = :seatId")
+    Optional<Long> findTheaterIdById(@Param("seatId") Long seatId);
+
+    @Query("SELECT COUNT(s) FROM Seat s WHERE s.theater.id = :theaterId")
     long countSeatsByTheaterId(@Param("theaterId") Long theaterId);
 
-    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Seat s WHERE s.seatNumber = :seatNumber AND s.seatAvailability.showtime.theater.id = :theaterId")
+    @Query("SELECT s.seatNumber FROM Seat s WHERE s.theater.id = :theaterId")
+    Set<String> findSeatNumbersByTheaterId(@Param("theaterId") Long theaterId);
+
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Seat s WHERE s.seatNumber = :seatNumber AND s.theater.id = :theaterId")
     boolean existsBySeatNumberAndTheaterId(@Param("seatNumber") String seatNumber, @Param("theaterId") Long theaterId);
+
+    /**
+     * Next free seat index in a theater. Indexes are never reused, so deleting a
+     * seat leaves its slot in the showtime inventories unused.
+     *
+     * @param theaterId The theater ID.
+     * @return The index to assign to the next seat added to the theater.
+     */
+    @Query("SELECT COALESCE(MAX(s.seatIndex) + 1, 0) FROM Seat s WHERE s.theater.id = :theaterId")
+    int findNextSeatIndex(@Param("theaterId") Long theaterId);
 }
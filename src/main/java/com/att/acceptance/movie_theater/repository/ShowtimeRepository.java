@@ -1,13 +1,19 @@
 package com.att.acceptance.movie_theater.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.att.acceptance.movie_theater.dto.NowShowingRow;
+import com.att.acceptance.movie_theater.dto.ShowtimePricingInput;
+import com.att.acceptance.movie_theater.dto.ShowtimeSchedule;
 import com.att.acceptance.movie_theater.entity.Showtime;
 
 /**
@@ -22,6 +28,7 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
 	 * @param movieId The movie ID.
 	 * @return List of showtimes for the given movie.
 	 */
+	@EntityGraph(attributePaths = {"movie", "theater"})
 	@Query("SELECT s FROM Showtime s WHERE s.movie.id = :movieId")
 	Set<Showtime> findByMovieId(@Param("movieId") Long movieId);
 
@@ -31,6 +38,7 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
 	 * @param theaterId The theater ID.
 	 * @return List of showtimes for the given theater.
 	 */
+	@EntityGraph(attributePaths = {"movie", "theater"})
 	@Query("SELECT s FROM Showtime s WHERE s.theater.id = :theaterId")
 	Set<Showtime> findByTheaterId(@Param("theaterId") Long theaterId);
 
@@ -73,4 +81,39 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
 	boolean existsOverlappingShowtimeForMovie(@Param("theaterId") Long theaterId, @Param("movieId") Long movieId,
 			@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
+	/**
+	 * Fetch the movie, theater, start time and capacity of every showtime.
+	 * 
+	 * @return The schedule of every showtime.
+	 */
+	@Query("SELECT new com.att.acceptance.movie_theater.dto.ShowtimeSchedule(s.id, s.movie.id, s.theater.id, s.startTime, sa.capacity) "
+			+ "FROM Showtime s LEFT JOIN SeatAvailability sa ON sa.showtimeId = s.id")
+	List<ShowtimeSchedule> findSchedules();
+
+	/**
+	 * Fetch the start time and seat counters of a showtime, to price its seats.
+	 * 
+	 * @param showtimeId The showtime ID.
+	 * @return The pricing input, or empty if the showtime does not exist.
+	 */
+	@Query("SELECT new com.att.acceptance.movie_theater.dto.ShowtimePricingInput(s.id, s.startTime, sa.capacity, sa.bookedCount, sa.heldCount) "
+			+ "FROM Showtime s LEFT JOIN SeatAvailability sa ON sa.showtimeId = s.id WHERE s.id = :showtimeId")
+	Optional<ShowtimePricingInput> findPricingInput(@Param("showtimeId") Long showtimeId);
+
+	/**
+	 * Fetch the showtimes starting in a time range with their movie, theater and
+	 * seat counters, ordered for grouping by movie title, theater name and start time.
+	 * 
+	 * @param startFrom The start of the range (inclusive).
+	 * @param startTo   The end of the range (exclusive).
+	 * @return One row per showtime.
+	 */
+	@Query("SELECT new com.att.acceptance.movie_theater.dto.NowShowingRow(m.id, m.title, m.genre, m.duration, m.rating, "
+			+ "t.id, t.name, t.location, t.seatCount, s.id, s.startTime, s.endTime, sa.capacity, sa.bookedCount, sa.heldCount) "
+			+ "FROM Showtime s JOIN s.movie m JOIN s.theater t LEFT JOIN SeatAvailability sa ON sa.showtimeId = s.id "
+			+ "WHERE s.startTime >= :startFrom AND s.startTime < :startTo "
+			+ "ORDER BY m.title, m.id, t.name, t.id, s.startTime, s.id")
+	List<NowShowingRow> findNowShowing(@Param("startFrom") LocalDateTime startFrom,
+			@Param("startTo") LocalDateTime startTo);
+
 }
@@ -0,0 +1,183 @@
+package com.att.acceptance.movie_theater.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Movie;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Queries that read only the requested fields of movies and bookings.
+ *
+ * Each entity has a fixed set of selectable fields, some of which are read
+ * from associated tables. The query selects exactly the columns of the
+ * requested fields, joining an associated table only when one of its fields is
+ * requested, and returns every row as a map from field name to value, in the
+ * requested order. Rows are not managed entities, so nothing is lazily loaded
+ * when they are serialized.
+ */
+@Repository
+public class SparseFieldsetRepository {
+
+    private static final Map<String, Function<Root<Movie>, Path<?>>> MOVIE_FIELDS = new LinkedHashMap<>();
+
+    private static final Map<String, Function<Root<Booking>, Path<?>>> BOOKING_FIELDS = new LinkedHashMap<>();
+
+    static {
+        MOVIE_FIELDS.put("id", movie -> movie.get("id"));
+        MOVIE_FIELDS.put("title", movie -> movie.get("title"));
+        MOVIE_FIELDS.put("genre", movie -> movie.get("genre"));
+        MOVIE_FIELDS.put("duration", movie -> movie.get("duration"));
+        MOVIE_FIELDS.put("rating", movie -> movie.get("rating"));
+        MOVIE_FIELDS.put("releaseYear", movie -> movie.get("releaseYear"));
+
+        BOOKING_FIELDS.put("id", booking -> booking.get("id"));
+        BOOKING_FIELDS.put("status", booking -> booking.get("status"));
+        BOOKING_FIELDS.put("price", booking -> booking.get("price"));
+        BOOKING_FIELDS.put("userId", booking -> booking.get("user").get("id"));
+        BOOKING_FIELDS.put("showtimeId", booking -> booking.get("showtime").get("id"));
+        BOOKING_FIELDS.put("seatId", booking -> booking.get("seat").get("id"));
+        BOOKING_FIELDS.put("startTime", booking -> join(booking, "showtime").get("startTime"));
+        BOOKING_FIELDS.put("endTime", booking -> join(booking, "showtime").get("endTime"));
+        BOOKING_FIELDS.put("movieId", booking -> join(booking, "showtime").get("movie").get("id"));
+        BOOKING_FIELDS.put("movieTitle", booking -> join(join(booking, "showtime"), "movie").get("title"));
+        BOOKING_FIELDS.put("theaterId", booking -> join(booking, "showtime").get("theater").get("id"));
+        BOOKING_FIELDS.put("theaterName", booking -> join(join(booking, "showtime"), "theater").get("name"));
+        BOOKING_FIELDS.put("seatNumber", booking -> join(booking, "seat").get("seatNumber"));
+        BOOKING_FIELDS.put("seatCategory", booking -> join(booking, "seat").get("category"));
+    }
+
+    private final EntityManager entityManager;
+
+    public SparseFieldsetRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Find a page of movies, reading only the given fields.
+     *
+     * @param fields   The fields to read.
+     * @param pageable Pagination and sorting details.
+     * @return A page of rows.
+     */
+    public Page<Map<String, Object>> findMovies(Collection<String> fields, Pageable pageable) {
+        List<Map<String, Object>> rows = select(Movie.class, MOVIE_FIELDS, fields, null, pageable);
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(Movie.class));
+    }
+
+    /**
+     * Find the bookings of a user, or all bookings, reading only the given fields.
+     *
+     * @param fields The fields to read.
+     * @param userId The user ID, or {@code null} for every user.
+     * @return The rows, ordered by booking ID.
+     */
+    public List<Map<String, Object>> findBookings(Collection<String> fields, Long userId) {
+        BiFunction<CriteriaBuilder, Root<Booking>, Predicate> byUser = userId == null ? null
+                : (cb, booking) -> cb.equal(booking.get("user").get("id"), userId);
+        return select(Booking.class, BOOKING_FIELDS, fields, byUser, Pageable.unpaged(Sort.by("id")));
+    }
+
+    private <T> List<Map<String, Object>> select(Class<T> entityClass,
+            Map<String, Function<Root<T>, Path<?>>> selectable, Collection<String> fields,
+            BiFunction<CriteriaBuilder, Root<T>, Predicate> where, Pageable pageable) {
+        List<String> names = validate(selectable, fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>(names.size());
+        for (String name : names) {
+            selections.add(selectable.get(name).apply(root).alias(name));
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(cb, root));
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        List<Tuple> tuples = typedQuery.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private long count(Class<?> entityClass) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityClass)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<String> validate(Map<String, ?> selectable, Collection<String> fields) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectable.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'. Available fields: "
+                        + String.join(", ", selectable.keySet()) + ".");
+            }
+            names.add(name);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested.");
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Reuse the inner join of an association if an earlier field created it.
+     */
+    private static Join<?, ?> join(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute);
+    }
+}
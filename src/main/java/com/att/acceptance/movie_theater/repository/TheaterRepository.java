@@ -1,16 +1,60 @@
 package com.att.acceptance.movie_theater.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.att.acceptance.movie_theater.dto.TheaterSeatCount;
 import com.att.acceptance.movie_theater.entity.Theater;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for accessing Theater entities.
  */
 @Repository
 public interface TheaterRepository extends JpaRepository<Theater, Long> {
     Optional<Theater> findByName(String name);
+
+    /**
+     * Load a theater and lock its row until the transaction ends, so that its
+     * seat count is changed by one transaction at a time.
+     *
+     * @param theaterId The theater ID.
+     * @return The locked theater, or empty if it does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Theater t WHERE t.id = :theaterId")
+    Optional<Theater> findForUpdate(@Param("theaterId") Long theaterId);
+
+    /**
+     * Replace a theater's seat count if it still holds the value that was checked.
+     *
+     * @param theaterId The theater ID.
+     * @param expected  The seat count that was checked.
+     * @param seatCount The corrected seat count.
+     * @return 1 if the seat count was corrected, 0 if it changed in the meantime.
+     */
+    @Modifying
+    @Query("UPDATE Theater t SET t.seatCount = :seatCount WHERE t.id = :theaterId AND t.seatCount = :expected")
+    int correctSeatCount(@Param("theaterId") Long theaterId, @Param("expected") int expected,
+            @Param("seatCount") int seatCount);
+
+    /**
+     * Stored and actual seat counts of the next theaters after a given ID, in ID order.
+     *
+     * @param afterId The last theater ID already checked.
+     * @param limit   The maximum number of theaters to return.
+     * @return The seat counts of up to {@code limit} theaters.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.TheaterSeatCount(t.id, t.seatCount, "
+            + "(SELECT COUNT(s) FROM Seat s WHERE s.theater.id = t.id)) "
+            + "FROM Theater t WHERE t.id > :afterId ORDER BY t.id LIMIT :limit")
+    List<TheaterSeatCount> findSeatCountsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
 }
\ No newline at end of file
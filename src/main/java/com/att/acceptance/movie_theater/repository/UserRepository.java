@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.att.acceptance.movie_theater.dto.UserTokenEpoch;
 import com.att.acceptance.movie_theater.entity.RoleEnum;
 import com.att.acceptance.movie_theater.entity.User;
 
@@ -28,5 +29,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE :role MEMBER OF u.roles")
     List<User> findByRole(@Param("role") RoleEnum role);
+
+    /**
+     * Token epochs of the users whose epoch has ever been advanced.
+     *
+     * @return The non-zero token epochs.
+     */
+    @Query("SELECT new com.att.acceptance.movie_theater.dto.UserTokenEpoch(u.id, u.tokenEpoch) FROM User u WHERE u.tokenEpoch > 0")
+    List<UserTokenEpoch> findAdvancedTokenEpochs();
 }
 
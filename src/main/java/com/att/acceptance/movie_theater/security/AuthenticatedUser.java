@@ -0,0 +1,114 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.User;
+
+/**
+ * Principal of an authenticated user.
+ *
+ * Carries everything the API needs about the caller (ID, email, roles and the
+ * token epoch the credentials belong to), so requests authenticated with a JWT
+ * can be served without loading the user from the database.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final List<RoleEnum> roles;
+    private final List<GrantedAuthority> authorities;
+    private final long tokenEpoch;
+
+    public AuthenticatedUser(Long id, String email, String password, Collection<RoleEnum> roles, long tokenEpoch) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.roles = List.copyOf(roles);
+        this.authorities = this.roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.name()))
+                .toList();
+        this.tokenEpoch = tokenEpoch;
+    }
+
+    /**
+     * Build the principal of a user loaded from the database, e.g. when logging in.
+     *
+     * @param user The user.
+     * @return The principal, including the password hash.
+     */
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), user.getRoles(),
+                user.getTokenEpoch());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<RoleEnum> getRoles() {
+        return roles;
+    }
+
+    public long getTokenEpoch() {
+        return tokenEpoch;
+    }
+
+    public boolean hasRole(RoleEnum role) {
+        return roles.contains(role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * @return The password hash, or {@code null} for principals built from a token.
+     */
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuthenticatedUser that = (AuthenticatedUser) o;
+        return Objects.equals(id, that.id) && tokenEpoch == that.tokenEpoch;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, tokenEpoch);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+               "id=" + id +
+               ", email='" + email + '\'' +
+               ", roles=" + roles +
+               ", tokenEpoch=" + tokenEpoch +
+               '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded cache of booking ID to owner (user) ID, used for ownership checks.
+ *
+ * The owner of a booking never changes, so entries only need to be dropped when
+ * a booking is cancelled or updated. Missing bookings are not cached.
+ */
+@Component
+public class BookingOwnerCache {
+
+    private final Cache<Long, Long> owners;
+
+    public BookingOwnerCache(@Value("${bookings.owner-cache.maximum-size:10000}") long maximumSize,
+            @Value("${bookings.owner-cache.expire-after-access:PT30M}") Duration expireAfterAccess) {
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * Return the owner of a booking, loading it on a cache miss.
+     *
+     * @param bookingId The booking ID.
+     * @param loader    Loads the owner ID, returning {@code null} if the booking does not exist.
+     * @return The owner's user ID, or {@code null} if the booking does not exist.
+     */
+    public Long getOwnerId(Long bookingId, Function<Long, Long> loader) {
+        return owners.get(bookingId, loader);
+    }
+
+    /**
+     * Drop a booking from the cache once the surrounding transaction commits,
+     * or immediately if there is none.
+     *
+     * @param bookingId The booking ID.
+     */
+    public void invalidateAfterCommit(Long bookingId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    owners.invalidate(bookingId);
+                }
+            });
+        } else {
+            owners.invalidate(bookingId);
+        }
+    }
+}
@@ -1,21 +1,28 @@
 package com.att.acceptance.movie_theater.security;
 
-import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
 import com.att.acceptance.movie_theater.repository.BookingRepository;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 /**
  * Security utility to validate booking ownership.
  * Ensures only booking owners or admins can access/manage a booking.
+ *
+ * Ownership is answered from the principal's user ID and a cached
+ * booking-to-owner mapping, loaded with a single-column query on a miss;
+ * neither the booking nor its user is loaded.
  */
 @Component
 public class BookingSecurity {
 
     private final BookingRepository bookingRepository;
+    private final BookingOwnerCache bookingOwnerCache;
 
-    public BookingSecurity(BookingRepository bookingRepository) {
+    public BookingSecurity(BookingRepository bookingRepository, BookingOwnerCache bookingOwnerCache) {
         this.bookingRepository = bookingRepository;
+        this.bookingOwnerCache = bookingOwnerCache;
     }
 
     /**
@@ -24,19 +31,21 @@ public class BookingSecurity {
      * @return True if the user is the owner or an admin, false otherwise
      */
     public boolean isOwner(Long bookingId) {
-        // Get the authenticated user's username
-        String username = (String) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        // Fetch the booking and validate ownership
-        Booking booking = bookingRepository.findById(bookingId).orElse(null);
-        if (booking == null) {
-            return false; // Booking does not exist
+        // Get the authenticated user's principal
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return false;
+        }
+        if (user.hasRole(RoleEnum.ROLE_ADMIN)) {
+            return true;
+        }
+        if (bookingId == null) {
+            return false;
         }
 
-        // Check if the user is the booking owner or has the ROLE_ADMIN
-        return booking.getUser().getEmail().equals(username)
-                || SecurityContextHolder.getContext().getAuthentication().getAuthorities()
-                .stream()
-                .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_ADMIN_ROLE"));
+        // Check if the user is the booking owner (false if the booking does not exist)
+        Long ownerId = bookingOwnerCache.getOwnerId(bookingId,
+                id -> bookingRepository.findOwnerIdById(id).orElse(null));
+        return user.getId().equals(ownerId);
     }
 }
@@ -0,0 +1,126 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counting Bloom filter over strings.
+ *
+ * Each element sets {@code k} counters chosen by double hashing. A lookup that
+ * finds any of its counters at zero proves the element was never added; a hit
+ * may be a false positive and has to be confirmed against an exact set. Unlike
+ * a plain Bloom filter, elements can be removed by decrementing their counters.
+ *
+ * Counters saturate instead of overflowing: a counter that reaches its maximum
+ * stays there, since its true count is no longer known, and can then only
+ * cause false positives, never a false negative.
+ *
+ * Lookups are lock-free. Adding and removing the same element must be balanced
+ * by the caller.
+ */
+public class CountingBloomFilter {
+
+    private final AtomicIntegerArray counters;
+    private final int hashFunctions;
+    private final int maxCount;
+
+    /**
+     * Size the filter for an expected number of elements and false positive rate.
+     *
+     * @param expectedElements  The number of elements expected at the same time.
+     * @param falsePositiveRate The acceptable false positive rate, between 0 and 1.
+     */
+    public CountingBloomFilter(int expectedElements, double falsePositiveRate) {
+        this(expectedElements, falsePositiveRate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Size the filter, with counters that saturate at a given count.
+     *
+     * @param expectedElements  The number of elements expected at the same time.
+     * @param falsePositiveRate The acceptable false positive rate, between 0 and 1.
+     * @param maxCount          The count at which a counter saturates.
+     */
+    CountingBloomFilter(int expectedElements, double falsePositiveRate, int maxCount) {
+        if (expectedElements < 1) {
+            throw new IllegalArgumentException("The expected number of elements must be at least 1.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counters = new AtomicIntegerArray((int) Math.min(Math.max(size, 64), Integer.MAX_VALUE - 8));
+        this.hashFunctions = (int) Math.max(1, Math.round((double) counters.length() / expectedElements * ln2));
+        this.maxCount = maxCount;
+    }
+
+    /**
+     * Add an element.
+     *
+     * @param element The element.
+     */
+    public void add(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            counters.getAndUpdate(index(hash, i), count -> count < maxCount ? count + 1 : count);
+        }
+    }
+
+    /**
+     * Remove an element previously added.
+     *
+     * @param element The element.
+     */
+    public void remove(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            counters.getAndUpdate(index(hash, i), count -> count > 0 && count < maxCount ? count - 1 : count);
+        }
+    }
+
+    /**
+     * Check whether an element may have been added.
+     *
+     * @param element The element.
+     * @return False if the element was certainly not added, true if it may have been.
+     */
+    public boolean mightContain(String element) {
+        long hash = hash(element);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counters.get(index(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getSize() {
+        return counters.length();
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private int index(long hash, int i) {
+        // Kirsch-Mitzenmacher: derive the i-th hash from the two halves of one 64-bit hash
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return Math.floorMod(combined, counters.length());
+    }
+
+    /**
+     * 64-bit FNV-1a hash with a final avalanche step.
+     */
+    private static long hash(String element) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : element.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,69 +1,119 @@
 package com.att.acceptance.movie_theater.security;
 
 import java.io.IOException;
-
-import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.MACVerifier;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
+import com.att.acceptance.movie_theater.monitoring.JwtVerificationEvent;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-
-@Component
+/**
+ * Authenticates requests carrying a bearer JWT.
+ *
+ * The principal is built from the token's claims; the user is not loaded from
+ * the database. Verified tokens are cached until they expire, and a token is
+ * rejected once its user's token epoch has been advanced or once it has been
+ * revoked on its own, e.g. by logging out.
+ *
+ * Signature verification (cache misses only) is timed as {@code auth.jwt.verify}
+ * tagged by outcome, and emitted as a {@link JwtVerificationEvent} while a
+ * Flight Recorder recording is running. Rejected tokens are counted as
+ * {@code auth.jwt.rejections} tagged by reason.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final String secret;
-    private final UserDetailsService userDetailsService;
-
-    public JwtAuthenticationFilter(String secret, UserDetailsService userDetailsService) {
-        this.secret = secret;
-        this.userDetailsService = userDetailsService;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final TokenRevocationList tokenRevocationList;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+    private final Timer validVerifications;
+    private final Timer invalidVerifications;
+    private final Counter invalidRejections;
+    private final Counter supersededRejections;
+    private final Counter revokedRejections;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, VerifiedTokenCache verifiedTokenCache,
+            TokenEpochRegistry tokenEpochRegistry, TokenRevocationList tokenRevocationList, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.tokenRevocationList = tokenRevocationList;
+        this.validVerifications = verifications(meterRegistry, "valid");
+        this.invalidVerifications = verifications(meterRegistry, "invalid");
+        this.invalidRejections = rejections(meterRegistry, "invalid");
+        this.supersededRejections = rejections(meterRegistry, "superseded");
+        this.revokedRejections = rejections(meterRegistry, "revoked");
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) 
             throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String jwt = authHeader.substring(7);
-            try {
-                SignedJWT signedJWT = SignedJWT.parse(jwt);
-
-                // Verify the JWT signature using the secret key
-                JWSVerifier verifier = new MACVerifier(new SecretKeySpec(secret.getBytes(), "HmacSHA512"));
-                if (!signedJWT.verify(verifier)) {
-                    throw new RuntimeException("Invalid JWT signature");
-                }
-
-                JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
-                String username = claims.getSubject();
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            String jwt = authHeader.substring(BEARER_PREFIX.length());
+            VerifiedToken token = verifiedTokenCache.get(jwt, this::verify);
+
+            if (token == null) {
+                invalidRejections.increment();
+            } else if (!tokenEpochRegistry.isCurrent(token.principal().getId(), token.principal().getTokenEpoch())) {
+                supersededRejections.increment();
+                token = null;
+            } else if (tokenRevocationList.isRevoked(token.tokenId())) {
+                revokedRejections.increment();
+                token = null;
+            }
 
-                UsernamePasswordAuthenticationToken authentication 
-                        = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()); 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (token != null) {
+                // The verified token is kept as credentials so that it can be revoked on logout
+                UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
+                        .authenticated(token.principal(), token, token.principal().getAuthorities());
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication); 
-            } catch (Exception e) {
-                logger.error("Invalid JWT token: {}" + e.getMessage());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Rejected invalid, expired, superseded or revoked JWT token");
             }
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private VerifiedToken verify(String jwt) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        VerifiedToken token = jwtTokenProvider.verify(jwt);
+        (token != null ? validVerifications : invalidVerifications).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        event.complete(token != null, token != null ? token.principal().getId() : null, jwt.length());
+        return token;
+    }
+
+    private static Timer verifications(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.verify")
+                .description("Time spent parsing and verifying JWT signatures")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.jwt.rejections")
+                .description("Bearer tokens that did not authenticate the request")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.att.acceptance.movie_theater.security;
 
+import com.att.acceptance.movie_theater.entity.RoleEnum;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
@@ -7,21 +8,42 @@ import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the JWTs used to authenticate API requests.
+ *
+ * Tokens are signed with HS256 and carry the user's email as subject plus the
+ * user ID ({@code uid}), roles ({@code roles}) and token epoch ({@code epoch}),
+ * so a verified token is enough to build the request's principal. The signer
+ * and verifier are built once and shared; both are thread-safe.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+    static final String EPOCH_CLAIM = "epoch";
 
-    @Value("${jwt.expirationMs:86400000}")
-    private int jwtExpirationMs; // Default to 1 day if not specified
+    private final long jwtExpirationMs; // Default to 1 day if not specified
+    private final JWSSigner signer;
+    private final JWSVerifier verifier;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expirationMs:86400000}") long jwtExpirationMs) throws JOSEException {
+        byte[] secret = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signer = new MACSigner(secret);
+        this.verifier = new MACVerifier(secret);
+    }
 
     /**
      * Generate a JWT token for an authenticated user.
@@ -30,18 +52,23 @@ public class JwtTokenProvider {
      * @return The generated JWT token.
      */
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+        long now = System.currentTimeMillis();
 
         try {
             JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
-                    .claim("username", userDetails.getUsername())
-                    .issueTime(new Date(System.currentTimeMillis()))
-                    .expirationTime(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                    .subject(user.getEmail())
+                    .jwtID(UUID.randomUUID().toString())
+                    .claim(USER_ID_CLAIM, user.getId())
+                    .claim(ROLES_CLAIM, user.getRoles().stream().map(RoleEnum::name).toList())
+                    .claim(EPOCH_CLAIM, user.getTokenEpoch())
+                    .issueTime(new Date(now))
+                    .expirationTime(new Date(now + jwtExpirationMs))
                     .build();
 
             SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
 
-            signedJWT.sign(new MACSigner(jwtSecret.getBytes()));
+            signedJWT.sign(signer);
 
             return signedJWT.serialize();
         } catch (JOSEException e) {
@@ -49,6 +76,42 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verify a token's signature and expiry and read its claims.
+     *
+     * @param token The JWT token.
+     * @return The verified token, or {@code null} if the token is invalid or expired.
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!JWSAlgorithm.HS256.equals(signedJWT.getHeader().getAlgorithm()) || !signedJWT.verify(verifier)) {
+                return null;
+            }
+
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            Date expirationTime = claims.getExpirationTime();
+            Long userId = claims.getLongClaim(USER_ID_CLAIM);
+            Long epoch = claims.getLongClaim(EPOCH_CLAIM);
+            List<String> roles = claims.getStringListClaim(ROLES_CLAIM);
+            if (expirationTime == null || userId == null || epoch == null || roles == null
+                    || claims.getSubject() == null || claims.getJWTID() == null) {
+                return null;
+            }
+
+            Instant expiresAt = expirationTime.toInstant();
+            if (!expiresAt.isAfter(Instant.now())) {
+                return null;
+            }
+
+            AuthenticatedUser principal = new AuthenticatedUser(userId, claims.getSubject(), null,
+                    roles.stream().map(RoleEnum::valueOf).toList(), epoch);
+            return new VerifiedToken(principal, claims.getJWTID(), expiresAt);
+        } catch (ParseException | JOSEException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Extract the username (email) from the token.
      *
@@ -56,7 +119,7 @@ public class JwtTokenProvider {
      * @return The username.
      */
     public String getUsernameFromToken(String token) {
-        return extractClaim(token, claims -> (String) claims.getClaim("username"));
+        return extractClaim(token, JWTClaimsSet::getSubject);
     }
 
     /**
@@ -66,12 +129,7 @@ public class JwtTokenProvider {
      * @return True if the token is valid, false otherwise.
      */
     public boolean validateToken(String token) {
-        try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            return signedJWT.verify(new MACVerifier(jwtSecret.getBytes()));
-        } catch (ParseException | JOSEException e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 
     /**
@@ -95,4 +153,4 @@ public class JwtTokenProvider {
             throw new RuntimeException("Error parsing JWT claims", e);
         }
     }
-}
\ No newline at end of file
+}
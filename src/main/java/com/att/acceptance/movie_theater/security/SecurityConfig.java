@@ -1,58 +1,90 @@
 package com.att.acceptance.movie_theater.security;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Security configuration for role-based access control and JWT authentication.
  * Defines access rules for endpoints and integrates the JWT filter.
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
-    @Autowired
-    private UserDetailsService userDetailsService;
-
-    @Value("${jwt.secret}")
-    private String secret;
-
     /**
      * Defines the security filter chain for HTTP requests.
      * @param http HttpSecurity instance
+     * @param jwtAuthenticationFilter The filter authenticating bearer tokens
      * @return Configured SecurityFilterChain
      * @throws Exception in case of configuration errors
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         return http
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // Probes and metric scraping
+                        .requestMatchers("/actuator/sqlstats").hasRole("ADMIN") // Exposes SQL of every query
+                        .requestMatchers("/actuator/flightrecording").hasRole("ADMIN") // Profiles the JVM
+                        .requestMatchers("/api/auth/logout", "/api/auth/logout-all").authenticated()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/movies/**").permitAll() // Read-only for customers
-                        .requestMatchers("/api/movies").hasRole("ROLE_ADMIN") // Admin-only management
+                        .requestMatchers("/api/movies").hasRole("ADMIN") // Admin-only management
                         .requestMatchers("/api/showtimes/**").permitAll() // Read-only for customers
-                        .requestMatchers("/api/bookings/**").hasRole("ROLE_CUSTOMER")
-                        .requestMatchers("/api/users/**").hasRole("ROLE_ADMIN")
+                        .requestMatchers("/api/now-showing").permitAll() // Home page listing
+                        .requestMatchers("/api/bookings/**").hasRole("CUSTOMER")
+                        .requestMatchers("/api/users/**").hasRole("ADMIN")
+                        .requestMatchers("/api/analytics/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(secret, userDetailsService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+            VerifiedTokenCache verifiedTokenCache, TokenEpochRegistry tokenEpochRegistry,
+            TokenRevocationList tokenRevocationList, MeterRegistry meterRegistry) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenEpochRegistry, tokenRevocationList,
+                meterRegistry);
+    }
+
+    /**
+     * Exposes the authentication manager used by the login endpoint.
+     * @param authenticationConfiguration The authentication configuration
+     * @return The authentication manager
+     * @throws Exception in case of configuration errors
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
+        return authenticationConfiguration.getAuthenticationManager();
+    }
+
+    /**
+     * Password encoder used to hash and check passwords.
+     * Hashes made with a lower strength are upgraded on the next successful login.
+     * @param strength The BCrypt cost (log2 of the number of rounds)
+     * @return The password encoder
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
-}
\ No newline at end of file
+}
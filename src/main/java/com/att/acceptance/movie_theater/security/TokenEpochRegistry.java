@@ -0,0 +1,126 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.entity.DeletedUser;
+import com.att.acceptance.movie_theater.repository.DeletedUserRepository;
+import com.att.acceptance.movie_theater.repository.UserRepository;
+
+/**
+ * In-memory record of each user's current token epoch.
+ *
+ * Every token carries the epoch of its user at the time it was issued. When a
+ * user's roles or credentials change the epoch is advanced, and tokens issued
+ * under an older epoch are rejected without a database lookup. Only users whose
+ * epoch was ever advanced are tracked; they are loaded once at startup.
+ *
+ * A deleted user has no row left to carry its epoch, so the deletion is stored
+ * on its own until every token issued before it has expired, and loaded at
+ * startup as {@link #REVOKED}.
+ *
+ * The registry is per instance: with several instances, epoch changes made on
+ * one instance reach the others only when they restart.
+ */
+@Component
+public class TokenEpochRegistry {
+
+    /**
+     * Epoch of users that have been deleted: no token is current any more.
+     */
+    public static final long REVOKED = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final DeletedUserRepository deletedUserRepository;
+    private final long tokenLifetimeMs;
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    public TokenEpochRegistry(UserRepository userRepository, DeletedUserRepository deletedUserRepository,
+            @Value("${jwt.expirationMs:86400000}") long tokenLifetimeMs) {
+        this.userRepository = userRepository;
+        this.deletedUserRepository = deletedUserRepository;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    /**
+     * Load the epochs of users that have been advanced or deleted before this instance started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findAdvancedTokenEpochs()
+                .forEach(epoch -> epochs.merge(epoch.userId(), epoch.tokenEpoch(), Math::max));
+        deletedUserRepository.findByRevokedUntilAfter(Instant.now())
+                .forEach(user -> advance(user.getUserId(), REVOKED));
+    }
+
+    /**
+     * Check whether a token issued under an epoch is still current.
+     *
+     * @param userId     The user ID.
+     * @param tokenEpoch The epoch carried by the token.
+     * @return True if no newer epoch has been recorded for the user.
+     */
+    public boolean isCurrent(Long userId, long tokenEpoch) {
+        return tokenEpoch >= epochs.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Record a new epoch for a user once the surrounding transaction commits,
+     * or immediately if there is none.
+     *
+     * @param userId     The user ID.
+     * @param tokenEpoch The new epoch.
+     */
+    public void advanceAfterCommit(Long userId, long tokenEpoch) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advance(userId, tokenEpoch);
+                }
+            });
+        } else {
+            advance(userId, tokenEpoch);
+        }
+    }
+
+    /**
+     * Reject every token of a deleted user. The deletion is stored with the
+     * surrounding transaction, until the last token issued before it expires,
+     * and takes effect in memory once it commits.
+     *
+     * @param userId The ID of the deleted user.
+     */
+    @Transactional
+    public void revokeAfterCommit(Long userId) {
+        deletedUserRepository.save(new DeletedUser(userId, Instant.now().plusMillis(tokenLifetimeMs)));
+        advanceAfterCommit(userId, REVOKED);
+    }
+
+    /**
+     * Age out the stored deletions whose tokens have all expired. The users stay
+     * revoked in memory; their tokens are rejected as expired after a restart.
+     *
+     * @return The number of deletions removed.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT5M}",
+            initialDelayString = "${jwt.revocation.purge-interval:PT5M}")
+    @Transactional
+    public int purgeExpired() {
+        return deletedUserRepository.deleteExpired(Instant.now());
+    }
+
+    private void advance(Long userId, long tokenEpoch) {
+        epochs.merge(userId, tokenEpoch, Math::max);
+    }
+}
@@ -0,0 +1,125 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.entity.RevokedToken;
+import com.att.acceptance.movie_theater.repository.RevokedTokenRepository;
+
+/**
+ * Deny-list of JWTs revoked before their expiry, keyed by token ID (jti).
+ *
+ * A counting Bloom filter sits in front of an exact map of revoked token IDs.
+ * Nearly every request carries a token that was never revoked, and for those
+ * the filter answers with one in-memory probe; only filter hits consult the
+ * map. Revocations are stored in the database so they survive a restart, and
+ * are aged out of the filter, the map and the table once their token expires.
+ *
+ * The in-memory list is per instance: with several instances, a revocation
+ * made on one instance reaches the others only when they restart.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CountingBloomFilter filter;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.expected-tokens:100000}") int expectedTokens,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.filter = new CountingBloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    /**
+     * Load the revocations that have not expired before this instance started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        revokedTokenRepository.findByExpiresAtAfter(Instant.now())
+                .forEach(token -> add(token.getTokenId(), token.getExpiresAt()));
+    }
+
+    /**
+     * Check whether a token has been revoked.
+     *
+     * @param tokenId The token ID (jti).
+     * @return True if the token has been revoked.
+     */
+    public boolean isRevoked(String tokenId) {
+        return filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revoke a token. The revocation is stored with the surrounding transaction
+     * and takes effect in memory once it commits.
+     *
+     * @param token The verified token to revoke.
+     */
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (revoked.containsKey(token.tokenId()) || revokedTokenRepository.existsById(token.tokenId())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(token.tokenId(), token.principal().getId(), token.expiresAt()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(token.tokenId(), token.expiresAt());
+                }
+            });
+        } else {
+            add(token.tokenId(), token.expiresAt());
+        }
+    }
+
+    /**
+     * Age out the revocations whose tokens have expired: an expired token is
+     * rejected anyway, so it no longer needs a deny-list entry.
+     *
+     * @return The number of revocations removed from memory.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT5M}",
+            initialDelayString = "${jwt.revocation.purge-interval:PT5M}")
+    @Transactional
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        int purged = 0;
+        for (Map.Entry<String, Instant> entry : revoked.entrySet()) {
+            if (!entry.getValue().isAfter(now) && revoked.remove(entry.getKey(), entry.getValue())) {
+                filter.remove(entry.getKey());
+                purged++;
+            }
+        }
+        revokedTokenRepository.deleteExpired(now);
+        return purged;
+    }
+
+    /**
+     * @return The number of revoked tokens held in memory.
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private void add(String tokenId, Instant expiresAt) {
+        // The filter is updated before the map so that a map entry is never hidden by a filter miss
+        filter.add(tokenId);
+        if (revoked.putIfAbsent(tokenId, expiresAt) != null) {
+            filter.remove(tokenId);
+        }
+    }
+}
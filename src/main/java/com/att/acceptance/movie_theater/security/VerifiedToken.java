@@ -0,0 +1,20 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.time.Instant;
+
+/**
+ * A JWT whose signature and claims have been verified.
+ *
+ * @param principal The user the token was issued to.
+ * @param tokenId   The token's unique ID ({@code jti} claim).
+ * @param expiresAt The instant the token expires.
+ */
+public record VerifiedToken(
+        AuthenticatedUser principal,
+        String tokenId,
+        Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,88 @@
+package com.att.acceptance.movie_theater.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Cache of verified JWTs, keyed by the SHA-256 hash of the token.
+ *
+ * Each entry expires together with its token, and the number of entries is
+ * bounded, so a token is parsed and its signature checked once rather than on
+ * every request. Invalid tokens are never cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(Duration.between(Instant.now(), token.expiresAt()).toNanos(), 0);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Return the verified form of a token, verifying it on a cache miss.
+     *
+     * @param token    The JWT token.
+     * @param verifier Verifies the token, returning {@code null} if it is invalid.
+     * @return The verified token, or {@code null} if the token is invalid or expired.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken verified = cache.get(hash(token), key -> verifier.apply(token));
+        return verified == null || verified.isExpired(Instant.now()) ? null : verified;
+    }
+
+    /**
+     * Drop a token from the cache.
+     *
+     * @param token The JWT token.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /**
+     * @return The approximate number of cached tokens.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
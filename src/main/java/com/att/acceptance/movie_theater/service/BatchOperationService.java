@@ -0,0 +1,270 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.acceptance.movie_theater.dto.BatchOperation;
+import com.att.acceptance.movie_theater.dto.BatchOperationResult;
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.BatchOperationException;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service for admin batches of creates, updates and deletes.
+ *
+ * A batch runs in a single transaction: either every operation is applied or,
+ * when one fails, none is. Operations are executed in request order, so an
+ * operation can depend on any earlier one. Each run of consecutive operations
+ * on the same resource first loads the entities it updates or deletes with one
+ * query per thousand IDs, then applies its operations through the regular
+ * services, so the same validation and after-commit hooks apply as on the
+ * single-entity endpoints, and finally flushes.
+ *
+ * Only writes that are still pending at the flush are sent in JDBC batches of
+ * {@code hibernate.jdbc.batch_size}. The services' checks are JPQL queries,
+ * which flush pending writes before they run, and identity inserts are sent
+ * immediately, so most creates and showtime or booking changes still cost
+ * their own statements; a run of movie or theater updates is batched. What a
+ * batch saves over single requests is mostly the per-request overhead, the
+ * entity lookups and the transaction per operation.
+ */
+@Service
+public class BatchOperationService {
+
+    private static final int PRELOAD_CHUNK_SIZE = 1000;
+
+    private final MovieService movieService;
+    private final TheaterService theaterService;
+    private final ShowtimeService showtimeService;
+    private final BookingService bookingService;
+    private final MovieRepository movieRepository;
+    private final TheaterRepository theaterRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxOperations;
+
+    public BatchOperationService(MovieService movieService, TheaterService theaterService,
+            ShowtimeService showtimeService, BookingService bookingService, MovieRepository movieRepository,
+            TheaterRepository theaterRepository, ShowtimeRepository showtimeRepository,
+            BookingRepository bookingRepository, EntityManager entityManager, ObjectMapper objectMapper,
+            Validator validator, @Value("${batch.max-operations:5000}") int maxOperations) {
+        this.movieService = movieService;
+        this.theaterService = theaterService;
+        this.showtimeService = showtimeService;
+        this.bookingService = bookingService;
+        this.movieRepository = movieRepository;
+        this.theaterRepository = theaterRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Execute a batch of operations in one transaction.
+     *
+     * @param operations The operations.
+     * @return The result of every operation, in request order.
+     * @throws BatchOperationException If the batch is empty or too large, or an
+     *                                 operation is invalid or fails; nothing is applied.
+     */
+    @Transactional
+    public List<BatchOperationResult> execute(List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new BatchOperationException(null, "A batch must contain at least one operation.");
+        }
+        if (operations.size() > maxOperations) {
+            throw new BatchOperationException(null, "A batch can contain at most " + maxOperations + " operations.");
+        }
+
+        for (int index = 0; index < operations.size(); index++) {
+            checkOperation(index, operations.get(index));
+        }
+
+        BatchOperationResult[] results = new BatchOperationResult[operations.size()];
+        int start = 0;
+        while (start < operations.size()) {
+            BatchOperation.Resource resource = operations.get(start).resource();
+            int end = start + 1;
+            while (end < operations.size() && operations.get(end).resource() == resource) {
+                end++;
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (int index = start; index < end; index++) {
+                if (operations.get(index).action() != BatchOperation.Action.CREATE) {
+                    ids.add(operations.get(index).id());
+                }
+            }
+            preload(repositoryOf(resource), ids);
+
+            for (int index = start; index < end; index++) {
+                results[index] = apply(index, operations.get(index));
+            }
+
+            // Send the run's pending writes, then start the next run with an
+            // empty persistence context so its flushes stay cheap
+            entityManager.flush();
+            entityManager.clear();
+            start = end;
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void checkOperation(int index, BatchOperation operation) {
+        if (operation == null || operation.action() == null || operation.resource() == null) {
+            throw new BatchOperationException(index, "Operation " + index + " must have an action and a resource.");
+        }
+        if (operation.action() != BatchOperation.Action.CREATE && operation.id() == null) {
+            throw new BatchOperationException(index, "Operation " + index + " (" + operation.action() + " "
+                    + operation.resource() + ") must have an ID.");
+        }
+        if (operation.action() != BatchOperation.Action.DELETE
+                && (operation.body() == null || operation.body().isNull())) {
+            throw new BatchOperationException(index, "Operation " + index + " (" + operation.action() + " "
+                    + operation.resource() + ") must have a body.");
+        }
+    }
+
+    /**
+     * Load the entities with the given IDs into the persistence context, so the
+     * services find them there instead of querying them one at a time.
+     */
+    private static void preload(JpaRepository<?, Long> repository, List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += PRELOAD_CHUNK_SIZE) {
+            repository.findAllById(ids.subList(from, Math.min(ids.size(), from + PRELOAD_CHUNK_SIZE)));
+        }
+    }
+
+    private JpaRepository<?, Long> repositoryOf(BatchOperation.Resource resource) {
+        return switch (resource) {
+            case MOVIE -> movieRepository;
+            case THEATER -> theaterRepository;
+            case SHOWTIME -> showtimeRepository;
+            case BOOKING -> bookingRepository;
+        };
+    }
+
+    private BatchOperationResult apply(int index, BatchOperation operation) {
+        try {
+            Long id = switch (operation.resource()) {
+                case MOVIE -> applyToMovie(operation);
+                case THEATER -> applyToTheater(operation);
+                case SHOWTIME -> applyToShowtime(operation);
+                case BOOKING -> applyToBooking(operation);
+            };
+            return new BatchOperationResult(index, operation.action(), operation.resource(), id);
+        } catch (RuntimeException e) {
+            throw new BatchOperationException(index, "Operation " + index + " (" + operation.action() + " "
+                    + operation.resource() + ") failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Long applyToMovie(BatchOperation operation) {
+        return switch (operation.action()) {
+            case CREATE -> movieService.addMovie(read(operation, Movie.class)).getId();
+            case UPDATE -> movieService.updateMovie(operation.id(), read(operation, Movie.class)).getId();
+            case DELETE -> {
+                movieService.deleteMovie(operation.id());
+                yield operation.id();
+            }
+        };
+    }
+
+    private Long applyToTheater(BatchOperation operation) {
+        return switch (operation.action()) {
+            case CREATE -> theaterService.addTheater(read(operation, Theater.class)).getId();
+            case UPDATE -> theaterService.updateTheater(operation.id(), read(operation, Theater.class)).getId();
+            case DELETE -> {
+                theaterService.deleteTheater(operation.id());
+                yield operation.id();
+            }
+        };
+    }
+
+    private Long applyToShowtime(BatchOperation operation) {
+        return switch (operation.action()) {
+            case CREATE -> showtimeService.addShowtime(read(operation, Showtime.class)).getId();
+            case UPDATE -> showtimeService.updateShowtime(operation.id(), read(operation, Showtime.class)).getId();
+            case DELETE -> {
+                showtimeService.deleteShowtime(operation.id());
+                yield operation.id();
+            }
+        };
+    }
+
+    private Long applyToBooking(BatchOperation operation) {
+        return switch (operation.action()) {
+            case CREATE -> {
+                Booking booking = read(operation, Booking.class);
+                if (booking.getUser() == null || booking.getUser().getId() == null) {
+                    throw new IllegalArgumentException("A booking must name its user.");
+                }
+                requireShowtimeAndSeat(booking);
+                yield bookingService.createBooking(booking).getId();
+            }
+            case UPDATE -> {
+                Booking booking = read(operation, Booking.class);
+                requireShowtimeAndSeat(booking);
+                yield bookingService.updateBooking(operation.id(), booking).getId();
+            }
+            case DELETE -> {
+                bookingService.cancelBooking(operation.id());
+                yield operation.id();
+            }
+        };
+    }
+
+    private static void requireShowtimeAndSeat(Booking booking) {
+        if (booking.getShowtime() == null || booking.getShowtime().getId() == null
+                || booking.getSeat() == null || booking.getSeat().getId() == null) {
+            throw new IllegalArgumentException("A booking must name its showtime and seat.");
+        }
+    }
+
+    /**
+     * Read the body of an operation as an entity and validate it like a request body.
+     */
+    private <T> T read(BatchOperation operation, Class<T> type) {
+        T entity;
+        try {
+            entity = objectMapper.treeToValue(operation.body(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("The body is not a valid " + type.getSimpleName() + ": "
+                    + e.getOriginalMessage(), e);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,468 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.dto.AnalyticsBackfillResult;
+import com.att.acceptance.movie_theater.dto.IdRange;
+import com.att.acceptance.movie_theater.dto.OccupancyRollup;
+import com.att.acceptance.movie_theater.dto.ShowtimeBookingTotals;
+import com.att.acceptance.movie_theater.dto.ShowtimeSchedule;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+
+/**
+ * In-memory occupancy and revenue rollups per showtime, movie, theater and day.
+ *
+ * The rollups are built once at startup by a parallel backfill over the
+ * existing bookings, then kept current by the booking and showtime services,
+ * which report every change once its transaction commits. Reading a bucket
+ * therefore costs a map lookup instead of an aggregate query.
+ *
+ * Changes committed while a backfill runs may be missed or counted twice
+ * until the next backfill; the rollups are meant for dashboards, not billing.
+ * The rollups are per instance.
+ */
+@Service
+public class BookingAnalyticsService {
+
+    static final String SHOWTIME = "showtime";
+    static final String MOVIE = "movie";
+    static final String THEATER = "theater";
+    static final String DAY = "day";
+
+    private static final Logger log = LoggerFactory.getLogger(BookingAnalyticsService.class);
+
+    private final BookingRepository bookingRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final boolean backfillOnStartup;
+    private final int parallelism;
+    private final long chunkSize;
+    private final Lock backfillLock = new ReentrantLock();
+
+    private volatile Rollups rollups = new Rollups();
+
+    public BookingAnalyticsService(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository,
+            @Value("${analytics.backfill.on-startup:true}") boolean backfillOnStartup,
+            @Value("${analytics.backfill.parallelism:4}") int parallelism,
+            @Value("${analytics.backfill.chunk-size:10000}") long chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("The analytics backfill parallelism and chunk size must be positive.");
+        }
+        this.bookingRepository = bookingRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.backfillOnStartup = backfillOnStartup;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Build the rollups once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * Rebuild the rollups from the database and replace the current ones.
+     *
+     * The booking ID range is split into chunks of {@code analytics.backfill.chunk-size}
+     * IDs, each aggregated by its own query on a dedicated fork/join pool of
+     * {@code analytics.backfill.parallelism} threads, and the per-showtime
+     * totals are merged as the chunks complete.
+     *
+     * @return The number of showtimes and bookings loaded.
+     * @throws IllegalStateException If a backfill is already running.
+     */
+    public AnalyticsBackfillResult backfill() {
+        if (!backfillLock.tryLock()) {
+            throw new IllegalStateException("An analytics backfill is already running.");
+        }
+        try {
+            long start = System.nanoTime();
+            Rollups fresh = new Rollups();
+            List<ShowtimeSchedule> schedules = showtimeRepository.findSchedules();
+            for (ShowtimeSchedule schedule : schedules) {
+                fresh.schedule(schedule.showtimeId(), schedule.movieId(), schedule.theaterId(), schedule.startTime(),
+                        schedule.capacity() != null ? schedule.capacity() : 0);
+            }
+
+            long bookings = 0;
+            IdRange range = bookingRepository.findIdRange();
+            if (range != null && !range.isEmpty()) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    Map<Long, long[]> totals = pool.invoke(new BackfillTask(range.minId(), range.maxId()));
+                    for (Map.Entry<Long, long[]> entry : totals.entrySet()) {
+                        fresh.book(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                        bookings += entry.getValue()[0];
+                    }
+                } finally {
+                    pool.shutdown();
+                }
+            }
+
+            rollups = fresh;
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Analytics backfill loaded {} showtimes and {} bookings in {} ms", schedules.size(), bookings,
+                    elapsedMillis);
+            return new AnalyticsBackfillResult(schedules.size(), bookings, elapsedMillis);
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    /**
+     * Count a new booking once the surrounding transaction commits. Like the
+     * backfill, bookings with status {@link BookingStatus#CANCELLED} are not counted.
+     *
+     * @param showtimeId The showtime ID.
+     * @param status     The booking status.
+     * @param price      The booking price.
+     */
+    public void bookingAddedAfterCommit(Long showtimeId, BookingStatus status, float price) {
+        if (status != BookingStatus.CANCELLED) {
+            afterCommit(() -> rollups.book(showtimeId, 1, cents(price)));
+        }
+    }
+
+    /**
+     * Remove a cancelled or moved booking once the surrounding transaction commits.
+     * Bookings with status {@link BookingStatus#CANCELLED} were never counted.
+     *
+     * @param showtimeId The showtime ID.
+     * @param status     The booking status.
+     * @param price      The booking price.
+     */
+    public void bookingRemovedAfterCommit(Long showtimeId, BookingStatus status, float price) {
+        if (status != BookingStatus.CANCELLED) {
+            afterCommit(() -> rollups.book(showtimeId, -1, -cents(price)));
+        }
+    }
+
+    /**
+     * Add a showtime and its capacity once the surrounding transaction commits.
+     * A showtime that is already known keeps its bookings, so this also moves a
+     * showtime to another theater.
+     *
+     * @param showtime The showtime.
+     * @param capacity The number of seats offered.
+     */
+    public void showtimeScheduledAfterCommit(Showtime showtime, int capacity) {
+        Long showtimeId = showtime.getId();
+        Long movieId = showtime.getMovie().getId();
+        Long theaterId = showtime.getTheater().getId();
+        LocalDateTime startTime = showtime.getStartTime();
+        afterCommit(() -> rollups.schedule(showtimeId, movieId, theaterId, startTime, capacity));
+    }
+
+    /**
+     * Move a showtime, with its bookings, to its current movie and day once the
+     * surrounding transaction commits.
+     *
+     * @param showtime The showtime.
+     */
+    public void showtimeRescheduledAfterCommit(Showtime showtime) {
+        Long showtimeId = showtime.getId();
+        Long movieId = showtime.getMovie().getId();
+        LocalDateTime startTime = showtime.getStartTime();
+        afterCommit(() -> rollups.reschedule(showtimeId, movieId, startTime));
+    }
+
+    /**
+     * Remove a showtime, with its bookings, once the surrounding transaction commits.
+     *
+     * @param showtimeId The showtime ID.
+     */
+    public void showtimeRemovedAfterCommit(Long showtimeId) {
+        afterCommit(() -> rollups.remove(showtimeId));
+    }
+
+    /**
+     * Change the capacity of every showtime in a theater once the surrounding
+     * transaction commits.
+     *
+     * @param theaterId The theater ID.
+     * @param delta     The number of seats added (positive) or removed (negative).
+     */
+    public void capacityAdjustedAfterCommit(Long theaterId, int delta) {
+        afterCommit(() -> rollups.adjustCapacity(theaterId, delta));
+    }
+
+    /**
+     * Fetch the rollup of a showtime.
+     *
+     * @param showtimeId The showtime ID.
+     * @return The rollup.
+     */
+    public OccupancyRollup getShowtimeRollup(Long showtimeId) {
+        return rollups.get(SHOWTIME, showtimeId, "Showtime with ID " + showtimeId + " does not exist.");
+    }
+
+    /**
+     * Fetch the rollup of every showtime of a movie.
+     *
+     * @param movieId The movie ID.
+     * @return The rollup, empty if the movie has no showtimes.
+     */
+    public OccupancyRollup getMovieRollup(Long movieId) {
+        return rollups.get(MOVIE, movieId, null);
+    }
+
+    /**
+     * Fetch the rollup of every showtime in a theater.
+     *
+     * @param theaterId The theater ID.
+     * @return The rollup, empty if the theater has no showtimes.
+     */
+    public OccupancyRollup getTheaterRollup(Long theaterId) {
+        return rollups.get(THEATER, theaterId, null);
+    }
+
+    /**
+     * Fetch the rollup of every showtime starting on a day.
+     *
+     * @param day The day.
+     * @return The rollup, empty if no showtime starts that day.
+     */
+    public OccupancyRollup getDayRollup(LocalDate day) {
+        return rollups.get(DAY, day, null);
+    }
+
+    /**
+     * Fetch the rollups of a range of days.
+     *
+     * @param from The first day (inclusive).
+     * @param to   The last day (inclusive).
+     * @return One rollup per day, in order.
+     */
+    public List<OccupancyRollup> getDayRollups(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last day must not be before the first day.");
+        }
+        if (from.plusDays(366).isBefore(to)) {
+            throw new IllegalArgumentException("At most 366 days can be requested at once.");
+        }
+        return from.datesUntil(to.plusDays(1)).map(this::getDayRollup).toList();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static long cents(double price) {
+        return Math.round(price * 100);
+    }
+
+    /**
+     * Aggregates the bookings of a range of IDs, splitting it until a range fits in one chunk.
+     */
+    private final class BackfillTask extends RecursiveTask<Map<Long, long[]>> {
+
+        private final long fromId;
+        private final long toId;
+
+        BackfillTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Map<Long, long[]> compute() {
+            if (toId - fromId < chunkSize) {
+                Map<Long, long[]> totals = new HashMap<>();
+                for (ShowtimeBookingTotals showtime : bookingRepository.findShowtimeTotals(fromId, toId)) {
+                    totals.put(showtime.showtimeId(), new long[] { showtime.bookedSeats(),
+                            cents(showtime.revenue() != null ? showtime.revenue() : 0) });
+                }
+                return totals;
+            }
+
+            long middle = fromId + (toId - fromId) / 2;
+            BackfillTask lower = new BackfillTask(fromId, middle);
+            lower.fork();
+            Map<Long, long[]> totals = new BackfillTask(middle + 1, toId).compute();
+            lower.join().forEach((showtimeId, counts) -> totals.merge(showtimeId, counts,
+                    (a, b) -> new long[] { a[0] + b[0], a[1] + b[1] }));
+            return totals;
+        }
+    }
+
+    /**
+     * Counters of one bucket. Revenue is kept in cents so that sums stay exact.
+     */
+    private static class Totals {
+
+        long showtimes;
+        long capacity;
+        long bookedSeats;
+        long revenueCents;
+
+        void add(Totals other, int sign) {
+            showtimes += sign * other.showtimes;
+            capacity += sign * other.capacity;
+            bookedSeats += sign * other.bookedSeats;
+            revenueCents += sign * other.revenueCents;
+        }
+
+        boolean isEmpty() {
+            return showtimes == 0 && capacity == 0 && bookedSeats == 0 && revenueCents == 0;
+        }
+
+        OccupancyRollup toRollup(String bucket, Object key) {
+            double occupancy = capacity > 0 ? (double) bookedSeats / capacity : 0;
+            return new OccupancyRollup(bucket, String.valueOf(key), showtimes, capacity, bookedSeats, occupancy,
+                    BigDecimal.valueOf(revenueCents, 2));
+        }
+    }
+
+    /**
+     * Counters of a showtime, with the buckets it rolls up into.
+     */
+    private static final class ShowtimeTotals extends Totals {
+
+        final Long movieId;
+        final Long theaterId;
+        final LocalDate day;
+
+        ShowtimeTotals(Long movieId, Long theaterId, LocalDate day) {
+            this.movieId = movieId;
+            this.theaterId = theaterId;
+            this.day = day;
+        }
+    }
+
+    /**
+     * One consistent set of buckets. Updates are O(1) and synchronized so that a
+     * showtime and its movie, theater and day buckets always change together.
+     */
+    private static final class Rollups {
+
+        private final Map<Long, ShowtimeTotals> showtimes = new HashMap<>();
+        private final Map<Long, Totals> movies = new HashMap<>();
+        private final Map<Long, Totals> theaters = new HashMap<>();
+        private final Map<LocalDate, Totals> days = new HashMap<>();
+
+        synchronized void schedule(Long showtimeId, Long movieId, Long theaterId, LocalDateTime startTime, int capacity) {
+            ShowtimeTotals previous = showtimes.remove(showtimeId);
+            ShowtimeTotals showtime = new ShowtimeTotals(movieId, theaterId, startTime.toLocalDate());
+            if (previous != null) {
+                rollUp(previous, -1);
+                showtime.bookedSeats = previous.bookedSeats;
+                showtime.revenueCents = previous.revenueCents;
+            }
+            showtime.showtimes = 1;
+            showtime.capacity = capacity;
+            showtimes.put(showtimeId, showtime);
+            rollUp(showtime, 1);
+        }
+
+        synchronized void reschedule(Long showtimeId, Long movieId, LocalDateTime startTime) {
+            ShowtimeTotals current = showtimes.get(showtimeId);
+            if (current == null
+                    || (current.movieId.equals(movieId) && current.day.equals(startTime.toLocalDate()))) {
+                return;
+            }
+            rollUp(current, -1);
+            ShowtimeTotals moved = new ShowtimeTotals(movieId, current.theaterId, startTime.toLocalDate());
+            moved.add(current, 1);
+            showtimes.put(showtimeId, moved);
+            rollUp(moved, 1);
+        }
+
+        synchronized void remove(Long showtimeId) {
+            ShowtimeTotals showtime = showtimes.remove(showtimeId);
+            if (showtime != null) {
+                rollUp(showtime, -1);
+            }
+        }
+
+        synchronized void book(Long showtimeId, long seats, long revenueCents) {
+            ShowtimeTotals showtime = showtimes.get(showtimeId);
+            if (showtime == null) {
+                return; // Scheduled after the last backfill by another instance
+            }
+            Totals delta = new Totals();
+            delta.bookedSeats = seats;
+            delta.revenueCents = revenueCents;
+            showtime.add(delta, 1);
+            rollUp(showtime, delta, 1);
+        }
+
+        synchronized void adjustCapacity(Long theaterId, int delta) {
+            for (ShowtimeTotals showtime : showtimes.values()) {
+                if (showtime.theaterId.equals(theaterId)) {
+                    Totals change = new Totals();
+                    change.capacity = delta;
+                    showtime.add(change, 1);
+                    rollUp(showtime, change, 1);
+                }
+            }
+        }
+
+        synchronized OccupancyRollup get(String bucket, Object key, String missingMessage) {
+            Totals totals = switch (bucket) {
+                case SHOWTIME -> showtimes.get(key);
+                case MOVIE -> movies.get(key);
+                case THEATER -> theaters.get(key);
+                default -> days.get(key);
+            };
+            if (totals == null) {
+                if (missingMessage != null) {
+                    throw new IllegalArgumentException(missingMessage);
+                }
+                totals = new Totals();
+            }
+            return totals.toRollup(bucket, key);
+        }
+
+        private void rollUp(ShowtimeTotals showtime, int sign) {
+            rollUp(showtime, showtime, sign);
+        }
+
+        private void rollUp(ShowtimeTotals showtime, Totals delta, int sign) {
+            apply(movies, showtime.movieId, delta, sign);
+            apply(theaters, showtime.theaterId, delta, sign);
+            apply(days, showtime.day, delta, sign);
+        }
+
+        private static <K> void apply(Map<K, Totals> buckets, K key, Totals delta, int sign) {
+            Totals totals = buckets.computeIfAbsent(key, k -> new Totals());
+            totals.add(delta, sign);
+            if (totals.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.acceptance.movie_theater.dto.BookingExportFilter;
+import com.att.acceptance.movie_theater.dto.BookingExportFormat;
+import com.att.acceptance.movie_theater.dto.BookingExportRow;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes bookings to a stream as NDJSON or CSV.
+ *
+ * Rows are read through a forward-only stream of projections and written as
+ * they arrive, flushing every {@value #FLUSH_INTERVAL} rows, so heap usage
+ * stays flat however many bookings are exported.
+ */
+@Service
+public class BookingExportService {
+
+    static final int FLUSH_INTERVAL = 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "bookingId,status,price,userId,userEmail,showtimeId,startTime,"
+            + "movieId,movieTitle,theaterId,theaterName,seatNumber";
+
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public BookingExportService(BookingRepository bookingRepository, ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+        // Flushing is left to the export loop instead of after every row
+        this.rowWriter = objectMapper.writerFor(BookingExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Export the bookings matching a filter.
+     *
+     * @param filter The filter.
+     * @param format The output format.
+     * @param out    The stream to write to; flushed but not closed.
+     * @return The number of bookings written.
+     * @throws IOException If writing fails.
+     */
+    @Transactional(readOnly = true)
+    public long export(BookingExportFilter filter, BookingExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        JsonGenerator generator = format == BookingExportFormat.NDJSON ? objectMapper.getFactory().createGenerator(writer) : null;
+        if (format == BookingExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        long count = 0;
+        try (Stream<BookingExportRow> rows = bookingRepository.streamForExport(filter.from(), filter.to(),
+                filter.theaterId(), filter.movieId())) {
+            Iterator<BookingExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                BookingExportRow row = iterator.next();
+                if (generator != null) {
+                    rowWriter.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                } else {
+                    writeCsv(writer, row);
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    flush(generator, writer);
+                }
+            }
+        }
+        flush(generator, writer);
+        return count;
+    }
+
+    private static void flush(JsonGenerator generator, Writer writer) throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsv(Writer writer, BookingExportRow row) throws IOException {
+        writer.write(String.valueOf(row.bookingId()));
+        writer.write(',');
+        writer.write(row.status() != null ? row.status().name() : "");
+        writer.write(',');
+        writer.write(Float.toString(row.price()));
+        writer.write(',');
+        writer.write(String.valueOf(row.userId()));
+        writer.write(',');
+        writer.write(csvField(row.userEmail()));
+        writer.write(',');
+        writer.write(String.valueOf(row.showtimeId()));
+        writer.write(',');
+        writer.write(row.startTime() != null ? row.startTime().toString() : "");
+        writer.write(',');
+        writer.write(String.valueOf(row.movieId()));
+        writer.write(',');
+        writer.write(csvField(row.movieTitle()));
+        writer.write(',');
+        writer.write(String.valueOf(row.theaterId()));
+        writer.write(',');
+        writer.write(csvField(row.theaterName()));
+        writer.write(',');
+        writer.write(csvField(row.seatNumber()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a CSV field if it contains a delimiter, a quote or a line break.
+     *
+     * @param value The field value.
+     * @return The field as written to the CSV.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,54 +1,167 @@
 package com.att.acceptance.movie_theater.service;
 
+import com.att.acceptance.movie_theater.dto.BookingHistoryPage;
+import com.att.acceptance.movie_theater.dto.BookingHistoryPeriod;
+import com.att.acceptance.movie_theater.dto.BookingReferenceCheck;
 import com.att.acceptance.movie_theater.entity.*;
+import com.att.acceptance.movie_theater.exception.SeatNotAvailableException;
+import com.att.acceptance.movie_theater.monitoring.BookingCreationEvent;
+import com.att.acceptance.movie_theater.monitoring.OperationMetrics;
 import com.att.acceptance.movie_theater.repository.*;
+import com.att.acceptance.movie_theater.security.BookingOwnerCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 public class BookingService {
 
+    private static final Logger log = LoggerFactory.getLogger(BookingService.class);
+
     private final BookingRepository bookingRepository;
     private final ShowtimeRepository showtimeRepository;
     private final SeatRepository seatRepository;
     private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingOwnerCache bookingOwnerCache;
+    private final BookingAnalyticsService bookingAnalyticsService;
+    private final PricingService pricingService;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
+    private final OperationMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
 
-    public BookingService(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository, SeatRepository seatRepository, UserRepository userRepository) {
+    public BookingService(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository, SeatRepository seatRepository, UserRepository userRepository, SeatInventoryService seatInventoryService, BookingOwnerCache bookingOwnerCache, BookingAnalyticsService bookingAnalyticsService, PricingService pricingService, SparseFieldsetRepository sparseFieldsetRepository, MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
         this.bookingRepository = bookingRepository;
         this.showtimeRepository = showtimeRepository;
         this.seatRepository = seatRepository;
         this.userRepository = userRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingOwnerCache = bookingOwnerCache;
+        this.bookingAnalyticsService = bookingAnalyticsService;
+        this.pricingService = pricingService;
+        this.sparseFieldsetRepository = sparseFieldsetRepository;
+        this.metrics = new OperationMetrics(meterRegistry, "booking.operations", "Latency of booking operations by outcome");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Run a write operation in a transaction and time it, commit included.
+     *
+     * The timer wraps the transaction rather than running inside it, so a flush
+     * or constraint failure on commit is tagged with its outcome instead of
+     * {@code success}. Inside an existing transaction, e.g. a batch, the
+     * operation joins it and its commit is timed by the caller.
+     *
+     * @param operation The operation name, used as the {@code operation} tag.
+     * @param action    The operation.
+     * @param <T>       The result type.
+     * @return The result of the operation.
+     */
+    private <T> T recordTransaction(String operation, Supplier<T> action) {
+        return metrics.record(operation, () -> transactionTemplate.execute(status -> action.get()));
     }
 
     /**
      * Create a new booking.
      *
+     * The user, showtime and seat are validated with a single query that also
+     * returns the showtime's seat inventory. The seat is claimed in the inventory
+     * with a versioned update and the booking is attached to its references, so
+     * creating a booking costs one read and two writes. The price sent by the
+     * client is ignored; the seat is priced by the {@link PricingService} from
+     * the counters returned by the validation query. The status sent by the
+     * client is ignored too; a new booking is always {@code PENDING}.
+     *
+     * Every attempt is also emitted as a {@link BookingCreationEvent} while a
+     * Flight Recorder recording is running.
+     *
      * @param booking The booking to create.
      * @return The created booking.
      */
-    @Transactional
     public Booking createBooking(Booking booking) {
-        // Validate user
-        userRepository.findById(booking.getUser().getId()).orElseThrow(() ->
-                new IllegalArgumentException("User with ID " + booking.getUser().getId() + " does not exist."));
+        BookingCreationEvent event = new BookingCreationEvent();
+        event.begin();
+        String outcome = OperationMetrics.ERROR;
+        try {
+            Booking savedBooking = recordTransaction("create", () -> doCreateBooking(booking));
+            outcome = OperationMetrics.SUCCESS;
+            return savedBooking;
+        } catch (RuntimeException e) {
+            outcome = OperationMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            event.complete(booking, outcome);
+        }
+    }
+
+    private Booking doCreateBooking(Booking booking) {
+        Long userId = booking.getUser().getId();
+        Long showtimeId = booking.getShowtime().getId();
+        Long seatId = booking.getSeat().getId();
+
+        BookingReferenceCheck check = bookingRepository.checkBookingReferences(userId, showtimeId, seatId)
+                .orElseThrow(() -> new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+
+        if (check.userId() == null) {
+            throw new IllegalArgumentException("User with ID " + userId + " does not exist.");
+        }
 
-        // Validate showtime
-        showtimeRepository.findById(booking.getShowtime().getId()).orElseThrow(() ->
-                new IllegalArgumentException("Showtime with ID " + booking.getShowtime().getId() + " does not exist."));
+        if (check.seatId() == null) {
+            throw new IllegalArgumentException("Seat with ID " + seatId + " does not exist.");
+        }
 
-        // Validate seat
-        seatRepository.findById(booking.getSeat().getId()).orElseThrow(() ->
-                new IllegalArgumentException("Seat with ID " + booking.getSeat().getId() + " does not exist."));
+        if (!check.seatBelongsToShowtimeTheater()) {
+            throw new IllegalArgumentException("Seat with ID " + seatId + " does not belong to the theater of showtime " + showtimeId + ".");
+        }
 
-        if (bookingRepository.existsBySeatIdAndShowtimeId(booking.getSeat().getId(), booking.getShowtime().getId())) {
-            throw new IllegalArgumentException("The seat is already booked for the selected showtime.");
+        if (!check.isSeatAvailable()) {
+            throw new SeatNotAvailableException("The seat is already booked for the selected showtime.");
         }
 
-        return bookingRepository.save(booking);
+        seatInventoryService.bookSeat(showtimeId, check.seatIndex(), check.seatStatuses(), check.inventoryVersion());
+
+        booking.setPrice(pricingService.priceFor(showtimeId, check.showtimeStartTime(), check.seatCategory(),
+                check.occupiedSeats(), check.capacity() != null ? check.capacity() : 0));
+
+        booking.setUser(userRepository.getReferenceById(userId));
+        booking.setShowtime(showtimeRepository.getReferenceById(showtimeId));
+        booking.setSeat(seatRepository.getReferenceById(seatId));
+        booking.setShowtimeStart(check.showtimeStartTime());
+        booking.setStatus(BookingStatus.PENDING);
+
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingAnalyticsService.bookingAddedAfterCommit(showtimeId, savedBooking.getStatus(), savedBooking.getPrice());
+        pricingService.seatsChangedAfterCommit(showtimeId, 1);
+        return savedBooking;
+    }
+
+    /**
+     * Copy the showtime start to the bookings stored before it was, so they
+     * appear in the booking history.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillShowtimeStart() {
+        int updated = bookingRepository.backfillShowtimeStart();
+        if (updated > 0) {
+            log.info("Backfilled the showtime start of {} bookings", updated);
+        }
     }
 
     /**
@@ -64,16 +177,100 @@ public class BookingService {
         return Set.copyOf(bookingRepository.findByUserId(userId));
     }
 
+    /**
+     * Fetch all bookings of the authenticated user.
+     *
+     * The user is not looked up: the caller passes the authenticated principal,
+     * and an unknown user simply has no bookings.
+     *
+     * @param userId The authenticated user's ID.
+     * @return A set of bookings.
+     */
+    @Transactional(readOnly = true)
+    public Set<Booking> getOwnBookings(Long userId) {
+        return Set.copyOf(bookingRepository.findByUserId(userId));
+    }
+
+    /**
+     * Fetch one page of a user's upcoming or past bookings.
+     *
+     * Pages are keyed by the showtime start and ID of the last booking of the
+     * previous page and read from the {@code (user_id, showtime_start, id)}
+     * index, so every page costs the same however long the history is. The
+     * user is not looked up, as for {@link #getOwnBookings(Long)}.
+     *
+     * @param userId     The user ID.
+     * @param period     Upcoming (soonest first) or past (most recent first) bookings.
+     * @param afterStart The showtime start of the last booking of the previous page, or {@code null} for the first page.
+     * @param afterId    The ID of the last booking of the previous page, or {@code null} for the first page.
+     * @param size       The maximum number of bookings in the page.
+     * @return The page.
+     */
+    @Transactional(readOnly = true)
+    public BookingHistoryPage getBookingHistory(Long userId, BookingHistoryPeriod period, LocalDateTime afterStart,
+            Long afterId, int size) {
+        if ((afterStart == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterStart and afterId must be given together.");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1.");
+        }
+
+        // Starting at (now, 0) selects exactly the showtimes starting from now, or before now;
+        // a position on the other side of now is moved back to it
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        boolean upcoming = period == BookingHistoryPeriod.UPCOMING;
+        if (afterStart == null || (upcoming ? afterStart.isBefore(now) : afterStart.isAfter(now))) {
+            afterStart = now;
+            afterId = 0L;
+        }
+
+        // One more row than requested tells whether there is a next page
+        List<Booking> bookings = upcoming
+                ? bookingRepository.findByUserIdAfter(userId, afterStart, afterId, size + 1)
+                : bookingRepository.findByUserIdBefore(userId, afterStart, afterId, size + 1);
+        if (bookings.size() <= size) {
+            return new BookingHistoryPage(bookings, null, null);
+        }
+        List<Booking> page = bookings.subList(0, size);
+        Booking last = page.get(size - 1);
+        return new BookingHistoryPage(List.copyOf(page), last.getShowtimeStart(), last.getId());
+    }
+
+    /**
+     * Fetch the given fields of all bookings for a specific user.
+     *
+     * Only the columns of the requested fields are read; see {@link SparseFieldsetRepository}.
+     *
+     * @param userId The user ID.
+     * @param fields The fields to read.
+     * @return One map of field values per booking, ordered by booking ID.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBookingsByUser(Long userId, List<String> fields) {
+        return sparseFieldsetRepository.findBookings(fields, userId);
+    }
+
     /**
      * Cancel a booking by its ID.
      *
      * @param bookingId The booking ID.
      */
-    @Transactional
     public void cancelBooking(Long bookingId) {
-        bookingRepository.findById(bookingId).orElseThrow(() ->
+        recordTransaction("cancel", () -> {
+            doCancelBooking(bookingId);
+            return null;
+        });
+    }
+
+    private void doCancelBooking(Long bookingId) {
+        Booking booking = bookingRepository.findById(bookingId).orElseThrow(() ->
                 new IllegalArgumentException("Booking with ID " + bookingId + " does not exist."));
+        releaseSeat(booking);
         bookingRepository.deleteById(bookingId);
+        bookingOwnerCache.invalidateAfterCommit(bookingId);
+        bookingAnalyticsService.bookingRemovedAfterCommit(booking.getShowtime().getId(), booking.getStatus(), booking.getPrice());
+        pricingService.seatsChangedAfterCommit(booking.getShowtime().getId(), -1);
     }
     
 
@@ -84,8 +281,11 @@ public class BookingService {
 	 * @param updatedBooking The updated booking details.
 	 * @return The updated booking.
 	 */
-    @Transactional
     public Booking updateBooking(Long id, Booking updatedBooking) {
+        return recordTransaction("update", () -> doUpdateBooking(id, updatedBooking));
+    }
+
+    private Booking doUpdateBooking(Long id, Booking updatedBooking) {
         Optional<Booking> existingBookingOptional = bookingRepository.findById(id);
 
         if (existingBookingOptional.isEmpty()) {
@@ -93,11 +293,37 @@ public class BookingService {
         }
 
         Booking existingBooking = existingBookingOptional.get();
+        Long previousShowtimeId = existingBooking.getShowtime().getId();
+        float previousPrice = existingBooking.getPrice();
+
+        Long showtimeId = updatedBooking.getShowtime().getId();
+        Long seatId = updatedBooking.getSeat().getId();
+        Showtime showtime = showtimeRepository.findById(showtimeId).orElseThrow(() ->
+                new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+        Seat seat = seatRepository.findById(seatId).orElseThrow(() ->
+                new IllegalArgumentException("Seat with ID " + seatId + " does not exist."));
+
+        if (!seat.getTheater().getId().equals(showtime.getTheater().getId())) {
+            throw new IllegalArgumentException("Seat with ID " + seatId + " does not belong to the theater of showtime " + showtimeId + ".");
+        }
+
+        // Move and reprice the booking when the seat or showtime changes; the client's price is ignored
+        if (!seat.getId().equals(existingBooking.getSeat().getId())
+                || !showtime.getId().equals(existingBooking.getShowtime().getId())) {
+            existingBooking.setPrice(pricingService.priceFor(showtimeId, seat.getCategory()));
+            seatInventoryService.bookSeat(showtimeId, seat.getSeatIndex());
+            releaseSeat(existingBooking);
+            pricingService.seatsChangedAfterCommit(showtimeId, 1);
+            pricingService.seatsChangedAfterCommit(previousShowtimeId, -1);
+        }
 
         // Update the necessary fields of the existing booking
-        existingBooking.setSeat(updatedBooking.getSeat());
-        existingBooking.setShowtime(updatedBooking.getShowtime());
-        existingBooking.setPrice(updatedBooking.getPrice());
+        existingBooking.setSeat(seat);
+        existingBooking.setShowtime(showtime);
+        existingBooking.setShowtimeStart(showtime.getStartTime());
+        bookingOwnerCache.invalidateAfterCommit(id);
+        bookingAnalyticsService.bookingRemovedAfterCommit(previousShowtimeId, existingBooking.getStatus(), previousPrice);
+        bookingAnalyticsService.bookingAddedAfterCommit(showtimeId, existingBooking.getStatus(), existingBooking.getPrice());
 
         // Save and return the updated booking
         return bookingRepository.save(existingBooking);
@@ -111,23 +337,25 @@ public class BookingService {
     public Set<Booking> getAllBookings() {
         return new HashSet<>(bookingRepository.findAll());
     }
+
+    /**
+     * Fetch the given fields of all bookings.
+     *
+     * @param fields The fields to read.
+     * @return One map of field values per booking, ordered by booking ID.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllBookings(List<String> fields) {
+        return sparseFieldsetRepository.findBookings(fields, null);
+    }
     
-	/***
-	 * Cancel a booking by its ID for a specific user.
-	 *
-	 * @param bookingId The booking ID.
-	 * @param userId    The user ID.
-	 */
-    @Transactional
-    public void cancelBookingForUser(Long bookingId, Long userId) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new IllegalArgumentException("Booking not found."));
-        
-        if (!booking.getUser().getId().equals(userId)) {
-            throw new SecurityException("You are not authorized to cancel this booking.");
-        }
-        
-        bookingRepository.deleteById(bookingId);
+    /**
+     * Make the seat of a booking available again for its showtime.
+     *
+     * @param booking The booking whose seat is released.
+     */
+    private void releaseSeat(Booking booking) {
+        seatInventoryService.releaseSeat(booking.getShowtime().getId(), booking.getSeat().getSeatIndex());
     }
 
 
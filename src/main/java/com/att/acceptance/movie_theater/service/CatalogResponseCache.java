@@ -0,0 +1,206 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.util.ContentEncodings;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Serialized JSON responses of rarely changing catalog reads, with a strong ETag.
+ *
+ * A response is serialized once, and gzipped once when it is large enough,
+ * then written as is on every hit; a request whose {@code If-None-Match}
+ * matches gets a 304 without a body. The services that write the underlying
+ * data evict the affected entries once their transaction commits. A response
+ * loaded while an eviction happens is returned but not cached, so a cache
+ * entry can never predate the last committed write.
+ */
+@Service
+public class CatalogResponseCache {
+
+    /**
+     * The key of the list of all theaters.
+     */
+    public static final String ALL_THEATERS = "theaters";
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final int gzipMinSize;
+    private final ConcurrentMap<String, CachedResponse> responses;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CatalogResponseCache(ObjectMapper objectMapper,
+            @Value("${response-cache.gzip:true}") boolean gzip,
+            @Value("${response-cache.gzip-min-size:1024}") int gzipMinSize,
+            @Value("${response-cache.maximum-size:1000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.gzipMinSize = gzipMinSize;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .<String, CachedResponse>build()
+                .asMap();
+    }
+
+    /**
+     * The key of a single movie.
+     *
+     * @param movieId The movie ID.
+     * @return The key.
+     */
+    public static String movieKey(Long movieId) {
+        return "movie:" + movieId;
+    }
+
+    /**
+     * Return the cached response for a key, serializing the loaded value on a miss.
+     *
+     * @param key    The key of the response.
+     * @param loader Loads the value to serialize; its exceptions are propagated.
+     * @return The cached response.
+     */
+    public CachedResponse get(String key, Supplier<?> loader) {
+        CachedResponse cached = responses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        CachedResponse response = serialize(loader.get());
+        if (generation.get() == loadedAt) {
+            responses.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Evict a response once the surrounding transaction commits, or immediately if there is none.
+     *
+     * @param key The key of the response.
+     */
+    public void evictAfterCommit(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                }
+            });
+        } else {
+            evict(key);
+        }
+    }
+
+    private void evict(String key) {
+        generation.incrementAndGet();
+        responses.remove(key);
+    }
+
+    private CachedResponse serialize(Object value) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The response could not be serialized.", e);
+        }
+        String hash = HexFormat.of().formatHex(sha256(body), 0, 16);
+        byte[] gzipBody = gzip && body.length >= gzipMinSize ? gzip(body) : null;
+        if (gzipBody != null && gzipBody.length >= body.length) {
+            gzipBody = null;
+        }
+        return new CachedResponse(body, gzipBody, "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("The response could not be compressed.", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A serialized response. The arrays are shared by every request and must not be modified.
+     *
+     * @param body     The JSON body.
+     * @param gzipBody The gzipped JSON body, or {@code null} if it is not worth compressing.
+     * @param etag     The strong ETag of the JSON body.
+     * @param gzipEtag The strong ETag of the gzipped body.
+     */
+    public record CachedResponse(byte[] body, byte[] gzipBody, String etag, String gzipEtag) {
+
+        /**
+         * Build the HTTP response for a request.
+         *
+         * @param ifNoneMatch    The {@code If-None-Match} header of the request, if any.
+         * @param acceptEncoding The {@code Accept-Encoding} header of the request, if any.
+         * @return A 304 if the client's copy is current, otherwise the body in the best accepted encoding.
+         */
+        public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch, String acceptEncoding) {
+            boolean gzipped = gzipBody != null && ContentEncodings.acceptsGzip(acceptEncoding);
+            String currentEtag = gzipped ? gzipEtag : etag;
+            if (ifNoneMatch != null && matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(currentEtag)
+                        .cacheControl(CacheControl.noCache())
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(currentEtag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzipped) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, ContentEncodings.GZIP);
+            }
+            return builder.body(gzipped ? gzipBody : body);
+        }
+
+        /**
+         * Whether an {@code If-None-Match} header names either representation of this response.
+         * Weak validators are compared weakly, as required for {@code If-None-Match}.
+         */
+        private boolean matches(String ifNoneMatch) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(etag) || candidate.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.att.acceptance.movie_theater.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.att.acceptance.movie_theater.dto.ReconciliationPage;
+
+/**
+ * Scheduled job reconciling the maintained seat counters one page at a time.
+ *
+ * Each run checks a single page of theaters and a single page of showtime
+ * inventories, then remembers where it stopped; after the last page it starts
+ * over from the beginning. A full pass therefore spreads over several runs
+ * instead of scanning every table at once.
+ */
+@Component
+public class CounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CounterReconciliationJob.class);
+
+    private final CounterReconciliationService counterReconciliationService;
+    private final int batchSize;
+
+    private long theaterCursor;
+    private long inventoryCursor;
+
+    public CounterReconciliationJob(CounterReconciliationService counterReconciliationService,
+            @Value("${counters.reconciliation.batch-size:200}") int batchSize) {
+        this.counterReconciliationService = counterReconciliationService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reconcile the next page of theaters and of showtime inventories.
+     */
+    @Scheduled(fixedDelayString = "${counters.reconciliation.interval:PT1M}",
+            initialDelayString = "${counters.reconciliation.initial-delay:PT1M}")
+    public synchronized void reconcileNextPage() {
+        ReconciliationPage theaters = counterReconciliationService.reconcileTheaters(theaterCursor, batchSize);
+        theaterCursor = theaters.isLastPage(batchSize) ? 0 : theaters.lastId();
+
+        ReconciliationPage inventories = counterReconciliationService.reconcileInventories(inventoryCursor, batchSize);
+        inventoryCursor = inventories.isLastPage(batchSize) ? 0 : inventories.lastId();
+
+        if (theaters.corrected() > 0 || inventories.corrected() > 0) {
+            log.warn("Corrected drifted seat counters: {} theaters, {} showtime inventories",
+                    theaters.corrected(), inventories.corrected());
+        }
+    }
+}
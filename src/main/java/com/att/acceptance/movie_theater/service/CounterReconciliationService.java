@@ -0,0 +1,138 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.acceptance.movie_theater.dto.BookedSeat;
+import com.att.acceptance.movie_theater.dto.ReconciliationPage;
+import com.att.acceptance.movie_theater.dto.TheaterSeatCount;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.SeatAvailabilityRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+
+/**
+ * Service for detecting and repairing drift in the maintained seat counters.
+ *
+ * Theater seat counts are checked against the seat rows, and showtime
+ * inventories against the bookings: a booked seat without a booking is made
+ * available again and a booking whose seat is not marked booked is marked.
+ * Work is done one page at a time in ID order, and corrections are written
+ * with compare-and-set updates so concurrent bookings are never overwritten;
+ * a row that changed in the meantime is simply checked again on the next pass.
+ */
+@Service
+public class CounterReconciliationService {
+
+    private final TheaterRepository theaterRepository;
+    private final SeatAvailabilityRepository seatAvailabilityRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogResponseCache catalogResponseCache;
+
+    public CounterReconciliationService(TheaterRepository theaterRepository,
+            SeatAvailabilityRepository seatAvailabilityRepository, BookingRepository bookingRepository,
+            CatalogResponseCache catalogResponseCache) {
+        this.theaterRepository = theaterRepository;
+        this.seatAvailabilityRepository = seatAvailabilityRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogResponseCache = catalogResponseCache;
+    }
+
+    /**
+     * Check and correct the seat counts of the next page of theaters.
+     *
+     * @param afterId   The last theater ID already checked.
+     * @param batchSize The maximum number of theaters to check.
+     * @return The outcome of the page.
+     */
+    @Transactional
+    public ReconciliationPage reconcileTheaters(Long afterId, int batchSize) {
+        List<TheaterSeatCount> seatCounts = theaterRepository.findSeatCountsAfter(afterId, batchSize);
+        if (seatCounts.isEmpty()) {
+            return new ReconciliationPage(null, 0, 0);
+        }
+
+        int corrected = 0;
+        for (TheaterSeatCount seatCount : seatCounts) {
+            if (seatCount.hasDrifted()) {
+                corrected += theaterRepository.correctSeatCount(seatCount.theaterId(), seatCount.storedCount(),
+                        seatCount.actualCount().intValue());
+            }
+        }
+        if (corrected > 0) {
+            catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
+        }
+
+        return new ReconciliationPage(seatCounts.get(seatCounts.size() - 1).theaterId(), seatCounts.size(), corrected);
+    }
+
+    /**
+     * Check and correct the statuses and counters of the next page of showtime inventories.
+     *
+     * @param afterId   The last showtime ID already checked.
+     * @param batchSize The maximum number of inventories to check.
+     * @return The outcome of the page.
+     */
+    @Transactional
+    public ReconciliationPage reconcileInventories(Long afterId, int batchSize) {
+        List<SeatAvailability> inventories = seatAvailabilityRepository.findPageAfter(afterId, batchSize);
+        if (inventories.isEmpty()) {
+            return new ReconciliationPage(null, 0, 0);
+        }
+
+        Set<Long> showtimeIds = inventories.stream().map(SeatAvailability::getShowtimeId).collect(Collectors.toSet());
+        Map<Long, Set<Integer>> bookedSeats = bookingRepository.findBookedSeats(showtimeIds).stream()
+                .collect(Collectors.groupingBy(BookedSeat::showtimeId,
+                        Collectors.mapping(BookedSeat::seatIndex, Collectors.toSet())));
+        Set<Long> theaterIds = inventories.stream().map(SeatAvailability::getTheaterId).collect(Collectors.toSet());
+        Map<Long, Integer> theaterSeatCounts = theaterRepository.findAllById(theaterIds).stream()
+                .collect(Collectors.toMap(Theater::getId, Theater::getSeatCount, (first, second) -> first));
+
+        int corrected = 0;
+        for (SeatAvailability inventory : inventories) {
+            Set<Integer> booked = bookedSeats.getOrDefault(inventory.getShowtimeId(), Set.of());
+            byte[] seatStatuses = expectedStatuses(inventory.getSeatStatuses(), booked);
+            int bookedCount = SeatAvailability.count(seatStatuses, AvailabilityStatusEnum.BOOKED);
+            int heldCount = SeatAvailability.count(seatStatuses, AvailabilityStatusEnum.HELD);
+            int capacity = theaterSeatCounts.getOrDefault(inventory.getTheaterId(), inventory.getCapacity());
+
+            if (!Arrays.equals(seatStatuses, inventory.getSeatStatuses())
+                    || bookedCount != inventory.getBookedCount()
+                    || heldCount != inventory.getHeldCount()
+                    || capacity != inventory.getCapacity()) {
+                corrected += seatAvailabilityRepository.correctInventory(inventory.getShowtimeId(), seatStatuses,
+                        bookedCount, heldCount, capacity, inventory.getVersion());
+            }
+        }
+
+        return new ReconciliationPage(inventories.get(inventories.size() - 1).getShowtimeId(), inventories.size(), corrected);
+    }
+
+    /**
+     * Packed statuses in which exactly the seats with a booking are marked booked.
+     * Held seats are kept unless they have a booking.
+     */
+    private static byte[] expectedStatuses(byte[] seatStatuses, Set<Integer> booked) {
+        byte[] expected = seatStatuses;
+        Set<Integer> unmarked = new HashSet<>(booked);
+        for (int seatIndex = 0; seatIndex < SeatAvailability.addressableSeats(seatStatuses); seatIndex++) {
+            if (SeatAvailability.statusAt(seatStatuses, seatIndex) == AvailabilityStatusEnum.BOOKED
+                    && !unmarked.remove(seatIndex)) {
+                expected = SeatAvailability.withStatus(expected, seatIndex, AvailabilityStatusEnum.AVAILABLE);
+            }
+        }
+        for (Integer seatIndex : unmarked) {
+            expected = SeatAvailability.withStatus(expected, seatIndex, AvailabilityStatusEnum.BOOKED);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,178 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.att.acceptance.movie_theater.dto.MovieDetail;
+import com.att.acceptance.movie_theater.dto.ShowtimeOccupancy;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.exception.MovieDetailUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Loads the parts of a movie detail page in parallel.
+ *
+ * The movie, its showtimes and the seat counters of its next showtimes are
+ * independent queries, so each runs in its own read-only transaction on a
+ * virtual thread, and a page costs about as long as the slowest of them
+ * instead of their sum. Each part is waited for until its own deadline, its
+ * configured timeout after the parts are started. The movie is required: if it does not exist
+ * or is not loaded in time, the request fails, the latter with a
+ * {@link MovieDetailUnavailableException} (503). The other parts fall back to
+ * {@code null}, are named in {@link MovieDetail#unavailable()}, and are
+ * cancelled if still running.
+ *
+ * Every part borrows a connection, so virtual threads would let concurrent
+ * pages ask for far more connections than the pool holds. At most half of the
+ * pool's connections are used by parts at a time; a part waiting for one
+ * counts against its deadline, so under load the optional parts are left out
+ * first and the other endpoints keep the rest of the pool.
+ */
+@Service
+public class MovieDetailService {
+
+    static final String SHOWTIMES = "showtimes";
+    static final String AVAILABILITY = "availability";
+
+    private final MovieService movieService;
+    private final ShowtimeService showtimeService;
+    private final SeatInventoryService seatInventoryService;
+    private final Duration movieTimeout;
+    private final Duration showtimesTimeout;
+    private final Duration availabilityTimeout;
+    private final int availabilityShowtimes;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore connections;
+    private final Counter showtimesFallbacks;
+    private final Counter availabilityFallbacks;
+
+    public MovieDetailService(MovieService movieService, ShowtimeService showtimeService,
+            SeatInventoryService seatInventoryService,
+            @Value("${movie-detail.movie-timeout:PT1S}") Duration movieTimeout,
+            @Value("${movie-detail.showtimes-timeout:PT1S}") Duration showtimesTimeout,
+            @Value("${movie-detail.availability-timeout:PT0.5S}") Duration availabilityTimeout,
+            @Value("${movie-detail.availability-showtimes:5}") int availabilityShowtimes,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            MeterRegistry meterRegistry) {
+        this.movieService = movieService;
+        this.showtimeService = showtimeService;
+        this.seatInventoryService = seatInventoryService;
+        this.movieTimeout = movieTimeout;
+        this.showtimesTimeout = showtimesTimeout;
+        this.availabilityTimeout = availabilityTimeout;
+        this.availabilityShowtimes = availabilityShowtimes;
+        this.connections = new Semaphore(Math.max(1, connectionPoolSize / 2), true);
+        this.showtimesFallbacks = fallbacks(meterRegistry, SHOWTIMES);
+        this.availabilityFallbacks = fallbacks(meterRegistry, AVAILABILITY);
+    }
+
+    private static Counter fallbacks(MeterRegistry meterRegistry, String part) {
+        return Counter.builder("movie.detail.fallbacks")
+                .description("Movie detail pages served without a part that failed or missed its deadline")
+                .tag("part", part)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Fetch the movie, its showtimes and the seat counters of its next showtimes.
+     *
+     * @param movieId The movie ID.
+     * @return The detail page, possibly without its showtimes or availability.
+     * @throws IllegalArgumentException        If the movie does not exist.
+     * @throws MovieDetailUnavailableException If the movie is not loaded in time.
+     */
+    public MovieDetail getMovieDetail(Long movieId) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        Future<Movie> movie = submit(() -> movieService.getMovieById(movieId));
+        Future<List<Showtime>> showtimes = submit(() -> showtimeService.getShowtimesByMovie(movieId).stream()
+                .sorted(Comparator.comparing(Showtime::getStartTime).thenComparing(Showtime::getId))
+                .toList());
+        Future<List<ShowtimeOccupancy>> availability = submit(() ->
+                seatInventoryService.getUpcomingOccupancy(movieId, now, availabilityShowtimes));
+
+        try {
+            Movie loadedMovie = awaitRequired(movie, start + movieTimeout.toNanos(), movieId);
+            List<String> unavailable = new ArrayList<>(2);
+            List<Showtime> loadedShowtimes = awaitOptional(showtimes, start + showtimesTimeout.toNanos(), SHOWTIMES,
+                    showtimesFallbacks, unavailable);
+            List<ShowtimeOccupancy> loadedAvailability = awaitOptional(availability,
+                    start + availabilityTimeout.toNanos(), AVAILABILITY, availabilityFallbacks, unavailable);
+            return new MovieDetail(loadedMovie, loadedShowtimes, loadedAvailability, List.copyOf(unavailable));
+        } finally {
+            // No-ops for the parts that completed
+            showtimes.cancel(true);
+            availability.cancel(true);
+        }
+    }
+
+    /**
+     * Run a part on a virtual thread once a connection can be spared for it.
+     */
+    private <T> Future<T> submit(Callable<T> part) {
+        return executor.submit(() -> {
+            connections.acquire();
+            try {
+                return part.call();
+            } finally {
+                connections.release();
+            }
+        });
+    }
+
+    private static <T> T awaitRequired(Future<T> part, long deadline, Long movieId) {
+        try {
+            return part.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Movie with ID " + movieId + " could not be loaded.", e.getCause());
+        } catch (TimeoutException e) {
+            part.cancel(true);
+            throw new MovieDetailUnavailableException("Movie with ID " + movieId + " could not be loaded in time.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading movie with ID " + movieId + ".", e);
+        }
+    }
+
+    private static <T> T awaitOptional(Future<T> part, long deadline, String name, Counter fallbacks,
+            List<String> unavailable) {
+        try {
+            return part.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            fallbacks.increment();
+            unavailable.add(name);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unavailable.add(name);
+            return null;
+        }
+    }
+}
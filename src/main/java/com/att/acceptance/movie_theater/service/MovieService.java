@@ -2,11 +2,14 @@ package com.att.acceptance.movie_theater.service;
 
 import com.att.acceptance.movie_theater.entity.Movie;
 import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.SparseFieldsetRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,9 +22,16 @@ import java.util.Set;
 public class MovieService {
 
     private final MovieRepository movieRepository;
+    private final NowShowingService nowShowingService;
+    private final CatalogResponseCache catalogResponseCache;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
 
-    public MovieService(MovieRepository movieRepository) {
+    public MovieService(MovieRepository movieRepository, NowShowingService nowShowingService,
+            CatalogResponseCache catalogResponseCache, SparseFieldsetRepository sparseFieldsetRepository) {
         this.movieRepository = movieRepository;
+        this.nowShowingService = nowShowingService;
+        this.catalogResponseCache = catalogResponseCache;
+        this.sparseFieldsetRepository = sparseFieldsetRepository;
     }
 
     /**
@@ -46,6 +56,20 @@ public class MovieService {
         return movieRepository.findAll(pageable);
     }
 
+    /**
+     * Fetch the given fields of all movies with pagination.
+     *
+     * Only the columns of the requested fields are read; see {@link SparseFieldsetRepository}.
+     *
+     * @param pageable Pagination details.
+     * @param fields The fields to read.
+     * @return A page of maps of field values.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllMovies(Pageable pageable, List<String> fields) {
+        return sparseFieldsetRepository.findMovies(fields, pageable);
+    }
+
     /**
      * Fetch all movies without pagination.
      *
@@ -85,6 +109,8 @@ public class MovieService {
         existingMovie.setDuration(updatedMovie.getDuration());
         existingMovie.setRating(updatedMovie.getRating());
         existingMovie.setReleaseYear(updatedMovie.getReleaseYear());
+        nowShowingService.markStaleAfterCommit();
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.movieKey(movieId));
 
         return movieRepository.save(existingMovie);
     }
@@ -99,5 +125,7 @@ public class MovieService {
         movieRepository.findById(movieId).orElseThrow(() ->
                 new IllegalArgumentException("Movie with ID " + movieId + " does not exist."));
         movieRepository.deleteById(movieId);
+        nowShowingService.markStaleAfterCommit();
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.movieKey(movieId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.dto.NowShowing;
+import com.att.acceptance.movie_theater.dto.NowShowingRow;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The "now showing" read model of the home page, kept as pre-serialized JSON.
+ *
+ * Movie, theater, showtime and seat inventory writes only mark the model stale
+ * once they commit. A scheduled refresh rebuilds a stale model with a single
+ * query, serializes it once and swaps the bytes in, so bursts of bookings
+ * cost one rebuild per {@code now-showing.refresh-interval} and reads cost
+ * neither a query nor serialization. The model is also rebuilt after
+ * {@code now-showing.max-age} so that showtimes drop off once they start.
+ */
+@Service
+public class NowShowingService {
+
+    private static final Logger log = LoggerFactory.getLogger(NowShowingService.class);
+
+    private final ShowtimeRepository showtimeRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration horizon;
+    private final Duration maxAge;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    private volatile Snapshot snapshot;
+
+    public NowShowingService(ShowtimeRepository showtimeRepository, ObjectMapper objectMapper,
+            @Value("${now-showing.horizon:P7D}") Duration horizon,
+            @Value("${now-showing.max-age:PT1M}") Duration maxAge) {
+        this.showtimeRepository = showtimeRepository;
+        this.objectMapper = objectMapper;
+        this.horizon = horizon;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Return the read model as JSON, building it on first use.
+     *
+     * @return The serialized {@link NowShowing}; must not be modified.
+     */
+    public byte[] getNowShowingJson() {
+        Snapshot current = snapshot;
+        return current != null ? current.json() : refresh().json();
+    }
+
+    /**
+     * Mark the read model stale once the surrounding transaction commits,
+     * or immediately if there is none.
+     */
+    public void markStaleAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale.set(true);
+                }
+            });
+        } else {
+            stale.set(true);
+        }
+    }
+
+    /**
+     * Build the read model once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Rebuild the read model if it is stale or too old.
+     */
+    @Scheduled(fixedDelayString = "${now-showing.refresh-interval:PT1S}",
+            initialDelayString = "${now-showing.refresh-interval:PT1S}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        if (stale.get() || current == null
+                || Duration.between(current.generatedAt(), now()).compareTo(maxAge) >= 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild the read model and swap it in.
+     *
+     * The stale flag is cleared before reading, so writes committed during a
+     * rebuild mark the new model stale again.
+     *
+     * @return The new snapshot.
+     */
+    public synchronized Snapshot refresh() {
+        stale.set(false);
+        LocalDateTime generatedAt = now();
+        NowShowing model = build(generatedAt, showtimeRepository.findNowShowing(generatedAt, generatedAt.plus(horizon)));
+        try {
+            Snapshot fresh = new Snapshot(generatedAt, objectMapper.writeValueAsBytes(model));
+            snapshot = fresh;
+            log.debug("Now showing rebuilt with {} movies ({} bytes)", model.movies().size(), fresh.json().length);
+            return fresh;
+        } catch (JsonProcessingException e) {
+            stale.set(true);
+            throw new IllegalStateException("The now showing read model could not be serialized.", e);
+        }
+    }
+
+    /**
+     * Group rows ordered by movie, theater and start time into the read model.
+     */
+    static NowShowing build(LocalDateTime generatedAt, List<NowShowingRow> rows) {
+        List<NowShowing.Movie> movies = new ArrayList<>();
+        List<NowShowing.Theater> theaters = null;
+        List<NowShowing.Showtime> showtimes = null;
+        NowShowingRow previous = null;
+        for (NowShowingRow row : rows) {
+            if (previous == null || !previous.movieId().equals(row.movieId())) {
+                theaters = new ArrayList<>();
+                movies.add(new NowShowing.Movie(row.movieId(), row.title(), row.genre(), row.duration(), row.rating(),
+                        theaters));
+                previous = null;
+            }
+            if (previous == null || !previous.theaterId().equals(row.theaterId())) {
+                showtimes = new ArrayList<>();
+                theaters.add(new NowShowing.Theater(row.theaterId(), row.theaterName(), row.theaterLocation(), showtimes));
+            }
+            showtimes.add(new NowShowing.Showtime(row.showtimeId(), row.startTime(), row.endTime(), row.seatsLeft()));
+            previous = row;
+        }
+        return new NowShowing(generatedAt, movies);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * A serialized read model.
+     *
+     * @param generatedAt When the model was built, in UTC.
+     * @param json        The model serialized as JSON.
+     */
+    public record Snapshot(LocalDateTime generatedAt, byte[] json) {
+    }
+}
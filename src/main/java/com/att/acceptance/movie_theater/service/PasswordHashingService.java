@@ -0,0 +1,107 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.exception.PasswordHashingRejectedException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded pool.
+ *
+ * BCrypt is deliberately CPU-expensive. Running it on servlet threads lets a
+ * burst of logins occupy every request thread, so logins, registrations and
+ * user updates, which hash the new password, are handed to a pool with one thread per core (by default) and a short queue.
+ * When the queue is full the work is rejected immediately with
+ * {@link PasswordHashingRejectedException} (503) instead of piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final AuthenticationManager authenticationManager;
+    private final UserService userService;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(AuthenticationManager authenticationManager, UserService userService,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        this.authenticationManager = authenticationManager;
+        this.userService = userService;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Check a user's credentials on the hashing pool. If the stored hash was
+     * made with a lower cost than configured, it is rehashed transparently.
+     *
+     * @param email    The email of the user.
+     * @param password The raw password.
+     * @return The authentication, completed exceptionally if the credentials are wrong
+     *         or the pool is saturated.
+     */
+    public CompletableFuture<Authentication> authenticate(String email, String password) {
+        return submit(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(email, password)));
+    }
+
+    /**
+     * Register a new user on the hashing pool.
+     *
+     * @param user The user to register, with a raw password.
+     * @param role The role to assign to the user.
+     * @return The registered user, completed exceptionally if the pool is saturated.
+     */
+    public CompletableFuture<User> registerUser(User user, RoleEnum role) {
+        return submit(() -> userService.registerUser(user, role));
+    }
+
+    /**
+     * Update a user's details on the hashing pool.
+     *
+     * @param userId      The user ID.
+     * @param updatedUser The updated user details, with a raw password.
+     * @return The updated user, completed exceptionally if the user does not exist
+     *         or the pool is saturated.
+     */
+    public CompletableFuture<User> updateUser(Long userId, User updatedUser) {
+        return submit(() -> userService.updateUser(userId, updatedUser));
+    }
+
+    /**
+     * @return The number of tasks waiting for a hashing thread.
+     */
+    public int getQueuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new PasswordHashingRejectedException("Too many concurrent password checks, please retry later.", e));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+
+/**
+ * The configured pricing rules: a base price multiplied by a seat category
+ * factor, a time-of-day factor and an occupancy tier factor.
+ *
+ * Occupancy tiers are numbered from 0 (below the first threshold); tier
+ * {@code n} applies once the occupied share of seats reaches the {@code n}th
+ * threshold. Showtime start times are stored in UTC and converted to
+ * {@code pricing.time-zone} to decide whether a showtime is a matinee or in
+ * prime time.
+ */
+@Component
+public class PricingPolicy {
+
+    private final long basePriceCents;
+    private final Map<SeatCategoryEnum, Double> categoryMultipliers = new EnumMap<>(SeatCategoryEnum.class);
+    private final LocalTime matineeUntil;
+    private final double matineeMultiplier;
+    private final LocalTime primeTimeFrom;
+    private final double primeTimeMultiplier;
+    private final double[] tierThresholds;
+    private final double[] tierMultipliers;
+    private final ZoneId timeZone;
+
+    public PricingPolicy(@Value("${pricing.base-price:12.00}") BigDecimal basePrice,
+            @Value("${pricing.category.premium:1.25}") double premiumMultiplier,
+            @Value("${pricing.category.vip:1.75}") double vipMultiplier,
+            @Value("${pricing.category.accessible:1.0}") double accessibleMultiplier,
+            @Value("${pricing.matinee.until:17:00}") String matineeUntil,
+            @Value("${pricing.matinee.multiplier:0.8}") double matineeMultiplier,
+            @Value("${pricing.prime-time.from:19:00}") String primeTimeFrom,
+            @Value("${pricing.prime-time.multiplier:1.15}") double primeTimeMultiplier,
+            @Value("${pricing.occupancy.thresholds:0.5,0.75,0.9}") double[] tierThresholds,
+            @Value("${pricing.occupancy.multipliers:1.1,1.25,1.5}") double[] tierMultipliers,
+            @Value("${pricing.time-zone:UTC}") String timeZone) {
+        if (basePrice.signum() <= 0) {
+            throw new IllegalArgumentException("The base price must be positive.");
+        }
+        if (tierThresholds.length != tierMultipliers.length) {
+            throw new IllegalArgumentException("Every occupancy threshold needs exactly one multiplier.");
+        }
+        for (int i = 1; i < tierThresholds.length; i++) {
+            if (tierThresholds[i] <= tierThresholds[i - 1]) {
+                throw new IllegalArgumentException("Occupancy thresholds must be in increasing order.");
+            }
+        }
+        this.basePriceCents = basePrice.movePointRight(2).longValue();
+        this.categoryMultipliers.put(SeatCategoryEnum.STANDARD, 1.0);
+        this.categoryMultipliers.put(SeatCategoryEnum.PREMIUM, premiumMultiplier);
+        this.categoryMultipliers.put(SeatCategoryEnum.VIP, vipMultiplier);
+        this.categoryMultipliers.put(SeatCategoryEnum.ACCESSIBLE, accessibleMultiplier);
+        this.matineeUntil = LocalTime.parse(matineeUntil);
+        this.matineeMultiplier = matineeMultiplier;
+        this.primeTimeFrom = LocalTime.parse(primeTimeFrom);
+        this.primeTimeMultiplier = primeTimeMultiplier;
+        this.tierThresholds = tierThresholds.clone();
+        this.tierMultipliers = tierMultipliers.clone();
+        this.timeZone = ZoneId.of(timeZone);
+    }
+
+    /**
+     * The occupancy tier of a showtime.
+     *
+     * @param occupiedSeats The number of booked and held seats.
+     * @param capacity      The number of seats offered, 0 if unknown.
+     * @return The tier, 0 when below the first threshold.
+     */
+    public int tierOf(int occupiedSeats, int capacity) {
+        if (capacity <= 0) {
+            return 0;
+        }
+        double occupancy = (double) occupiedSeats / capacity;
+        int tier = 0;
+        while (tier < tierThresholds.length && occupancy >= tierThresholds[tier]) {
+            tier++;
+        }
+        return tier;
+    }
+
+    /**
+     * Compute the price of every seat category for a showtime in a given occupancy tier.
+     *
+     * @param startTime The start time of the showtime, in UTC.
+     * @param tier      The occupancy tier.
+     * @return The prices in cents, indexed by {@link SeatCategoryEnum#ordinal()}.
+     */
+    public long[] pricesInCents(LocalDateTime startTime, int tier) {
+        double multiplier = timeOfDayMultiplier(startTime) * (tier > 0 ? tierMultipliers[tier - 1] : 1.0);
+        SeatCategoryEnum[] categories = SeatCategoryEnum.values();
+        long[] prices = new long[categories.length];
+        for (SeatCategoryEnum category : categories) {
+            prices[category.ordinal()] = Math.max(1, Math.round(basePriceCents * multiplier * categoryMultipliers.get(category)));
+        }
+        return prices;
+    }
+
+    private double timeOfDayMultiplier(LocalDateTime startTime) {
+        LocalTime localTime = startTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(timeZone).toLocalTime();
+        if (localTime.isBefore(matineeUntil)) {
+            return matineeMultiplier;
+        }
+        return localTime.isBefore(primeTimeFrom) ? 1.0 : primeTimeMultiplier;
+    }
+}
@@ -0,0 +1,195 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.dto.ShowtimePrices;
+import com.att.acceptance.movie_theater.dto.ShowtimePricingInput;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Server-side seat pricing from precomputed per-showtime price tables.
+ *
+ * A showtime's table holds the price of every seat category for its current
+ * occupancy tier (see {@link PricingPolicy}). Bookings and cancellations on
+ * this instance move the table's seat count once they commit, and the prices
+ * are only recomputed when the count crosses a tier threshold, so a quote is
+ * a map lookup and an array read.
+ *
+ * Bookings are priced from the seat counters read by the booking's own
+ * validation query, which also brings the table up to date. Tables used for
+ * listing prices are reloaded from the database after {@code pricing.table-ttl}
+ * to pick up bookings made on other instances and capacity changes.
+ */
+@Service
+public class PricingService {
+
+    private final ShowtimeRepository showtimeRepository;
+    private final PricingPolicy pricingPolicy;
+    private final long tableTtlNanos;
+    private final ConcurrentMap<Long, PriceTable> tables;
+
+    public PricingService(ShowtimeRepository showtimeRepository, PricingPolicy pricingPolicy,
+            @Value("${pricing.table-ttl:PT30S}") Duration tableTtl,
+            @Value("${pricing.maximum-tables:10000}") long maximumTables) {
+        this.showtimeRepository = showtimeRepository;
+        this.pricingPolicy = pricingPolicy;
+        this.tableTtlNanos = tableTtl.toNanos();
+        this.tables = Caffeine.newBuilder()
+                .maximumSize(maximumTables)
+                .<Long, PriceTable>build()
+                .asMap();
+    }
+
+    /**
+     * Price a seat from seat counters that were just read, without a database round-trip.
+     *
+     * @param showtimeId    The showtime ID.
+     * @param startTime     The start time of the showtime.
+     * @param category      The category of the seat.
+     * @param occupiedSeats The number of booked and held seats.
+     * @param capacity      The number of seats offered, 0 if unknown.
+     * @return The price of the seat.
+     */
+    public float priceFor(Long showtimeId, LocalDateTime startTime, SeatCategoryEnum category, int occupiedSeats,
+            int capacity) {
+        PriceTable table = tables.get(showtimeId);
+        if (table == null || !table.startTime.equals(startTime) || table.capacity != capacity) {
+            table = PriceTable.build(pricingPolicy, startTime, capacity, occupiedSeats, System.nanoTime());
+        } else {
+            table = table.withOccupiedSeats(pricingPolicy, occupiedSeats, System.nanoTime());
+        }
+        tables.put(showtimeId, table);
+        return table.price(category);
+    }
+
+    /**
+     * Price a seat from the showtime's table, loading it if needed.
+     *
+     * @param showtimeId The showtime ID.
+     * @param category   The category of the seat.
+     * @return The price of the seat.
+     */
+    public float priceFor(Long showtimeId, SeatCategoryEnum category) {
+        return table(showtimeId).price(category);
+    }
+
+    /**
+     * Fetch the current price of every seat category of a showtime.
+     *
+     * @param showtimeId The showtime ID.
+     * @return The prices.
+     */
+    public ShowtimePrices getPrices(Long showtimeId) {
+        PriceTable table = table(showtimeId);
+        Map<SeatCategoryEnum, BigDecimal> prices = new EnumMap<>(SeatCategoryEnum.class);
+        for (SeatCategoryEnum category : SeatCategoryEnum.values()) {
+            prices.put(category, BigDecimal.valueOf(table.pricesInCents[category.ordinal()], 2));
+        }
+        double occupancy = table.capacity > 0 ? (double) table.occupiedSeats / table.capacity : 0;
+        return new ShowtimePrices(showtimeId, occupancy, table.tier, prices);
+    }
+
+    /**
+     * Move the seat count of a showtime's table once the surrounding transaction commits.
+     *
+     * @param showtimeId The showtime ID.
+     * @param delta      The number of seats booked (positive) or released (negative).
+     */
+    public void seatsChangedAfterCommit(Long showtimeId, int delta) {
+        afterCommit(() -> tables.computeIfPresent(showtimeId, (id, table) ->
+                table.withOccupiedSeats(pricingPolicy, table.occupiedSeats + delta, table.loadedAt)));
+    }
+
+    /**
+     * Drop the table of a rescheduled or deleted showtime once the surrounding transaction commits.
+     *
+     * @param showtimeId The showtime ID.
+     */
+    public void evictAfterCommit(Long showtimeId) {
+        afterCommit(() -> tables.remove(showtimeId));
+    }
+
+    private PriceTable table(Long showtimeId) {
+        PriceTable table = tables.get(showtimeId);
+        long now = System.nanoTime();
+        if (table != null && now - table.loadedAt < tableTtlNanos) {
+            return table;
+        }
+        ShowtimePricingInput input = showtimeRepository.findPricingInput(showtimeId).orElseThrow(() ->
+                new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+        int occupiedSeats = (input.bookedSeats() != null ? input.bookedSeats() : 0)
+                + (input.heldSeats() != null ? input.heldSeats() : 0);
+        table = PriceTable.build(pricingPolicy, input.startTime(), input.capacity() != null ? input.capacity() : 0,
+                occupiedSeats, now);
+        tables.put(showtimeId, table);
+        return table;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Immutable prices of a showtime for one occupancy tier.
+     */
+    private static final class PriceTable {
+
+        final LocalDateTime startTime;
+        final int capacity;
+        final int occupiedSeats;
+        final int tier;
+        final long[] pricesInCents;
+        final long loadedAt;
+
+        private PriceTable(LocalDateTime startTime, int capacity, int occupiedSeats, int tier, long[] pricesInCents,
+                long loadedAt) {
+            this.startTime = startTime;
+            this.capacity = capacity;
+            this.occupiedSeats = occupiedSeats;
+            this.tier = tier;
+            this.pricesInCents = pricesInCents;
+            this.loadedAt = loadedAt;
+        }
+
+        static PriceTable build(PricingPolicy policy, LocalDateTime startTime, int capacity, int occupiedSeats,
+                long loadedAt) {
+            int tier = policy.tierOf(occupiedSeats, capacity);
+            return new PriceTable(startTime, capacity, occupiedSeats, tier, policy.pricesInCents(startTime, tier),
+                    loadedAt);
+        }
+
+        /**
+         * The same table with another seat count, recomputing the prices only when the tier changes.
+         */
+        PriceTable withOccupiedSeats(PricingPolicy policy, int occupiedSeats, long loadedAt) {
+            int newTier = policy.tierOf(Math.max(occupiedSeats, 0), capacity);
+            long[] prices = newTier == tier ? pricesInCents : policy.pricesInCents(startTime, newTier);
+            return new PriceTable(startTime, capacity, Math.max(occupiedSeats, 0), newTier, prices, loadedAt);
+        }
+
+        float price(SeatCategoryEnum category) {
+            return pricesInCents[category.ordinal()] / 100f;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.att.acceptance.movie_theater.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.acceptance.movie_theater.dto.SeatStatusView;
+import com.att.acceptance.movie_theater.dto.ShowtimeOccupancy;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.exception.SeatNotAvailableException;
+import com.att.acceptance.movie_theater.repository.SeatAvailabilityRepository;
+import com.att.acceptance.movie_theater.repository.SeatRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+
+/**
+ * Service for managing the per-showtime seat inventory.
+ *
+ * Each showtime owns a single {@link SeatAvailability} row holding the status
+ * of every seat of its theater. Seats are claimed with a versioned
+ * compare-and-set on that row; when the row has changed since it was read, the
+ * claim falls back to locking the row and checking the seat again. The
+ * showtime's booked and held counters change in the same update.
+ */
+@Service
+public class SeatInventoryService {
+
+    private final SeatAvailabilityRepository seatAvailabilityRepository;
+    private final SeatRepository seatRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingAnalyticsService bookingAnalyticsService;
+    private final NowShowingService nowShowingService;
+
+    public SeatInventoryService(SeatAvailabilityRepository seatAvailabilityRepository, SeatRepository seatRepository,
+            ShowtimeRepository showtimeRepository, BookingAnalyticsService bookingAnalyticsService,
+            NowShowingService nowShowingService) {
+        this.seatAvailabilityRepository = seatAvailabilityRepository;
+        this.seatRepository = seatRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.bookingAnalyticsService = bookingAnalyticsService;
+        this.nowShowingService = nowShowingService;
+    }
+
+    /**
+     * Create the seat inventory of a showtime, with every seat of its theater available.
+     *
+     * @param showtime The showtime, which must already have an ID.
+     * @return The created inventory.
+     */
+    @Transactional
+    public SeatAvailability createInventory(Showtime showtime) {
+        int capacity = showtime.getTheater().getSeatCount();
+        SeatAvailability inventory = seatAvailabilityRepository.save(new SeatAvailability(showtime.getId(),
+                showtime.getTheater().getId(), capacity));
+        bookingAnalyticsService.showtimeScheduledAfterCommit(showtime, capacity);
+        nowShowingService.markStaleAfterCommit();
+        return inventory;
+    }
+
+    /**
+     * Change the capacity of every showtime in a theater after seats were added or removed.
+     *
+     * @param theaterId The theater ID.
+     * @param delta     The number of seats added (positive) or removed (negative).
+     */
+    @Transactional
+    public void adjustCapacity(Long theaterId, int delta) {
+        seatAvailabilityRepository.adjustCapacity(theaterId, delta);
+        bookingAnalyticsService.capacityAdjustedAfterCommit(theaterId, delta);
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    /**
+     * Remove a deleted seat from the inventory of every showtime in its theater.
+     * The seat's status is cleared, taking it out of the booked and held counts,
+     * and the capacity shrinks by one.
+     *
+     * @param theaterId The theater ID.
+     * @param seatIndex The index of the deleted seat.
+     */
+    @Transactional
+    public void removeSeat(Long theaterId, int seatIndex) {
+        for (SeatAvailability inventory : seatAvailabilityRepository.findByTheaterIdForUpdate(theaterId)) {
+            if (inventory.getStatus(seatIndex) != AvailabilityStatusEnum.AVAILABLE) {
+                inventory.setStatus(seatIndex, AvailabilityStatusEnum.AVAILABLE);
+            }
+            inventory.setCapacity(inventory.getCapacity() - 1);
+        }
+        bookingAnalyticsService.capacityAdjustedAfterCommit(theaterId, -1);
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    /**
+     * Delete the seat inventory of a showtime, if it has one.
+     *
+     * @param showtimeId The showtime ID.
+     */
+    @Transactional
+    public void deleteInventory(Long showtimeId) {
+        if (seatAvailabilityRepository.existsById(showtimeId)) {
+            seatAvailabilityRepository.deleteById(showtimeId);
+        }
+        bookingAnalyticsService.showtimeRemovedAfterCommit(showtimeId);
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    /**
+     * Recreate the seat inventory of a showtime that moved to another theater,
+     * with every seat of the new theater available. Unlike deleting and creating
+     * it, this keeps the showtime's bookings in the analytics rollups.
+     *
+     * @param showtime The showtime, already assigned to its new theater.
+     * @return The new inventory.
+     */
+    @Transactional
+    public SeatAvailability moveInventory(Showtime showtime) {
+        if (seatAvailabilityRepository.existsById(showtime.getId())) {
+            seatAvailabilityRepository.deleteById(showtime.getId());
+        }
+        return createInventory(showtime);
+    }
+
+    /**
+     * Claim a seat using inventory state that was read earlier in the request.
+     *
+     * @param showtimeId   The showtime ID.
+     * @param seatIndex    The index of the seat to claim.
+     * @param seatStatuses The packed seat statuses that were read.
+     * @param version      The inventory version that was read, or {@code null} if the showtime has no inventory.
+     */
+    @Transactional
+    public void bookSeat(Long showtimeId, int seatIndex, byte[] seatStatuses, Long version) {
+        if (version != null && SeatAvailability.statusAt(seatStatuses, seatIndex) == AvailabilityStatusEnum.AVAILABLE
+                && seatAvailabilityRepository.compareAndSetSeatStatuses(showtimeId,
+                        SeatAvailability.withStatus(seatStatuses, seatIndex, AvailabilityStatusEnum.BOOKED), 1, 0, version) == 1) {
+            nowShowingService.markStaleAfterCommit();
+            return;
+        }
+        bookSeat(showtimeId, seatIndex);
+    }
+
+    /**
+     * Claim a seat while holding a lock on the showtime's inventory.
+     *
+     * @param showtimeId The showtime ID.
+     * @param seatIndex  The index of the seat to claim.
+     */
+    @Transactional
+    public void bookSeat(Long showtimeId, int seatIndex) {
+        SeatAvailability inventory = lockInventory(showtimeId);
+        if (inventory.getStatus(seatIndex) != AvailabilityStatusEnum.AVAILABLE) {
+            throw new SeatNotAvailableException("The seat is already booked for the selected showtime.");
+        }
+        inventory.setStatus(seatIndex, AvailabilityStatusEnum.BOOKED);
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    /**
+     * Make a seat available again.
+     *
+     * @param showtimeId The showtime ID.
+     * @param seatIndex  The index of the seat to release.
+     */
+    @Transactional
+    public void releaseSeat(Long showtimeId, int seatIndex) {
+        seatAvailabilityRepository.findForUpdate(showtimeId).ifPresent(inventory ->
+                inventory.setStatus(seatIndex, AvailabilityStatusEnum.AVAILABLE));
+        nowShowingService.markStaleAfterCommit();
+    }
+
+    /**
+     * Fetch the status of every seat for a showtime.
+     *
+     * @param showtimeId The showtime ID.
+     * @return The seats of the showtime's theater with their status, ordered by seat index.
+     */
+    @Transactional(readOnly = true)
+    public List<SeatStatusView> getSeatMap(Long showtimeId) {
+        showtimeRepository.findById(showtimeId).orElseThrow(() ->
+                new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+
+        byte[] seatStatuses = seatAvailabilityRepository.findById(showtimeId)
+                .map(SeatAvailability::getSeatStatuses)
+                .orElse(null);
+
+        return seatRepository.findByShowtimeId(showtimeId).stream()
+                .sorted(Comparator.comparing(Seat::getSeatIndex))
+                .map(seat -> new SeatStatusView(seat.getId(), seat.getSeatNumber(), seat.getSeatIndex(),
+                        SeatAvailability.statusAt(seatStatuses, seat.getSeatIndex())))
+                .toList();
+    }
+
+    /**
+     * Fetch the seat counters of several showtimes, e.g. for "seats left" badges on listings.
+     *
+     * @param showtimeIds The showtime IDs.
+     * @return The occupancy of every showtime that has an inventory.
+     */
+    @Transactional(readOnly = true)
+    public List<ShowtimeOccupancy> getOccupancy(Collection<Long> showtimeIds) {
+        if (showtimeIds.isEmpty()) {
+            return List.of();
+        }
+        return seatAvailabilityRepository.findOccupancy(showtimeIds);
+    }
+
+    /**
+     * Fetch the seat counters of the next showtimes of a movie.
+     *
+     * @param movieId The movie ID.
+     * @param from    The earliest start time.
+     * @param limit   The maximum number of showtimes.
+     * @return The occupancy of the showtimes, soonest first.
+     */
+    @Transactional(readOnly = true)
+    public List<ShowtimeOccupancy> getUpcomingOccupancy(Long movieId, LocalDateTime from, int limit) {
+        return seatAvailabilityRepository.findUpcomingOccupancyByMovie(movieId, from, limit);
+    }
+
+    /**
+     * Lock the inventory of a showtime, creating it for showtimes scheduled
+     * before inventories existed.
+     */
+    private SeatAvailability lockInventory(Long showtimeId) {
+        return seatAvailabilityRepository.findForUpdate(showtimeId).orElseGet(() -> {
+            Showtime showtime = showtimeRepository.findById(showtimeId).orElseThrow(() ->
+                    new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+            return createInventory(showtime);
+        });
+    }
+}
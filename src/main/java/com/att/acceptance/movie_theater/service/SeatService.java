@@ -11,7 +11,9 @@ import java.util.Set;
  * Service for managing seats.
  *
  * This service is responsible for adding, fetching, and deleting seats. The
- * number of seats in a theater is limited by the theater's maximum capacity.
+ * number of seats in a theater is limited by the theater's maximum capacity,
+ * checked against the theater's maintained seat count, and each seat is given
+ * the next free seat index of its theater.
  *
  */
 @Service
@@ -19,10 +21,14 @@ public class SeatService {
 
     private final SeatRepository seatRepository;
     private final TheaterRepository theaterRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public SeatService(SeatRepository seatRepository, TheaterRepository theaterRepository) {
+    public SeatService(SeatRepository seatRepository, TheaterRepository theaterRepository, SeatInventoryService seatInventoryService, CatalogResponseCache catalogResponseCache) {
         this.seatRepository = seatRepository;
         this.theaterRepository = theaterRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     /**
@@ -34,18 +40,27 @@ public class SeatService {
      */
     @Transactional
     public Seat addSeat(Long theaterId, Seat seat) {
-        Theater theater = theaterRepository.findById(theaterId).orElseThrow(() ->
+        Theater theater = theaterRepository.findForUpdate(theaterId).orElseThrow(() ->
                 new IllegalArgumentException("Theater with ID " + theaterId + " does not exist."));
 
-        if (seatRepository.countSeatsByTheaterId(theaterId) >= theater.getMaxSeats()) {
+        if (theater.getSeatCount() >= theater.getMaxSeats()) {
             throw new IllegalArgumentException("Cannot add more seats. Theater has reached its maximum capacity.");
         }
 
-        SeatAvailability seatAvailability = new SeatAvailability();
-        seatAvailability.setSeat(seat);
-        seatAvailability.setStatus(AvailabilityStatusEnum.AVAILABLE);
-        seat.setSeatAvailability(seatAvailability);
+        if (seatRepository.existsBySeatNumberAndTheaterId(seat.getSeatNumber(), theaterId)) {
+            throw new IllegalArgumentException("Seat " + seat.getSeatNumber() + " already exists in theater " + theaterId + ".");
+        }
+
+        int seatIndex = seatRepository.findNextSeatIndex(theaterId);
+        if (seatIndex >= SeatAvailability.MAX_SEATS) {
+            throw new IllegalArgumentException("Cannot add more seats. Theater has run out of seat indexes.");
+        }
 
+        seat.setTheater(theater);
+        seat.setSeatIndex(seatIndex);
+        theater.setSeatCount(theater.getSeatCount() + 1);
+        seatInventoryService.adjustCapacity(theaterId, 1);
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
         return seatRepository.save(seat);
     }
 
@@ -64,15 +79,23 @@ public class SeatService {
     }
 
     /**
-     * Delete a seat by its ID.
+     * Delete a seat by its ID. The theater is locked first, so that its seat
+     * count is read after any concurrent change has committed, and the seat is
+     * taken out of the inventory of every showtime in the same transaction.
      *
      * @param seatId The ID of the seat.
      */
     @Transactional
     public void deleteSeat(Long seatId) {
-        seatRepository.findById(seatId).orElseThrow(() ->
+        Long theaterId = seatRepository.findTheaterIdById(seatId).orElseThrow(() ->
+                new IllegalArgumentException("Seat with ID " + seatId + " does not exist."));
+        Theater theater = theaterRepository.findForUpdate(theaterId).orElseThrow();
+        Seat seat = seatRepository.findById(seatId).orElseThrow(() ->
                 new IllegalArgumentException("Seat with ID " + seatId + " does not exist."));
-        seatRepository.deleteById(seatId);
+        seatRepository.delete(seat);
+        theater.setSeatCount(Math.max(theater.getSeatCount() - 1, 0));
+        seatInventoryService.removeSeat(theaterId, seat.getSeatIndex());
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
     }
     
 	/**
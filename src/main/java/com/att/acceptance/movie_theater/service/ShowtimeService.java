@@ -8,9 +8,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.ShowtimeOverlapException;
+import com.att.acceptance.movie_theater.monitoring.ShowtimeValidationEvent;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
 import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
 import com.att.acceptance.movie_theater.repository.TheaterRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Service for managing showtimes.
  *
@@ -23,14 +30,35 @@ public class ShowtimeService {
 
     private final ShowtimeRepository showtimeRepository;
     private final TheaterRepository theaterRepository;
-
-    public ShowtimeService(ShowtimeRepository showtimeRepository, TheaterRepository theaterRepository) {
+    private final BookingRepository bookingRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingAnalyticsService bookingAnalyticsService;
+    private final PricingService pricingService;
+    private final NowShowingService nowShowingService;
+    private final Counter theaterOverlapRejections;
+    private final Counter movieOverlapRejections;
+
+    public ShowtimeService(ShowtimeRepository showtimeRepository, TheaterRepository theaterRepository, BookingRepository bookingRepository, SeatInventoryService seatInventoryService, BookingAnalyticsService bookingAnalyticsService, PricingService pricingService, NowShowingService nowShowingService, MeterRegistry meterRegistry) {
         this.showtimeRepository = showtimeRepository;
         this.theaterRepository = theaterRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingAnalyticsService = bookingAnalyticsService;
+        this.pricingService = pricingService;
+        this.nowShowingService = nowShowingService;
+        this.theaterOverlapRejections = overlapRejections(meterRegistry, "theater");
+        this.movieOverlapRejections = overlapRejections(meterRegistry, "movie");
+    }
+
+    private static Counter overlapRejections(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("showtime.overlap.rejections")
+                .description("Showtimes rejected because they overlap an existing showtime")
+                .tag("scope", scope)
+                .register(meterRegistry);
     }
 
     /**
-     * Add a new showtime.
+     * Add a new showtime, together with its seat inventory.
      *
      * @param showtime The showtime to add.
      * @return The added showtime.
@@ -40,31 +68,47 @@ public class ShowtimeService {
         validateShowtime(showtime);
 
         Long theaterId = showtime.getTheater().getId();
-        theaterRepository.findById(theaterId).orElseThrow(() ->
+        Theater theater = theaterRepository.findById(theaterId).orElseThrow(() ->
                 new IllegalArgumentException("Theater with ID " + theaterId + " does not exist."));
+        showtime.setTheater(theater);
 
-        return showtimeRepository.save(showtime);
+        Showtime savedShowtime = showtimeRepository.save(showtime);
+        seatInventoryService.createInventory(savedShowtime);
+        return savedShowtime;
     }
 
     /**
-     * Validate a new showtime.
+     * Validate a new showtime, emitting a {@link ShowtimeValidationEvent}
+     * while a Flight Recorder recording is running.
      *
      * @param showtime The showtime to validate.
      */
     private void validateShowtime(Showtime showtime) {
-        if (showtimeRepository.existsOverlappingShowtime(
-                showtime.getTheater().getId(),
-                showtime.getStartTime(),
-                showtime.getEndTime())) {
-            throw new IllegalArgumentException("Showtime overlaps with an existing showtime in the same theater.");
-        }
-
-        if (showtimeRepository.existsOverlappingShowtimeForMovie(
-                showtime.getTheater().getId(),
-                showtime.getMovie().getId(),
-                showtime.getStartTime(),
-                showtime.getEndTime())) {
-            throw new IllegalArgumentException("Showtime overlaps with an existing showtime for the same movie in the theater.");
+        ShowtimeValidationEvent event = new ShowtimeValidationEvent();
+        event.begin();
+        String result = ShowtimeValidationEvent.ERROR;
+        try {
+            if (showtimeRepository.existsOverlappingShowtime(
+                    showtime.getTheater().getId(),
+                    showtime.getStartTime(),
+                    showtime.getEndTime())) {
+                result = ShowtimeValidationEvent.THEATER_OVERLAP;
+                theaterOverlapRejections.increment();
+                throw new ShowtimeOverlapException("Showtime overlaps with an existing showtime in the same theater.");
+            }
+
+            if (showtimeRepository.existsOverlappingShowtimeForMovie(
+                    showtime.getTheater().getId(),
+                    showtime.getMovie().getId(),
+                    showtime.getStartTime(),
+                    showtime.getEndTime())) {
+                result = ShowtimeValidationEvent.MOVIE_OVERLAP;
+                movieOverlapRejections.increment();
+                throw new ShowtimeOverlapException("Showtime overlaps with an existing showtime for the same movie in the theater.");
+            }
+            result = ShowtimeValidationEvent.VALID;
+        } finally {
+            event.complete(showtime, result);
         }
     }
 
@@ -101,15 +145,22 @@ public class ShowtimeService {
     public void deleteShowtime(Long showtimeId) {
         showtimeRepository.findById(showtimeId).orElseThrow(() ->
                 new IllegalArgumentException("Showtime with ID " + showtimeId + " does not exist."));
+        seatInventoryService.deleteInventory(showtimeId);
         showtimeRepository.deleteById(showtimeId);
+        pricingService.evictAfterCommit(showtimeId);
     }
 
     /**
      * Update an existing showtime.
      *
+     * A showtime can only be moved to another theater while it has no
+     * bookings: seats are identified by their index within the
+     * theater, so the bookings would point at seats of the old theater.
+     *
      * @param showtimeId The ID of the showtime to update.
      * @param updatedShowtime The updated showtime details.
      * @return The updated showtime.
+     * @throws IllegalArgumentException If the showtime is moved to another theater while it has bookings.
      */
     @Transactional
     public Showtime updateShowtime(Long showtimeId, Showtime updatedShowtime) {
@@ -118,10 +169,28 @@ public class ShowtimeService {
 
         validateShowtime(updatedShowtime);
 
+        if (!updatedShowtime.getStartTime().equals(existingShowtime.getStartTime())) {
+            // Bookings keep a copy of the start time for the users' booking history
+            bookingRepository.updateShowtimeStart(showtimeId, updatedShowtime.getStartTime());
+        }
         existingShowtime.setStartTime(updatedShowtime.getStartTime());
         existingShowtime.setEndTime(updatedShowtime.getEndTime());
         existingShowtime.setMovie(updatedShowtime.getMovie());
-        existingShowtime.setTheater(updatedShowtime.getTheater());
+        Long theaterId = updatedShowtime.getTheater().getId();
+        if (!theaterId.equals(existingShowtime.getTheater().getId())) {
+            if (bookingRepository.existsByShowtimeId(showtimeId)) {
+                throw new IllegalArgumentException("Showtime with ID " + showtimeId
+                        + " has bookings and cannot be moved to another theater.");
+            }
+            // Seat indexes are per theater, so the inventory starts over in the new theater
+            Theater theater = theaterRepository.findById(theaterId).orElseThrow(() ->
+                    new IllegalArgumentException("Theater with ID " + theaterId + " does not exist."));
+            existingShowtime.setTheater(theater);
+            seatInventoryService.moveInventory(existingShowtime);
+        }
+        bookingAnalyticsService.showtimeRescheduledAfterCommit(existingShowtime);
+        pricingService.evictAfterCommit(showtimeId);
+        nowShowingService.markStaleAfterCommit();
 
         return showtimeRepository.save(existingShowtime);
     }
@@ -136,7 +205,9 @@ public class ShowtimeService {
     public void removeShowtime(Long id) {
         Showtime showtime = showtimeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Showtime not found with ID: " + id));
+        seatInventoryService.deleteInventory(showtime.getId());
         showtimeRepository.deleteById(showtime.getId());
+        pricingService.evictAfterCommit(showtime.getId());
     }
     
     /**
@@ -1,12 +1,19 @@
 package com.att.acceptance.movie_theater.service;
 
+import com.att.acceptance.movie_theater.dto.SeatLayoutRequest;
+import com.att.acceptance.movie_theater.dto.SeatLayoutResult;
 import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
 import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.InvalidSeatLayoutException;
 import com.att.acceptance.movie_theater.repository.SeatRepository;
 import com.att.acceptance.movie_theater.repository.TheaterRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -14,10 +21,16 @@ public class TheaterService {
 
     private final TheaterRepository theaterRepository;
     private final SeatRepository seatRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final NowShowingService nowShowingService;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public TheaterService(TheaterRepository theaterRepository, SeatRepository seatRepository) {
+    public TheaterService(TheaterRepository theaterRepository, SeatRepository seatRepository, SeatInventoryService seatInventoryService, NowShowingService nowShowingService, CatalogResponseCache catalogResponseCache) {
         this.theaterRepository = theaterRepository;
         this.seatRepository = seatRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.nowShowingService = nowShowingService;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     /**
@@ -28,6 +41,8 @@ public class TheaterService {
      */
     @Transactional
     public Theater addTheater(Theater theater) {
+        theater.setSeatCount(0);
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
         return theaterRepository.save(theater);
     }
 
@@ -40,17 +55,98 @@ public class TheaterService {
      */
     @Transactional
     public Seat addSeatToTheater(Long theaterId, Seat seat) {
-        Theater theater = theaterRepository.findById(theaterId).orElseThrow(() ->
+        Theater theater = theaterRepository.findForUpdate(theaterId).orElseThrow(() ->
                 new IllegalArgumentException("Theater with ID " + theaterId + " does not exist."));
 
-        if (seatRepository.countSeatsByTheaterId(theaterId) >= theater.getMaxSeats()) {
+        if (theater.getSeatCount() >= theater.getMaxSeats()) {
             throw new IllegalArgumentException("Cannot add more seats. Theater has reached its maximum capacity.");
         }
 
+        if (seatRepository.existsBySeatNumberAndTheaterId(seat.getSeatNumber(), theaterId)) {
+            throw new IllegalArgumentException("Seat " + seat.getSeatNumber() + " already exists in theater " + theaterId + ".");
+        }
+
+        int seatIndex = seatRepository.findNextSeatIndex(theaterId);
+        if (seatIndex >= SeatAvailability.MAX_SEATS) {
+            throw new IllegalArgumentException("Cannot add more seats. Theater has run out of seat indexes.");
+        }
+
         seat.setTheater(theater);
+        seat.setSeatIndex(seatIndex);
+        theater.setSeatCount(theater.getSeatCount() + 1);
+        seatInventoryService.adjustCapacity(theaterId, 1);
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
         return seatRepository.save(seat);
     }
 
+    /**
+     * Generate the seats of a theater from a layout specification.
+     *
+     * The theater is locked while the capacity is checked once for the whole
+     * layout and its seat count is updated, and the seats are inserted in JDBC
+     * batches within the same transaction.
+     *
+     * @param theaterId The ID of the theater.
+     * @param layout The layout to generate.
+     * @return A summary of the created seats.
+     */
+    @Transactional
+    public SeatLayoutResult generateSeatLayout(Long theaterId, SeatLayoutRequest layout) {
+        Theater theater = theaterRepository.findForUpdate(theaterId).orElseThrow(() ->
+                new IllegalArgumentException("Theater with ID " + theaterId + " does not exist."));
+
+        int seatCount = layout.seatCount();
+        if (seatCount == 0) {
+            throw new InvalidSeatLayoutException("The layout does not contain any seats.");
+        }
+        for (String rowLabel : layout.rowCategories().keySet()) {
+            if (!layout.hasRow(rowLabel)) {
+                throw new InvalidSeatLayoutException("Row " + rowLabel + " is not in the layout.");
+            }
+        }
+
+        int existingSeats = theater.getSeatCount();
+        if (existingSeats + seatCount > theater.getMaxSeats()) {
+            throw new IllegalArgumentException("Cannot add " + seatCount + " seats. Theater has " + existingSeats
+                    + " of " + theater.getMaxSeats() + " seats.");
+        }
+
+        int firstSeatIndex = seatRepository.findNextSeatIndex(theaterId);
+        if (firstSeatIndex + seatCount > SeatAvailability.MAX_SEATS) {
+            throw new IllegalArgumentException("Cannot add more seats. Theater has run out of seat indexes.");
+        }
+
+        Set<String> existingSeatNumbers = existingSeats == 0 ? Set.of() : seatRepository.findSeatNumbersByTheaterId(theaterId);
+
+        List<Seat> seats = new ArrayList<>(seatCount);
+        int seatIndex = firstSeatIndex;
+        for (int row = 0; row < layout.rows(); row++) {
+            String rowLabel = SeatLayoutRequest.rowLabel(row);
+            SeatCategoryEnum category = layout.categoryOf(rowLabel);
+            for (int position = 1; position <= layout.seatsPerRow(); position++) {
+                if (layout.aisles().contains(position)) {
+                    continue;
+                }
+                String seatNumber = rowLabel + position;
+                if (existingSeatNumbers.contains(seatNumber)) {
+                    throw new IllegalArgumentException("Seat " + seatNumber + " already exists in theater " + theaterId + ".");
+                }
+                Seat seat = new Seat();
+                seat.setTheater(theater);
+                seat.setSeatNumber(seatNumber);
+                seat.setSeatIndex(seatIndex++);
+                seat.setCategory(category);
+                seats.add(seat);
+            }
+        }
+
+        seatRepository.saveAll(seats);
+        theater.setSeatCount(existingSeats + seats.size());
+        seatInventoryService.adjustCapacity(theaterId, seats.size());
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
+        return new SeatLayoutResult(theaterId, seats.size(), existingSeats + seats.size(), firstSeatIndex, seatIndex - 1);
+    }
+
     /**
      * Get all seats for a specific theater.
      *
@@ -95,6 +191,8 @@ public class TheaterService {
     @Transactional
     public void deleteTheater(Long theaterId) {
         theaterRepository.deleteById(theaterId);
+        nowShowingService.markStaleAfterCommit();
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
     }
 
     /**
@@ -109,9 +207,16 @@ public class TheaterService {
         Theater existingTheater = theaterRepository.findById(theaterId).orElseThrow(() ->
                 new IllegalArgumentException("Theater with ID " + theaterId + " not found."));
 
+        if (updatedTheater.getMaxSeats() < existingTheater.getSeatCount()) {
+            throw new IllegalArgumentException("Theater with ID " + theaterId + " already has "
+                    + existingTheater.getSeatCount() + " seats.");
+        }
+
         existingTheater.setName(updatedTheater.getName());
         existingTheater.setLocation(updatedTheater.getLocation());
         existingTheater.setMaxSeats(updatedTheater.getMaxSeats());
+        nowShowingService.markStaleAfterCommit();
+        catalogResponseCache.evictAfterCommit(CatalogResponseCache.ALL_THEATERS);
 
         return theaterRepository.save(existingTheater);
     }
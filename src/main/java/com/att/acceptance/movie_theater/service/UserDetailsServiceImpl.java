@@ -1,20 +1,18 @@
 package com.att.acceptance.movie_theater.service;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.repository.UserRepository;
+import com.att.acceptance.movie_theater.security.AuthenticatedUser;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -26,7 +24,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * Load a user by username (email in this case).
      *
      * @param email The email of the user.
-     * @return The UserDetails object containing user information.
+     * @return The principal of the user, carrying its ID, roles and token epoch.
      * @throws UsernameNotFoundException if the user is not found.
      */
     @Override
@@ -34,14 +32,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         User user = userRepository.findByEmail(email).orElseThrow(() ->
                 new UsernameNotFoundException("User not found with email: " + email));
 
-        Set<GrantedAuthority> authorities = user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toSet());
+        return AuthenticatedUser.of(user);
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                authorities
-        );
+    /**
+     * Store a rehashed password after a successful login, when the stored hash
+     * was made with a lower cost than currently configured.
+     *
+     * @param user        The authenticated user.
+     * @param newPassword The new password hash.
+     * @return The user with the new password hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User existingUser = userRepository.findByEmail(user.getUsername()).orElseThrow(() ->
+                new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+        existingUser.setPassword(newPassword);
+        return AuthenticatedUser.of(userRepository.save(existingUser));
     }
 }
@@ -3,8 +3,10 @@ package com.att.acceptance.movie_theater.service;
 import com.att.acceptance.movie_theater.entity.RoleEnum;
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.repository.UserRepository;
+import com.att.acceptance.movie_theater.security.TokenEpochRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,15 +14,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final PasswordEncoder passwordEncoder;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TokenEpochRegistry tokenEpochRegistry, PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
      * Register a new user with a specified role.
+     * The password is hashed before the user is stored.
      *
-     * @param user The user to register.
+     * @param user The user to register, with a raw password.
      * @param role The role to assign to the user.
      * @return The registered user.
      */
@@ -31,6 +38,7 @@ public class UserService {
         }
 
         user.getRoles().add(role);
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
         return userRepository.save(user);
     }
 
@@ -59,6 +67,7 @@ public class UserService {
 
     /**
      * Delete a user by ID.
+     * Tokens already issued to the user are rejected once the deletion commits.
      *
      * @param userId The user ID.
      */
@@ -67,6 +76,7 @@ public class UserService {
         userRepository.findById(userId).orElseThrow(() ->
                 new IllegalArgumentException("User with ID " + userId + " does not exist."));
         userRepository.deleteById(userId);
+        tokenEpochRegistry.revokeAfterCommit(userId);
     }
     
     /**
@@ -80,6 +90,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
         user.addRole(role);
+        advanceTokenEpoch(user);
         userRepository.save(user);
     }
     
@@ -98,8 +109,33 @@ public class UserService {
 		existingUser.setName(updatedUser.getName());
 		existingUser.setEmail(updatedUser.getEmail());
 		existingUser.setRoles(updatedUser.getRoles());
-		existingUser.setPassword(updatedUser.getPassword());
+		existingUser.setPassword(passwordEncoder.encode(updatedUser.getPassword()));
+		advanceTokenEpoch(existingUser);
 
 		return userRepository.save(existingUser);
 	}
+
+	/**
+	 * Revoke every token issued to a user so far, e.g. to log out of all sessions.
+	 *
+	 * @param userId The user ID.
+	 */
+	@Transactional
+	public void revokeAllTokens(Long userId) {
+		User user = userRepository.findById(userId)
+				.orElseThrow(() -> new IllegalArgumentException("User with ID " + userId + " does not exist."));
+		advanceTokenEpoch(user);
+		userRepository.save(user);
+	}
+
+	/**
+	 * Invalidate the tokens issued to a user so that changed roles or
+	 * credentials take effect on the next request.
+	 *
+	 * @param user The user whose roles or credentials changed.
+	 */
+	private void advanceTokenEpoch(User user) {
+		user.setTokenEpoch(user.getTokenEpoch() + 1);
+		tokenEpochRegistry.advanceAfterCommit(user.getId(), user.getTokenEpoch());
+	}
 }
\ No newline at end of file
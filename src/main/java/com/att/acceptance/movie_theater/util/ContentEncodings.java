@@ -0,0 +1,37 @@
+package com.att.acceptance.movie_theater.util;
+
+/**
+ * Utility class for negotiating the content encoding of a response.
+ */
+public final class ContentEncodings {
+
+    public static final String GZIP = "gzip";
+
+    private ContentEncodings() {
+    }
+
+    /**
+     * Check whether an {@code Accept-Encoding} header accepts gzip. A coding
+     * listed with {@code q=0} is refused, as required by RFC 9110.
+     *
+     * @param acceptEncoding The Accept-Encoding header, possibly {@code null}.
+     * @return True if the client accepts a gzipped response.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().matches("[qQ]=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.att.acceptance.movie_theater.security.AuthenticatedUser;
+
 /**
  * Utility class for accessing security-related information about the authenticated user.
  */
@@ -11,7 +13,7 @@ public class SecurityUtils {
 
     /**
      * Get the ID of the authenticated user from the SecurityContext.
-     * This assumes the user ID is stored as part of the principal in the security context.
+     * The ID is carried by the principal, so no database lookup is needed.
      * @return Authenticated user's ID
      */
     public static Long getAuthenticatedUserId() {
@@ -22,11 +24,8 @@ public class SecurityUtils {
         }
 
         Object principal = authentication.getPrincipal();
-        if (principal instanceof UserDetails) {
-            // Assume the username is the user ID or map it to the actual user entity
-            String username = ((UserDetails) principal).getUsername();
-            // Convert the username to a Long if it's the user ID (or fetch user ID from DB if needed)
-            return Long.valueOf(username); // Replace this with a DB lookup if needed
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
         }
 
         throw new IllegalStateException("Invalid principal type: " + principal);
@@ -35,7 +34,7 @@ public class SecurityUtils {
     /**
      * Check if the authenticated user has the specified role.
      * 
-     * @param role The role to check
+     * @param role The role to check, with or without the "ROLE_" prefix
      * @return True if the user has the role, false otherwise
      */
     public static boolean hasRole(String role) {
@@ -44,8 +43,9 @@ public class SecurityUtils {
             return false;
         }
 
+        String authority = role.startsWith("ROLE_") ? role : "ROLE_" + role;
         return authentication.getAuthorities().stream()
-                .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_" + role));
+                .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(authority));
     }
     
 	/**
@@ -0,0 +1,94 @@
+package com.att.acceptance.movie_theater.controller;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.att.acceptance.movie_theater.dto.BatchOperation;
+import com.att.acceptance.movie_theater.dto.BatchOperationResult;
+import com.att.acceptance.movie_theater.exception.BatchOperationException;
+import com.att.acceptance.movie_theater.service.BatchOperationService;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminControllerTest {
+
+    private static final String BATCH = "[{\"action\":\"DELETE\",\"resource\":\"MOVIE\",\"id\":8},"
+            + "{\"action\":\"UPDATE\",\"resource\":\"THEATER\",\"id\":-1,\"body\":{\"name\":\"Odeon\"}}]";
+
+    @Mock
+    private BatchOperationService batchOperationService;
+
+    @InjectMocks
+    private AdminController adminController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(adminController).build();
+    }
+
+    /**
+     * Test that an applied batch returns the result of every operation.
+     */
+    @Test
+    void testExecuteBatch() throws Exception {
+        when(batchOperationService.execute(anyList())).thenReturn(List.of(
+                new BatchOperationResult(0, BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L),
+                new BatchOperationResult(1, BatchOperation.Action.UPDATE, BatchOperation.Resource.THEATER, 1L)));
+
+        mockMvc.perform(post("/admin/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BATCH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].resource").value("THEATER"));
+    }
+
+    /**
+     * Test that a failing operation is reported as a 400 naming its index.
+     */
+    @Test
+    void testExecuteBatchFailedOperation() throws Exception {
+        when(batchOperationService.execute(anyList())).thenThrow(new BatchOperationException(1,
+                "Operation 1 (UPDATE THEATER) failed: Theater with ID -1 does not exist.",
+                new IllegalArgumentException("Theater with ID -1 does not exist.")));
+
+        mockMvc.perform(post("/admin/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BATCH))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.index").value(1))
+                .andExpect(jsonPath("$.detail").value("Operation 1 (UPDATE THEATER) failed: Theater with ID -1 does not exist."));
+    }
+
+    /**
+     * Test that a batch rejected as a whole is a 400 without an index.
+     */
+    @Test
+    void testExecuteBatchRejected() throws Exception {
+        when(batchOperationService.execute(anyList()))
+                .thenThrow(new BatchOperationException(null, "A batch must contain at least one operation."));
+
+        mockMvc.perform(post("/admin/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.index").doesNotExist())
+                .andExpect(jsonPath("$.detail").value("A batch must contain at least one operation."));
+    }
+}
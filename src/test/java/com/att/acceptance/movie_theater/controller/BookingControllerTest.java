@@ -1,11 +1,15 @@
 package com.att.acceptance.movie_theater.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,14 +21,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.att.acceptance.movie_theater.dto.BookingExportFilter;
+import com.att.acceptance.movie_theater.dto.BookingExportFormat;
 import com.att.acceptance.movie_theater.entity.Booking;
 import com.att.acceptance.movie_theater.entity.Seat;
 import com.att.acceptance.movie_theater.entity.Showtime;
 import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.service.BookingExportService;
 import com.att.acceptance.movie_theater.service.BookingService;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +41,9 @@ public class BookingControllerTest {
     @Mock
     private BookingService bookingService;
 
+    @Mock
+    private BookingExportService bookingExportService;
+
     @InjectMocks
     private BookingController bookingController;
 
@@ -141,4 +152,23 @@ public class BookingControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the export is gzipped only when the client accepts gzip with a non-zero q-value.
+     */
+    @Test
+    void testExportBookingsContentEncoding() throws Exception {
+        mockMvc.perform(get("/api/bookings/export")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+        mockMvc.perform(get("/api/bookings/export")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        verify(bookingExportService, times(2))
+                .export(any(BookingExportFilter.class), eq(BookingExportFormat.NDJSON), any());
+    }
+}
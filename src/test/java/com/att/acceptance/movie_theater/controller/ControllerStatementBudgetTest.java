@@ -0,0 +1,621 @@
+package com.att.acceptance.movie_theater.controller;
+
+import static com.att.acceptance.movie_theater.support.SqlStatementBudget.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.SeatAvailabilityRepository;
+import com.att.acceptance.movie_theater.repository.SeatRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+import com.att.acceptance.movie_theater.repository.UserRepository;
+import com.att.acceptance.movie_theater.security.AuthenticatedUser;
+import com.att.acceptance.movie_theater.security.JwtTokenProvider;
+import com.att.acceptance.movie_theater.service.NowShowingService;
+import com.att.acceptance.movie_theater.support.SqlStatementRecorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the number of SQL statements issued by the endpoints of every controller.
+ *
+ * The data set is large enough for an N+1 to blow a budget: 100 bookings spread
+ * over 10 customers and 4 showtimes in 4 theaters, and a movie shown in every
+ * theater. The second-level and query caches are cleared before each request,
+ * so every budget is the cost of a cold request. A failure lists the statements
+ * by shape, most frequent first.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.att.acceptance.movie_theater.support.SqlStatementRecorder",
+        "spring.datasource.url=jdbc:h2:mem:statement-budget",
+        "counters.reconciliation.initial-delay=PT1H",
+        "jwt.revocation.purge-interval=PT1H",
+        "now-showing.refresh-interval=PT1H",
+        "now-showing.horizon=P3650D"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ControllerStatementBudgetTest {
+
+    private static final int THEATERS = 4;
+
+    private static final int SEATS_PER_THEATER = 25;
+
+    private static final int CUSTOMERS = 10;
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private NowShowingService nowShowingService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TheaterRepository theaterRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private SeatAvailabilityRepository seatAvailabilityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final List<User> customers = new ArrayList<>();
+
+    private final List<Booking> bookings = new ArrayList<>();
+
+    private final List<Showtime> bookedShowtimes = new ArrayList<>();
+
+    private User admin;
+
+    private User sessionUser;
+
+    private Movie movieInEveryTheater;
+
+    private Theater theater;
+
+    private Showtime freeShowtime;
+
+    private Seat freeSeat;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            movieInEveryTheater = movieRepository.save(movie("Budget Movie"));
+            Movie otherMovie = movieRepository.save(movie("Budget Sequel"));
+
+            String passwordHash = passwordEncoder.encode(PASSWORD);
+            for (int i = 0; i < CUSTOMERS; i++) {
+                customers.add(userRepository.save(user("budget-customer-" + i + "@example.com", passwordHash,
+                        RoleEnum.ROLE_CUSTOMER)));
+            }
+            admin = userRepository.save(user("budget-admin@example.com", passwordHash,
+                    RoleEnum.ROLE_ADMIN, RoleEnum.ROLE_CUSTOMER));
+            sessionUser = userRepository.save(user("budget-sessions@example.com", passwordHash,
+                    RoleEnum.ROLE_CUSTOMER));
+
+            for (int t = 0; t < THEATERS; t++) {
+                Theater seededTheater = new Theater();
+                seededTheater.setName("Budget Theater " + t);
+                seededTheater.setLocation("Budget Street " + t);
+                seededTheater.setMaxSeats(SEATS_PER_THEATER);
+                seededTheater.setSeatCount(SEATS_PER_THEATER);
+                seededTheater = theaterRepository.save(seededTheater);
+
+                List<Seat> seats = new ArrayList<>();
+                for (int s = 0; s < SEATS_PER_THEATER; s++) {
+                    Seat seat = new Seat();
+                    seat.setTheater(seededTheater);
+                    seat.setSeatNumber("A" + (s + 1));
+                    seat.setSeatIndex(s);
+                    seats.add(seat);
+                }
+                seats = seatRepository.saveAll(seats);
+
+                // Every seat of the first showtime is booked, the second showtime is free
+                Showtime booked = showtimeRepository.save(showtime(movieInEveryTheater, seededTheater, t * 2));
+                Showtime free = showtimeRepository.save(showtime(otherMovie, seededTheater, t * 2 + 1));
+                bookedShowtimes.add(booked);
+
+                SeatAvailability bookedInventory = new SeatAvailability(booked.getId(), seededTheater.getId(), SEATS_PER_THEATER);
+                for (int s = 0; s < SEATS_PER_THEATER; s++) {
+                    bookedInventory.setStatus(s, AvailabilityStatusEnum.BOOKED);
+                    Booking booking = new Booking();
+                    booking.setUser(customers.get((t * SEATS_PER_THEATER + s) % CUSTOMERS));
+                    booking.setShowtime(booked);
+                    booking.setSeat(seats.get(s));
+                    booking.setPrice(12.50f);
+                    bookings.add(bookingRepository.save(booking));
+                }
+                seatAvailabilityRepository.save(bookedInventory);
+                seatAvailabilityRepository.save(new SeatAvailability(free.getId(), seededTheater.getId(), SEATS_PER_THEATER));
+
+                if (t == 0) {
+                    theater = seededTheater;
+                    freeShowtime = free;
+                    freeSeat = seats.get(0);
+                }
+            }
+        });
+    }
+
+    @BeforeEach
+    void evictCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Test that listing all bookings fetches the bookings and their associations in one query.
+     */
+    @Test
+    void testGetAllBookings() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(authenticated(get("/api/bookings/get-all-bookings"), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that listing a customer's bookings does not load each booking's associations separately.
+     */
+    @Test
+    void testGetUserBookings() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(authenticated(get("/api/bookings/get-user-booking"), customers.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(THEATERS * SEATS_PER_THEATER / CUSTOMERS)));
+    }
+
+    /**
+     * Test that a page of a customer's booking history costs the same as listing all of their bookings,
+     * and that the next page starts after the last booking of the previous one.
+     */
+    @Test
+    void testGetUserBookingHistory() throws Throwable {
+        String[] next = new String[2];
+        assertAtMost(3, () -> mockMvc.perform(authenticated(get("/api/bookings/get-user-booking-history")
+                        .param("size", "4"), customers.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings.length()").value(4))
+                .andExpect(jsonPath("$.nextAfterId").exists())
+                .andDo(result -> {
+                    next[0] = JsonPath.read(result.getResponse().getContentAsString(), "$.nextAfterStart");
+                    next[1] = JsonPath.read(result.getResponse().getContentAsString(), "$.nextAfterId").toString();
+                }));
+
+        int remaining = THEATERS * SEATS_PER_THEATER / CUSTOMERS - 4;
+        mockMvc.perform(authenticated(get("/api/bookings/get-user-booking-history")
+                        .param("size", "100").param("afterStart", next[0]).param("afterId", next[1]), customers.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings.length()").value(remaining))
+                .andExpect(jsonPath("$.nextAfterId").doesNotExist());
+        mockMvc.perform(authenticated(get("/api/bookings/get-user-booking-history")
+                        .param("period", "PAST"), customers.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings.length()").value(0));
+    }
+
+    /**
+     * Test that a sparse fieldset of a customer's bookings reads only the requested columns in one query.
+     */
+    @Test
+    void testGetUserBookingsSparse() throws Throwable {
+        List<String> statements = assertAtMost(2, () -> mockMvc.perform(
+                authenticated(get("/api/bookings/get-user-booking").param("fields", "id,startTime,seatNumber"), customers.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(THEATERS * SEATS_PER_THEATER / CUSTOMERS))
+                .andExpect(jsonPath("$[0].seatNumber").exists())
+                .andExpect(jsonPath("$[0].price").doesNotExist())
+                .andExpect(jsonPath("$[0].user").doesNotExist()));
+
+        assertFalse(statements.stream().anyMatch(sql -> sql.contains("price")), String.join("\n", statements));
+    }
+
+    /**
+     * Test that creating a booking costs one read and two writes, plus loading the
+     * user, showtime and seat returned in the response, and that pricing the seat
+     * adds no statement and ignores the price sent by the client.
+     */
+    @Test
+    void testCreateBooking() throws Throwable {
+        String body = "{\"showtime\":{\"id\":" + freeShowtime.getId() + "},\"seat\":{\"id\":" + freeSeat.getId()
+                + "},\"price\":0.01}";
+
+        assertAtMost(6, () -> mockMvc.perform(authenticated(post("/api/bookings/create"), customers.get(1))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(12.0)));
+    }
+
+    /**
+     * Test that cancelling a booking checks ownership, loads the booking and releases its seat.
+     */
+    @Test
+    void testCancelBooking() throws Throwable {
+        Booking booking = bookings.get(bookings.size() - 1);
+
+        assertAtMost(6, () -> mockMvc.perform(authenticated(delete("/api/bookings/delete/" + booking.getId()),
+                        booking.getUser()))
+                .andExpect(status().isNoContent()));
+    }
+
+    /**
+     * Test that the customer bookings endpoint has the same cost as the booking API.
+     */
+    @Test
+    void testCustomerBookings() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(authenticated(get("/customer/bookings"), customers.get(2)))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that listing the movies of the admin API is a single page query.
+     */
+    @Test
+    void testAdminGetAllMovies() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(authenticated(get("/admin/movies"), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that adding a movie is a single insert.
+     */
+    @Test
+    void testAdminAddMovie() throws Throwable {
+        String body = "{\"title\":\"Budget Premiere\",\"genre\":\"Drama\",\"duration\":120,\"rating\":\"PG\",\"releaseYear\":2024}";
+
+        assertAtMost(1, () -> mockMvc.perform(authenticated(post("/admin/movies"), admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().is2xxSuccessful()));
+    }
+
+    /**
+     * Test that a page of movies does not load the showtimes of each movie.
+     */
+    @Test
+    void testGetAllMovies() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(get("/api/movies/get-all-movies"))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that a sparse fieldset of movies reads only the requested columns.
+     */
+    @Test
+    void testGetAllMoviesSparse() throws Throwable {
+        List<String> statements = assertAtMost(2, () -> mockMvc.perform(get("/api/movies/get-all-movies")
+                .param("fields", "id,title,rating"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].genre").doesNotExist()));
+
+        assertFalse(statements.stream().anyMatch(sql -> sql.contains("release_year")), String.join("\n", statements));
+    }
+
+    /**
+     * Test that fetching a movie is a single query.
+     */
+    @Test
+    void testGetMovieById() throws Throwable {
+        assertAtMost(1, () -> mockMvc.perform(get("/api/movies/get-single-movie/" + movieInEveryTheater.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that a cached movie is revalidated by its ETag without any statement.
+     */
+    @Test
+    void testGetMovieByIdNotModified() throws Throwable {
+        String path = "/api/movies/get-single-movie/" + movieInEveryTheater.getId();
+        String etag = mockMvc.perform(get(path)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertAtMost(0, () -> mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()));
+    }
+
+    /**
+     * Test that listing theaters does not load the showtimes of each theater.
+     */
+    @Test
+    void testGetAllTheaters() throws Throwable {
+        assertAtMost(1, () -> mockMvc.perform(authenticated(get("/api/theaters/get-all-theaters"), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that fetching a theater is a single query.
+     */
+    @Test
+    void testGetTheaterById() throws Throwable {
+        assertAtMost(1, () -> mockMvc.perform(authenticated(get("/api/theaters/get-single-theater/" + theater.getId()), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that listing the seats of a theater does not load the theater once per seat.
+     */
+    @Test
+    void testGetSeatsByTheater() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(authenticated(get("/api/theaters/" + theater.getId() + "/seats"), admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(SEATS_PER_THEATER)));
+    }
+
+    /**
+     * Test that the showtimes of a movie are fetched with their movie and theater in one query.
+     */
+    @Test
+    void testGetShowtimesByMovie() throws Throwable {
+        assertAtMost(1, () -> mockMvc.perform(get("/api/showtimes/movie/" + movieInEveryTheater.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(THEATERS)));
+    }
+
+    /**
+     * Test that the showtimes of a theater are fetched with their movies in one query.
+     */
+    @Test
+    void testGetShowtimesByTheater() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(get("/api/showtimes/theater/" + theater.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that a seat map costs one query each for the showtime, its inventory and its seats.
+     */
+    @Test
+    void testGetSeatMap() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(get("/api/showtimes/" + bookedShowtimes.get(0).getId() + "/seats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(SEATS_PER_THEATER)));
+    }
+
+    /**
+     * Test that a kiosk can request the seat map as CBOR at the same statement cost.
+     */
+    @Test
+    void testGetSeatMapAsCbor() throws Throwable {
+        MvcResult result = mockMvc.perform(get("/api/showtimes/" + bookedShowtimes.get(0).getId() + "/seats")
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode seatMap = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(SEATS_PER_THEATER, seatMap.size());
+        assertAtMost(3, () -> mockMvc.perform(get("/api/showtimes/" + bookedShowtimes.get(1).getId() + "/seats")
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that the occupancy of several showtimes is read in one query.
+     */
+    @Test
+    void testGetOccupancy() throws Throwable {
+        String ids = bookedShowtimes.stream().map(showtime -> showtime.getId().toString())
+                .reduce((a, b) -> a + "," + b).orElseThrow();
+
+        assertAtMost(1, () -> mockMvc.perform(get("/api/showtimes/occupancy").param("ids", ids))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that seat prices are loaded in one query and then served from memory.
+     */
+    @Test
+    void testGetPrices() throws Throwable {
+        String path = "/api/showtimes/" + bookedShowtimes.get(1).getId() + "/prices";
+
+        assertAtMost(1, () -> mockMvc.perform(get(path)).andExpect(status().isOk()));
+        assertAtMost(0, () -> mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prices.STANDARD").exists()));
+    }
+
+    /**
+     * Test that the now showing listing is served from its read model without any statement.
+     */
+    @Test
+    void testGetNowShowing() throws Throwable {
+        nowShowingService.refresh();
+
+        assertAtMost(0, () -> mockMvc.perform(get("/api/now-showing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies[0].theaters[0].showtimes[0].seatsLeft").exists()));
+    }
+
+    /**
+     * Test that a page of users loads the roles of all users in one batch.
+     */
+    @Test
+    void testGetAllUsers() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(authenticated(get("/api/users/get-all-users"), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that fetching a user loads the user and its roles.
+     */
+    @Test
+    void testGetUserById() throws Throwable {
+        assertAtMost(2, () -> mockMvc.perform(authenticated(get("/api/users/get-single-user/" + customers.get(3).getId()), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that the roles endpoint does not touch the database.
+     */
+    @Test
+    void testGetAllRoles() throws Throwable {
+        assertAtMost(0, () -> mockMvc.perform(authenticated(get("/api/roles/get-all-roles"), admin))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test that logging in loads the user and its roles, and nothing else.
+     */
+    @Test
+    void testLogin() throws Throwable {
+        String body = "{\"email\":\"" + customers.get(4).getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+
+        assertAtMost(2, () -> {
+            MvcResult result = mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        });
+    }
+
+    /**
+     * Test that registering checks the email and inserts the user and its role.
+     */
+    @Test
+    void testRegister() throws Throwable {
+        String body = "{\"name\":\"Budget Newcomer\",\"email\":\"budget-newcomer@example.com\",\"password\":\"" + PASSWORD + "\"}";
+
+        assertAtMost(3, () -> {
+            MvcResult result = mockMvc.perform(post("/api/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        });
+    }
+
+    /**
+     * Test that logging out checks the deny-list and stores the revoked token.
+     */
+    @Test
+    void testLogout() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(authenticated(post("/api/auth/logout"), customers.get(5)))
+                .andExpect(status().isNoContent()));
+    }
+
+    /**
+     * Test that logging out of all sessions loads and updates the user once.
+     */
+    @Test
+    void testLogoutAll() throws Throwable {
+        assertAtMost(3, () -> mockMvc.perform(authenticated(post("/api/auth/logout-all"), sessionUser))
+                .andExpect(status().isNoContent()));
+    }
+
+    /**
+     * Test that the recorder sees statements issued outside of a request.
+     */
+    @Test
+    void testRecorderSeesStatements() {
+        SqlStatementRecorder.start();
+        movieRepository.count();
+        assertFalse(SqlStatementRecorder.stop().isEmpty());
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request, User user) {
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
+        String token = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static Movie movie(String title) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating("PG");
+        movie.setReleaseYear(2020);
+        return movie;
+    }
+
+    private static User user(String email, String passwordHash, RoleEnum... roles) {
+        User user = new User();
+        user.setName("Budget User");
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        for (RoleEnum role : roles) {
+            user.addRole(role);
+        }
+        return user;
+    }
+
+    private static Showtime showtime(Movie movie, Theater theater, int day) {
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater(theater);
+        showtime.setStartTime(LocalDateTime.of(2030, 1, 1, 18, 0).plusDays(day));
+        showtime.setEndTime(LocalDateTime.of(2030, 1, 1, 20, 0).plusDays(day));
+        return showtime;
+    }
+}
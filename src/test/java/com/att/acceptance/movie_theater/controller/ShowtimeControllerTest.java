@@ -1,8 +1,12 @@
 package com.att.acceptance.movie_theater.controller;
 
+import com.att.acceptance.movie_theater.dto.ShowtimePrices;
 import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
 import com.att.acceptance.movie_theater.entity.Showtime;
 import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.service.PricingService;
+import com.att.acceptance.movie_theater.service.SeatInventoryService;
 import com.att.acceptance.movie_theater.service.ShowtimeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +18,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -27,6 +33,12 @@ public class ShowtimeControllerTest {
     @Mock
     private ShowtimeService showtimeService;
 
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private PricingService pricingService;
+
     @InjectMocks
     private ShowtimeController showtimeController;
 
@@ -91,6 +103,22 @@ public class ShowtimeControllerTest {
                 .andExpect(jsonPath("$.theaterId").value(1));
     }
 
+    /**
+     * Test for retrieving the seat prices of a showtime.
+     */
+    @Test
+    void testGetPrices() throws Exception {
+        // Mock service response
+        when(pricingService.getPrices(1L)).thenReturn(new ShowtimePrices(1L, 0.5, 1,
+                Map.of(SeatCategoryEnum.STANDARD, new BigDecimal("13.20"))));
+
+        // Perform GET request
+        mockMvc.perform(get("/api/showtimes/1/prices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tier").value(1))
+                .andExpect(jsonPath("$.prices.STANDARD").value(13.20));
+    }
+
     /**
      * Test for updating a showtime.
      */
@@ -1,6 +1,7 @@
 package com.att.acceptance.movie_theater.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -21,7 +22,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.att.acceptance.movie_theater.dto.SeatLayoutRequest;
 import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.InvalidSeatLayoutException;
 import com.att.acceptance.movie_theater.service.TheaterService;
 
 @ExtendWith(MockitoExtension.class)
@@ -126,4 +129,20 @@ public class TheaterControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
     }
+
+    /**
+     * Test that a layout categorising a row it does not have is answered with 400.
+     */
+    @Test
+    void testGenerateSeatLayoutUnknownRow() throws Exception {
+        // Mock service response
+        when(theaterService.generateSeatLayout(eq(1L), any(SeatLayoutRequest.class)))
+                .thenThrow(new InvalidSeatLayoutException("Row D is not in the layout."));
+
+        // Perform POST request
+        mockMvc.perform(post("/api/theaters/1/seats/layout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rows\":3,\"seatsPerRow\":10,\"rowCategories\":{\"D\":\"VIP\"}}"))
+                .andExpect(status().isBadRequest());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.User;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(Duration.ofSeconds(1),
+            Duration.ofSeconds(5), "default");
+
+    /**
+     * Test that a recording contains the application events emitted while it runs,
+     * and that the file is deleted once it has been read.
+     */
+    @Test
+    void testRecordingContainsApplicationEvents() throws Exception {
+        CompletableFuture<WebEndpointResponse<Resource>> response = CompletableFuture
+                .supplyAsync(() -> endpoint.flightRecording(Duration.ofSeconds(1)));
+        awaitRecording();
+
+        BookingCreationEvent event = new BookingCreationEvent();
+        event.begin();
+        event.complete(booking(), OperationMetrics.SUCCESS);
+
+        Resource recording = response.get().getBody();
+        Path file = recording.getFile().toPath();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        try (InputStream content = recording.getInputStream()) {
+            content.readAllBytes();
+        }
+
+        RecordedEvent recorded = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.att.acceptance.movie_theater.BookingCreation"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(7L, recorded.getLong("showtimeId"));
+        assertEquals(OperationMetrics.SUCCESS, recorded.getString("outcome"));
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * Test that a second recording is rejected while one is in progress.
+     */
+    @Test
+    void testConcurrentRecordingIsRejected() throws Exception {
+        CompletableFuture<WebEndpointResponse<Resource>> first = CompletableFuture
+                .supplyAsync(() -> endpoint.flightRecording(Duration.ofSeconds(1)));
+        awaitRecording();
+
+        WebEndpointResponse<Resource> second = endpoint.flightRecording(Duration.ofSeconds(1));
+
+        assertEquals(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS, second.getStatus());
+        assertEquals(WebEndpointResponse.STATUS_OK, first.get().getStatus());
+        Files.deleteIfExists(first.get().getBody().getFile().toPath());
+    }
+
+    private static void awaitRecording() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            boolean running = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                    .anyMatch(r -> FlightRecordingEndpoint.RECORDING_NAME.equals(r.getName())
+                            && r.getState() == RecordingState.RUNNING);
+            if (running) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("The recording did not start");
+    }
+
+    private static Booking booking() {
+        User user = new User();
+        user.setId(3L);
+        Showtime showtime = new Showtime();
+        showtime.setId(7L);
+        Seat seat = new Seat();
+        seat.setId(11L);
+
+        Booking booking = new Booking();
+        booking.setId(42L);
+        booking.setUser(user);
+        booking.setShowtime(showtime);
+        booking.setSeat(seat);
+        return booking;
+    }
+}
@@ -0,0 +1,63 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.EntityManagerFactory;
+
+public class HibernateCacheStatisticsEndpointTest {
+
+    private Statistics statistics;
+
+    private HibernateCacheStatisticsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        statistics = mock(Statistics.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+
+        endpoint = new HibernateCacheStatisticsEndpoint(entityManagerFactory);
+    }
+
+    /**
+     * Test that region hit ratios are computed from hits and misses.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRegionHitRatio() {
+        CacheRegionStatistics movies = mock(CacheRegionStatistics.class);
+        when(movies.getHitCount()).thenReturn(3L);
+        when(movies.getMissCount()).thenReturn(1L);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] { "movies" });
+        when(statistics.getCacheRegionStatistics("movies")).thenReturn(movies);
+
+        Map<String, Object> result = endpoint.cacheStatistics();
+
+        Map<String, Object> regions = (Map<String, Object>) result.get("regions");
+        Map<String, Object> movieRegion = (Map<String, Object>) regions.get("movies");
+        assertEquals(0.75, (double) movieRegion.get("hitRatio"), 0.0001);
+    }
+
+    /**
+     * Test that an unknown region yields no statistics.
+     */
+    @Test
+    void testUnknownRegion() {
+        when(statistics.getCacheRegionStatistics("unknown")).thenReturn(null);
+
+        assertNull(endpoint.regionStatistics("unknown"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentedDataSourceTest {
+
+    private static final String SQL = "select id from movies where genre=?";
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private Statement plainStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private SqlStatementStatistics statistics;
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource = new InstrumentedDataSource(targetDataSource, statistics);
+    }
+
+    /**
+     * Test that a query is recorded with its rows and parameters once its result set is exhausted.
+     */
+    @Test
+    void testQueryRecordedWhenResultSetExhausted() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        try (Connection instrumented = dataSource.getConnection();
+                PreparedStatement prepared = instrumented.prepareStatement(SQL)) {
+            prepared.setString(1, "Drama");
+            ResultSet rows = prepared.executeQuery();
+            while (rows.next()) {
+                // Read every row
+            }
+            rows.close();
+        }
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(statistics).record(eq(SQL), anyLong(), eq(2L), parameters.capture());
+        assertEquals("Drama", parameters.getValue()[1]);
+    }
+
+    /**
+     * Test that an update is recorded with the number of affected rows.
+     */
+    @Test
+    void testUpdateRecorded() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(3);
+
+        try (Connection instrumented = dataSource.getConnection();
+                PreparedStatement prepared = instrumented.prepareStatement(SQL)) {
+            assertEquals(3, prepared.executeUpdate());
+        }
+
+        verify(statistics).record(eq(SQL), anyLong(), eq(3L), any());
+    }
+
+    /**
+     * Test that a result set is not recorded before it is read to the end or closed.
+     */
+    @Test
+    void testOpenResultSetNotRecorded() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+
+        Connection instrumented = dataSource.getConnection();
+        ResultSet rows = instrumented.prepareStatement(SQL).executeQuery();
+        rows.next();
+
+        verify(statistics, never()).record(any(), anyLong(), anyLong(), any());
+    }
+
+    /**
+     * Test that a statement that throws is recorded as failed, with its parameters.
+     */
+    @Test
+    void testFailedQueryRecorded() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenThrow(new SQLTimeoutException("Lock timeout"));
+
+        try (Connection instrumented = dataSource.getConnection();
+                PreparedStatement prepared = instrumented.prepareStatement(SQL)) {
+            prepared.setString(1, "Drama");
+            assertThrows(SQLTimeoutException.class, prepared::executeQuery);
+        }
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(statistics).recordFailure(eq(SQL), anyLong(), parameters.capture());
+        assertEquals("Drama", parameters.getValue()[1]);
+        verify(statistics, never()).record(any(), anyLong(), anyLong(), any());
+    }
+
+    /**
+     * Test that every statement of a batch built from SQL strings is recorded with its own update count.
+     */
+    @Test
+    void testStatementBatchRecordedPerStatement() throws SQLException {
+        when(connection.createStatement()).thenReturn(plainStatement);
+        when(plainStatement.executeBatch()).thenReturn(new int[] { 2, 1 });
+
+        try (Connection instrumented = dataSource.getConnection();
+                Statement batch = instrumented.createStatement()) {
+            batch.addBatch("update seats set category='VIP' where row_label='A'");
+            batch.addBatch("delete from bookings where id=7");
+            batch.executeBatch();
+        }
+
+        verify(statistics).record(eq("update seats set category='VIP' where row_label='A'"), anyLong(), eq(2L), any());
+        verify(statistics).record(eq("delete from bookings where id=7"), anyLong(), eq(1L), any());
+    }
+}
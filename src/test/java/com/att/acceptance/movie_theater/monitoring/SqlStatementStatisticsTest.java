@@ -0,0 +1,97 @@
+package com.att.acceptance.movie_theater.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.att.acceptance.movie_theater.monitoring.SqlStatementStatistics.ShapeStatistics;
+
+public class SqlStatementStatisticsTest {
+
+    private SqlStatementStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new SqlStatementStatistics(Duration.ofMillis(100), 0.0, 3, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.shutdown();
+    }
+
+    /**
+     * Test that literals, IN lists and whitespace do not create new shapes.
+     */
+    @Test
+    void testShapeOf() {
+        assertEquals("select m1_0.id from movies m1_0 where m1_0.id in (?...) and m1_0.title=?",
+                SqlStatementStatistics.shapeOf("select m1_0.id from movies m1_0\n  where m1_0.id in (1, 2, 3) and m1_0.title='It''s'"));
+        assertEquals(SqlStatementStatistics.shapeOf("select * from seats where id in (?,?)"),
+                SqlStatementStatistics.shapeOf("select * from seats where id in (?, ?, ?, ?)"));
+    }
+
+    /**
+     * Test that executions of one shape are aggregated and ranked.
+     */
+    @Test
+    void testTopShapes() {
+        statistics.record("select * from movies where id=1", 1_000_000, 1, null);
+        statistics.record("select * from movies where id=2", 3_000_000, 1, null);
+        statistics.record("select * from bookings", 50_000_000, 1000, null);
+
+        List<Map<String, Object>> mostFrequent = statistics.top(ShapeStatistics.BY_COUNT, 1);
+        List<Map<String, Object>> slowest = statistics.top(ShapeStatistics.BY_P99, 1);
+
+        assertEquals("select * from movies where id=?", mostFrequent.get(0).get("shape"));
+        assertEquals(2L, mostFrequent.get(0).get("count"));
+        assertEquals(2L, mostFrequent.get(0).get("rows"));
+        assertEquals("select * from bookings", slowest.get(0).get("shape"));
+        assertEquals(1000L, slowest.get(0).get("maxRows"));
+    }
+
+    /**
+     * Test that shapes beyond the limit are counted together.
+     */
+    @Test
+    void testShapeLimit() {
+        for (String table : List.of("movies", "theaters", "seats", "showtimes", "bookings")) {
+            statistics.record("select * from " + table, 1_000, 0, null);
+        }
+
+        assertEquals(4, statistics.getShapeCount());
+        assertEquals(SqlStatementStatistics.OVERFLOW_SHAPE, statistics.top(ShapeStatistics.BY_COUNT, 1).get(0).get("shape"));
+    }
+
+    /**
+     * Test that only statements over the threshold count as slow.
+     */
+    @Test
+    void testSlowStatements() {
+        statistics.record("select * from movies", 99_000_000, 0, null);
+        statistics.record("select * from bookings", 150_000_000, 0, new Object[] { null, 1L });
+
+        assertEquals(1, statistics.getSlowStatements());
+    }
+
+    /**
+     * Test that a failed execution is counted with its time, and logged when slow.
+     */
+    @Test
+    void testFailedStatements() {
+        statistics.record("select * from seats for update", 1_000_000, 1, null);
+        statistics.recordFailure("select * from seats for update", 150_000_000, null);
+
+        Map<String, Object> seats = statistics.top(ShapeStatistics.BY_COUNT, 1).get(0);
+        assertEquals(2L, seats.get("count"));
+        assertEquals(1L, seats.get("failures"));
+        assertEquals(1L, seats.get("rows"));
+        assertEquals(1, statistics.getSlowStatements());
+    }
+}
@@ -0,0 +1,107 @@
+package com.att.acceptance.movie_theater.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingSecurityTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingOwnerCache bookingOwnerCache;
+
+    private BookingSecurity bookingSecurity;
+
+    @BeforeEach
+    void setUp() {
+        bookingOwnerCache = new BookingOwnerCache(100, Duration.ofMinutes(1));
+        bookingSecurity = new BookingSecurity(bookingRepository, bookingOwnerCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test that the owner is recognised with one projection query, then from the cache.
+     */
+    @Test
+    void testIsOwner() {
+        authenticate(7L, RoleEnum.ROLE_CUSTOMER);
+
+        // Mock repository response
+        when(bookingRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+
+        // Assertions
+        assertTrue(bookingSecurity.isOwner(1L));
+        assertTrue(bookingSecurity.isOwner(1L));
+        verify(bookingRepository, times(1)).findOwnerIdById(1L);
+        verify(bookingRepository, never()).findById(any());
+    }
+
+    /**
+     * Test that other customers and missing bookings are rejected.
+     */
+    @Test
+    void testIsNotOwner() {
+        authenticate(8L, RoleEnum.ROLE_CUSTOMER);
+
+        // Mock repository response
+        when(bookingRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+        when(bookingRepository.findOwnerIdById(2L)).thenReturn(Optional.empty());
+
+        // Assertions
+        assertFalse(bookingSecurity.isOwner(1L));
+        assertFalse(bookingSecurity.isOwner(2L));
+    }
+
+    /**
+     * Test that admins pass without a query, and that invalidated entries are reloaded.
+     */
+    @Test
+    void testAdminAndInvalidation() {
+        authenticate(1L, RoleEnum.ROLE_ADMIN);
+        assertTrue(bookingSecurity.isOwner(1L));
+        verify(bookingRepository, never()).findOwnerIdById(any());
+
+        authenticate(7L, RoleEnum.ROLE_CUSTOMER);
+        when(bookingRepository.findOwnerIdById(1L)).thenReturn(Optional.of(7L));
+        assertTrue(bookingSecurity.isOwner(1L));
+
+        bookingOwnerCache.invalidateAfterCommit(1L);
+        when(bookingRepository.findOwnerIdById(1L)).thenReturn(Optional.empty());
+
+        // Assertions
+        assertFalse(bookingSecurity.isOwner(1L));
+        verify(bookingRepository, times(2)).findOwnerIdById(1L);
+    }
+
+    private static void authenticate(Long userId, RoleEnum role) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", null, List.of(role), 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+    }
+}
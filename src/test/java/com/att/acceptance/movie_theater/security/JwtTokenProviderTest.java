@@ -0,0 +1,146 @@
+package com.att.acceptance.movie_theater.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.att.acceptance.movie_theater.dto.UserTokenEpoch;
+import com.att.acceptance.movie_theater.entity.DeletedUser;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.repository.DeletedUserRepository;
+import com.att.acceptance.movie_theater.repository.UserRepository;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Issue a token for a customer whose epoch is 2
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000L);
+        AuthenticatedUser user = new AuthenticatedUser(7L, "test@example.com", "hash", List.of(RoleEnum.ROLE_CUSTOMER), 2L);
+        token = jwtTokenProvider.generateToken(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+    }
+
+    /**
+     * Test that a verified token carries the principal's claims.
+     */
+    @Test
+    void testVerifyRoundTrip() {
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // Assertions
+        assertNotNull(verified);
+        assertEquals(7L, verified.principal().getId());
+        assertEquals("test@example.com", verified.principal().getUsername());
+        assertEquals(2L, verified.principal().getTokenEpoch());
+        assertTrue(verified.principal().hasRole(RoleEnum.ROLE_CUSTOMER));
+        assertNull(verified.principal().getPassword());
+        assertNotNull(verified.tokenId());
+    }
+
+    /**
+     * Test that tokens signed with another key or expired are rejected.
+     */
+    @Test
+    void testVerifyRejectsForeignAndExpiredTokens() throws Exception {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(SECRET.replace('0', 'x'), 60_000L);
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1_000L);
+        AuthenticatedUser user = new AuthenticatedUser(7L, "test@example.com", "hash", List.of(RoleEnum.ROLE_CUSTOMER), 0L);
+
+        // Assertions
+        assertNull(otherProvider.verify(token));
+        assertNull(jwtTokenProvider.verify(expiredProvider.generateToken(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()))));
+        assertNull(jwtTokenProvider.verify("not-a-token"));
+    }
+
+    /**
+     * Test that a token is verified once and then served from the cache.
+     */
+    @Test
+    void testVerifiedTokenCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+
+        VerifiedToken first = cache.get(token, value -> {
+            verifications.incrementAndGet();
+            return jwtTokenProvider.verify(value);
+        });
+        VerifiedToken second = cache.get(token, value -> {
+            verifications.incrementAndGet();
+            return jwtTokenProvider.verify(value);
+        });
+
+        // Assertions
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertNull(cache.get("not-a-token", jwtTokenProvider::verify));
+    }
+
+    /**
+     * Test that advancing a user's epoch supersedes older tokens.
+     */
+    @Test
+    void testTokenEpochRegistry() {
+        TokenEpochRegistry registry = new TokenEpochRegistry(null, null, 60_000L);
+
+        assertTrue(registry.isCurrent(7L, 0L));
+
+        registry.advanceAfterCommit(7L, 3L);
+
+        // Assertions
+        assertFalse(registry.isCurrent(7L, 2L));
+        assertTrue(registry.isCurrent(7L, 3L));
+        assertTrue(registry.isCurrent(8L, 0L));
+
+        registry.advanceAfterCommit(7L, TokenEpochRegistry.REVOKED);
+        assertFalse(registry.isCurrent(7L, 3L));
+    }
+
+    /**
+     * Test that users deleted before a restart stay revoked.
+     */
+    @Test
+    void testTokenEpochRegistryLoadsDeletedUsers() {
+        UserRepository userRepository = mock(UserRepository.class);
+        DeletedUserRepository deletedUserRepository = mock(DeletedUserRepository.class);
+        when(userRepository.findAdvancedTokenEpochs()).thenReturn(List.of(new UserTokenEpoch(8L, 3L)));
+        when(deletedUserRepository.findByRevokedUntilAfter(any(Instant.class)))
+                .thenReturn(List.of(new DeletedUser(7L, Instant.now().plusSeconds(60))));
+        TokenEpochRegistry registry = new TokenEpochRegistry(userRepository, deletedUserRepository, 60_000L);
+
+        registry.load();
+
+        // Assertions
+        assertFalse(registry.isCurrent(7L, 2L));
+        assertFalse(registry.isCurrent(8L, 2L));
+        assertTrue(registry.isCurrent(8L, 3L));
+        assertTrue(registry.isCurrent(9L, 0L));
+
+        registry.revokeAfterCommit(9L);
+        assertFalse(registry.isCurrent(9L, 0L));
+        verify(deletedUserRepository).save(argThat(user -> user.getUserId().equals(9L)
+                && user.getRevokedUntil().isAfter(Instant.now())));
+    }
+}
@@ -0,0 +1,143 @@
+package com.att.acceptance.movie_theater.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.entity.RevokedToken;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.repository.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    void setUp() {
+        // Initialize a small revocation list and a customer principal
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 100, 0.01);
+        user = new AuthenticatedUser(7L, "test@example.com", null, List.of(RoleEnum.ROLE_CUSTOMER), 0L);
+    }
+
+    /**
+     * Test that the Bloom filter never misses an added element and forgets removed ones.
+     */
+    @Test
+    void testCountingBloomFilter() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("token-" + i);
+        }
+
+        // Assertions: no false negatives, and a false positive rate close to the target
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 1000; i < 11000; i++) {
+            if (filter.mightContain("token-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "Too many false positives: " + falsePositives);
+
+        for (int i = 0; i < 1000; i++) {
+            filter.remove("token-" + i);
+        }
+        assertFalse(filter.mightContain("token-0"));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(10, 1.5));
+    }
+
+    /**
+     * Test that a saturated counter stays set, so removals cannot hide an element that is still present.
+     */
+    @Test
+    void testCountingBloomFilterSaturates() {
+        CountingBloomFilter filter = new CountingBloomFilter(10, 0.01, 2);
+        filter.add("hot-token");
+        filter.add("hot-token");
+        filter.add("hot-token");
+
+        // Assertions: the element was added once more than removed, although its counters only reached 2
+        filter.remove("hot-token");
+        filter.remove("hot-token");
+        assertTrue(filter.mightContain("hot-token"));
+    }
+
+    /**
+     * Test that a revoked token is stored and rejected.
+     */
+    @Test
+    void testRevoke() {
+        VerifiedToken token = new VerifiedToken(user, "jti-1", Instant.now().plusSeconds(60));
+
+        // Call the method
+        tokenRevocationList.revoke(token);
+
+        // Assertions
+        assertTrue(tokenRevocationList.isRevoked("jti-1"));
+        assertFalse(tokenRevocationList.isRevoked("jti-2"));
+        verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+
+        // Revoking the same token again does not store it twice
+        tokenRevocationList.revoke(token);
+        verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+    }
+
+    /**
+     * Test that revocations are reloaded at startup.
+     */
+    @Test
+    void testLoad() {
+        // Mock repository response
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken("jti-1", 7L, Instant.now().plusSeconds(60))));
+
+        // Call the method
+        tokenRevocationList.load();
+
+        // Assertions
+        assertTrue(tokenRevocationList.isRevoked("jti-1"));
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    /**
+     * Test that expired revocations are aged out.
+     */
+    @Test
+    void testPurgeExpired() {
+        tokenRevocationList.revoke(new VerifiedToken(user, "expired", Instant.now().minusSeconds(1)));
+        tokenRevocationList.revoke(new VerifiedToken(user, "live", Instant.now().plusSeconds(60)));
+
+        // Call the method
+        int purged = tokenRevocationList.purgeExpired();
+
+        // Assertions
+        assertEquals(1, purged);
+        assertEquals(1, tokenRevocationList.size());
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+        assertTrue(tokenRevocationList.isRevoked("live"));
+        verify(revokedTokenRepository, times(1)).deleteExpired(any(Instant.class));
+    }
+}
@@ -0,0 +1,157 @@
+package com.att.acceptance.movie_theater.service;
+
+import static com.att.acceptance.movie_theater.support.SqlStatementBudget.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.att.acceptance.movie_theater.dto.BatchOperation;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifies the SQL statements issued by {@link BatchOperationService#execute(List)}
+ * and that a failing batch applies nothing.
+ *
+ * The service is called outside any test transaction, so every batch commits or
+ * rolls back on its own, as it does behind the admin endpoint.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.att.acceptance.movie_theater.support.SqlStatementRecorder",
+        "spring.datasource.url=jdbc:h2:mem:batch-operations",
+        "counters.reconciliation.initial-delay=PT1H",
+        "jwt.revocation.purge-interval=PT1H",
+        "now-showing.refresh-interval=PT1H"
+})
+public class BatchOperationServiceStatementTest {
+
+    private static final int OPERATIONS = 20;
+
+    private static final String HEAT = "{\"title\":\"Heat\",\"genre\":\"Crime\",\"duration\":170,\"rating\":\"R\",\"releaseYear\":1995}";
+
+    @Autowired
+    private BatchOperationService batchOperationService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TheaterRepository theaterRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Movie> movies;
+
+    private Theater theater;
+
+    @BeforeEach
+    void setUp() {
+        movies = movieRepository.saveAll(IntStream.range(0, OPERATIONS)
+                .mapToObj(i -> movie("Batch Movie " + i))
+                .toList());
+
+        theater = new Theater();
+        theater.setName("Batch Theater");
+        theater.setLocation("Test Location");
+        theater.setMaxSeats(10);
+        theater = theaterRepository.save(theater);
+    }
+
+    /**
+     * Test that a run of movie updates costs one query for the movies and one
+     * JDBC batch of updates, however many movies it updates.
+     */
+    @Test
+    void testMovieUpdatesAreBatched() throws Throwable {
+        List<BatchOperation> operations = movies.stream()
+                .map(movie -> new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.MOVIE,
+                        movie.getId(), body(HEAT)))
+                .toList();
+
+        assertAtMost(2, () -> batchOperationService.execute(operations));
+
+        movies.forEach(movie -> assertEquals("Heat", movieRepository.findById(movie.getId()).orElseThrow().getTitle()));
+    }
+
+    /**
+     * Test that showtime creates are not batched: the overlap checks of each
+     * operation flush the writes of the previous one, and every showtime is
+     * inserted on its own to obtain its ID.
+     */
+    @Test
+    void testShowtimeCreatesAreNotBatched() throws Throwable {
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            LocalDateTime start = LocalDateTime.of(2031, 1, 1, 0, 0).plusHours(3L * i);
+            operations.add(new BatchOperation(BatchOperation.Action.CREATE, BatchOperation.Resource.SHOWTIME, null,
+                    body("{\"movie\":{\"id\":" + movies.get(0).getId() + "},\"theater\":{\"id\":" + theater.getId()
+                            + "},\"startTime\":\"" + start + "\",\"endTime\":\"" + start.plusHours(2) + "\"}")));
+        }
+
+        List<String> statements = assertAtMost(6 * OPERATIONS, () -> batchOperationService.execute(operations));
+
+        // Two overlap checks and one insert per showtime at least
+        assertTrue(statements.size() >= 3 * OPERATIONS, "Expected at least " + 3 * OPERATIONS
+                + " statements but " + statements.size() + " were executed");
+        assertEquals(OPERATIONS, showtimeRepository.findByTheaterId(theater.getId()).size());
+    }
+
+    /**
+     * Test that a batch whose last operation fails applies none of its operations.
+     */
+    @Test
+    void testFailedBatchAppliesNothing() {
+        long moviesBefore = movieRepository.count();
+        Movie updated = movies.get(0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> batchOperationService.execute(List.of(
+                        new BatchOperation(BatchOperation.Action.CREATE, BatchOperation.Resource.MOVIE, null, body(HEAT)),
+                        new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.MOVIE, updated.getId(),
+                                body(HEAT)),
+                        new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.THEATER, -1L,
+                                body("{\"name\":\"Odeon\",\"location\":\"Leicester Square\",\"maxSeats\":100}")))));
+
+        assertTrue(exception.getMessage().startsWith("Operation 2 (UPDATE THEATER) failed"));
+        assertEquals(moviesBefore, movieRepository.count());
+        assertEquals(updated.getTitle(), movieRepository.findById(updated.getId()).orElseThrow().getTitle());
+    }
+
+    private JsonNode body(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Movie movie(String title) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating("PG");
+        movie.setReleaseYear(2020);
+        return movie;
+    }
+}
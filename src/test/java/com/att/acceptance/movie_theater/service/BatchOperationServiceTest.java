@@ -0,0 +1,184 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.BatchOperation;
+import com.att.acceptance.movie_theater.dto.BatchOperationResult;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.BatchOperationException;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchOperationServiceTest {
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private TheaterService theaterService;
+
+    @Mock
+    private ShowtimeService showtimeService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchOperationService batchOperationService;
+
+    @BeforeEach
+    void setUp() {
+        // No constraint violations
+        Validator validator = mock(Validator.class);
+        batchOperationService = new BatchOperationService(movieService, theaterService, showtimeService,
+                bookingService, movieRepository, theaterRepository, showtimeRepository, bookingRepository,
+                entityManager, objectMapper, validator, 3);
+    }
+
+    /**
+     * Test that operations run in request order, each run of operations on the same resource
+     * preloading its entities and flushing once, and that the results come back in request order.
+     */
+    @Test
+    void testExecuteRunsInRequestOrder() {
+        Movie movie = new Movie();
+        movie.setId(7L);
+        Theater theater = new Theater();
+        theater.setId(9L);
+        when(theaterService.addTheater(any(Theater.class))).thenReturn(theater);
+        when(movieService.updateMovie(eq(7L), any(Movie.class))).thenReturn(movie);
+
+        List<BatchOperationResult> results = batchOperationService.execute(List.of(
+                new BatchOperation(BatchOperation.Action.CREATE, BatchOperation.Resource.THEATER, null,
+                        body("{\"name\":\"Odeon\",\"location\":\"Leicester Square\",\"maxSeats\":100}")),
+                new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.MOVIE, 7L,
+                        body("{\"title\":\"Heat\",\"genre\":\"Crime\",\"duration\":170,\"rating\":\"R\",\"releaseYear\":1995}")),
+                new BatchOperation(BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L, null)));
+
+        assertEquals(List.of(
+                new BatchOperationResult(0, BatchOperation.Action.CREATE, BatchOperation.Resource.THEATER, 9L),
+                new BatchOperationResult(1, BatchOperation.Action.UPDATE, BatchOperation.Resource.MOVIE, 7L),
+                new BatchOperationResult(2, BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L)),
+                results);
+
+        InOrder order = inOrder(movieRepository, movieService, theaterService, entityManager);
+        order.verify(theaterService).addTheater(any(Theater.class));
+        order.verify(entityManager).flush();
+        order.verify(movieRepository).findAllById(List.of(7L, 8L));
+        order.verify(movieService).updateMovie(eq(7L), any(Movie.class));
+        order.verify(movieService).deleteMovie(8L);
+        order.verify(entityManager).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    /**
+     * Test that operations on a resource are not moved across operations on another resource.
+     */
+    @Test
+    void testExecuteKeepsSeparateRunsOfTheSameResource() {
+        BatchOperation deleteMovie = new BatchOperation(BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE,
+                8L, null);
+        BatchOperation deleteTheater = new BatchOperation(BatchOperation.Action.DELETE,
+                BatchOperation.Resource.THEATER, 9L, null);
+
+        batchOperationService.execute(List.of(deleteMovie, deleteTheater, deleteMovie));
+
+        InOrder order = inOrder(movieService, theaterService, entityManager);
+        order.verify(movieService).deleteMovie(8L);
+        order.verify(entityManager).flush();
+        order.verify(theaterService).deleteTheater(9L);
+        order.verify(entityManager).flush();
+        order.verify(movieService).deleteMovie(8L);
+        order.verify(entityManager).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    /**
+     * Test that a failing operation fails the batch with its index.
+     */
+    @Test
+    void testExecuteFailsWithOperationIndex() {
+        when(movieService.updateMovie(eq(7L), any(Movie.class)))
+                .thenThrow(new IllegalArgumentException("Movie with ID 7 not found."));
+
+        BatchOperationException exception = assertThrows(BatchOperationException.class,
+                () -> batchOperationService.execute(List.of(
+                        new BatchOperation(BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L, null),
+                        new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.MOVIE, 7L,
+                                body("{\"title\":\"Heat\"}")))));
+
+        assertEquals(1, exception.getIndex());
+        assertTrue(exception.getMessage().startsWith("Operation 1 (UPDATE MOVIE) failed"));
+        verify(entityManager, never()).flush();
+    }
+
+    /**
+     * Test that invalid and oversized batches are rejected before any operation runs.
+     */
+    @Test
+    void testExecuteRejectsInvalidBatches() {
+        assertThrows(IllegalArgumentException.class, () -> batchOperationService.execute(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> batchOperationService.execute(Collections.nCopies(4,
+                new BatchOperation(BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L, null))));
+        assertThrows(IllegalArgumentException.class, () -> batchOperationService.execute(List.of(
+                new BatchOperation(BatchOperation.Action.DELETE, BatchOperation.Resource.MOVIE, 8L, null),
+                new BatchOperation(BatchOperation.Action.UPDATE, BatchOperation.Resource.THEATER, null,
+                        body("{\"name\":\"Odeon\"}")))));
+
+        verifyNoInteractions(movieService, theaterService, movieRepository, entityManager);
+    }
+
+    private JsonNode body(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
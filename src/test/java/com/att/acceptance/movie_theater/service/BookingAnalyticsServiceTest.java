@@ -0,0 +1,184 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.att.acceptance.movie_theater.dto.AnalyticsBackfillResult;
+import com.att.acceptance.movie_theater.dto.IdRange;
+import com.att.acceptance.movie_theater.dto.OccupancyRollup;
+import com.att.acceptance.movie_theater.dto.ShowtimeBookingTotals;
+import com.att.acceptance.movie_theater.dto.ShowtimeSchedule;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingAnalyticsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private BookingAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new BookingAnalyticsService(bookingRepository, showtimeRepository, false, 2, 10);
+    }
+
+    /**
+     * Test that the backfill splits the booking IDs into chunks and sums the chunks per showtime.
+     */
+    @Test
+    void testBackfill() {
+        when(showtimeRepository.findSchedules()).thenReturn(List.of(
+                new ShowtimeSchedule(7L, 5L, 9L, DAY.atTime(18, 0), 100),
+                new ShowtimeSchedule(8L, 6L, 9L, DAY.atTime(21, 0), null)));
+        when(bookingRepository.findIdRange()).thenReturn(new IdRange(1L, 25L));
+        when(bookingRepository.findShowtimeTotals(anyLong(), anyLong()))
+                .thenReturn(List.of(new ShowtimeBookingTotals(7L, 1L, 12.5)));
+
+        AnalyticsBackfillResult result = analyticsService.backfill();
+
+        // 1-25 in chunks of at most 10 IDs: 1-7, 8-13, 14-19 and 20-25
+        verify(bookingRepository, times(4)).findShowtimeTotals(anyLong(), anyLong());
+        assertEquals(2, result.showtimes());
+        assertEquals(4, result.bookings());
+        assertRollup(analyticsService.getShowtimeRollup(7L), 1, 100, 4, "50.00");
+        assertEquals(0.04, analyticsService.getShowtimeRollup(7L).occupancy(), 1e-9);
+        assertRollup(analyticsService.getMovieRollup(5L), 1, 100, 4, "50.00");
+        assertRollup(analyticsService.getTheaterRollup(9L), 2, 100, 4, "50.00");
+        assertRollup(analyticsService.getDayRollup(DAY), 2, 100, 4, "50.00");
+    }
+
+    /**
+     * Test that bookings, cancellations, reschedules and removals update every bucket of the showtime.
+     */
+    @Test
+    void testIncrementalUpdates() {
+        Showtime showtime = showtime(7L, 5L, 9L, DAY.atTime(18, 0));
+        analyticsService.showtimeScheduledAfterCommit(showtime, 100);
+        analyticsService.bookingAddedAfterCommit(7L, BookingStatus.CONFIRMED, 12.5f);
+        analyticsService.bookingAddedAfterCommit(7L, BookingStatus.PENDING, 10.0f);
+        analyticsService.bookingRemovedAfterCommit(7L, BookingStatus.PENDING, 10.0f);
+
+        assertRollup(analyticsService.getShowtimeRollup(7L), 1, 100, 1, "12.50");
+        assertRollup(analyticsService.getDayRollup(DAY), 1, 100, 1, "12.50");
+
+        showtime.setStartTime(DAY.plusDays(1).atTime(18, 0));
+        analyticsService.showtimeRescheduledAfterCommit(showtime);
+
+        assertRollup(analyticsService.getDayRollup(DAY), 0, 0, 0, "0.00");
+        assertRollup(analyticsService.getDayRollup(DAY.plusDays(1)), 1, 100, 1, "12.50");
+
+        analyticsService.capacityAdjustedAfterCommit(9L, -10);
+        assertRollup(analyticsService.getTheaterRollup(9L), 1, 90, 1, "12.50");
+
+        analyticsService.showtimeRemovedAfterCommit(7L);
+        assertRollup(analyticsService.getTheaterRollup(9L), 0, 0, 0, "0.00");
+        assertRollup(analyticsService.getMovieRollup(5L), 0, 0, 0, "0.00");
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getShowtimeRollup(7L));
+    }
+
+    /**
+     * Test that cancelled bookings are not counted and that a showtime moved to
+     * another theater keeps its bookings.
+     */
+    @Test
+    void testCancelledBookingsAndTheaterMove() {
+        Showtime showtime = showtime(7L, 5L, 9L, DAY.atTime(18, 0));
+        analyticsService.showtimeScheduledAfterCommit(showtime, 100);
+        analyticsService.bookingAddedAfterCommit(7L, BookingStatus.CONFIRMED, 12.5f);
+        analyticsService.bookingAddedAfterCommit(7L, BookingStatus.CANCELLED, 10.0f);
+        analyticsService.bookingRemovedAfterCommit(7L, BookingStatus.CANCELLED, 10.0f);
+
+        assertRollup(analyticsService.getShowtimeRollup(7L), 1, 100, 1, "12.50");
+
+        showtime.getTheater().setId(10L);
+        analyticsService.showtimeScheduledAfterCommit(showtime, 80);
+        analyticsService.showtimeRescheduledAfterCommit(showtime);
+
+        assertRollup(analyticsService.getShowtimeRollup(7L), 1, 80, 1, "12.50");
+        assertRollup(analyticsService.getTheaterRollup(9L), 0, 0, 0, "0.00");
+        assertRollup(analyticsService.getTheaterRollup(10L), 1, 80, 1, "12.50");
+        assertRollup(analyticsService.getDayRollup(DAY), 1, 80, 1, "12.50");
+    }
+
+    /**
+     * Test that changes are only applied once the surrounding transaction commits.
+     */
+    @Test
+    void testUpdatesWaitForCommit() {
+        analyticsService.showtimeScheduledAfterCommit(showtime(7L, 5L, 9L, DAY.atTime(18, 0)), 100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            analyticsService.bookingAddedAfterCommit(7L, BookingStatus.CONFIRMED, 12.5f);
+            assertEquals(0, analyticsService.getShowtimeRollup(7L).bookedSeats());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, analyticsService.getShowtimeRollup(7L).bookedSeats());
+    }
+
+    /**
+     * Test that bookings of unknown showtimes are ignored and that invalid day ranges are rejected.
+     */
+    @Test
+    void testUnknownShowtimeAndInvalidRange() {
+        analyticsService.bookingAddedAfterCommit(42L, BookingStatus.CONFIRMED, 12.5f);
+
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getShowtimeRollup(42L));
+        assertEquals(3, analyticsService.getDayRollups(DAY, DAY.plusDays(2)).size());
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getDayRollups(DAY, DAY.minusDays(1)));
+    }
+
+    private static void assertRollup(OccupancyRollup rollup, long showtimes, long capacity, long bookedSeats,
+            String revenue) {
+        assertEquals(showtimes, rollup.showtimes());
+        assertEquals(capacity, rollup.capacity());
+        assertEquals(bookedSeats, rollup.bookedSeats());
+        assertEquals(new BigDecimal(revenue), rollup.revenue());
+    }
+
+    private static Showtime showtime(Long showtimeId, Long movieId, Long theaterId, LocalDateTime startTime) {
+        Movie movie = new Movie();
+        movie.setId(movieId);
+        Theater theater = new Theater();
+        theater.setId(theaterId);
+
+        Showtime showtime = new Showtime();
+        showtime.setId(showtimeId);
+        showtime.setMovie(movie);
+        showtime.setTheater(theater);
+        showtime.setStartTime(startTime);
+        return showtime;
+    }
+}
@@ -0,0 +1,119 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.BookingExportFilter;
+import com.att.acceptance.movie_theater.dto.BookingExportFormat;
+import com.att.acceptance.movie_theater.dto.BookingExportRow;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingExportServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BookingExportService bookingExportService;
+
+    private final BookingExportFilter filter = new BookingExportFilter(null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        bookingExportService = new BookingExportService(bookingRepository, objectMapper);
+    }
+
+    /**
+     * Test that NDJSON has one JSON object per booking and that the row stream is closed.
+     */
+    @Test
+    void testExportNdjson() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamForExport(null, null, null, null))
+                .thenReturn(Stream.of(row(1L, "Inception"), row(2L, "Up")).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = bookingExportService.export(filter, BookingExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("bookingId").asLong());
+        assertEquals("Inception", first.get("movieTitle").asText());
+        assertEquals("2030-01-01T18:00:00", first.get("startTime").asText());
+        assertTrue(closed.get());
+    }
+
+    /**
+     * Test that CSV starts with a header and quotes fields containing delimiters or quotes.
+     */
+    @Test
+    void testExportCsv() throws Exception {
+        when(bookingRepository.streamForExport(null, null, null, null))
+                .thenReturn(Stream.of(row(1L, "Crouching Tiger, Hidden \"Dragon\"")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExportService.export(filter, BookingExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("bookingId,status,price"));
+        assertEquals("1,CONFIRMED,12.5,3,fan@example.com,7,2030-01-01T18:00,5,"
+                + "\"Crouching Tiger, Hidden \"\"Dragon\"\"\",9,Main Hall,A1", lines[1]);
+    }
+
+    /**
+     * Test that the filter is passed to the repository.
+     */
+    @Test
+    void testExportWithFilter() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 2, 1, 0, 0);
+        when(bookingRepository.streamForExport(from, to, 9L, 5L)).thenReturn(Stream.empty());
+
+        long count = bookingExportService.export(new BookingExportFilter(from, to, 9L, 5L), BookingExportFormat.NDJSON,
+                new ByteArrayOutputStream());
+
+        assertEquals(0, count);
+    }
+
+    /**
+     * Test that an empty date range is rejected.
+     */
+    @Test
+    void testInvalidDateRange() {
+        LocalDateTime day = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new BookingExportFilter(day, day, null, null));
+        assertThrows(IllegalArgumentException.class, () -> BookingExportFormat.of("xml"));
+    }
+
+    private static BookingExportRow row(Long bookingId, String movieTitle) {
+        return new BookingExportRow(bookingId, BookingStatus.CONFIRMED, 12.5f, 3L, "fan@example.com", 7L,
+                LocalDateTime.of(2030, 1, 1, 18, 0), 5L, movieTitle, 9L, "Main Hall", "A1");
+    }
+}
@@ -0,0 +1,169 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.repository.SparseFieldsetRepository;
+import com.att.acceptance.movie_theater.security.BookingOwnerCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies the number of SQL statements issued by {@link BookingService#createBooking(Booking)}
+ * and {@link BookingService#backfillShowtimeStart()} against the embedded database.
+ */
+@DataJpaTest
+@Import({BookingService.class, SeatInventoryService.class, BookingAnalyticsService.class, PricingService.class,
+        PricingPolicy.class, NowShowingService.class, SparseFieldsetRepository.class, BookingOwnerCache.class,
+        SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+public class BookingServiceStatementCountTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long userId;
+
+    private Long showtimeId;
+
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        Theater theater = new Theater();
+        theater.setName("Statement Count Theater");
+        theater.setLocation("Test Location");
+        theater.setMaxSeats(10);
+        entityManager.persist(theater);
+
+        Movie movie = new Movie();
+        movie.setTitle("Statement Count Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating("PG");
+        movie.setReleaseYear(2020);
+        entityManager.persist(movie);
+
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater(theater);
+        showtime.setStartTime(LocalDateTime.of(2030, 1, 1, 18, 0));
+        showtime.setEndTime(LocalDateTime.of(2030, 1, 1, 20, 0));
+        entityManager.persist(showtime);
+
+        Seat seat = new Seat();
+        seat.setSeatNumber("A1");
+        seat.setTheater(theater);
+        seat.setSeatIndex(0);
+        entityManager.persist(seat);
+
+        entityManager.persist(new SeatAvailability(showtime.getId(), theater.getId(), theater.getMaxSeats()));
+
+        User user = new User();
+        user.setName("Test User");
+        user.setEmail("statements@example.com");
+        user.setPassword("password123");
+        user.addRole(RoleEnum.ROLE_CUSTOMER);
+        entityManager.persist(user);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        showtimeId = showtime.getId();
+        seatId = seat.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    /**
+     * Test that creating a booking costs one read, one inventory update and one insert.
+     */
+    @Test
+    void testCreateBookingIssuesOneReadAndTwoWrites() {
+        Booking booking = new Booking();
+        booking.setUser(reference(new User(), userId));
+        booking.setShowtime(reference(new Showtime(), showtimeId));
+        booking.setSeat(reference(new Seat(), seatId));
+        booking.setPrice(12.50f);
+
+        Booking savedBooking = bookingService.createBooking(booking);
+        entityManager.flush();
+
+        assertNotNull(savedBooking.getId());
+        assertEquals(3, statistics.getPrepareStatementCount(), "Expected one validation query, one inventory update and one insert");
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount(), "Referenced entities must not be hydrated");
+        assertEquals(AvailabilityStatusEnum.BOOKED,
+                entityManager.find(SeatAvailability.class, showtimeId).getStatus(0));
+    }
+
+    /**
+     * Test that the showtime start of bookings stored without it is backfilled
+     * with one update statement.
+     */
+    @Test
+    void testBackfillShowtimeStartIssuesOneUpdate() {
+        Booking booking = new Booking();
+        booking.setUser(entityManager.find(User.class, userId));
+        booking.setShowtime(entityManager.find(Showtime.class, showtimeId));
+        booking.setSeat(entityManager.find(Seat.class, seatId));
+        booking.setPrice(12.50f);
+        Long bookingId = entityManager.persistAndFlush(booking).getId();
+        entityManager.getEntityManager().createNativeQuery("UPDATE bookings SET showtime_start = NULL").executeUpdate();
+        entityManager.clear();
+        statistics.clear();
+
+        bookingService.backfillShowtimeStart();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 18, 0),
+                entityManager.find(Booking.class, bookingId).getShowtimeStart());
+    }
+
+    private static User reference(User user, Long id) {
+        user.setId(id);
+        return user;
+    }
+
+    private static Showtime reference(Showtime showtime, Long id) {
+        showtime.setId(id);
+        return showtime;
+    }
+
+    private static Seat reference(Seat seat, Long id) {
+        seat.setId(id);
+        return seat;
+    }
+}
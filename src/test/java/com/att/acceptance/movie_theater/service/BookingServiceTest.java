@@ -2,14 +2,20 @@ package com.att.acceptance.movie_theater.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -19,32 +25,100 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.att.acceptance.movie_theater.dto.BookingHistoryPage;
+import com.att.acceptance.movie_theater.dto.BookingHistoryPeriod;
+import com.att.acceptance.movie_theater.dto.BookingReferenceCheck;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
 import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.BookingStatus;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+import com.att.acceptance.movie_theater.entity.Showtime;
 import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.exception.SeatNotAvailableException;
 import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.SeatRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.SparseFieldsetRepository;
+import com.att.acceptance.movie_theater.repository.UserRepository;
+import com.att.acceptance.movie_theater.security.BookingOwnerCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class BookingServiceTest {
 
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2030, 1, 1, 18, 0);
+
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private BookingOwnerCache bookingOwnerCache;
+
+    @Mock
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @Mock
+    private SparseFieldsetRepository sparseFieldsetRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private BookingService bookingService;
 
     private Booking booking;
 
+    private User user;
+
+    private Showtime showtime;
+
+    private Seat seat;
+
     @BeforeEach
     void setUp() {
         // Initialize a sample booking entity for testing
-        User user = new User();
+        user = new User();
         user.setId(1L);
 
+        showtime = new Showtime();
+        showtime.setId(1L);
+
+        seat = new Seat();
+        seat.setId(1L);
+        seat.setSeatIndex(0);
+
         booking = new Booking();
         booking.setId(1L);
         booking.setUser(user);
+        booking.setShowtime(showtime);
+        booking.setSeat(seat);
         booking.setPrice(10.0f);
     }
 
@@ -71,6 +145,7 @@ public class BookingServiceTest {
     @Test
     void testGetBookingsByUser() {
         // Mock repository response
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(bookingRepository.findByUserId(1L)).thenReturn(Set.of(booking));
 
         // Call the service method
@@ -83,12 +158,93 @@ public class BookingServiceTest {
     }
 
     /**
-     * Test for creating a new booking.
+     * Test that retrieving the bookings of a user that does not exist is rejected.
      */
     @Test
-    void testCreateBooking() {
+    void testGetBookingsByUnknownUser() {
+        // Mock repository response
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // Call the service method and assert exception
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getBookingsByUser(2L));
+        verify(bookingRepository, never()).findByUserId(anyLong());
+    }
+
+    /**
+     * Test for retrieving the authenticated user's bookings, without looking up the user.
+     */
+    @Test
+    void testGetOwnBookings() {
         // Mock repository response
+        when(bookingRepository.findByUserId(1L)).thenReturn(Set.of(booking));
+
+        // Call the service method
+        Set<Booking> bookings = bookingService.getOwnBookings(1L);
+
+        // Assertions
+        assertEquals(1, bookings.size());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Test that a page of upcoming bookings starts from now and ends at its last booking when there are more.
+     */
+    @Test
+    void testGetBookingHistoryUpcoming() {
+        Booking next = new Booking();
+        next.setId(2L);
+        next.setShowtimeStart(START_TIME.plusDays(1));
+        booking.setShowtimeStart(START_TIME);
+        when(bookingRepository.findByUserIdAfter(eq(1L), any(LocalDateTime.class), eq(0L), eq(2)))
+                .thenReturn(List.of(booking, next));
+
+        BookingHistoryPage page = bookingService.getBookingHistory(1L, BookingHistoryPeriod.UPCOMING, null, null, 1);
+
+        assertEquals(List.of(booking), page.bookings());
+        assertEquals(START_TIME, page.nextAfterStart());
+        assertEquals(1L, page.nextAfterId());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Test that the last page of past bookings continues from the given position and has no next position.
+     */
+    @Test
+    void testGetBookingHistoryPast() {
+        LocalDateTime beforeStart = LocalDateTime.of(2020, 1, 1, 18, 0);
+        when(bookingRepository.findByUserIdBefore(1L, beforeStart, 5L, 11)).thenReturn(List.of(booking));
+
+        BookingHistoryPage page = bookingService.getBookingHistory(1L, BookingHistoryPeriod.PAST, beforeStart, 5L, 10);
+
+        assertEquals(List.of(booking), page.bookings());
+        assertNull(page.nextAfterStart());
+        assertNull(page.nextAfterId());
+    }
+
+    /**
+     * Test that a page position must have both its start time and its ID.
+     */
+    @Test
+    void testGetBookingHistoryIncompletePosition() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getBookingHistory(1L, BookingHistoryPeriod.PAST, START_TIME, null, 10));
+    }
+
+    /**
+     * Test for creating a new booking. The status and price sent by the client are replaced.
+     */
+    @Test
+    void testCreateBooking() {
+        booking.setStatus(BookingStatus.CANCELLED);
+        // Mock repository responses
+        when(bookingRepository.checkBookingReferences(1L, 1L, 1L))
+                .thenReturn(Optional.of(new BookingReferenceCheck(1L, 1L, 1L, 1L, 0, 1L, new byte[1], 0L,
+                        START_TIME, SeatCategoryEnum.STANDARD, 10, 0, 0)));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(showtimeRepository.getReferenceById(1L)).thenReturn(showtime);
+        when(seatRepository.getReferenceById(1L)).thenReturn(seat);
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(pricingService.priceFor(1L, START_TIME, SeatCategoryEnum.STANDARD, 0, 10)).thenReturn(12.0f);
 
         // Call the service method
         Booking savedBooking = bookingService.createBooking(booking);
@@ -97,47 +253,91 @@ public class BookingServiceTest {
         assertNotNull(savedBooking);
         assertEquals(1L, savedBooking.getId());
         verify(bookingRepository, times(1)).save(booking);
+        verify(seatInventoryService, times(1)).bookSeat(1L, 0, new byte[1], 0L);
+        assertEquals(12.0f, savedBooking.getPrice(), "The price sent by the client is replaced");
+        assertEquals(BookingStatus.PENDING, savedBooking.getStatus(), "The status sent by the client is replaced");
+        verify(bookingAnalyticsService, times(1)).bookingAddedAfterCommit(1L, BookingStatus.PENDING, 12.0f);
+        verify(pricingService, times(1)).seatsChangedAfterCommit(1L, 1);
+        verify(userRepository, never()).findById(anyLong());
+        verify(showtimeRepository, never()).findById(anyLong());
+        verify(seatRepository, never()).findById(anyLong());
     }
 
     /**
-     * Test for canceling a booking.
+     * Test that a booking whose transaction fails to commit is timed as a conflict, not a success.
      */
     @Test
-    void testCancelBooking() {
-        // Call the service method
-        bookingService.cancelBooking(1L);
+    void testCreateBookingCommitFailure() {
+        when(bookingRepository.checkBookingReferences(1L, 1L, 1L))
+                .thenReturn(Optional.of(new BookingReferenceCheck(1L, 1L, 1L, 1L, 0, 1L, new byte[1], 0L,
+                        START_TIME, SeatCategoryEnum.STANDARD, 10, 0, 0)));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        doThrow(new DataIntegrityViolationException("Duplicate seat")).when(transactionManager).commit(any());
 
-        // Verify repository interaction
-        verify(bookingRepository, times(1)).deleteById(1L);
+        assertThrows(DataIntegrityViolationException.class, () -> bookingService.createBooking(booking));
+        assertEquals(1, meterRegistry.get("booking.operations").tag("operation", "create").tag("outcome", "conflict").timer().count());
+        assertNull(meterRegistry.find("booking.operations").tag("outcome", "success").timer());
     }
 
     /**
-     * Test for canceling a booking for a specific user.
+     * Test that a seat from another theater is rejected.
      */
     @Test
-    void testCancelBookingForUser() {
-        // Mock repository response
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+    void testCreateBookingSeatInOtherTheater() {
+        // Seat belongs to theater 2, showtime is scheduled in theater 1
+        when(bookingRepository.checkBookingReferences(1L, 1L, 1L))
+                .thenReturn(Optional.of(new BookingReferenceCheck(1L, 1L, 1L, 2L, 0, 1L, new byte[1], 0L,
+                        START_TIME, SeatCategoryEnum.STANDARD, 10, 0, 0)));
 
-        // Call the service method
-        bookingService.cancelBookingForUser(1L, 1L);
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(booking));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
 
-        // Verify repository interaction
-        verify(bookingRepository, times(1)).deleteById(1L);
+    /**
+     * Test that an already booked seat is rejected.
+     */
+    @Test
+    void testCreateBookingSeatAlreadyBooked() {
+        when(bookingRepository.checkBookingReferences(1L, 1L, 1L))
+                .thenReturn(Optional.of(new BookingReferenceCheck(1L, 1L, 1L, 1L, 0, 1L,
+                        SeatAvailability.withStatus(new byte[1], 0, AvailabilityStatusEnum.BOOKED), 1L,
+                        START_TIME, SeatCategoryEnum.STANDARD, 10, 1, 0)));
+
+        assertThrows(SeatNotAvailableException.class, () -> bookingService.createBooking(booking));
+        verify(seatInventoryService, never()).bookSeat(anyLong(), anyInt(), any(), any());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingAnalyticsService, never()).bookingAddedAfterCommit(anyLong(), any(), anyFloat());
+        assertEquals(1, meterRegistry.get("booking.operations").tag("operation", "create").tag("outcome", "conflict").timer().count());
     }
 
     /**
-     * Test for canceling a booking for a user that doesn't own the booking.
+     * Test that a missing user is rejected.
      */
     @Test
-    void testCancelBookingForUserUnauthorized() {
+    void testCreateBookingUnknownUser() {
+        when(bookingRepository.checkBookingReferences(1L, 1L, 1L))
+                .thenReturn(Optional.of(new BookingReferenceCheck(1L, 1L, 1L, 1L, 0, null, new byte[1], 0L,
+                        START_TIME, SeatCategoryEnum.STANDARD, 10, 0, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(booking));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    /**
+     * Test for canceling a booking.
+     */
+    @Test
+    void testCancelBooking() {
         // Mock repository response
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
 
-        // Call the service method with an unauthorized user
-        assertThrows(SecurityException.class, () -> bookingService.cancelBookingForUser(1L, 2L));
+        // Call the service method
+        bookingService.cancelBooking(1L);
 
         // Verify repository interaction
-        verify(bookingRepository, never()).deleteById(anyLong());
+        verify(seatInventoryService, times(1)).releaseSeat(1L, 0);
+        verify(bookingRepository, times(1)).deleteById(1L);
+        verify(bookingOwnerCache, times(1)).invalidateAfterCommit(1L);
+        verify(bookingAnalyticsService, times(1)).bookingRemovedAfterCommit(1L, BookingStatus.PENDING, 10.0f);
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class CatalogResponseCacheTest {
+
+    private CatalogResponseCache catalogResponseCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        catalogResponseCache = new CatalogResponseCache(new ObjectMapper(), true, 64, 100);
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * Test that a response is serialized once and then served from the same bytes until it is evicted.
+     */
+    @Test
+    void testServesCachedBytesUntilEvicted() {
+        CatalogResponseCache.CachedResponse first = catalogResponseCache.get("movie:1", () -> load("Inception"));
+        CatalogResponseCache.CachedResponse second = catalogResponseCache.get("movie:1", () -> load("Inception"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        catalogResponseCache.evictAfterCommit("movie:1");
+        CatalogResponseCache.CachedResponse reloaded = catalogResponseCache.get("movie:1", () -> load("Tenet"));
+
+        assertEquals(2, loads.get());
+        assertNotEquals(first.etag(), reloaded.etag());
+    }
+
+    /**
+     * Test that a matching If-None-Match is answered with 304, and any other with the body.
+     */
+    @Test
+    void testNotModified() {
+        CatalogResponseCache.CachedResponse response = catalogResponseCache.get("movie:1", () -> load("Up"));
+
+        ResponseEntity<byte[]> notModified = response.toResponseEntity("\"other\", " + response.etag(), null);
+        ResponseEntity<byte[]> modified = response.toResponseEntity("\"other\"", null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(response.etag(), notModified.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertSame(response.body(), modified.getBody());
+    }
+
+    /**
+     * Test that large responses are served pre-gzipped, with their own ETag, to clients that accept gzip.
+     */
+    @Test
+    void testGzip() throws IOException {
+        CatalogResponseCache.CachedResponse response = catalogResponseCache.get(CatalogResponseCache.ALL_THEATERS,
+                () -> Collections.nCopies(10, load("A title long enough to be worth compressing")));
+
+        ResponseEntity<byte[]> gzipped = response.toResponseEntity(null, "br;q=1.0, gzip");
+        ResponseEntity<byte[]> identity = response.toResponseEntity(null, "gzip;q=0");
+
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(response.gzipEtag(), gzipped.getHeaders().getETag());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(response.body(), in.readAllBytes());
+        }
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(response.body(), identity.getBody());
+        assertEquals(HttpStatus.NOT_MODIFIED, response.toResponseEntity(response.etag(), "gzip").getStatusCode());
+    }
+
+    private Movie load(String title) {
+        loads.incrementAndGet();
+        return new Movie(title, "Drama");
+    }
+
+    private record Movie(String title, String genre) {
+    }
+}
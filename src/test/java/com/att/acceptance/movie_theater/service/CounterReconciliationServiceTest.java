@@ -0,0 +1,151 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.BookedSeat;
+import com.att.acceptance.movie_theater.dto.ReconciliationPage;
+import com.att.acceptance.movie_theater.dto.TheaterSeatCount;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
+import com.att.acceptance.movie_theater.repository.SeatAvailabilityRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CounterReconciliationServiceTest {
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @Mock
+    private SeatAvailabilityRepository seatAvailabilityRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
+    @InjectMocks
+    private CounterReconciliationService counterReconciliationService;
+
+    private Theater theater;
+
+    @BeforeEach
+    void setUp() {
+        // Initialize a theater with 10 seats
+        theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(10);
+        theater.setSeatCount(10);
+    }
+
+    /**
+     * Test that only drifted theater seat counts are corrected.
+     */
+    @Test
+    void testReconcileTheaters() {
+        // Mock repository response: theater 1 is correct, theater 2 has drifted
+        when(theaterRepository.findSeatCountsAfter(0L, 2)).thenReturn(List.of(
+                new TheaterSeatCount(1L, 10, 10L), new TheaterSeatCount(2L, 7, 8L)));
+        when(theaterRepository.correctSeatCount(2L, 7, 8)).thenReturn(1);
+
+        // Call the service method
+        ReconciliationPage page = counterReconciliationService.reconcileTheaters(0L, 2);
+
+        // Assertions
+        assertEquals(2L, page.lastId());
+        assertEquals(1, page.corrected());
+        verify(theaterRepository, never()).correctSeatCount(eq(1L), anyInt(), anyInt());
+    }
+
+    /**
+     * Test that an inventory is made to match the bookings of its showtime.
+     */
+    @Test
+    void testReconcileInventories() {
+        // Seat 2 is marked booked without a booking, seat 3 is booked but not marked, seat 4 is held
+        SeatAvailability inventory = new SeatAvailability(5L, 1L, 8);
+        inventory.setStatus(2, AvailabilityStatusEnum.BOOKED);
+        inventory.setStatus(4, AvailabilityStatusEnum.HELD);
+        inventory.setVersion(3L);
+
+        // Mock repository response
+        when(seatAvailabilityRepository.findPageAfter(0L, 100)).thenReturn(List.of(inventory));
+        when(bookingRepository.findBookedSeats(any())).thenReturn(List.of(new BookedSeat(5L, 3)));
+        when(theaterRepository.findAllById(any())).thenReturn(List.of(theater));
+        when(seatAvailabilityRepository.correctInventory(eq(5L), any(byte[].class), eq(1), eq(1), eq(10), eq(3L)))
+                .thenReturn(1);
+
+        // Call the service method
+        ReconciliationPage page = counterReconciliationService.reconcileInventories(0L, 100);
+
+        // Assertions
+        ArgumentCaptor<byte[]> statuses = ArgumentCaptor.forClass(byte[].class);
+        verify(seatAvailabilityRepository, times(1)).correctInventory(eq(5L), statuses.capture(),
+                eq(1), eq(1), eq(10), eq(3L));
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, SeatAvailability.statusAt(statuses.getValue(), 2));
+        assertEquals(AvailabilityStatusEnum.BOOKED, SeatAvailability.statusAt(statuses.getValue(), 3));
+        assertEquals(AvailabilityStatusEnum.HELD, SeatAvailability.statusAt(statuses.getValue(), 4));
+        assertEquals(5L, page.lastId());
+        assertEquals(1, page.corrected());
+    }
+
+    /**
+     * Test that a consistent inventory is left alone.
+     */
+    @Test
+    void testReconcileInventoriesWithoutDrift() {
+        SeatAvailability inventory = new SeatAvailability(5L, 1L, 10);
+        inventory.setStatus(3, AvailabilityStatusEnum.BOOKED);
+        inventory.setVersion(3L);
+
+        // Mock repository response
+        when(seatAvailabilityRepository.findPageAfter(0L, 100)).thenReturn(List.of(inventory));
+        when(bookingRepository.findBookedSeats(any())).thenReturn(List.of(new BookedSeat(5L, 3)));
+        when(theaterRepository.findAllById(any())).thenReturn(List.of(theater));
+
+        // Call the service method
+        ReconciliationPage page = counterReconciliationService.reconcileInventories(0L, 100);
+
+        // Assertions
+        assertEquals(0, page.corrected());
+        verify(seatAvailabilityRepository, never()).correctInventory(anyLong(), any(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    /**
+     * Test that an empty page signals the end of a pass.
+     */
+    @Test
+    void testReconcileInventoriesEndOfPass() {
+        // Mock repository response
+        when(seatAvailabilityRepository.findPageAfter(9L, 100)).thenReturn(List.of());
+
+        // Call the service method
+        ReconciliationPage page = counterReconciliationService.reconcileInventories(9L, 100);
+
+        // Assertions
+        assertNull(page.lastId());
+        assertEquals(true, page.isLastPage(100));
+    }
+}
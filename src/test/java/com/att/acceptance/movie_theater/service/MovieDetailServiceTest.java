@@ -0,0 +1,183 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.MovieDetail;
+import com.att.acceptance.movie_theater.dto.ShowtimeOccupancy;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.exception.MovieDetailUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class MovieDetailServiceTest {
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private ShowtimeService showtimeService;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MovieDetailService movieDetailService;
+
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movieDetailService = new MovieDetailService(movieService, showtimeService, seatInventoryService,
+                Duration.ofMillis(500), Duration.ofMillis(500), Duration.ofMillis(500), 3, 10, meterRegistry);
+        movie = new Movie();
+        movie.setId(1L);
+        movie.setTitle("Test Movie");
+    }
+
+    @AfterEach
+    void tearDown() {
+        movieDetailService.shutdown();
+    }
+
+    /**
+     * Test that the movie, its showtimes (soonest first) and the availability are returned together.
+     */
+    @Test
+    void testGetMovieDetail() {
+        Showtime later = showtime(2L, LocalDateTime.of(2030, 1, 2, 18, 0));
+        Showtime sooner = showtime(3L, LocalDateTime.of(2030, 1, 1, 18, 0));
+        List<ShowtimeOccupancy> availability = List.of(new ShowtimeOccupancy(3L, 100, 10, 0));
+        when(movieService.getMovieById(1L)).thenReturn(movie);
+        when(showtimeService.getShowtimesByMovie(1L)).thenReturn(Set.of(later, sooner));
+        when(seatInventoryService.getUpcomingOccupancy(eq(1L), any(LocalDateTime.class), eq(3)))
+                .thenReturn(availability);
+
+        MovieDetail detail = movieDetailService.getMovieDetail(1L);
+
+        assertSame(movie, detail.movie());
+        assertEquals(List.of(sooner, later), detail.showtimes());
+        assertEquals(availability, detail.availability());
+        assertEquals(List.of(), detail.unavailable());
+    }
+
+    /**
+     * Test that a part missing its deadline is left out instead of delaying the page.
+     */
+    @Test
+    void testGetMovieDetailWithoutSlowPart() {
+        when(movieService.getMovieById(1L)).thenReturn(movie);
+        when(showtimeService.getShowtimesByMovie(1L)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Set.of();
+        });
+        when(seatInventoryService.getUpcomingOccupancy(eq(1L), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        long start = System.nanoTime();
+        MovieDetail detail = movieDetailService.getMovieDetail(1L);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertSame(movie, detail.movie());
+        assertNull(detail.showtimes());
+        assertEquals(List.of(), detail.availability());
+        assertEquals(List.of(MovieDetailService.SHOWTIMES), detail.unavailable());
+        assertEquals(1.0, meterRegistry.get("movie.detail.fallbacks").tag("part", MovieDetailService.SHOWTIMES)
+                .counter().count());
+    }
+
+    /**
+     * Test that a missing movie fails the request.
+     */
+    @Test
+    void testGetMovieDetailMovieNotFound() {
+        when(movieService.getMovieById(1L)).thenThrow(new IllegalArgumentException("Movie with ID 1 not found."));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> movieDetailService.getMovieDetail(1L));
+
+        assertEquals("Movie with ID 1 not found.", exception.getMessage());
+    }
+
+    /**
+     * Test that a movie missing its deadline fails the request as unavailable.
+     */
+    @Test
+    void testGetMovieDetailMovieTimeout() {
+        when(movieService.getMovieById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return movie;
+        });
+
+        MovieDetailUnavailableException exception = assertThrows(MovieDetailUnavailableException.class,
+                () -> movieDetailService.getMovieDetail(1L));
+
+        assertEquals("Movie with ID 1 could not be loaded in time.", exception.getMessage());
+    }
+
+    /**
+     * Test that the parts of a page use no more connections than half the pool at a time,
+     * each still within its own timeout.
+     */
+    @Test
+    void testGetMovieDetailBoundsConnections() {
+        movieDetailService.shutdown();
+        movieDetailService = new MovieDetailService(movieService, showtimeService, seatInventoryService,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2), 3, 2, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(movieService.getMovieById(1L)).thenAnswer(invocation -> query(running, maxRunning, movie));
+        when(showtimeService.getShowtimesByMovie(1L)).thenAnswer(invocation -> query(running, maxRunning, Set.of()));
+        when(seatInventoryService.getUpcomingOccupancy(eq(1L), any(LocalDateTime.class), eq(3)))
+                .thenAnswer(invocation -> query(running, maxRunning, List.of()));
+
+        MovieDetail detail = movieDetailService.getMovieDetail(1L);
+
+        assertSame(movie, detail.movie());
+        assertEquals(List.of(), detail.unavailable());
+        assertEquals(1, maxRunning.get(), "A pool of 2 connections leaves 1 for the parts");
+    }
+
+    private static <T> T query(AtomicInteger running, AtomicInteger maxRunning, T result) throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+            return result;
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private Showtime showtime(Long id, LocalDateTime startTime) {
+        Showtime showtime = new Showtime();
+        showtime.setId(id);
+        showtime.setMovie(movie);
+        showtime.setStartTime(startTime);
+        showtime.setEndTime(startTime.plusHours(2));
+        return showtime;
+    }
+}
@@ -2,6 +2,7 @@ package com.att.acceptance.movie_theater.service;
 
 import com.att.acceptance.movie_theater.entity.Movie;
 import com.att.acceptance.movie_theater.repository.MovieRepository;
+import com.att.acceptance.movie_theater.repository.SparseFieldsetRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,15 @@ public class MovieServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private NowShowingService nowShowingService;
+
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
+    @Mock
+    private SparseFieldsetRepository sparseFieldsetRepository;
+
     @InjectMocks
     private MovieService movieService;
 
@@ -111,6 +121,8 @@ public class MovieServiceTest {
         assertNotNull(updatedMovie);
         assertEquals("Updated Movie", updatedMovie.getTitle());
         verify(movieRepository, times(1)).save(movie);
+        verify(nowShowingService, times(1)).markStaleAfterCommit();
+        verify(catalogResponseCache, times(1)).evictAfterCommit(CatalogResponseCache.movieKey(1L));
     }
 
     /**
@@ -0,0 +1,97 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.NowShowing;
+import com.att.acceptance.movie_theater.dto.NowShowingRow;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+public class NowShowingServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private NowShowingService nowShowingService;
+
+    @BeforeEach
+    void setUp() {
+        nowShowingService = new NowShowingService(showtimeRepository, objectMapper, Duration.ofDays(7),
+                Duration.ofMinutes(1));
+    }
+
+    /**
+     * Test that rows are grouped by movie and then by theater, keeping their order.
+     */
+    @Test
+    void testBuildGroupsRows() {
+        NowShowing model = NowShowingService.build(START, List.of(
+                row(1L, "Inception", 10L, 100L, null, null),
+                row(1L, "Inception", 10L, 101L, 50, 10),
+                row(1L, "Inception", 11L, 102L, 50, 60),
+                row(2L, "Up", 10L, 103L, 50, 0)));
+
+        assertEquals(2, model.movies().size());
+        NowShowing.Movie inception = model.movies().get(0);
+        assertEquals(2, inception.theaters().size());
+        assertEquals(List.of(100L, 101L), inception.theaters().get(0).showtimes().stream().map(NowShowing.Showtime::id).toList());
+        assertEquals(40, inception.theaters().get(0).showtimes().get(0).seatsLeft(), "No inventory: every seat is left");
+        assertEquals(40, inception.theaters().get(0).showtimes().get(1).seatsLeft());
+        assertEquals(0, inception.theaters().get(1).showtimes().get(0).seatsLeft());
+        assertEquals(1, model.movies().get(1).theaters().size());
+    }
+
+    /**
+     * Test that reads serve the same bytes until a committed write marks the model stale.
+     */
+    @Test
+    void testServesSnapshotUntilStale() throws Exception {
+        when(showtimeRepository.findNowShowing(any(), any()))
+                .thenReturn(List.of(row(1L, "Inception", 10L, 100L, 50, 10)))
+                .thenReturn(List.of(row(1L, "Inception", 10L, 100L, 50, 11)));
+
+        nowShowingService.load();
+        byte[] first = nowShowingService.getNowShowingJson();
+        nowShowingService.refreshIfStale();
+        assertSame(first, nowShowingService.getNowShowingJson());
+
+        nowShowingService.markStaleAfterCommit();
+        nowShowingService.refreshIfStale();
+
+        JsonNode json = objectMapper.readTree(nowShowingService.getNowShowingJson());
+        assertEquals(39, json.at("/movies/0/theaters/0/showtimes/0/seatsLeft").asInt());
+        assertEquals("Inception", json.at("/movies/0/title").asText());
+        verify(showtimeRepository, times(2)).findNowShowing(any(), any());
+    }
+
+    private static NowShowingRow row(Long movieId, String title, Long theaterId, Long showtimeId, Integer capacity,
+            Integer bookedSeats) {
+        return new NowShowingRow(movieId, title, "Drama", 120, "PG", theaterId, "Theater " + theaterId, "Downtown", 40,
+                showtimeId, START, START.plusHours(2), capacity, bookedSeats, capacity != null ? 0 : null);
+    }
+}
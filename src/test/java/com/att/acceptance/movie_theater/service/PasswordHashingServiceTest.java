@@ -0,0 +1,121 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.exception.PasswordHashingRejectedException;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordHashingServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserService userService;
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        // A single hashing thread with room for one waiting task
+        passwordHashingService = new PasswordHashingService(authenticationManager, userService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    /**
+     * Test that credentials are checked on the hashing pool.
+     */
+    @Test
+    void testAuthenticate() throws Exception {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated("test@example.com", null, null);
+
+        // Mock authentication response
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("password-hashing-"));
+            return authentication;
+        });
+
+        // Call the service method
+        Authentication result = passwordHashingService.authenticate("test@example.com", "password123").get(5, TimeUnit.SECONDS);
+
+        // Assertions
+        assertSame(authentication, result);
+    }
+
+    /**
+     * Test that a user update, which hashes the new password, runs on the hashing pool.
+     */
+    @Test
+    void testUpdateUser() throws Exception {
+        User user = new User();
+
+        // Mock service response
+        when(userService.updateUser(1L, user)).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("password-hashing-"));
+            return user;
+        });
+
+        // Call the service method
+        User result = passwordHashingService.updateUser(1L, user).get(5, TimeUnit.SECONDS);
+
+        // Assertions
+        assertSame(user, result);
+    }
+
+    /**
+     * Test that work is rejected immediately once the pool and its queue are full.
+     */
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        User user = new User();
+
+        // Mock service response: the first registration occupies the only thread
+        when(userService.registerUser(user, RoleEnum.ROLE_CUSTOMER)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return user;
+        });
+
+        CompletableFuture<User> running = passwordHashingService.registerUser(user, RoleEnum.ROLE_CUSTOMER);
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<User> queued = passwordHashingService.registerUser(user, RoleEnum.ROLE_CUSTOMER);
+        CompletableFuture<User> rejected = passwordHashingService.registerUser(user, RoleEnum.ROLE_CUSTOMER);
+
+        // Assertions
+        assertTrue(rejected.isCompletedExceptionally());
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(PasswordHashingRejectedException.class, exception.getCause());
+
+        release.countDown();
+        assertSame(user, running.get(5, TimeUnit.SECONDS));
+        assertSame(user, queued.get(5, TimeUnit.SECONDS));
+    }
+}
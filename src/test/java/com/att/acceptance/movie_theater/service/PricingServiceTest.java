@@ -0,0 +1,109 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.ShowtimePrices;
+import com.att.acceptance.movie_theater.dto.ShowtimePricingInput;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingServiceTest {
+
+    private static final LocalDateTime EVENING = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private final PricingPolicy pricingPolicy = new PricingPolicy(new BigDecimal("12.00"), 1.25, 1.75, 1.0,
+            "17:00", 0.8, "19:00", 1.15, new double[] { 0.5, 0.75, 0.9 }, new double[] { 1.1, 1.25, 1.5 }, "UTC");
+
+    private PricingService pricingService;
+
+    @BeforeEach
+    void setUp() {
+        pricingService = new PricingService(showtimeRepository, pricingPolicy, Duration.ofMinutes(1), 100);
+    }
+
+    /**
+     * Test that prices combine the seat category, the time of day and the occupancy tier.
+     */
+    @Test
+    void testPolicyPrices() {
+        assertArrayEquals(new long[] { 1200, 1500, 2100, 1200 }, pricingPolicy.pricesInCents(EVENING, 0));
+        assertEquals(960, pricingPolicy.pricesInCents(EVENING.withHour(14), 0)[SeatCategoryEnum.STANDARD.ordinal()]);
+        assertEquals(1380, pricingPolicy.pricesInCents(EVENING.withHour(20), 0)[SeatCategoryEnum.STANDARD.ordinal()]);
+        assertEquals(1800, pricingPolicy.pricesInCents(EVENING, 3)[SeatCategoryEnum.STANDARD.ordinal()]);
+
+        assertEquals(0, pricingPolicy.tierOf(49, 100));
+        assertEquals(1, pricingPolicy.tierOf(50, 100));
+        assertEquals(2, pricingPolicy.tierOf(75, 100));
+        assertEquals(3, pricingPolicy.tierOf(100, 100));
+        assertEquals(0, pricingPolicy.tierOf(5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PricingPolicy(new BigDecimal("12.00"), 1, 1, 1,
+                "17:00", 1, "19:00", 1, new double[] { 0.5 }, new double[0], "UTC"));
+    }
+
+    /**
+     * Test that a booking is priced from the counters it read, and that the table is
+     * repriced when bookings on this instance cross a tier threshold.
+     */
+    @Test
+    void testPriceForCountersAndTierCrossing() {
+        assertEquals(12.0f, pricingService.priceFor(7L, EVENING, SeatCategoryEnum.STANDARD, 4, 10));
+
+        pricingService.seatsChangedAfterCommit(7L, 1);
+
+        ShowtimePrices prices = pricingService.getPrices(7L);
+        assertEquals(1, prices.tier());
+        assertEquals(0.5, prices.occupancy(), 1e-9);
+        assertEquals(new BigDecimal("13.20"), prices.prices().get(SeatCategoryEnum.STANDARD));
+        assertEquals(13.2f, pricingService.priceFor(7L, SeatCategoryEnum.STANDARD));
+        verifyNoInteractions(showtimeRepository);
+    }
+
+    /**
+     * Test that a table is loaded once and then served from memory until it is evicted.
+     */
+    @Test
+    void testGetPricesLoadsOnce() {
+        when(showtimeRepository.findPricingInput(7L))
+                .thenReturn(Optional.of(new ShowtimePricingInput(7L, EVENING, 100, 80, 10)));
+
+        pricingService.getPrices(7L);
+        ShowtimePrices prices = pricingService.getPrices(7L);
+        pricingService.evictAfterCommit(7L);
+        pricingService.getPrices(7L);
+
+        assertEquals(3, prices.tier());
+        assertEquals(new BigDecimal("31.50"), prices.prices().get(SeatCategoryEnum.VIP));
+        verify(showtimeRepository, times(2)).findPricingInput(7L);
+    }
+
+    /**
+     * Test that prices of an unknown showtime are rejected.
+     */
+    @Test
+    void testGetPricesUnknownShowtime() {
+        when(showtimeRepository.findPricingInput(42L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> pricingService.getPrices(42L));
+    }
+}
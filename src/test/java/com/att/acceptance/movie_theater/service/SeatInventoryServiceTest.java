@@ -0,0 +1,227 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.att.acceptance.movie_theater.dto.SeatStatusView;
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.repository.SeatAvailabilityRepository;
+import com.att.acceptance.movie_theater.repository.SeatRepository;
+import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatInventoryServiceTest {
+
+    @Mock
+    private SeatAvailabilityRepository seatAvailabilityRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @Mock
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Mock
+    private NowShowingService nowShowingService;
+
+    @InjectMocks
+    private SeatInventoryService seatInventoryService;
+
+    private Showtime showtime;
+
+    private SeatAvailability inventory;
+
+    @BeforeEach
+    void setUp() {
+        // Initialize a showtime in a 10-seat theater with an empty inventory
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(10);
+        theater.setSeatCount(10);
+
+        showtime = new Showtime();
+        showtime.setId(1L);
+        showtime.setTheater(theater);
+
+        inventory = new SeatAvailability(1L, 1L, 10);
+        inventory.setVersion(0L);
+    }
+
+    /**
+     * Test that packed statuses are read and written per seat.
+     */
+    @Test
+    void testPackedStatuses() {
+        byte[] statuses = SeatAvailability.withStatus(new byte[SeatAvailability.bytesFor(10)], 5, AvailabilityStatusEnum.BOOKED);
+        statuses = SeatAvailability.withStatus(statuses, 6, AvailabilityStatusEnum.HELD);
+
+        assertEquals(3, statuses.length);
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, SeatAvailability.statusAt(statuses, 4));
+        assertEquals(AvailabilityStatusEnum.BOOKED, SeatAvailability.statusAt(statuses, 5));
+        assertEquals(AvailabilityStatusEnum.HELD, SeatAvailability.statusAt(statuses, 6));
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, SeatAvailability.statusAt(statuses, 100));
+        assertEquals(1, SeatAvailability.count(statuses, AvailabilityStatusEnum.BOOKED));
+        assertEquals(1, SeatAvailability.count(statuses, AvailabilityStatusEnum.HELD));
+    }
+
+    /**
+     * Test for creating the inventory of a showtime.
+     */
+    @Test
+    void testCreateInventory() {
+        // Mock repository response
+        when(seatAvailabilityRepository.save(any(SeatAvailability.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Call the service method
+        SeatAvailability created = seatInventoryService.createInventory(showtime);
+
+        // Assertions
+        assertEquals(1L, created.getShowtimeId());
+        assertEquals(1L, created.getTheaterId());
+        assertEquals(10, created.getCapacity());
+        assertEquals(SeatAvailability.bytesFor(10), created.getSeatStatuses().length);
+        verify(bookingAnalyticsService, times(1)).showtimeScheduledAfterCommit(showtime, 10);
+    }
+
+    /**
+     * Test that a seat is claimed with a single compare-and-set when the inventory is unchanged.
+     */
+    @Test
+    void testBookSeatCompareAndSet() {
+        // Mock repository response
+        when(seatAvailabilityRepository.compareAndSetSeatStatuses(eq(1L), any(byte[].class), eq(1), eq(0), eq(0L))).thenReturn(1);
+
+        // Call the service method
+        seatInventoryService.bookSeat(1L, 3, inventory.getSeatStatuses(), 0L);
+
+        // Verify repository interaction
+        verify(seatAvailabilityRepository, times(1)).compareAndSetSeatStatuses(eq(1L), any(byte[].class), eq(1), eq(0), eq(0L));
+        verify(seatAvailabilityRepository, never()).findForUpdate(any());
+    }
+
+    /**
+     * Test that a concurrent change falls back to the locked path.
+     */
+    @Test
+    void testBookSeatFallsBackToLock() {
+        // Mock repository response: another booking changed the inventory since it was read
+        when(seatAvailabilityRepository.compareAndSetSeatStatuses(eq(1L), any(byte[].class), eq(1), eq(0), eq(0L))).thenReturn(0);
+        when(seatAvailabilityRepository.findForUpdate(1L)).thenReturn(Optional.of(inventory));
+
+        // Call the service method
+        seatInventoryService.bookSeat(1L, 3, inventory.getSeatStatuses(), 0L);
+
+        // Assertions
+        assertEquals(AvailabilityStatusEnum.BOOKED, inventory.getStatus(3));
+        assertEquals(1, inventory.getBookedCount());
+        assertEquals(9, inventory.getAvailableCount());
+    }
+
+    /**
+     * Test that a seat booked concurrently is rejected on the locked path.
+     */
+    @Test
+    void testBookSeatAlreadyBooked() {
+        byte[] readStatuses = inventory.getSeatStatuses();
+        inventory.setStatus(3, AvailabilityStatusEnum.BOOKED);
+
+        // Mock repository response
+        when(seatAvailabilityRepository.compareAndSetSeatStatuses(eq(1L), any(byte[].class), eq(1), eq(0), eq(0L))).thenReturn(0);
+        when(seatAvailabilityRepository.findForUpdate(1L)).thenReturn(Optional.of(inventory));
+
+        // Call the service method and assert exception
+        assertThrows(IllegalArgumentException.class, () -> seatInventoryService.bookSeat(1L, 3, readStatuses, 0L));
+    }
+
+    /**
+     * Test for releasing a booked seat.
+     */
+    @Test
+    void testReleaseSeat() {
+        inventory.setStatus(3, AvailabilityStatusEnum.BOOKED);
+
+        // Mock repository response
+        when(seatAvailabilityRepository.findForUpdate(1L)).thenReturn(Optional.of(inventory));
+
+        // Call the service method
+        seatInventoryService.releaseSeat(1L, 3);
+
+        // Assertions
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, inventory.getStatus(3));
+        assertEquals(0, inventory.getBookedCount());
+    }
+
+    /**
+     * Test that removing a seat clears its status and counters and shrinks the capacity.
+     */
+    @Test
+    void testRemoveSeat() {
+        inventory.setStatus(3, AvailabilityStatusEnum.HELD);
+
+        // Mock repository response
+        when(seatAvailabilityRepository.findByTheaterIdForUpdate(1L)).thenReturn(List.of(inventory));
+
+        // Call the service method
+        seatInventoryService.removeSeat(1L, 3);
+
+        // Assertions
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, inventory.getStatus(3));
+        assertEquals(0, inventory.getHeldCount());
+        assertEquals(9, inventory.getCapacity());
+        verify(bookingAnalyticsService, times(1)).capacityAdjustedAfterCommit(1L, -1);
+    }
+
+    /**
+     * Test for retrieving the seat map of a showtime.
+     */
+    @Test
+    void testGetSeatMap() {
+        Seat first = new Seat();
+        first.setId(1L);
+        first.setSeatNumber("A1");
+        first.setSeatIndex(0);
+        Seat second = new Seat();
+        second.setId(2L);
+        second.setSeatNumber("A2");
+        second.setSeatIndex(1);
+        inventory.setStatus(1, AvailabilityStatusEnum.BOOKED);
+
+        // Mock repository response
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(showtime));
+        when(seatAvailabilityRepository.findById(1L)).thenReturn(Optional.of(inventory));
+        when(seatRepository.findByShowtimeId(1L)).thenReturn(Set.of(second, first));
+
+        // Call the service method
+        List<SeatStatusView> seatMap = seatInventoryService.getSeatMap(1L);
+
+        // Assertions
+        assertEquals(2, seatMap.size());
+        assertEquals("A1", seatMap.get(0).seatNumber());
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, seatMap.get(0).status());
+        assertEquals(AvailabilityStatusEnum.BOOKED, seatMap.get(1).status());
+    }
+}
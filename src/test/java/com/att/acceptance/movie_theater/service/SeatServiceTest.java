@@ -1,7 +1,9 @@
 package com.att.acceptance.movie_theater.service;
 
 import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.Theater;
 import com.att.acceptance.movie_theater.repository.SeatRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,15 @@ public class SeatServiceTest {
     @Mock
     private SeatRepository seatRepository;
 
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
     @InjectMocks
     private SeatService seatService;
 
@@ -43,7 +54,13 @@ public class SeatServiceTest {
      */
     @Test
     void testAddSeat() {
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(10);
+
         // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+        when(seatRepository.findNextSeatIndex(1L)).thenReturn(3);
         when(seatRepository.save(any(Seat.class))).thenReturn(seat);
 
         // Call the service method
@@ -52,7 +69,48 @@ public class SeatServiceTest {
         // Assertions
         assertNotNull(savedSeat);
         assertEquals(1L, savedSeat.getId());
+        assertEquals(3, savedSeat.getSeatIndex());
+        assertEquals(theater, savedSeat.getTheater());
+        assertEquals(1, theater.getSeatCount());
         verify(seatRepository, times(1)).save(seat);
+        verify(seatInventoryService, times(1)).adjustCapacity(1L, 1);
+    }
+
+    /**
+     * Test that a full theater is rejected without counting its seats.
+     */
+    @Test
+    void testAddSeatTheaterFull() {
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(10);
+        theater.setSeatCount(10);
+
+        // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+
+        // Call the service method and assert exception
+        assertThrows(IllegalArgumentException.class, () -> seatService.addSeat(1L, seat));
+        verify(seatRepository, never()).countSeatsByTheaterId(any());
+        verify(seatRepository, never()).save(any(Seat.class));
+    }
+
+    /**
+     * Test that a seat number already used in the theater is rejected.
+     */
+    @Test
+    void testAddSeatDuplicateSeatNumber() {
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(10);
+
+        // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+        when(seatRepository.existsBySeatNumberAndTheaterId("1", 1L)).thenReturn(true);
+
+        // Call the service method and assert exception
+        assertThrows(IllegalArgumentException.class, () -> seatService.addSeat(1L, seat));
+        verify(seatRepository, never()).save(any(Seat.class));
     }
 
     /**
@@ -96,14 +154,24 @@ public class SeatServiceTest {
      */
     @Test
     void testDeleteSeat() {
+        Theater theater = new Theater();
+        theater.setId(1L);
+        theater.setSeatCount(5);
+        seat.setTheater(theater);
+        seat.setSeatIndex(4);
+
         // Mock repository response
+        when(seatRepository.findTheaterIdById(1L)).thenReturn(Optional.of(1L));
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
         when(seatRepository.findById(1L)).thenReturn(Optional.of(seat));
 
         // Call the service method
         seatService.deleteSeat(1L);
 
         // Verify repository interaction
-        verify(seatRepository, times(1)).deleteById(1L);
+        verify(seatRepository, times(1)).delete(seat);
+        assertEquals(4, theater.getSeatCount());
+        verify(seatInventoryService, times(1)).removeSeat(1L, 4);
     }
 
     /**
@@ -1,12 +1,20 @@
 package com.att.acceptance.movie_theater.service;
 
+import com.att.acceptance.movie_theater.entity.Movie;
 import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.ShowtimeOverlapException;
+import com.att.acceptance.movie_theater.repository.BookingRepository;
 import com.att.acceptance.movie_theater.repository.ShowtimeRepository;
+import com.att.acceptance.movie_theater.repository.TheaterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -24,11 +32,34 @@ public class ShowtimeServiceTest {
     @Mock
     private ShowtimeRepository showtimeRepository;
 
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private BookingAnalyticsService bookingAnalyticsService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @Mock
+    private NowShowingService nowShowingService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ShowtimeService showtimeService;
 
     private Showtime showtime;
 
+    private Theater theater;
+
     @BeforeEach
     void setUp() {
         // Initialize a sample showtime entity for testing
@@ -37,6 +68,13 @@ public class ShowtimeServiceTest {
         // Replace non-existent setMovieId and setTheaterId with actual entity properties or comments
         // showtime.setMovieId(1L); // Method does not exist
         // showtime.setTheaterId(1L); // Method does not exist
+        theater = new Theater();
+        theater.setId(1L);
+        theater.setMaxSeats(100);
+        showtime.setTheater(theater);
+        Movie movie = new Movie();
+        movie.setId(1L);
+        showtime.setMovie(movie);
         showtime.setStartTime(LocalDateTime.of(2023, 1, 1, 10, 0));
         showtime.setEndTime(LocalDateTime.of(2023, 1, 1, 12, 0));
     }
@@ -47,6 +85,7 @@ public class ShowtimeServiceTest {
     @Test
     void testAddShowtime() {
         // Mock repository response
+        when(theaterRepository.findById(1L)).thenReturn(Optional.of(theater));
         when(showtimeRepository.save(any(Showtime.class))).thenReturn(showtime);
 
         // Call the service method
@@ -56,6 +95,21 @@ public class ShowtimeServiceTest {
         assertNotNull(savedShowtime);
         assertEquals(1L, savedShowtime.getId());
         verify(showtimeRepository, times(1)).save(showtime);
+        verify(seatInventoryService, times(1)).createInventory(showtime);
+    }
+
+    /**
+     * Test that an overlapping showtime is rejected and counted.
+     */
+    @Test
+    void testAddOverlappingShowtime() {
+        // Mock repository response
+        when(showtimeRepository.existsOverlappingShowtime(1L, showtime.getStartTime(), showtime.getEndTime())).thenReturn(true);
+
+        // Call the service method and assert exception
+        assertThrows(ShowtimeOverlapException.class, () -> showtimeService.addShowtime(showtime));
+        verify(showtimeRepository, never()).save(any(Showtime.class));
+        assertEquals(1.0, meterRegistry.get("showtime.overlap.rejections").tag("scope", "theater").counter().count());
     }
 
     /**
@@ -112,6 +166,28 @@ public class ShowtimeServiceTest {
         assertNotNull(updatedShowtime);
         assertEquals(LocalDateTime.of(2023, 1, 1, 14, 0), updatedShowtime.getEndTime());
         verify(showtimeRepository, times(1)).save(showtime);
+        verify(seatInventoryService, never()).deleteInventory(any());
+    }
+
+    /**
+     * Test that a showtime with bookings cannot be moved to another theater.
+     */
+    @Test
+    void testUpdateShowtimeTheaterWithBookings() {
+        when(showtimeRepository.findById(1L)).thenReturn(Optional.of(showtime));
+        when(bookingRepository.existsByShowtimeId(1L)).thenReturn(true);
+
+        Theater otherTheater = new Theater();
+        otherTheater.setId(2L);
+        Showtime moved = new Showtime();
+        moved.setTheater(otherTheater);
+        moved.setMovie(showtime.getMovie());
+        moved.setStartTime(showtime.getStartTime());
+        moved.setEndTime(showtime.getEndTime());
+
+        assertThrows(IllegalArgumentException.class, () -> showtimeService.updateShowtime(1L, moved));
+        verify(seatInventoryService, never()).moveInventory(any());
+        verify(showtimeRepository, never()).save(any(Showtime.class));
     }
 
     /**
@@ -126,6 +202,7 @@ public class ShowtimeServiceTest {
         showtimeService.removeShowtime(1L);
 
         // Verify repository interaction
+        verify(seatInventoryService, times(1)).deleteInventory(1L);
         verify(showtimeRepository, times(1)).deleteById(1L);
     }
 
@@ -0,0 +1,163 @@
+package com.att.acceptance.movie_theater.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.att.acceptance.movie_theater.entity.AvailabilityStatusEnum;
+import com.att.acceptance.movie_theater.entity.Booking;
+import com.att.acceptance.movie_theater.entity.Movie;
+import com.att.acceptance.movie_theater.entity.RoleEnum;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatAvailability;
+import com.att.acceptance.movie_theater.entity.Showtime;
+import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.entity.User;
+import com.att.acceptance.movie_theater.repository.SparseFieldsetRepository;
+import com.att.acceptance.movie_theater.security.BookingOwnerCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that moving a showtime to another theater keeps its seat inventory
+ * consistent with its bookings against the embedded database.
+ */
+@DataJpaTest
+@Import({ShowtimeService.class, BookingService.class, SeatInventoryService.class, BookingAnalyticsService.class,
+        PricingService.class, PricingPolicy.class, NowShowingService.class, SparseFieldsetRepository.class,
+        BookingOwnerCache.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+public class ShowtimeTheaterMoveTest {
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long userId;
+
+    private Long showtimeId;
+
+    private Long seatId;
+
+    private Long fromTheaterId;
+
+    private Long toTheaterId;
+
+    @BeforeEach
+    void setUp() {
+        Theater from = theater("Old Theater");
+        Seat seat = seat(from);
+        Theater to = theater("New Theater");
+        seat(to);
+
+        Movie movie = new Movie();
+        movie.setTitle("Moving Movie");
+        movie.setGenre("Drama");
+        movie.setDuration(120);
+        movie.setRating("PG");
+        movie.setReleaseYear(2020);
+        entityManager.persist(movie);
+
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setTheater(from);
+        showtime.setStartTime(LocalDateTime.of(2030, 1, 1, 18, 0));
+        showtime.setEndTime(LocalDateTime.of(2030, 1, 1, 20, 0));
+        entityManager.persist(showtime);
+
+        entityManager.persist(new SeatAvailability(showtime.getId(), from.getId(), from.getSeatCount()));
+
+        User user = new User();
+        user.setName("Test User");
+        user.setEmail("mover@example.com");
+        user.setPassword("password123");
+        user.addRole(RoleEnum.ROLE_CUSTOMER);
+        entityManager.persist(user);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        showtimeId = showtime.getId();
+        seatId = seat.getId();
+        fromTheaterId = from.getId();
+        toTheaterId = to.getId();
+    }
+
+    private Theater theater(String name) {
+        Theater theater = new Theater();
+        theater.setName(name);
+        theater.setLocation("Test Location");
+        theater.setMaxSeats(10);
+        theater.setSeatCount(1);
+        entityManager.persist(theater);
+        return theater;
+    }
+
+    private Seat seat(Theater theater) {
+        Seat seat = new Seat();
+        seat.setSeatNumber("A1");
+        seat.setTheater(theater);
+        seat.setSeatIndex(0);
+        entityManager.persist(seat);
+        return seat;
+    }
+
+    /**
+     * Test that a booked showtime stays in its theater, and that cancelling the
+     * booking frees the seat it holds there before the showtime can be moved.
+     */
+    @Test
+    void testBookMoveThenCancel() {
+        Booking booking = new Booking();
+        booking.setUser(entityManager.find(User.class, userId));
+        booking.setShowtime(entityManager.find(Showtime.class, showtimeId));
+        booking.setSeat(entityManager.find(Seat.class, seatId));
+        Long bookingId = bookingService.createBooking(booking).getId();
+        entityManager.flush();
+
+        assertThrows(IllegalArgumentException.class, () -> showtimeService.updateShowtime(showtimeId, moved()));
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(fromTheaterId, entityManager.find(Showtime.class, showtimeId).getTheater().getId());
+        assertEquals(AvailabilityStatusEnum.BOOKED,
+                entityManager.find(SeatAvailability.class, showtimeId).getStatus(0));
+
+        bookingService.cancelBooking(bookingId);
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(AvailabilityStatusEnum.AVAILABLE,
+                entityManager.find(SeatAvailability.class, showtimeId).getStatus(0));
+
+        showtimeService.updateShowtime(showtimeId, moved());
+        entityManager.flush();
+        entityManager.clear();
+        assertEquals(toTheaterId, entityManager.find(Showtime.class, showtimeId).getTheater().getId());
+        SeatAvailability inventory = entityManager.find(SeatAvailability.class, showtimeId);
+        assertEquals(toTheaterId, inventory.getTheaterId());
+        assertEquals(AvailabilityStatusEnum.AVAILABLE, inventory.getStatus(0));
+    }
+
+    private Showtime moved() {
+        Showtime showtime = entityManager.find(Showtime.class, showtimeId);
+        Showtime moved = new Showtime();
+        moved.setMovie(showtime.getMovie());
+        moved.setTheater(entityManager.find(Theater.class, toTheaterId));
+        moved.setStartTime(showtime.getStartTime());
+        moved.setEndTime(showtime.getEndTime());
+        return moved;
+    }
+}
@@ -1,25 +1,38 @@
 package com.att.acceptance.movie_theater.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.att.acceptance.movie_theater.dto.SeatLayoutRequest;
+import com.att.acceptance.movie_theater.dto.SeatLayoutResult;
+import com.att.acceptance.movie_theater.entity.Seat;
+import com.att.acceptance.movie_theater.entity.SeatCategoryEnum;
 import com.att.acceptance.movie_theater.entity.Theater;
+import com.att.acceptance.movie_theater.exception.InvalidSeatLayoutException;
+import com.att.acceptance.movie_theater.repository.SeatRepository;
 import com.att.acceptance.movie_theater.repository.TheaterRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,18 @@ public class TheaterServiceTest {
     @Mock
     private TheaterRepository theaterRepository;
 
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private NowShowingService nowShowingService;
+
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
     @InjectMocks
     private TheaterService theaterService;
 
@@ -143,4 +168,81 @@ public class TheaterServiceTest {
         assertThrows(IllegalArgumentException.class, () -> theaterService.getTheaterById(2L));
         verify(theaterRepository, times(1)).findById(2L);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test for generating a seat layout with an aisle and row categories.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGenerateSeatLayout() {
+        SeatLayoutRequest layout = new SeatLayoutRequest(3, 11, Set.of(6), null, Map.of("C", SeatCategoryEnum.VIP));
+
+        // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+        when(seatRepository.findNextSeatIndex(1L)).thenReturn(0);
+
+        // Call the service method
+        SeatLayoutResult result = theaterService.generateSeatLayout(1L, layout);
+
+        // Assertions
+        ArgumentCaptor<List<Seat>> seats = ArgumentCaptor.forClass(List.class);
+        verify(seatRepository, times(1)).saveAll(seats.capture());
+        assertEquals(30, result.seatsCreated());
+        assertEquals(29, result.lastSeatIndex());
+        assertEquals(30, seats.getValue().size());
+        assertEquals("A5", seats.getValue().get(4).getSeatNumber());
+        assertEquals("A7", seats.getValue().get(5).getSeatNumber());
+        assertEquals(SeatCategoryEnum.STANDARD, seats.getValue().get(0).getCategory());
+        assertEquals(SeatCategoryEnum.VIP, seats.getValue().get(29).getCategory());
+        assertEquals(29, seats.getValue().get(29).getSeatIndex());
+        assertEquals(30, theater.getSeatCount());
+        verify(seatInventoryService, times(1)).adjustCapacity(1L, 30);
+    }
+
+    /**
+     * Test that a layout exceeding the theater's capacity is rejected before any insert.
+     */
+    @Test
+    void testGenerateSeatLayoutExceedsCapacity() {
+        SeatLayoutRequest layout = new SeatLayoutRequest(10, 20, null, null, null);
+        theater.setSeatCount(50);
+
+        // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+
+        // Call the service method and assert exception
+        assertThrows(IllegalArgumentException.class, () -> theaterService.generateSeatLayout(1L, layout));
+        verify(seatRepository, never()).saveAll(anyIterable());
+        assertEquals(50, theater.getSeatCount());
+    }
+
+    /**
+     * Test that a row category for a row the layout does not have is rejected.
+     */
+    @Test
+    void testGenerateSeatLayoutUnknownRow() {
+        SeatLayoutRequest layout = new SeatLayoutRequest(3, 10, null, null, Map.of("D", SeatCategoryEnum.VIP));
+
+        // Mock repository response
+        when(theaterRepository.findForUpdate(1L)).thenReturn(Optional.of(theater));
+
+        // Call the service method and assert exception
+        assertThrows(InvalidSeatLayoutException.class, () -> theaterService.generateSeatLayout(1L, layout));
+        verify(seatRepository, never()).saveAll(anyIterable());
+    }
+
+    /**
+     * Test for spreadsheet-style row labels.
+     */
+    @Test
+    void testRowLabels() {
+        assertEquals("A", SeatLayoutRequest.rowLabel(0));
+        assertEquals("Z", SeatLayoutRequest.rowLabel(25));
+        assertEquals("AA", SeatLayoutRequest.rowLabel(26));
+        assertEquals("ZZ", SeatLayoutRequest.rowLabel(701));
+        assertTrue(new SeatLayoutRequest(27, 1, null, null, null).hasRow("AA"));
+        assertFalse(new SeatLayoutRequest(26, 1, null, null, null).hasRow("AA"));
+        assertFalse(new SeatLayoutRequest(26, 1, null, null, null).hasRow("a"));
+        assertFalse(new SeatLayoutRequest(26, 1, null, null, null).hasRow(""));
+    }
+}
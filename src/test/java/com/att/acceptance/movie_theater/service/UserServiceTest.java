@@ -22,10 +22,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.att.acceptance.movie_theater.entity.RoleEnum;
 import com.att.acceptance.movie_theater.entity.User;
 import com.att.acceptance.movie_theater.repository.UserRepository;
+import com.att.acceptance.movie_theater.security.TokenEpochRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -33,6 +35,12 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @InjectMocks
     private UserService userService;
 
@@ -56,12 +64,14 @@ public class UserServiceTest {
     void testRegisterUser() {
         // Mock repository response
         when(userRepository.save(any(User.class))).thenReturn(user);
+        when(passwordEncoder.encode("password123")).thenReturn("hashed-password");
 
         // Call the service method
         User registeredUser = userService.registerUser(user, RoleEnum.ROLE_CUSTOMER);
 
         // Assertions
         assertNotNull(registeredUser);
+        assertEquals("hashed-password", registeredUser.getPassword());
         assertEquals("Test User", registeredUser.getName());
         assertTrue(registeredUser.getRoles().contains(RoleEnum.ROLE_CUSTOMER));
         verify(userRepository, times(1)).save(user);
@@ -136,9 +146,27 @@ public class UserServiceTest {
 
         // Assertions
         assertTrue(user.getRoles().contains(RoleEnum.ROLE_ADMIN));
+        assertEquals(1L, user.getTokenEpoch());
+        verify(tokenEpochRegistry, times(1)).advanceAfterCommit(1L, 1L);
         verify(userRepository, times(1)).save(user);
     }
 
+    /**
+     * Test that revoking all tokens of a user advances their token epoch.
+     */
+    @Test
+    void testRevokeAllTokens() {
+        // Mock repository response
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // Call the service method
+        userService.revokeAllTokens(1L);
+
+        // Assertions
+        assertEquals(1L, user.getTokenEpoch());
+        verify(tokenEpochRegistry, times(1)).advanceAfterCommit(1L, 1L);
+        verify(userRepository, times(1)).save(user);
+    }
 
     /**
      * Test for deleting a user.
@@ -153,6 +181,7 @@ public class UserServiceTest {
 
         // Verify repository interaction
         verify(userRepository, times(1)).deleteById(1L);
+        verify(tokenEpochRegistry, times(1)).revokeAfterCommit(1L);
     }
 
     /**
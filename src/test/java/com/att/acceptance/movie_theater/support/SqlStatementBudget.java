@@ -0,0 +1,66 @@
+package com.att.acceptance.movie_theater.support;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import com.att.acceptance.movie_theater.monitoring.SqlStatementStatistics;
+
+/**
+ * Asserts that a request or service call stays within a budget of SQL statements.
+ *
+ * The statements are counted by {@link SqlStatementRecorder}, which must be
+ * registered as the Hibernate statement inspector of the application under
+ * test. When the budget is exceeded the failure lists the offending statements
+ * grouped by shape (literals replaced by {@code ?}), most frequent first, so an
+ * N+1 shows up as one shape executed N times.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * Run an action and fail if it executes more than the given number of SQL statements.
+     *
+     * @param budget The maximum number of statements.
+     * @param action The request or service call to measure.
+     * @return The statements executed by the action.
+     * @throws Throwable If the action fails.
+     */
+    public static List<String> assertAtMost(int budget, Executable action) throws Throwable {
+        SqlStatementRecorder.start();
+        List<String> statements;
+        try {
+            action.execute();
+        } finally {
+            statements = SqlStatementRecorder.stop();
+        }
+
+        if (statements.size() > budget) {
+            fail("Expected at most " + budget + " SQL statements but " + statements.size()
+                    + " were executed:\n" + describe(statements));
+        }
+        return statements;
+    }
+
+    /**
+     * Group statements by shape, most frequent first.
+     *
+     * @param statements The statements.
+     * @return One line per shape with its number of executions.
+     */
+    static String describe(List<String> statements) {
+        Map<String, Long> counts = statements.stream()
+                .collect(Collectors.groupingBy(SqlStatementStatistics::shapeOf, LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> String.format("%5d x %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+}
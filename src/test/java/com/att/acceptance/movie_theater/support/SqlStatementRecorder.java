@@ -0,0 +1,52 @@
+package com.att.acceptance.movie_theater.support;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that records the SQL of every statement while
+ * a recording is in progress.
+ *
+ * Hibernate instantiates the inspector itself, so the recording is held in
+ * static state and is shared by every session and thread: statements run on
+ * the password hashing pool or while serializing a response are recorded too.
+ * Register it with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    private static volatile boolean recording;
+
+    @Override
+    public String inspect(String sql) {
+        if (recording) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Discard the statements recorded so far and start recording.
+     */
+    public static void start() {
+        STATEMENTS.clear();
+        recording = true;
+    }
+
+    /**
+     * Stop recording.
+     *
+     * @return The statements recorded since {@link #start()}, in execution order.
+     */
+    public static List<String> stop() {
+        recording = false;
+        return List.copyOf(STATEMENTS);
+    }
+}